@@ -0,0 +1,69 @@
+package com.early_express.product_service.benchmark;
+
+import com.early_express.product_service.domain.product.domain.model.Product;
+import com.early_express.product_service.domain.product.presentation.web.dto.response.ProductResponse;
+import com.early_express.product_service.global.common.utils.PageUtils;
+import com.early_express.product_service.global.presentation.dto.PageResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 목록 응답 경로: Page → PageResponse 변환, PageResponse<ProductResponse> JSON 직렬화
+ * ObjectMapper 는 Spring Boot 기본 설정과 같은 Jackson2ObjectMapperBuilder 기본값 사용
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PaginationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private Page<Product> page;
+    private PageResponse<ProductResponse> response;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        page = new PageImpl<>(ProductFixtures.products(pageSize),
+                PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")), 10_000);
+        response = PageUtils.toPageResponse(page, ProductResponse::from);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public PageResponse<ProductResponse> toPageResponse() {
+        return PageUtils.toPageResponse(page, ProductResponse::from);
+    }
+
+    @Benchmark
+    public byte[] serializePageResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] toPageResponseAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(PageUtils.toPageResponse(page, ProductResponse::from));
+    }
+}
@@ -0,0 +1,56 @@
+package com.early_express.product_service.benchmark;
+
+import com.early_express.product_service.domain.product.domain.model.vo.Price;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가격 Value Object 생성 / 검증 및 할인 계산
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceBenchmark {
+
+    private long amount;
+    private BigDecimal decimalAmount;
+    private BigDecimal discountRate;
+    private Price price;
+
+    @Setup
+    public void setUp() {
+        amount = 15_900L;
+        decimalAmount = new BigDecimal("15900.00");
+        discountRate = new BigDecimal("12.5");
+        price = Price.of(decimalAmount);
+    }
+
+    @Benchmark
+    public Price ofLong() {
+        return Price.of(amount);
+    }
+
+    @Benchmark
+    public Price ofBigDecimal() {
+        return Price.of(decimalAmount);
+    }
+
+    @Benchmark
+    public Price applyDiscount() {
+        return price.applyDiscount(discountRate);
+    }
+}
@@ -0,0 +1,54 @@
+package com.early_express.product_service.benchmark;
+
+import com.early_express.product_service.domain.product.domain.model.Product;
+import com.early_express.product_service.domain.product.domain.model.vo.Price;
+import com.early_express.product_service.domain.product.domain.model.vo.ProductStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공용 상품 데이터
+ * 운영 데이터와 비슷한 길이의 이름 / 설명, 감사 필드까지 채운 재구성 상품
+ */
+final class ProductFixtures {
+
+    static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 10, 0);
+    static final String DESCRIPTION = "신선한 제주산 감귤 5kg 한 박스, 당도 선별 후 산지 직송. ".repeat(4);
+
+    private ProductFixtures() {
+    }
+
+    static Product product(int index) {
+        return Product.reconstruct(
+                "0193d5a4-7c3e-7a1b-9f2e-" + String.format("%012d", index),
+                "SELLER-" + (index % 50),
+                "COMPANY-" + (index % 10),
+                "HUB-" + (index % 5),
+                "제주 감귤 선물세트 " + index,
+                DESCRIPTION,
+                Price.of(10_000L + index * 100L),
+                ProductStatus.ACTIVE,
+                true,
+                index % 3 == 0,
+                1,
+                100,
+                NOW.minusMinutes(index),
+                NOW.minusDays(30),
+                "SELLER-" + (index % 50),
+                NOW.minusMinutes(index),
+                "SELLER-" + (index % 50),
+                null,
+                null,
+                false);
+    }
+
+    static List<Product> products(int size) {
+        List<Product> products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(product(i));
+        }
+        return products;
+    }
+}
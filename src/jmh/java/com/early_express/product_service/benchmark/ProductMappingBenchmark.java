@@ -0,0 +1,78 @@
+package com.early_express.product_service.benchmark;
+
+import com.early_express.product_service.domain.product.domain.model.Product;
+import com.early_express.product_service.domain.product.domain.model.vo.Price;
+import com.early_express.product_service.domain.product.infrastructure.persistence.entity.ProductEntity;
+import com.early_express.product_service.domain.product.presentation.internal.dto.response.InternalProductResponse;
+import com.early_express.product_service.domain.product.presentation.web.dto.response.ProductResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 도메인 생성 / 재구성, 엔티티 ↔ 도메인, 응답 DTO 변환 (요청당 상품 1건 기준)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductMappingBenchmark {
+
+    private Product product;
+    private ProductEntity entity;
+    private Price price;
+
+    @Setup
+    public void setUp() {
+        product = ProductFixtures.product(1);
+        entity = ProductEntity.fromDomain(product);
+        price = Price.of(15_000L);
+    }
+
+    @Benchmark
+    public Product create() {
+        return Product.create(null, "SELLER-1", "COMPANY-1", "HUB-1", "제주 감귤 선물세트",
+                ProductFixtures.DESCRIPTION, price, 1, 100);
+    }
+
+    @Benchmark
+    public Product reconstruct() {
+        return Product.reconstruct(product.getProductId(), product.getSellerId(), product.getCompanyId(),
+                product.getHubId(), product.getName(), product.getDescription(), product.getPrice(),
+                product.getStatus(), product.isSellable(), product.isHasEvent(),
+                product.getMinOrderQuantity(), product.getMaxOrderQuantity(), product.getStockEventAt(),
+                product.getCreatedAt(), product.getCreatedBy(), product.getUpdatedAt(), product.getUpdatedBy(),
+                product.getDeletedAt(), product.getDeletedBy(), product.isDeleted());
+    }
+
+    @Benchmark
+    public ProductEntity entityFromDomain() {
+        return ProductEntity.fromDomain(product);
+    }
+
+    @Benchmark
+    public Product entityToDomain() {
+        return entity.toDomain();
+    }
+
+    @Benchmark
+    public ProductResponse productResponse() {
+        return ProductResponse.from(product);
+    }
+
+    @Benchmark
+    public InternalProductResponse internalProductResponse() {
+        return InternalProductResponse.from(product);
+    }
+}
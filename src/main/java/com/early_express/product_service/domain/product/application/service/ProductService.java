@@ -8,12 +8,17 @@ import com.early_express.product_service.domain.product.domain.messaging.dto.Pro
 import com.early_express.product_service.domain.product.domain.messaging.dto.ProductStatusChangedEventData;
 import com.early_express.product_service.domain.product.domain.messaging.dto.ProductUpdatedEventData;
 import com.early_express.product_service.domain.product.domain.model.Product;
+import com.early_express.product_service.domain.product.domain.model.ProductHubStock;
 import com.early_express.product_service.domain.product.domain.model.vo.Price;
 import com.early_express.product_service.domain.product.domain.model.vo.ProductStatus;
+import com.early_express.product_service.domain.product.domain.repository.ProductHubStockRepository;
 import com.early_express.product_service.domain.product.domain.repository.ProductRepository;
 import com.early_express.product_service.domain.product.presentation.internal.dto.response.ProductValidationResponse;
 import com.early_express.product_service.domain.product.presentation.web.dto.response.ProductResponse;
+import com.early_express.product_service.global.common.utils.CursorUtils;
 import com.early_express.product_service.global.common.utils.PageUtils;
+import com.early_express.product_service.global.infrastructure.monitoring.TimedOperations;
+import com.early_express.product_service.global.presentation.dto.CursorResponse;
 import com.early_express.product_service.global.presentation.dto.PageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +28,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 /**
@@ -35,9 +41,11 @@ import java.util.*;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@TimedOperations(value = "product.service", logEvents = true)
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductHubStockRepository productHubStockRepository;
     private final ProductEventPublisher eventPublisher;
 
     // ==================== 명령(Command) 메서드 ====================
@@ -56,12 +64,13 @@ public class ProductService {
             Integer minOrderQuantity,
             Integer maxOrderQuantity
     ) {
-        log.info("상품 생성 시작: sellerId={}, name={}", sellerId, name);
+        log.debug("상품 생성 시작: sellerId={}, name={}", sellerId, name);
 
         Product product = Product.create(
                 null,
                 sellerId,
                 companyId,
+                hubId,
                 name,
                 description,
                 price,
@@ -80,7 +89,7 @@ public class ProductService {
         );
         eventPublisher.publishProductCreated(eventData);
 
-        log.info("상품 생성 완료: productId={}", savedProduct.getProductId());
+        log.debug("상품 생성 완료: productId={}", savedProduct.getProductId());
 
         return savedProduct;
     }
@@ -95,7 +104,7 @@ public class ProductService {
             String description,
             Price price
     ) {
-        log.info("상품 수정 시작: productId={}", productId);
+        log.debug("상품 수정 시작: productId={}", productId);
 
         Product product = findById(productId);
         product.update(name, description, price);
@@ -110,7 +119,7 @@ public class ProductService {
         );
         eventPublisher.publishProductUpdated(eventData);
 
-        log.info("상품 수정 완료: productId={}", productId);
+        log.debug("상품 수정 완료: productId={}", productId);
 
         return savedProduct;
     }
@@ -120,7 +129,7 @@ public class ProductService {
      */
     @Transactional
     public void deleteProduct(String productId) {
-        log.info("상품 삭제 시작: productId={}", productId);
+        log.debug("상품 삭제 시작: productId={}", productId);
 
         Product product = findById(productId);
         String sellerId = product.getSellerId();
@@ -131,7 +140,7 @@ public class ProductService {
         ProductDeletedEventData eventData = ProductDeletedEventData.of(productId, sellerId);
         eventPublisher.publishProductDeleted(eventData);
 
-        log.info("상품 삭제 완료: productId={}", productId);
+        log.debug("상품 삭제 완료: productId={}", productId);
     }
 
     /**
@@ -139,7 +148,7 @@ public class ProductService {
      */
     @Transactional
     public Product activateProduct(String productId) {
-        log.info("상품 활성화 시작: productId={}", productId);
+        log.debug("상품 활성화 시작: productId={}", productId);
 
         Product product = findById(productId);
         ProductStatus oldStatus = product.getStatus();
@@ -151,7 +160,7 @@ public class ProductService {
             publishStatusChangedEvent(productId, oldStatus, product.getStatus());
         }
 
-        log.info("상품 활성화 완료: productId={}, status={}", productId, product.getStatus());
+        log.debug("상품 활성화 완료: productId={}, status={}", productId, product.getStatus());
 
         return savedProduct;
     }
@@ -161,7 +170,7 @@ public class ProductService {
      */
     @Transactional
     public Product suspendProduct(String productId) {
-        log.info("상품 일시중지 시작: productId={}", productId);
+        log.debug("상품 일시중지 시작: productId={}", productId);
 
         Product product = findById(productId);
         ProductStatus oldStatus = product.getStatus();
@@ -173,7 +182,7 @@ public class ProductService {
             publishStatusChangedEvent(productId, oldStatus, product.getStatus());
         }
 
-        log.info("상품 일시중지 완료: productId={}", productId);
+        log.debug("상품 일시중지 완료: productId={}", productId);
 
         return savedProduct;
     }
@@ -183,7 +192,7 @@ public class ProductService {
      */
     @Transactional
     public void discontinueProduct(String productId) {
-        log.info("상품 단종 시작: productId={}", productId);
+        log.debug("상품 단종 시작: productId={}", productId);
 
         Product product = findById(productId);
         ProductStatus oldStatus = product.getStatus();
@@ -193,20 +202,31 @@ public class ProductService {
 
         publishStatusChangedEvent(productId, oldStatus, product.getStatus());
 
-        log.info("상품 단종 완료: productId={}", productId);
+        log.debug("상품 단종 완료: productId={}", productId);
     }
 
     /**
      * 품절 처리 (Inventory 이벤트 수신 시 호출)
+     * 이미 더 최신 재고 이벤트가 반영된 경우 쓰기 없이 무시
+     *
+     * @param detectedAt 재고 부족 감지 시각 (재고 이벤트 워터마크)
      */
     @Transactional
-    public void markAsOutOfStock(String productId) {
-        log.info("품절 처리 시작: productId={}", productId);
+    public void markAsOutOfStock(String productId, LocalDateTime detectedAt) {
+        log.debug("품절 처리 시작: productId={}, detectedAt={}", productId, detectedAt);
+
+        Product product = findByIdForUpdate(productId);
+        if (!product.advanceStockWatermark(detectedAt)) {
+            log.info("지난 재고 이벤트 무시: productId={}, detectedAt={}, watermark={}",
+                    productId, detectedAt, product.getStockEventAt());
+            return;
+        }
 
-        Product product = findById(productId);
         ProductStatus oldStatus = product.getStatus();
 
         if (product.getStatus() == ProductStatus.OUT_OF_STOCK) {
+            // 워터마크만 갱신 (이후 도착하는 지난 재입고 이벤트 무시)
+            productRepository.save(product);
             log.info("이미 품절 상태: productId={}", productId);
             return;
         }
@@ -216,20 +236,31 @@ public class ProductService {
 
         publishStatusChangedEvent(productId, oldStatus, product.getStatus());
 
-        log.info("품절 처리 완료: productId={}", productId);
+        log.debug("품절 처리 완료: productId={}", productId);
     }
 
     /**
      * 품절 해제 (Inventory 이벤트 수신 시 호출)
+     * 이미 더 최신 재고 이벤트가 반영된 경우 쓰기 없이 무시
+     *
+     * @param restockedAt 재입고 시각 (재고 이벤트 워터마크)
      */
     @Transactional
-    public void restoreFromOutOfStock(String productId) {
-        log.info("품절 해제 시작: productId={}", productId);
+    public void restoreFromOutOfStock(String productId, LocalDateTime restockedAt) {
+        log.debug("품절 해제 시작: productId={}, restockedAt={}", productId, restockedAt);
+
+        Product product = findByIdForUpdate(productId);
+        if (!product.advanceStockWatermark(restockedAt)) {
+            log.info("지난 재고 이벤트 무시: productId={}, restockedAt={}, watermark={}",
+                    productId, restockedAt, product.getStockEventAt());
+            return;
+        }
 
-        Product product = findById(productId);
         ProductStatus oldStatus = product.getStatus();
 
         if (product.getStatus() != ProductStatus.OUT_OF_STOCK) {
+            // 워터마크만 갱신 (이후 도착하는 지난 재고 부족 이벤트 무시)
+            productRepository.save(product);
             log.info("품절 상태가 아님: productId={}, status={}", productId, product.getStatus());
             return;
         }
@@ -239,7 +270,45 @@ public class ProductService {
 
         publishStatusChangedEvent(productId, oldStatus, product.getStatus());
 
-        log.info("품절 해제 완료: productId={}, status={}", productId, product.getStatus());
+        log.debug("품절 해제 완료: productId={}, status={}", productId, product.getStatus());
+    }
+
+    /**
+     * 허브 품절 처리 (Inventory 이벤트 수신 시 호출)
+     * 해당 허브만 품절로 기록하고 상품 상태는 변경하지 않음
+     * 재고 이벤트를 아직 보내지 않은 허브는 재고 있음으로 간주되므로, 일부 허브의 품절로 다른 허브 판매가 막히지 않도록
+     * 허브 판매 가능 여부는 허브 재고 기록으로만 판단 (getSellableProductIdsAtHub)
+     * hubId 가 없는 이벤트는 상품 전체 품절 처리
+     *
+     * @param detectedAt 재고 부족 감지 시각 (허브별 재고 이벤트 워터마크)
+     */
+    @Transactional
+    public void markAsOutOfStock(String productId, String hubId, LocalDateTime detectedAt) {
+        if (hubId == null) {
+            markAsOutOfStock(productId, detectedAt);
+            return;
+        }
+
+        log.debug("허브 품절 처리 시작: productId={}, hubId={}, detectedAt={}", productId, hubId, detectedAt);
+        recordHubStock(productId, hubId, true, detectedAt);
+    }
+
+    /**
+     * 허브 품절 해제 (Inventory 이벤트 수신 시 호출)
+     * 해당 허브를 재고 있음으로 기록하고 상품 상태는 변경하지 않음
+     * hubId 가 없는 이벤트는 상품 전체 품절 해제
+     *
+     * @param restockedAt 재입고 시각 (허브별 재고 이벤트 워터마크)
+     */
+    @Transactional
+    public void restoreFromOutOfStock(String productId, String hubId, LocalDateTime restockedAt) {
+        if (hubId == null) {
+            restoreFromOutOfStock(productId, restockedAt);
+            return;
+        }
+
+        log.debug("허브 품절 해제 시작: productId={}, hubId={}, restockedAt={}", productId, hubId, restockedAt);
+        recordHubStock(productId, hubId, false, restockedAt);
     }
 
     // ==================== 조회(Query) 메서드 - Controller용 ====================
@@ -248,7 +317,7 @@ public class ProductService {
      * 상품 단건 조회
      */
     public Product getProduct(String productId) {
-        log.info("상품 조회: productId={}", productId);
+        log.debug("상품 조회: productId={}", productId);
         return findById(productId);
     }
 
@@ -256,7 +325,7 @@ public class ProductService {
      * 상품 목록 조회 (페이징)
      */
     public PageResponse<ProductResponse> getProductsWithPaging(int page, int size) {
-        log.info("상품 목록 조회: page={}, size={}", page, size);
+        log.debug("상품 목록 조회: page={}, size={}", page, size);
 
         Pageable pageable = PageRequest.of(page, size);
         Page<Product> productPage = productRepository.findAllWithPaging(pageable);
@@ -268,7 +337,7 @@ public class ProductService {
      * 상품 검색 (키워드)
      */
     public PageResponse<ProductResponse> searchProducts(String keyword, int page, int size) {
-        log.info("상품 검색: keyword={}, page={}, size={}", keyword, page, size);
+        log.debug("상품 검색: keyword={}, page={}, size={}", keyword, page, size);
 
         List<Product> allProducts = productRepository.findByNameContaining(keyword);
 
@@ -301,7 +370,7 @@ public class ProductService {
      * 판매자별 상품 목록 조회 (페이징)
      */
     public PageResponse<ProductResponse> getProductsBySeller(String sellerId, int page, int size) {
-        log.info("판매자 상품 조회: sellerId={}, page={}, size={}", sellerId, page, size);
+        log.debug("판매자 상품 조회: sellerId={}, page={}, size={}", sellerId, page, size);
 
         Pageable pageable = PageRequest.of(page, size);
         Page<Product> productPage = productRepository.findBySellerIdWithPaging(sellerId, pageable);
@@ -309,11 +378,52 @@ public class ProductService {
         return PageUtils.toPageResponse(productPage, ProductResponse::from);
     }
 
+    /**
+     * 허브별 상품 목록 조회 (페이징)
+     */
+    public PageResponse<ProductResponse> getProductsByHub(String hubId, int page, int size) {
+        log.debug("허브 상품 조회: hubId={}, page={}, size={}", hubId, page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Page<Product> productPage = productRepository.findByHubIdWithPaging(hubId, pageable);
+
+        return PageUtils.toPageResponse(productPage, ProductResponse::from);
+    }
+
+    /**
+     * 허브별 상품 목록 조회 (커서)
+     * 전체 건수를 세지 않으므로 깊은 페이지도 일정한 비용으로 조회
+     */
+    public CursorResponse<ProductResponse> getProductsByHubWithCursor(String hubId, String cursor, int size) {
+        log.debug("허브 상품 커서 조회: hubId={}, cursor={}, size={}", hubId, cursor, size);
+
+        CursorUtils.validateSize(size);
+        CursorUtils.Cursor decoded = CursorUtils.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Product> products = productRepository.findByHubIdAfterCursor(
+                hubId,
+                decoded != null ? decoded.createdAt() : null,
+                decoded != null ? decoded.id() : null,
+                size + 1);
+
+        boolean hasNext = products.size() > size;
+        List<Product> content = hasNext ? products.subList(0, size) : products;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Product last = content.get(content.size() - 1);
+            nextCursor = CursorUtils.encode(last.getCreatedAt(), last.getProductId());
+        }
+
+        return CursorResponse.of(content.stream().map(ProductResponse::from).toList(), nextCursor, size);
+    }
+
     /**
      * 상태별 상품 목록 조회
      */
     public List<Product> getProductsByStatus(ProductStatus status) {
-        log.info("상태별 상품 조회: status={}", status);
+        log.debug("상태별 상품 조회: status={}", status);
         return productRepository.findByStatus(status);
     }
 
@@ -321,7 +431,7 @@ public class ProductService {
      * 전체 상품 목록 조회 (페이징 없음)
      */
     public List<Product> getAllProducts() {
-        log.info("전체 상품 조회");
+        log.debug("전체 상품 조회");
         return productRepository.findAll();
     }
 
@@ -331,7 +441,7 @@ public class ProductService {
      * 판매자별 상품 목록 (전체) - Internal API용
      */
     public List<Product> getProductsBySellerId(String sellerId) {
-        log.info("판매자 전체 상품 조회: sellerId={}", sellerId);
+        log.debug("판매자 전체 상품 조회: sellerId={}", sellerId);
         return productRepository.findBySellerId(sellerId);
     }
 
@@ -346,7 +456,7 @@ public class ProductService {
      * 대량 상품 검증
      */
     public ProductValidationResponse validateProducts(List<String> productIds) {
-        log.info("대량 상품 검증: count={}", productIds.size());
+        log.debug("대량 상품 검증: count={}", productIds.size());
 
         List<String> validProductIds = new ArrayList<>();
         List<String> invalidProductIds = new ArrayList<>();
@@ -374,6 +484,22 @@ public class ProductService {
         );
     }
 
+    /**
+     * 허브 판매 가능 상품 조회 (주문 라우팅용)
+     * 요청 상품 수와 무관하게 단일 쿼리, 요청 순서 유지
+     */
+    public List<String> getSellableProductIdsAtHub(String hubId, List<String> productIds) {
+        log.debug("허브 판매 가능 상품 조회: hubId={}, count={}", hubId, productIds.size());
+
+        Set<String> sellable = new HashSet<>(
+                productRepository.findIdsSellableAtHub(new LinkedHashSet<>(productIds), hubId));
+
+        return productIds.stream()
+                .filter(sellable::contains)
+                .distinct()
+                .toList();
+    }
+
     // ==================== 내부 헬퍼 메서드 ====================
 
     /**
@@ -384,6 +510,38 @@ public class ProductService {
                 .orElseThrow(() -> new ProductException(ProductErrorCode.PRODUCT_NOT_FOUND));
     }
 
+    private Product findByIdForUpdate(String productId) {
+        return productRepository.findByIdForUpdate(productId)
+                .orElseThrow(() -> new ProductException(ProductErrorCode.PRODUCT_NOT_FOUND));
+    }
+
+    /**
+     * 허브 재고 기록 (허브별 워터마크보다 지난 이벤트는 무시)
+     */
+    private void recordHubStock(String productId, String hubId, boolean outOfStock, LocalDateTime occurredAt) {
+        // 같은 상품의 허브 재고 이벤트 직렬화 (허브 재고 행 동시 생성 방지, 상품 존재 확인)
+        findByIdForUpdate(productId);
+        ProductHubStock hubStock = productHubStockRepository.findByProductId(productId).stream()
+                .filter(existing -> existing.getHubId().equals(hubId))
+                .findFirst()
+                .orElseGet(() -> ProductHubStock.create(productId, hubId));
+
+        if (!hubStock.advanceStockWatermark(occurredAt)) {
+            log.info("지난 재고 이벤트 무시: productId={}, hubId={}, occurredAt={}, watermark={}",
+                    productId, hubId, occurredAt, hubStock.getStockEventAt());
+            return;
+        }
+
+        if (outOfStock) {
+            hubStock.markOutOfStock();
+        } else {
+            hubStock.markAvailable();
+        }
+        productHubStockRepository.save(hubStock);
+
+        log.debug("허브 재고 기록 완료: productId={}, hubId={}, outOfStock={}", productId, hubId, outOfStock);
+    }
+
     /**
      * 상태 변경 이벤트 발행 헬퍼
      */
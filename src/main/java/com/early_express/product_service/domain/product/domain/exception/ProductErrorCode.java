@@ -31,6 +31,7 @@ public enum ProductErrorCode implements ErrorCode {
     INVALID_MIN_MAX_ORDER_QUANTITY("PRODUCT_109", "최소 주문 수량은 최대 주문 수량보다 작아야 합니다.", 400),
     INVALID_CATEGORY_HIERARCHY("PRODUCT_110", "카테고리 계층 구조가 올바르지 않습니다.", 400),
     HUB_INFO_NOT_FOUND("PRODUCT_111", "사용자의 허브 정보를 찾을 수 없습니다.", 400),
+    INVALID_PRODUCT_ID("PRODUCT_112", "유효하지 않은 상품 ID 형식입니다.", 400),
 
     // ===== 400 Bad Request - Business Logic =====
     PRODUCT_ALREADY_DISCONTINUED("PRODUCT_201", "이미 단종된 상품입니다.", 400),
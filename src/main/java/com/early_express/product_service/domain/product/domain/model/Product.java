@@ -21,6 +21,7 @@ public class Product {
     private final String productId;
     private final String sellerId;
     private final String companyId;
+    private final String hubId;  // 등록 허브 (허브별 상품 목록용)
     private String name;
     private String description;
     private Price price;
@@ -30,6 +31,9 @@ public class Product {
     private Integer minOrderQuantity;
     private Integer maxOrderQuantity;
 
+    // 재고 이벤트 워터마크 (마지막으로 반영한 재고 이벤트 발생 시각)
+    private LocalDateTime stockEventAt;
+
     // Audit 필드 (BaseEntity와 매핑용)
     private LocalDateTime createdAt;
     private String createdBy;
@@ -44,6 +48,7 @@ public class Product {
             String productId,
             String sellerId,
             String companyId,
+            String hubId,
             String name,
             String description,
             Price price,
@@ -52,6 +57,7 @@ public class Product {
             boolean hasEvent,
             Integer minOrderQuantity,
             Integer maxOrderQuantity,
+            LocalDateTime stockEventAt,
             LocalDateTime createdAt,
             String createdBy,
             LocalDateTime updatedAt,
@@ -63,6 +69,7 @@ public class Product {
         this.productId = productId;
         this.sellerId = sellerId;
         this.companyId = companyId;
+        this.hubId = hubId;
         this.name = name;
         this.description = description;
         this.price = price;
@@ -71,6 +78,7 @@ public class Product {
         this.hasEvent = hasEvent;
         this.minOrderQuantity = minOrderQuantity;
         this.maxOrderQuantity = maxOrderQuantity;
+        this.stockEventAt = stockEventAt;
         this.createdAt = createdAt;
         this.createdBy = createdBy;
         this.updatedAt = updatedAt;
@@ -92,6 +100,24 @@ public class Product {
             Price price,
             Integer minOrderQuantity,
             Integer maxOrderQuantity
+    ) {
+        return create(productId, sellerId, companyId, null, name, description, price,
+                minOrderQuantity, maxOrderQuantity);
+    }
+
+    /**
+     * 새 상품 생성 (등록 허브 포함)
+     */
+    public static Product create(
+            String productId,
+            String sellerId,
+            String companyId,
+            String hubId,
+            String name,
+            String description,
+            Price price,
+            Integer minOrderQuantity,
+            Integer maxOrderQuantity
     ) {
         validateName(name);
         validateOrderQuantity(minOrderQuantity, maxOrderQuantity);
@@ -100,6 +126,7 @@ public class Product {
                 .productId(productId)
                 .sellerId(sellerId)
                 .companyId(companyId)
+                .hubId(hubId)
                 .name(name)
                 .description(description)
                 .price(price)
@@ -119,6 +146,7 @@ public class Product {
             String productId,
             String sellerId,
             String companyId,
+            String hubId,
             String name,
             String description,
             Price price,
@@ -127,6 +155,7 @@ public class Product {
             boolean hasEvent,
             Integer minOrderQuantity,
             Integer maxOrderQuantity,
+            LocalDateTime stockEventAt,
             LocalDateTime createdAt,
             String createdBy,
             LocalDateTime updatedAt,
@@ -139,6 +168,7 @@ public class Product {
                 .productId(productId)
                 .sellerId(sellerId)
                 .companyId(companyId)
+                .hubId(hubId)
                 .name(name)
                 .description(description)
                 .price(price)
@@ -147,6 +177,7 @@ public class Product {
                 .hasEvent(hasEvent)
                 .minOrderQuantity(minOrderQuantity)
                 .maxOrderQuantity(maxOrderQuantity)
+                .stockEventAt(stockEventAt)
                 .createdAt(createdAt)
                 .createdBy(createdBy)
                 .updatedAt(updatedAt)
@@ -217,6 +248,27 @@ public class Product {
         this.isSellable = false;
     }
 
+    /**
+     * 재고 이벤트 워터마크 갱신
+     * 재고 부족 / 재입고 이벤트는 서로 다른 토픽으로 전달되어 순서가 뒤바뀔 수 있으므로
+     * 이미 반영한 이벤트보다 이전(또는 같은) 시각의 이벤트는 반영하지 않음
+     *
+     * @param occurredAt 재고 이벤트 발생 시각 (null 이면 순서 검사 생략)
+     * @return 반영 대상이면 true, 더 최신 이벤트가 이미 반영된 경우 false
+     */
+    public boolean advanceStockWatermark(LocalDateTime occurredAt) {
+        if (occurredAt == null) {
+            return true;
+        }
+
+        if (this.stockEventAt != null && !occurredAt.isAfter(this.stockEventAt)) {
+            return false;
+        }
+
+        this.stockEventAt = occurredAt;
+        return true;
+    }
+
     /**
      * 이벤트 활성화/비활성화
      */
@@ -0,0 +1,94 @@
+package com.early_express.product_service.domain.product.domain.model;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 허브별 상품 재고 가용 상태
+ * - 재고 부족 / 재입고 이벤트의 hubId 단위로 품절 여부를 기록
+ * - 이벤트를 받은 적 없는 허브는 기록이 없으며, 상품 상태만으로 판매 가능 여부를 판단
+ * - 허브마다 재고 이벤트 워터마크를 따로 관리 (다른 허브의 이벤트로 지난 이벤트 판정하지 않음)
+ */
+@Getter
+public class ProductHubStock {
+
+    private final String productId;
+    private final String hubId;
+    private boolean outOfStock;
+
+    // 재고 이벤트 워터마크 (지난 재고 이벤트 무시용)
+    private LocalDateTime stockEventAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private ProductHubStock(String productId, String hubId, boolean outOfStock, LocalDateTime stockEventAt) {
+        this.productId = productId;
+        this.hubId = hubId;
+        this.outOfStock = outOfStock;
+        this.stockEventAt = stockEventAt;
+    }
+
+    /**
+     * 허브 재고 기록 생성 (재고 있음)
+     */
+    public static ProductHubStock create(String productId, String hubId) {
+        return ProductHubStock.builder()
+                .productId(productId)
+                .hubId(hubId)
+                .outOfStock(false)
+                .build();
+    }
+
+    /**
+     * DB에서 조회한 데이터로 재구성
+     */
+    public static ProductHubStock reconstruct(
+            String productId,
+            String hubId,
+            boolean outOfStock,
+            LocalDateTime stockEventAt
+    ) {
+        return ProductHubStock.builder()
+                .productId(productId)
+                .hubId(hubId)
+                .outOfStock(outOfStock)
+                .stockEventAt(stockEventAt)
+                .build();
+    }
+
+    /**
+     * 허브 품절 처리
+     */
+    public void markOutOfStock() {
+        this.outOfStock = true;
+    }
+
+    /**
+     * 허브 품절 해제
+     */
+    public void markAvailable() {
+        this.outOfStock = false;
+    }
+
+    /**
+     * 재고 이벤트 워터마크 갱신
+     *
+     * @param occurredAt 재고 이벤트 발생 시각 (null 이면 순서 검사 생략)
+     * @return 반영 대상이면 true, 더 최신 이벤트가 이미 반영된 경우 false
+     * @see Product#advanceStockWatermark(LocalDateTime)
+     */
+    public boolean advanceStockWatermark(LocalDateTime occurredAt) {
+        if (occurredAt == null) {
+            return true;
+        }
+
+        if (this.stockEventAt != null && !occurredAt.isAfter(this.stockEventAt)) {
+            return false;
+        }
+
+        this.stockEventAt = occurredAt;
+        return true;
+    }
+}
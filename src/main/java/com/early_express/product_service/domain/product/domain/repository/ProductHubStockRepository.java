@@ -0,0 +1,23 @@
+package com.early_express.product_service.domain.product.domain.repository;
+
+import com.early_express.product_service.domain.product.domain.model.ProductHubStock;
+
+import java.util.List;
+
+/**
+ * ProductHubStock Repository 인터페이스 (포트)
+ * - 도메인 계층에서 정의
+ * - Infrastructure 계층에서 구현
+ */
+public interface ProductHubStockRepository {
+
+    /**
+     * 허브 재고 상태 저장 (없으면 신규 저장)
+     */
+    ProductHubStock save(ProductHubStock hubStock);
+
+    /**
+     * 상품의 허브별 재고 상태 조회
+     */
+    List<ProductHubStock> findByProductId(String productId);
+}
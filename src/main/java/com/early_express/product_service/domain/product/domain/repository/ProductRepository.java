@@ -5,6 +5,8 @@ import com.early_express.product_service.domain.product.domain.model.vo.ProductS
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +29,12 @@ public interface ProductRepository {
      */
     Optional<Product> findById(String productId);
 
+    /**
+     * ID로 상품 조회 + 행 잠금 (삭제된 상품 제외)
+     * 같은 상품에 대한 재고 이벤트 동시 처리 시 워터마크 검사와 상태 변경을 직렬화
+     */
+    Optional<Product> findByIdForUpdate(String productId);
+
     /**
      * 전체 상품 조회 (삭제된 상품 제외)
      */
@@ -57,6 +65,17 @@ public interface ProductRepository {
      */
     Page<Product> findBySellerIdWithPaging(String sellerId, Pageable pageable);
 
+    /**
+     * 허브별 페이징 조회 (삭제된 상품 제외, 최신순)
+     */
+    Page<Product> findByHubIdWithPaging(String hubId, Pageable pageable);
+
+    /**
+     * 허브별 커서 조회 (삭제된 상품 제외, 최신순)
+     * (createdAt, productId) 기준으로 커서 다음 상품을 limit 개 조회, 커서가 null 이면 처음부터
+     */
+    List<Product> findByHubIdAfterCursor(String hubId, LocalDateTime cursorCreatedAt, String cursorProductId, int limit);
+
     /**
      * 소프트 삭제
      */
@@ -66,4 +85,10 @@ public interface ProductRepository {
      * 상품 존재 여부 확인 (삭제된 상품 제외)
      */
     boolean existsById(String productId);
+
+    /**
+     * 허브에서 판매 가능한 상품 ID 조회 (삭제된 상품 제외)
+     * 판매 가능 상태(ACTIVE)이면서 해당 허브에 품절 기록이 없는 상품만 반환, 상품 수와 무관하게 단일 쿼리
+     */
+    List<String> findIdsSellableAtHub(Collection<String> productIds, String hubId);
 }
@@ -3,8 +3,12 @@ package com.early_express.product_service.domain.product.infrastructure.messagin
 import com.early_express.product_service.domain.product.application.service.ProductService;
 import com.early_express.product_service.domain.product.infrastructure.messaging.inventory.event.InventoryLowStockEvent;
 import com.early_express.product_service.domain.product.infrastructure.messaging.inventory.event.InventoryRestockedEvent;
+import com.early_express.product_service.global.infrastructure.event.dispatch.KeyOrderedEventDispatcher;
+import com.early_express.product_service.global.infrastructure.logging.HotPathLog;
+import com.early_express.product_service.global.infrastructure.monitoring.EventLatencyRecorder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
@@ -15,6 +19,9 @@ import org.springframework.stereotype.Component;
 /**
  * Inventory 이벤트 Consumer
  * Inventory Service → Product Service
+ *
+ * 수신 지연 / 처리 시간 / 처리 완료까지의 지연을 EventLatencyRecorder 로 기록 (topic, event_type 태그)
+ * 처리 완료 로그는 HotPathLog.EVENT_CONSUME 구조화 이벤트로 샘플링 기록 (실패는 항상 기록)
  */
 @Slf4j
 @Component
@@ -22,10 +29,13 @@ import org.springframework.stereotype.Component;
 public class InventoryEventConsumer {
 
     private final ProductService productService;
+    private final KeyOrderedEventDispatcher dispatcher;
+    private final StockTransitionCoalescer coalescer;
+    private final EventLatencyRecorder latencyRecorder;
 
     /**
      * 재고 부족 이벤트 처리
-     * 상품을 품절 상태로 변경
+     * 허브 품절 기록 (hubId 가 없으면 상품 전체 품절)
      * Topic: inventory-low-stock
      */
     @KafkaListener(
@@ -35,37 +45,43 @@ public class InventoryEventConsumer {
     )
     public void handleInventoryLowStock(
             @Payload InventoryLowStockEvent event,
+            @Header(KafkaHeaders.RAW_DATA) ConsumerRecord<String, Object> record,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
             Acknowledgment ack) {
 
-        log.info("[Inventory] LowStock 이벤트 수신 - productId: {}, hubId: {}, currentQuantity: {}, partition: {}, offset: {}",
+        log.debug("[Inventory] LowStock 이벤트 수신 - productId: {}, hubId: {}, currentQuantity: {}, partition: {}, offset: {}",
                 event.getProductId(),
                 event.getHubId(),
                 event.getCurrentQuantity(),
                 partition,
                 offset);
+        latencyRecorder.recordReceived(record.topic(), event);
 
-        try {
-            // 품절 처리
-            productService.markAsOutOfStock(event.getProductId());
+        // 병합 모드: 윈도우 종료 후 최종 상태만 반영, 반영 후 일괄 ACK
+        if (coalescer.isEnabled()) {
+            coalescer.submit(event.getProductId(), event.getHubId(), true, event.getDetectedAt(), record, ack);
+            return;
+        }
 
-            // 수동 커밋
-            ack.acknowledge();
+        // productId 단위 순서 보장, 처리 완료 시 수동 커밋
+        // 실패 시 재시도 토픽 → DLT (KafkaRetryTopicConfig)
+        dispatcher.dispatch(record, event.getProductId(),
+                () -> latencyRecorder.recordProcessing(record.topic(), event, () -> processLowStock(event)), ack);
+    }
 
-            log.info("[Inventory] LowStock 이벤트 처리 완료 - productId: {}", event.getProductId());
+    // 실패 로그는 재시도를 맡은 쪽(KeyOrderedEventDispatcher / 컨테이너 에러 핸들러)이 최종 실패 시 한 번 남김
+    private void processLowStock(InventoryLowStockEvent event) {
+        // 품절 처리
+        productService.markAsOutOfStock(event.getProductId(), event.getHubId(), event.getDetectedAt());
 
-        } catch (Exception e) {
-            log.error("[Inventory] LowStock 이벤트 처리 실패 - productId: {}, error: {}",
-                    event.getProductId(), e.getMessage(), e);
-            throw e;
-        }
+        logProcessed("InventoryLowStock", event.getProductId(), event.getHubId(), event.getEventId());
     }
 
     /**
      * 재입고 이벤트 처리
-     * 품절 상태 해제
+     * 허브 품절 해제 (hubId 가 없으면 상품 전체 품절 해제)
      * Topic: inventory-restocked
      */
     @KafkaListener(
@@ -75,31 +91,45 @@ public class InventoryEventConsumer {
     )
     public void handleInventoryRestocked(
             @Payload InventoryRestockedEvent event,
+            @Header(KafkaHeaders.RAW_DATA) ConsumerRecord<String, Object> record,
             @Header(KafkaHeaders.RECEIVED_KEY) String key,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
             Acknowledgment ack) {
 
-        log.info("[Inventory] Restocked 이벤트 수신 - productId: {}, hubId: {}, restockedQuantity: {}, partition: {}, offset: {}",
+        log.debug("[Inventory] Restocked 이벤트 수신 - productId: {}, hubId: {}, restockedQuantity: {}, partition: {}, offset: {}",
                 event.getProductId(),
                 event.getHubId(),
                 event.getRestockedQuantity(),
                 partition,
                 offset);
+        latencyRecorder.recordReceived(record.topic(), event);
+
+        // 병합 모드: 윈도우 종료 후 최종 상태만 반영, 반영 후 일괄 ACK
+        if (coalescer.isEnabled()) {
+            coalescer.submit(event.getProductId(), event.getHubId(), false, event.getRestockedAt(), record, ack);
+            return;
+        }
 
-        try {
-            // 품절 해제
-            productService.restoreFromOutOfStock(event.getProductId());
+        // productId 단위 순서 보장, 처리 완료 시 수동 커밋
+        // 실패 시 재시도 토픽 → DLT (KafkaRetryTopicConfig)
+        dispatcher.dispatch(record, event.getProductId(),
+                () -> latencyRecorder.recordProcessing(record.topic(), event, () -> processRestocked(event)), ack);
+    }
 
-            // 수동 커밋
-            ack.acknowledge();
+    private void processRestocked(InventoryRestockedEvent event) {
+        // 품절 해제
+        productService.restoreFromOutOfStock(event.getProductId(), event.getHubId(), event.getRestockedAt());
 
-            log.info("[Inventory] Restocked 이벤트 처리 완료 - productId: {}", event.getProductId());
+        logProcessed("InventoryRestocked", event.getProductId(), event.getHubId(), event.getEventId());
+    }
 
-        } catch (Exception e) {
-            log.error("[Inventory] Restocked 이벤트 처리 실패 - productId: {}, error: {}",
-                    event.getProductId(), e.getMessage(), e);
-            throw e;
-        }
+    private static void logProcessed(String eventType, String productId, String hubId, String eventId) {
+        HotPathLog.EVENT_CONSUME.event("재고 이벤트 처리")
+                .addKeyValue("eventType", eventType)
+                .addKeyValue("productId", productId)
+                .addKeyValue("hubId", hubId)
+                .addKeyValue("eventId", eventId)
+                .log();
     }
-}
\ No newline at end of file
+}
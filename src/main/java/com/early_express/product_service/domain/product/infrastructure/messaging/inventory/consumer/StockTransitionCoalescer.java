@@ -0,0 +1,199 @@
+package com.early_express.product_service.domain.product.infrastructure.messaging.inventory.consumer;
+
+import com.early_express.product_service.domain.product.application.service.ProductService;
+import com.early_express.product_service.global.infrastructure.event.dispatch.KeyOrderedEventDispatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 품절 / 품절 해제 전이 병합기
+ * - 안전 재고 부근에서 재고 부족 / 재입고 이벤트가 반복되는 상품의 전이를 (상품, 허브)별 윈도우 동안 모아 최종 상태만 반영
+ * - 윈도우 내 가장 최근 이벤트(detectedAt / restockedAt 기준, 시각이 없으면 수신 순)만 ProductService 로 전달
+ *   이미 같은 상태라면 ProductService 가 쓰기 / 상태 변경 이벤트 발행을 생략하므로 순 변화만 반영됨
+ * - 병합된 레코드는 최종 반영 후 일괄 ACK (asyncAcks) → 윈도우 도중 종료되어도 재전달로 복구
+ * - 반영은 KeyOrderedEventDispatcher 레인에서 실행 (스케줄러 스레드는 윈도우 종료 시 전달만 담당)
+ *   반영 실패 시 레인에서 재시도 후 마지막 레코드를 DLT 로 전송
+ *
+ * 메트릭: inventory.stock.transition.suppressed (병합으로 생략된 이벤트 수, transition 태그)
+ *        inventory.stock.transition.applied (윈도우 종료 후 반영 요청 수)
+ *        inventory.stock.transition.pending (윈도우 대기 중인 (상품, 허브) 수)
+ */
+@Slf4j
+@Component
+public class StockTransitionCoalescer {
+
+    private static final String SUPPRESSED_METRIC = "inventory.stock.transition.suppressed";
+
+    private final ProductService productService;
+    private final KeyOrderedEventDispatcher dispatcher;
+    private final boolean enabled;
+    private final long windowMs;
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    private final Counter suppressedOutOfStock;
+    private final Counter suppressedRestocked;
+    private final Counter applied;
+
+    public StockTransitionCoalescer(
+            ProductService productService,
+            KeyOrderedEventDispatcher dispatcher,
+            MeterRegistry meterRegistry,
+            @Value("${spring.kafka.stock-coalescing.enabled:false}") boolean enabled,
+            @Value("${spring.kafka.stock-coalescing.window-ms:3000}") long windowMs) {
+
+        this.productService = productService;
+        this.dispatcher = dispatcher;
+        this.enabled = enabled;
+        this.windowMs = Math.max(0, windowMs);
+        this.scheduler = enabled
+                ? Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("stock-transition-coalescer").daemon(true).factory())
+                : null;
+
+        this.suppressedOutOfStock = Counter.builder(SUPPRESSED_METRIC)
+                .description("병합 윈도우 내 최종 상태에 밀려 반영되지 않은 재고 이벤트 수")
+                .tag("transition", "out_of_stock")
+                .register(meterRegistry);
+        this.suppressedRestocked = Counter.builder(SUPPRESSED_METRIC)
+                .description("병합 윈도우 내 최종 상태에 밀려 반영되지 않은 재고 이벤트 수")
+                .tag("transition", "restocked")
+                .register(meterRegistry);
+        this.applied = Counter.builder("inventory.stock.transition.applied")
+                .description("병합 윈도우 종료 후 반영 요청된 재고 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("inventory.stock.transition.pending", pending, Map::size)
+                .description("병합 윈도우 대기 중인 (상품, 허브) 수")
+                .register(meterRegistry);
+
+        if (enabled) {
+            log.info("품절 전이 병합 활성화 - window: {}ms", this.windowMs);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 재고 이벤트 병합 대기열에 추가
+     * (상품, 허브)별 첫 이벤트 수신 시점부터 윈도우가 시작되며, 윈도우 종료 시 최종 상태만 반영
+     *
+     * @param productId  상품 ID
+     * @param hubId      허브 ID (없으면 상품 전체)
+     * @param outOfStock true: 재고 부족(품절 처리), false: 재입고(품절 해제)
+     * @param occurredAt 이벤트 발생 시각 (detectedAt / restockedAt)
+     * @param record     원본 레코드 (반영 실패 시 DLT 전송용)
+     * @param ack        최종 반영 후 호출할 Acknowledgment
+     */
+    public void submit(String productId, String hubId, boolean outOfStock, LocalDateTime occurredAt,
+                       ConsumerRecord<?, ?> record, Acknowledgment ack) {
+        Transition transition = new Transition(productId, hubId, outOfStock, occurredAt, record);
+
+        pending.compute(transition.key(), (key, current) -> {
+            if (current == null) {
+                scheduler.schedule(() -> flush(key), windowMs, TimeUnit.MILLISECONDS);
+                return new Pending(transition, ack);
+            }
+            countSuppressed(current.merge(transition, ack));
+            return current;
+        });
+    }
+
+    private void flush(String key) {
+        Pending batch = pending.remove(key);
+        if (batch == null) {
+            return;
+        }
+
+        Transition latest = batch.latest;
+        applied.increment();
+        log.debug("[Coalescer] 병합 반영 - productId: {}, hubId: {}, outOfStock: {}, occurredAt: {}, merged: {}",
+                latest.productId(), latest.hubId(), latest.outOfStock(), latest.occurredAt(), batch.acks.size());
+
+        dispatcher.dispatchDetached(latest.record(), latest.productId(), () -> apply(latest), batch::acknowledgeAll);
+    }
+
+    private void apply(Transition transition) {
+        if (transition.outOfStock()) {
+            productService.markAsOutOfStock(transition.productId(), transition.hubId(), transition.occurredAt());
+        } else {
+            productService.restoreFromOutOfStock(transition.productId(), transition.hubId(), transition.occurredAt());
+        }
+    }
+
+    private void countSuppressed(Transition suppressed) {
+        (suppressed.outOfStock() ? suppressedOutOfStock : suppressedRestocked).increment();
+    }
+
+    /**
+     * 종료 시 대기 중인 전이는 반영하지 않음
+     * ACK 되지 않은 레코드는 커밋되지 않으므로 재시작 후 재전달됨
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private record Transition(String productId, String hubId, boolean outOfStock, LocalDateTime occurredAt,
+                              ConsumerRecord<?, ?> record) {
+
+        String key() {
+            return hubId == null ? productId : productId + "|" + hubId;
+        }
+
+        // 발생 시각을 비교할 수 없으면 나중에 수신한 이벤트를 최신으로 간주
+        boolean supersedes(Transition other) {
+            return occurredAt == null || other.occurredAt == null || !occurredAt.isBefore(other.occurredAt);
+        }
+    }
+
+    /**
+     * (상품, 허브)별 병합 상태 (ConcurrentHashMap.compute 안에서만 변경)
+     */
+    private static final class Pending {
+
+        private Transition latest;
+        private final List<Acknowledgment> acks = new ArrayList<>();
+
+        private Pending(Transition transition, Acknowledgment ack) {
+            this.latest = transition;
+            this.acks.add(ack);
+        }
+
+        /**
+         * @return 밀려난(반영되지 않을) 전이
+         */
+        private Transition merge(Transition incoming, Acknowledgment ack) {
+            acks.add(ack);
+            if (incoming.supersedes(latest)) {
+                Transition suppressed = latest;
+                latest = incoming;
+                return suppressed;
+            }
+            return incoming;
+        }
+
+        private void acknowledgeAll() {
+            acks.forEach(Acknowledgment::acknowledge);
+        }
+    }
+}
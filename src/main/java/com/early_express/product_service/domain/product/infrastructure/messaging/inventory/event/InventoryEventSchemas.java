@@ -0,0 +1,76 @@
+package com.early_express.product_service.domain.product.infrastructure.messaging.inventory.event;
+
+import com.early_express.product_service.global.infrastructure.event.codec.EventSchema;
+import com.early_express.product_service.global.infrastructure.event.codec.EventSchemaProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재고 이벤트 바이너리 스키마 (수신용)
+ * Inventory Service 의 스키마와 필드 순서가 일치해야 함
+ * eventType 헤더 없이 발행된 레코드는 수신 토픽으로 이벤트 타입 판단
+ */
+@Component
+public class InventoryEventSchemas implements EventSchemaProvider {
+
+    static final EventSchema<InventoryLowStockEvent> INVENTORY_LOW_STOCK = new EventSchema<>(
+            "INVENTORY_LOW_STOCK", InventoryLowStockEvent.class, 1,
+            (event, out) -> out
+                    .writeString(event.getInventoryId())
+                    .writeString(event.getProductId())
+                    .writeString(event.getHubId())
+                    .writeInteger(event.getCurrentQuantity())
+                    .writeInteger(event.getSafetyStock())
+                    .writeDateTime(event.getDetectedAt()),
+            (in, version) -> in.readBase(InventoryLowStockEvent.builder())
+                    .inventoryId(in.readString())
+                    .productId(in.readString())
+                    .hubId(in.readString())
+                    .currentQuantity(in.readInteger())
+                    .safetyStock(in.readInteger())
+                    .detectedAt(in.readDateTime())
+                    .build());
+
+    static final EventSchema<InventoryRestockedEvent> INVENTORY_RESTOCKED = new EventSchema<>(
+            "INVENTORY_RESTOCKED", InventoryRestockedEvent.class, 1,
+            (event, out) -> out
+                    .writeString(event.getInventoryId())
+                    .writeString(event.getProductId())
+                    .writeString(event.getHubId())
+                    .writeInteger(event.getRestockedQuantity())
+                    .writeInteger(event.getCurrentQuantity())
+                    .writeDateTime(event.getRestockedAt()),
+            (in, version) -> in.readBase(InventoryRestockedEvent.builder())
+                    .inventoryId(in.readString())
+                    .productId(in.readString())
+                    .hubId(in.readString())
+                    .restockedQuantity(in.readInteger())
+                    .currentQuantity(in.readInteger())
+                    .restockedAt(in.readDateTime())
+                    .build());
+
+    private final String lowStockTopic;
+    private final String restockedTopic;
+
+    public InventoryEventSchemas(
+            @Value("${spring.kafka.topic.inventory-low-stock:inventory-low-stock}") String lowStockTopic,
+            @Value("${spring.kafka.topic.inventory-restocked:inventory-restocked}") String restockedTopic) {
+        this.lowStockTopic = lowStockTopic;
+        this.restockedTopic = restockedTopic;
+    }
+
+    @Override
+    public List<EventSchema<?>> schemas() {
+        return List.of(INVENTORY_LOW_STOCK, INVENTORY_RESTOCKED);
+    }
+
+    @Override
+    public Map<String, String> defaultEventTypesByTopic() {
+        return Map.of(
+                lowStockTopic, INVENTORY_LOW_STOCK.eventType(),
+                restockedTopic, INVENTORY_RESTOCKED.eventType());
+    }
+}
@@ -0,0 +1,75 @@
+package com.early_express.product_service.domain.product.infrastructure.messaging.product.consumer;
+
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductCreatedEvent;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductDeletedEvent;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductStatusChangedEvent;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductUpdatedEvent;
+import com.early_express.product_service.domain.product.infrastructure.persistence.cache.ProductCacheEvictor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 이벤트 기반 2차 캐시 무효화
+ * Product Service (모든 인스턴스) → Product Service (각 인스턴스)
+ *
+ * - 인스턴스마다 고유 컨슈머 그룹으로 구독 → 모든 인스턴스가 모든 상품 이벤트를 받음 (브로드캐스트)
+ * - 새 그룹이므로 시작 시점 이후 이벤트만 읽음 (시작 시 캐시가 비어 있으므로 이전 이벤트 불필요)
+ * - 발행 병합 윈도우 / 전달 지연 동안 다른 노드는 이전 값을 볼 수 있음, 이벤트 유실 시 리전 TTL 이 상한
+ *   재고 워터마크만 바뀌는 변경은 이벤트가 없으므로 쓰기 트랜잭션은 쿼리 캐시를 쓰지 않음 (ProductRepositoryImpl)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.jpa.second-level-cache.enabled", havingValue = "true")
+public class ProductCacheInvalidationConsumer {
+
+    private final ProductCacheEvictor productCacheEvictor;
+
+    /**
+     * 상품 생성 / 수정 / 삭제 / 상태 변경 이벤트 수신 시 해당 상품 캐시 제거
+     * Topic: product-created, product-updated, product-deleted, product-status-changed
+     */
+    @KafkaListener(
+            topics = {
+                    "${spring.kafka.topic.product-created:product-created}",
+                    "${spring.kafka.topic.product-updated:product-updated}",
+                    "${spring.kafka.topic.product-deleted:product-deleted}",
+                    "${spring.kafka.topic.product-status-changed:product-status-changed}"
+            },
+            groupId = "${spring.kafka.consumer.group-id}-cache-${random.uuid}",
+            containerFactory = "kafkaListenerContainerFactory",
+            concurrency = "1",
+            properties = "auto.offset.reset=latest"
+    )
+    public void handleProductEvent(
+            @Payload Object event,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            Acknowledgment ack) {
+
+        String productId = switch (event) {
+            case ProductCreatedEvent created -> created.getProductId();
+            case ProductUpdatedEvent updated -> updated.getProductId();
+            case ProductDeletedEvent deleted -> deleted.getProductId();
+            case ProductStatusChangedEvent statusChanged -> statusChanged.getProductId();
+            default -> null;
+        };
+
+        if (productId == null) {
+            log.warn("[Product] 캐시 무효화 대상이 아닌 이벤트 - topic: {}, type: {}",
+                    topic, event.getClass().getSimpleName());
+            ack.acknowledge();
+            return;
+        }
+
+        productCacheEvictor.evict(productId);
+        ack.acknowledge();
+        log.debug("[Product] 2차 캐시 무효화 - topic: {}, productId: {}", topic, productId);
+    }
+}
@@ -0,0 +1,76 @@
+package com.early_express.product_service.domain.product.infrastructure.messaging.product.event;
+
+import com.early_express.product_service.global.infrastructure.event.codec.EventSchema;
+import com.early_express.product_service.global.infrastructure.event.codec.EventSchemaProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 상품 이벤트 바이너리 스키마 (발행 / 2차 캐시 무효화 수신)
+ * 필드 순서 변경 / 삭제 금지, 추가 시 끝에 기록하고 version 증가
+ */
+@Component
+public class ProductEventSchemas implements EventSchemaProvider {
+
+    static final EventSchema<ProductCreatedEvent> PRODUCT_CREATED = new EventSchema<>(
+            "PRODUCT_CREATED", ProductCreatedEvent.class, 1,
+            (event, out) -> out
+                    .writeString(event.getProductId())
+                    .writeString(event.getSellerId())
+                    .writeString(event.getHubId())
+                    .writeString(event.getName())
+                    .writeDateTime(event.getCreatedAt()),
+            (in, version) -> in.readBase(ProductCreatedEvent.builder())
+                    .productId(in.readString())
+                    .sellerId(in.readString())
+                    .hubId(in.readString())
+                    .name(in.readString())
+                    .createdAt(in.readDateTime())
+                    .build());
+
+    static final EventSchema<ProductUpdatedEvent> PRODUCT_UPDATED = new EventSchema<>(
+            "PRODUCT_UPDATED", ProductUpdatedEvent.class, 1,
+            (event, out) -> out
+                    .writeString(event.getProductId())
+                    .writeString(event.getName())
+                    .writeDecimal(event.getPrice())
+                    .writeDateTime(event.getUpdatedAt()),
+            (in, version) -> in.readBase(ProductUpdatedEvent.builder())
+                    .productId(in.readString())
+                    .name(in.readString())
+                    .price(in.readDecimal())
+                    .updatedAt(in.readDateTime())
+                    .build());
+
+    static final EventSchema<ProductDeletedEvent> PRODUCT_DELETED = new EventSchema<>(
+            "PRODUCT_DELETED", ProductDeletedEvent.class, 1,
+            (event, out) -> out
+                    .writeString(event.getProductId())
+                    .writeString(event.getSellerId())
+                    .writeDateTime(event.getDeletedAt()),
+            (in, version) -> in.readBase(ProductDeletedEvent.builder())
+                    .productId(in.readString())
+                    .sellerId(in.readString())
+                    .deletedAt(in.readDateTime())
+                    .build());
+
+    static final EventSchema<ProductStatusChangedEvent> PRODUCT_STATUS_CHANGED = new EventSchema<>(
+            "PRODUCT_STATUS_CHANGED", ProductStatusChangedEvent.class, 1,
+            (event, out) -> out
+                    .writeString(event.getProductId())
+                    .writeString(event.getOldStatus())
+                    .writeString(event.getNewStatus())
+                    .writeDateTime(event.getChangedAt()),
+            (in, version) -> in.readBase(ProductStatusChangedEvent.builder())
+                    .productId(in.readString())
+                    .oldStatus(in.readString())
+                    .newStatus(in.readString())
+                    .changedAt(in.readDateTime())
+                    .build());
+
+    @Override
+    public List<EventSchema<?>> schemas() {
+        return List.of(PRODUCT_CREATED, PRODUCT_UPDATED, PRODUCT_DELETED, PRODUCT_STATUS_CHANGED);
+    }
+}
@@ -9,25 +9,47 @@ import com.early_express.product_service.domain.product.infrastructure.messaging
 import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductDeletedEvent;
 import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductStatusChangedEvent;
 import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductUpdatedEvent;
-import lombok.RequiredArgsConstructor;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.producer.ProductEventCoalescer.EventKind;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.producer.ProductEventCoalescer.PendingEvent;
+import com.early_express.product_service.global.infrastructure.event.base.BaseEvent;
+import com.early_express.product_service.global.infrastructure.event.publish.InFlightPublishTracker;
+import com.early_express.product_service.global.infrastructure.logging.HotPathLog;
+import com.early_express.product_service.global.infrastructure.event.publish.PublishSpilledException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
  * Product 이벤트 발행자 구현체 (Kafka Adapter)
  * 도메인 EventData → Kafka Event 변환 후 발행
+ *
+ * 발행 병합(spring.kafka.publish-coalescing.enabled) 활성화 시 ProductEventCoalescer 를 거쳐
+ * 트랜잭션 커밋 후 / 윈도우 종료 시 상품별 최신 수정 · 순 상태 변경만 발행
+ * 커밋 이후 발행은 거부되어도 롤백할 수 없으므로 백프레셔와 함께 켤 때는 저널 활성화 필수 (아니면 기동 실패)
+ *
+ * 전송은 InFlightPublishTracker 를 거쳐 발행 한도 / 백프레셔 정책 적용 (브로커 지연이 API 지연으로 번지지 않도록)
+ * 한도 초과로 거부되면 PublishRejectedException 이 호출 측으로 전파되어 도메인 트랜잭션이 롤백됨 (저널 비활성화 시)
+ * 발행 성공 로그는 HotPathLog.EVENT_PUBLISH 구조화 이벤트로 샘플링 기록 (저널 보관 / 실패는 항상 기록)
+ *
+ * 메트릭: product.event.publish.requested (발행 요청 수, type 태그)
+ *        product.event.publish.sent (Kafka 로 실제 전송한 수, type 태그)
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class KafkaProductEventPublisher implements ProductEventPublisher {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final InFlightPublishTracker publishTracker;
+    private final ProductEventCoalescer coalescer;
+    private final Map<EventKind, Counter> requested = new EnumMap<>(EventKind.class);
+    private final Map<EventKind, Counter> sent = new EnumMap<>(EventKind.class);
 
     @Value("${spring.kafka.topic.product-created:product-created}")
     private String productCreatedTopic;
@@ -41,34 +63,47 @@ public class KafkaProductEventPublisher implements ProductEventPublisher {
     @Value("${spring.kafka.topic.product-status-changed:product-status-changed}")
     private String productStatusChangedTopic;
 
+    public KafkaProductEventPublisher(
+            InFlightPublishTracker publishTracker,
+            MeterRegistry meterRegistry,
+            @Value("${spring.kafka.publish-coalescing.enabled:false}") boolean coalescingEnabled,
+            @Value("${spring.kafka.publish-coalescing.window-ms:500}") long coalescingWindowMs) {
+
+        if (coalescingEnabled && publishTracker.rejectsWhenFull()) {
+            throw new IllegalStateException("발행 병합과 발행 백프레셔를 함께 사용하려면 spring.kafka.spill-journal.enabled 필요"
+                    + " (커밋 이후 거부된 이벤트는 롤백할 수 없어 유실됨)");
+        }
+
+        this.publishTracker = publishTracker;
+        this.coalescer = coalescingEnabled
+                ? new ProductEventCoalescer(coalescingWindowMs, meterRegistry, this::send)
+                : null;
+
+        for (EventKind kind : EventKind.values()) {
+            String type = kind.name().toLowerCase();
+            requested.put(kind, Counter.builder("product.event.publish.requested")
+                    .description("도메인에서 요청된 상품 이벤트 발행 수")
+                    .tag("type", type)
+                    .register(meterRegistry));
+            sent.put(kind, Counter.builder("product.event.publish.sent")
+                    .description("Kafka 로 전송된 상품 이벤트 수")
+                    .tag("type", type)
+                    .register(meterRegistry));
+        }
+
+        if (coalescingEnabled) {
+            log.info("상품 이벤트 발행 병합 활성화 - window: {}ms", Math.max(0, coalescingWindowMs));
+        }
+    }
+
     /**
      * 상품 생성 이벤트 발행
      */
     @Override
     public void publishProductCreated(ProductCreatedEventData eventData) {
-        log.info("ProductCreated 이벤트 발행 준비 - productId: {}, hubId: {}",
+        log.debug("ProductCreated 이벤트 발행 준비 - productId: {}, hubId: {}",
                 eventData.getProductId(), eventData.getHubId());
-
-        // EventData → Event 변환
-        ProductCreatedEvent event = ProductCreatedEvent.from(eventData);
-
-        // Kafka 발행
-        CompletableFuture<SendResult<String, Object>> future =
-                kafkaTemplate.send(productCreatedTopic, eventData.getProductId(), event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("ProductCreated 이벤트 발행 성공 - productId: {}, eventId: {}, topic: {}, partition: {}, offset: {}",
-                        eventData.getProductId(),
-                        event.getEventId(),
-                        result.getRecordMetadata().topic(),
-                        result.getRecordMetadata().partition(),
-                        result.getRecordMetadata().offset());
-            } else {
-                log.error("ProductCreated 이벤트 발행 실패 - productId: {}, error: {}",
-                        eventData.getProductId(), ex.getMessage(), ex);
-            }
-        });
+        publish(EventKind.CREATED, eventData.getProductId(), eventData);
     }
 
     /**
@@ -76,27 +111,8 @@ public class KafkaProductEventPublisher implements ProductEventPublisher {
      */
     @Override
     public void publishProductUpdated(ProductUpdatedEventData eventData) {
-        log.info("ProductUpdated 이벤트 발행 준비 - productId: {}", eventData.getProductId());
-
-        // EventData → Event 변환
-        ProductUpdatedEvent event = ProductUpdatedEvent.from(eventData);
-
-        // Kafka 발행
-        CompletableFuture<SendResult<String, Object>> future =
-                kafkaTemplate.send(productUpdatedTopic, eventData.getProductId(), event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("ProductUpdated 이벤트 발행 성공 - productId: {}, eventId: {}, partition: {}, offset: {}",
-                        eventData.getProductId(),
-                        event.getEventId(),
-                        result.getRecordMetadata().partition(),
-                        result.getRecordMetadata().offset());
-            } else {
-                log.error("ProductUpdated 이벤트 발행 실패 - productId: {}, error: {}",
-                        eventData.getProductId(), ex.getMessage(), ex);
-            }
-        });
+        log.debug("ProductUpdated 이벤트 발행 준비 - productId: {}", eventData.getProductId());
+        publish(EventKind.UPDATED, eventData.getProductId(), eventData);
     }
 
     /**
@@ -104,28 +120,9 @@ public class KafkaProductEventPublisher implements ProductEventPublisher {
      */
     @Override
     public void publishProductDeleted(ProductDeletedEventData eventData) {
-        log.info("ProductDeleted 이벤트 발행 준비 - productId: {}, sellerId: {}",
+        log.debug("ProductDeleted 이벤트 발행 준비 - productId: {}, sellerId: {}",
                 eventData.getProductId(), eventData.getSellerId());
-
-        // EventData → Event 변환
-        ProductDeletedEvent event = ProductDeletedEvent.from(eventData);
-
-        // Kafka 발행
-        CompletableFuture<SendResult<String, Object>> future =
-                kafkaTemplate.send(productDeletedTopic, eventData.getProductId(), event);
-
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("ProductDeleted 이벤트 발행 성공 - productId: {}, eventId: {}, partition: {}, offset: {}",
-                        eventData.getProductId(),
-                        event.getEventId(),
-                        result.getRecordMetadata().partition(),
-                        result.getRecordMetadata().offset());
-            } else {
-                log.error("ProductDeleted 이벤트 발행 실패 - productId: {}, error: {}",
-                        eventData.getProductId(), ex.getMessage(), ex);
-            }
-        });
+        publish(EventKind.DELETED, eventData.getProductId(), eventData);
     }
 
     /**
@@ -133,27 +130,76 @@ public class KafkaProductEventPublisher implements ProductEventPublisher {
      */
     @Override
     public void publishProductStatusChanged(ProductStatusChangedEventData eventData) {
-        log.info("ProductStatusChanged 이벤트 발행 준비 - productId: {}, {} → {}",
+        log.debug("ProductStatusChanged 이벤트 발행 준비 - productId: {}, {} → {}",
                 eventData.getProductId(), eventData.getOldStatus(), eventData.getNewStatus());
+        publish(EventKind.STATUS_CHANGED, eventData.getProductId(), eventData);
+    }
+
+    private void publish(EventKind kind, String productId, Object eventData) {
+        requested.get(kind).increment();
+
+        PendingEvent event = new PendingEvent(kind, productId, eventData);
+        if (coalescer != null) {
+            coalescer.submit(event);
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(PendingEvent event) {
+        sent.get(event.kind()).increment();
 
         // EventData → Event 변환
-        ProductStatusChangedEvent event = ProductStatusChangedEvent.from(eventData);
+        switch (event.kind()) {
+            case CREATED -> send(productCreatedTopic, event.productId(),
+                    ProductCreatedEvent.from((ProductCreatedEventData) event.data()));
+            case UPDATED -> send(productUpdatedTopic, event.productId(),
+                    ProductUpdatedEvent.from((ProductUpdatedEventData) event.data()));
+            case STATUS_CHANGED -> send(productStatusChangedTopic, event.productId(),
+                    ProductStatusChangedEvent.from((ProductStatusChangedEventData) event.data()));
+            case DELETED -> send(productDeletedTopic, event.productId(),
+                    ProductDeletedEvent.from((ProductDeletedEventData) event.data()));
+        }
+    }
+
+    /**
+     * 종료 시 병합 대기 중인 이벤트 발행
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (coalescer != null) {
+            coalescer.shutdown();
+        }
+    }
 
-        // Kafka 발행
-        CompletableFuture<SendResult<String, Object>> future =
-                kafkaTemplate.send(productStatusChangedTopic, eventData.getProductId(), event);
+    /**
+     * Kafka 발행 및 결과 로그
+     */
+    private void send(String topic, String productId, BaseEvent event) {
+        CompletableFuture<SendResult<String, Object>> future = publishTracker.send(topic, productId, event);
 
         future.whenComplete((result, ex) -> {
             if (ex == null) {
-                log.info("ProductStatusChanged 이벤트 발행 성공 - productId: {}, eventId: {}, partition: {}, offset: {}",
-                        eventData.getProductId(),
-                        event.getEventId(),
-                        result.getRecordMetadata().partition(),
-                        result.getRecordMetadata().offset());
+                logPublished(event.getEventType(), productId, event.getEventId(), result);
+            } else if (ex instanceof PublishSpilledException) {
+                log.warn("{} 이벤트 로컬 저널 보관 (브로커 복구 후 재발행) - productId: {}",
+                        event.getEventType(), productId);
             } else {
-                log.error("ProductStatusChanged 이벤트 발행 실패 - productId: {}, error: {}",
-                        eventData.getProductId(), ex.getMessage(), ex);
+                log.error("{} 이벤트 발행 실패 - productId: {}, error: {}",
+                        event.getEventType(), productId, ex.getMessage(), ex);
             }
         });
     }
-}
\ No newline at end of file
+
+    private static void logPublished(String eventType, String productId, String eventId,
+                                     SendResult<String, Object> result) {
+        HotPathLog.EVENT_PUBLISH.event("상품 이벤트 발행")
+                .addKeyValue("eventType", eventType)
+                .addKeyValue("productId", productId)
+                .addKeyValue("eventId", eventId)
+                .addKeyValue("topic", result.getRecordMetadata().topic())
+                .addKeyValue("partition", result.getRecordMetadata().partition())
+                .addKeyValue("offset", result.getRecordMetadata().offset())
+                .log();
+    }
+}
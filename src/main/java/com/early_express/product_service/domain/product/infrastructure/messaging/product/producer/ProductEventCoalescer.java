@@ -0,0 +1,244 @@
+package com.early_express.product_service.domain.product.infrastructure.messaging.product.producer;
+
+import com.early_express.product_service.domain.product.domain.messaging.dto.ProductStatusChangedEventData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 상품 이벤트 발행 병합기 (Producer 측)
+ * - 트랜잭션 안에서 발행된 이벤트는 커밋 시점까지 모았다가 상품별로 병합 (롤백 시 폐기)
+ * - 커밋된 이벤트는 상품별 첫 이벤트부터 window-ms 동안 추가로 모아 병합 후 발행 (0 이면 커밋 즉시 발행)
+ *
+ * 병합 규칙 (상품별, 발생 순서 유지)
+ * - UPDATED: 이전 UPDATED 를 제거하고 최신 값만 끝에 추가
+ * - STATUS_CHANGED: 이전 STATUS_CHANGED 와 합쳐 (처음 oldStatus → 마지막 newStatus) 로 끝에 추가,
+ *   결과적으로 상태가 그대로면 둘 다 생략
+ * - CREATED / DELETED: 병합하지 않으며 경계로 동작 (경계 이전 이벤트와는 병합하지 않음)
+ *
+ * 메트릭: product.event.publish.coalesced (병합으로 생략된 이벤트 수, type 태그)
+ *        product.event.publish.pending (병합 윈도우 대기 중인 상품 수)
+ */
+@Slf4j
+public class ProductEventCoalescer {
+
+    private static final String COALESCED_METRIC = "product.event.publish.coalesced";
+
+    private final long windowMs;
+    private final Consumer<PendingEvent> sender;
+    private final Map<String, ProductEvents> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final Map<EventKind, Counter> coalesced = new EnumMap<>(EventKind.class);
+
+    public ProductEventCoalescer(long windowMs, MeterRegistry meterRegistry, Consumer<PendingEvent> sender) {
+        this.windowMs = Math.max(0, windowMs);
+        this.sender = sender;
+        this.scheduler = this.windowMs > 0
+                ? Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("product-event-coalescer").daemon(true).factory())
+                : null;
+
+        for (EventKind kind : EventKind.values()) {
+            coalesced.put(kind, Counter.builder(COALESCED_METRIC)
+                    .description("병합으로 발행이 생략된 상품 이벤트 수")
+                    .tag("type", kind.tag())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("product.event.publish.pending", pending, Map::size)
+                .description("병합 윈도우 대기 중인 상품 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 병합 대기열에 추가
+     * 트랜잭션 동기화가 활성화되어 있으면 커밋 후 윈도우로 넘기고, 아니면 바로 윈도우에 추가
+     */
+    public void submit(PendingEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionBuffer buffer = (TransactionBuffer) TransactionSynchronizationManager.getResource(this);
+            if (buffer == null) {
+                buffer = new TransactionBuffer();
+                TransactionSynchronizationManager.bindResource(this, buffer);
+                TransactionSynchronizationManager.registerSynchronization(buffer);
+            }
+            buffer.add(event);
+            return;
+        }
+        enqueue(event.productId(), List.of(event));
+    }
+
+    private void enqueue(String productId, List<PendingEvent> events) {
+        if (scheduler == null) {
+            events.forEach(this::send);
+            return;
+        }
+
+        pending.compute(productId, (key, current) -> {
+            if (current == null) {
+                current = new ProductEvents();
+                scheduler.schedule(() -> flush(key), windowMs, TimeUnit.MILLISECONDS);
+            }
+            events.forEach(current::merge);
+            return current;
+        });
+    }
+
+    private void flush(String productId) {
+        ProductEvents batch = pending.remove(productId);
+        if (batch == null) {
+            return;
+        }
+
+        log.debug("[Coalescer] 병합 발행 - productId: {}, events: {}", productId, batch.events.size());
+        batch.events.forEach(this::send);
+    }
+
+    // 커밋 이후 / 스케줄러 스레드에서 발행되므로 예외를 전파할 곳이 없음
+    // 한도 초과 거부는 KafkaProductEventPublisher 가 저널 없이 백프레셔와 함께 켜지지 않도록 막음 (저널 용량 초과만 남음)
+    private void send(PendingEvent event) {
+        try {
+            sender.accept(event);
+        } catch (RuntimeException e) {
+            log.error("[Coalescer] 병합 이벤트 발행 실패 - productId: {}, type: {}, error: {}",
+                    event.productId(), event.kind(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 종료 시 대기 중인 이벤트를 모두 발행
+     * Producer 측은 재전달이 없으므로 버리지 않고 즉시 발행
+     */
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        new ArrayList<>(pending.keySet()).forEach(this::flush);
+    }
+
+    /**
+     * 병합 대상 이벤트 종류
+     */
+    public enum EventKind {
+        CREATED, UPDATED, STATUS_CHANGED, DELETED;
+
+        private boolean isBoundary() {
+            return this == CREATED || this == DELETED;
+        }
+
+        private String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * 병합 대기 이벤트 (data 는 kind 에 대응하는 도메인 EventData)
+     */
+    public record PendingEvent(EventKind kind, String productId, Object data) {
+    }
+
+    /**
+     * 상품별 병합 상태 (ConcurrentHashMap.compute 또는 단일 트랜잭션 스레드 안에서만 변경)
+     */
+    private final class ProductEvents {
+
+        private final List<PendingEvent> events = new ArrayList<>();
+        private int boundary;
+
+        private void merge(PendingEvent incoming) {
+            if (incoming.kind().isBoundary()) {
+                events.add(incoming);
+                boundary = events.size();
+                return;
+            }
+
+            int index = lastIndexOf(incoming.kind());
+            if (index < 0) {
+                events.add(incoming);
+                return;
+            }
+
+            PendingEvent previous = events.remove(index);
+            coalesced.get(incoming.kind()).increment();
+
+            if (incoming.kind() != EventKind.STATUS_CHANGED) {
+                events.add(incoming);
+                return;
+            }
+
+            PendingEvent net = mergeStatus(previous, incoming);
+            if (net == null) {
+                coalesced.get(EventKind.STATUS_CHANGED).increment();
+                return;
+            }
+            events.add(net);
+        }
+
+        private int lastIndexOf(EventKind kind) {
+            for (int i = events.size() - 1; i >= boundary; i--) {
+                if (events.get(i).kind() == kind) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * @return 처음 oldStatus → 마지막 newStatus 로 합친 이벤트 (상태가 그대로면 null)
+         */
+        private PendingEvent mergeStatus(PendingEvent previous, PendingEvent incoming) {
+            ProductStatusChangedEventData first = (ProductStatusChangedEventData) previous.data();
+            ProductStatusChangedEventData last = (ProductStatusChangedEventData) incoming.data();
+            if (first.getOldStatus().equals(last.getNewStatus())) {
+                return null;
+            }
+
+            return new PendingEvent(EventKind.STATUS_CHANGED, incoming.productId(),
+                    ProductStatusChangedEventData.builder()
+                            .productId(last.getProductId())
+                            .oldStatus(first.getOldStatus())
+                            .newStatus(last.getNewStatus())
+                            .changedAt(last.getChangedAt())
+                            .build());
+        }
+    }
+
+    /**
+     * 트랜잭션 단위 버퍼 - 커밋 후 상품별 병합 결과를 윈도우로 전달, 롤백 시 폐기
+     */
+    private final class TransactionBuffer implements TransactionSynchronization {
+
+        private final Map<String, ProductEvents> byProduct = new LinkedHashMap<>();
+
+        private void add(PendingEvent event) {
+            byProduct.computeIfAbsent(event.productId(), key -> new ProductEvents()).merge(event);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ProductEventCoalescer.this);
+            if (status != STATUS_COMMITTED) {
+                log.debug("[Coalescer] 트랜잭션 미커밋으로 이벤트 폐기 - products: {}", byProduct.keySet());
+                return;
+            }
+            byProduct.forEach((productId, batch) -> {
+                if (!batch.events.isEmpty()) {
+                    enqueue(productId, batch.events);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.early_express.product_service.domain.product.infrastructure.persistence.cache;
+
+import com.early_express.product_service.domain.product.infrastructure.persistence.entity.ProductEntity;
+import com.early_express.product_service.global.common.utils.UuidUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 2차 캐시 무효화 (다른 노드의 변경 반영)
+ * - 엔티티 리전에서 해당 상품 제거 + 상품 쿼리 리전 전체 제거
+ *   쿼리 캐시 키는 파라미터 단위라 상품별로 찾을 수 없음, 신규 상품의 "없음" 결과도 함께 제거됨
+ * - 같은 노드의 변경은 커밋 시 Hibernate 가 반영하므로 자신이 발행한 이벤트로 다시 제거되어도 다음 조회에서 재적재될 뿐
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jpa.second-level-cache.enabled", havingValue = "true")
+public class ProductCacheEvictor {
+
+    private final Cache cache;
+
+    public ProductCacheEvictor(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    public void evict(String productId) {
+        UuidUtils.parse(productId).ifPresent(id -> cache.evictEntityData(ProductEntity.class, id));
+        cache.evictQueryRegion(ProductEntity.QUERY_CACHE_REGION);
+    }
+}
@@ -1,31 +1,54 @@
 package com.early_express.product_service.domain.product.infrastructure.persistence.entity;
 
 import com.early_express.product_service.global.infrastructure.entity.BaseEntity;
+import com.early_express.product_service.domain.product.domain.exception.ProductErrorCode;
+import com.early_express.product_service.domain.product.domain.exception.ProductException;
 import com.early_express.product_service.domain.product.domain.model.Product;
 import com.early_express.product_service.domain.product.domain.model.vo.Price;
 import com.early_express.product_service.domain.product.domain.model.vo.ProductStatus;
+import com.early_express.product_service.global.common.utils.UuidUtils;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Product JPA Entity
  * - BaseEntity 상속 (Audit 필드)
  * - Domain Model과 완전 분리
+ * - 인덱스(삭제 제외 부분 인덱스 포함)는 db/migration 스크립트에서 관리
+ * - product_id 는 네이티브 uuid 컬럼 (16바이트), 빌더 / getter 는 기존과 같이 문자열
+ * - 2차 캐시 (spring.jpa.second-level-cache.enabled): product 리전, read-write 전략
+ *   로컬 변경은 커밋 시 캐시에 반영, 다른 노드의 변경은 product-* 이벤트로 무효화 (ProductCacheEvictor)
  */
 @Entity
 @Table(name = "p_products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ProductEntity.CACHE_REGION)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ProductEntity extends BaseEntity {
 
+    /**
+     * 엔티티 2차 캐시 리전
+     */
+    public static final String CACHE_REGION = "product";
+
+    /**
+     * 상품 조회 쿼리 캐시 리전 (ID 단건 조회 / 존재 여부)
+     */
+    public static final String QUERY_CACHE_REGION = "product-query";
+
     @Id
-    @Column(name = "product_id", length = 36, nullable = false)
-    private String productId;
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
 
     @Column(name = "seller_id", length = 36, nullable = false)
     private String sellerId;
@@ -33,6 +56,9 @@ public class ProductEntity extends BaseEntity {
     @Column(name = "company_id", length = 36, nullable = false)
     private String companyId;
 
+    @Column(name = "hub_id", length = 36)
+    private String hubId;
+
     @Column(name = "name", length = 100, nullable = false)
     private String name;
 
@@ -58,11 +84,16 @@ public class ProductEntity extends BaseEntity {
     @Column(name = "max_order_quantity", nullable = false)
     private Integer maxOrderQuantity;
 
+    // 재고 이벤트 워터마크 (지난 재고 이벤트 무시용)
+    @Column(name = "stock_event_at")
+    private LocalDateTime stockEventAt;
+
     @Builder
     private ProductEntity(
             String productId,
             String sellerId,
             String companyId,
+            String hubId,
             String name,
             String description,
             BigDecimal price,
@@ -70,11 +101,13 @@ public class ProductEntity extends BaseEntity {
             boolean isSellable,
             boolean hasEvent,
             Integer minOrderQuantity,
-            Integer maxOrderQuantity
+            Integer maxOrderQuantity,
+            LocalDateTime stockEventAt
     ) {
-        this.productId = productId;
+        this.productId = productId == null ? null : parseProductId(productId);
         this.sellerId = sellerId;
         this.companyId = companyId;
+        this.hubId = hubId;
         this.name = name;
         this.description = description;
         this.price = price;
@@ -83,22 +116,34 @@ public class ProductEntity extends BaseEntity {
         this.hasEvent = hasEvent;
         this.minOrderQuantity = minOrderQuantity;
         this.maxOrderQuantity = maxOrderQuantity;
+        this.stockEventAt = stockEventAt;
+    }
+
+    /**
+     * 상품 ID 문자열 → uuid 컬럼 값
+     * UUID 형식이 아니면 ProductException(INVALID_PRODUCT_ID)
+     */
+    public static UUID parseProductId(String productId) {
+        return UuidUtils.parse(productId)
+                .orElseThrow(() -> new ProductException(ProductErrorCode.INVALID_PRODUCT_ID,
+                        "유효하지 않은 상품 ID 형식입니다: " + productId));
     }
 
     /**
      * Domain Model -> Entity 변환 (신규 생성)
-     * ID가 없으면 자동 생성
+     * ID가 없으면 시간 순서 UUID(v7)로 자동 생성 (PK 인덱스 끝에 삽입되어 페이지 분할 / 랜덤 I/O 감소)
      */
     public static ProductEntity fromDomain(Product product) {
         String productId = product.getProductId();
         if (productId == null || productId.isBlank()) {
-            productId = com.early_express.product_service.global.common.utils.UuidUtils.generate();
+            productId = UuidUtils.generateV7();
         }
 
         return ProductEntity.builder()
                 .productId(productId)
                 .sellerId(product.getSellerId())
                 .companyId(product.getCompanyId())
+                .hubId(product.getHubId())
                 .name(product.getName())
                 .description(product.getDescription())
                 .price(product.getPrice().getAmount())
@@ -107,6 +152,7 @@ public class ProductEntity extends BaseEntity {
                 .hasEvent(product.isHasEvent())
                 .minOrderQuantity(product.getMinOrderQuantity())
                 .maxOrderQuantity(product.getMaxOrderQuantity())
+                .stockEventAt(product.getStockEventAt())
                 .build();
     }
 
@@ -124,14 +170,22 @@ public class ProductEntity extends BaseEntity {
         return entity;
     }
 
+    /**
+     * 상품 ID (표준 36자 문자열)
+     */
+    public String getProductId() {
+        return productId == null ? null : productId.toString();
+    }
+
     /**
      * Entity -> Domain Model 변환
      */
     public Product toDomain() {
         return Product.reconstruct(
-                this.productId,
+                getProductId(),
                 this.sellerId,
                 this.companyId,
+                this.hubId,
                 this.name,
                 this.description,
                 Price.of(this.price),
@@ -140,6 +194,7 @@ public class ProductEntity extends BaseEntity {
                 this.hasEvent,
                 this.minOrderQuantity,
                 this.maxOrderQuantity,
+                this.stockEventAt,
                 this.getCreatedAt(),
                 this.getCreatedBy(),
                 this.getUpdatedAt(),
@@ -162,6 +217,7 @@ public class ProductEntity extends BaseEntity {
         this.hasEvent = product.isHasEvent();
         this.minOrderQuantity = product.getMinOrderQuantity();
         this.maxOrderQuantity = product.getMaxOrderQuantity();
+        this.stockEventAt = product.getStockEventAt();
 
         // 삭제 상태 동기화
         if (product.isDeleted() && !this.isDeleted()) {
@@ -0,0 +1,100 @@
+package com.early_express.product_service.domain.product.infrastructure.persistence.entity;
+
+import com.early_express.product_service.domain.product.domain.model.ProductHubStock;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * ProductHubStock JPA Entity
+ * - (product_id, hub_id) 복합 키의 좁은 테이블 (Audit 필드 없음)
+ * - 판매 가능 조회 시 상품 테이블과 PK 로 조인 (product_id 는 상품과 같은 uuid 컬럼)
+ */
+@Entity
+@Table(name = "p_product_hub_stocks")
+@IdClass(ProductHubStockEntity.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductHubStockEntity {
+
+    @Id
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+
+    @Id
+    @Column(name = "hub_id", length = 36, nullable = false)
+    private String hubId;
+
+    @Column(name = "out_of_stock", nullable = false)
+    private boolean outOfStock;
+
+    // 재고 이벤트 워터마크 (지난 재고 이벤트 무시용)
+    @Column(name = "stock_event_at")
+    private LocalDateTime stockEventAt;
+
+    @Builder
+    private ProductHubStockEntity(String productId, String hubId, boolean outOfStock, LocalDateTime stockEventAt) {
+        this.productId = ProductEntity.parseProductId(productId);
+        this.hubId = hubId;
+        this.outOfStock = outOfStock;
+        this.stockEventAt = stockEventAt;
+    }
+
+    /**
+     * Domain Model -> Entity 변환 (신규 생성)
+     */
+    public static ProductHubStockEntity fromDomain(ProductHubStock hubStock) {
+        return ProductHubStockEntity.builder()
+                .productId(hubStock.getProductId())
+                .hubId(hubStock.getHubId())
+                .outOfStock(hubStock.isOutOfStock())
+                .stockEventAt(hubStock.getStockEventAt())
+                .build();
+    }
+
+    /**
+     * Entity -> Domain Model 변환
+     */
+    public ProductHubStock toDomain() {
+        return ProductHubStock.reconstruct(getProductId(), this.hubId, this.outOfStock, this.stockEventAt);
+    }
+
+    /**
+     * 상품 ID (표준 36자 문자열)
+     */
+    public String getProductId() {
+        return productId.toString();
+    }
+
+    /**
+     * Domain Model의 변경사항을 Entity에 반영
+     */
+    public void updateFromDomain(ProductHubStock hubStock) {
+        this.outOfStock = hubStock.isOutOfStock();
+        this.stockEventAt = hubStock.getStockEventAt();
+    }
+
+    /**
+     * 복합 키 (product_id, hub_id)
+     */
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        private UUID productId;
+        private String hubId;
+
+        public Key(UUID productId, String hubId) {
+            this.productId = productId;
+            this.hubId = hubId;
+        }
+    }
+}
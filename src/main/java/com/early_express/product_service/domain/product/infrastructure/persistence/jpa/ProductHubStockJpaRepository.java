@@ -0,0 +1,23 @@
+package com.early_express.product_service.domain.product.infrastructure.persistence.jpa;
+
+import com.early_express.product_service.domain.product.infrastructure.persistence.entity.ProductHubStockEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ProductHubStock JPA Repository
+ */
+public interface ProductHubStockJpaRepository
+        extends JpaRepository<ProductHubStockEntity, ProductHubStockEntity.Key> {
+
+    /**
+     * 상품의 허브별 재고 기록 (읽기 전용 로드, 수정 시 ProductHubStockRepositoryImpl.save 에서 수정 가능으로 전환)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ProductHubStockEntity> findByProductId(UUID productId);
+}
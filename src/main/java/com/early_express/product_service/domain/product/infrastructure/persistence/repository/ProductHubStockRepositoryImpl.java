@@ -0,0 +1,56 @@
+package com.early_express.product_service.domain.product.infrastructure.persistence.repository;
+
+import com.early_express.product_service.domain.product.domain.model.ProductHubStock;
+import com.early_express.product_service.domain.product.domain.repository.ProductHubStockRepository;
+import com.early_express.product_service.domain.product.infrastructure.persistence.entity.ProductEntity;
+import com.early_express.product_service.domain.product.infrastructure.persistence.entity.ProductHubStockEntity;
+import com.early_express.product_service.domain.product.infrastructure.persistence.jpa.ProductHubStockJpaRepository;
+import com.early_express.product_service.global.common.utils.UuidUtils;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * ProductHubStock Repository 구현체 (어댑터)
+ */
+@Repository
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductHubStockRepositoryImpl implements ProductHubStockRepository {
+
+    private final ProductHubStockJpaRepository jpaRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * 허브 재고 상태 저장
+     * - 기존 행이 있으면 업데이트 (더티 체킹, findByProductId 로 읽기 전용 로드된 행은 수정 가능으로 전환)
+     * - 없으면 신규 저장
+     */
+    @Override
+    @Transactional
+    public ProductHubStock save(ProductHubStock hubStock) {
+        ProductHubStockEntity.Key key = new ProductHubStockEntity.Key(
+                ProductEntity.parseProductId(hubStock.getProductId()), hubStock.getHubId());
+
+        return jpaRepository.findById(key)
+                .map(entity -> {
+                    ReadOnlyEntities.modifiable(entityManager, entity).updateFromDomain(hubStock);
+                    return entity.toDomain();
+                })
+                .orElseGet(() -> jpaRepository.save(ProductHubStockEntity.fromDomain(hubStock)).toDomain());
+    }
+
+    @Override
+    public List<ProductHubStock> findByProductId(String productId) {
+        return UuidUtils.parse(productId)
+                .map(jpaRepository::findByProductId)
+                .orElse(List.of())
+                .stream()
+                .map(ProductHubStockEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+}
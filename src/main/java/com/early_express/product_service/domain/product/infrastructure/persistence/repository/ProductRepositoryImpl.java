@@ -5,17 +5,33 @@ import com.early_express.product_service.domain.product.domain.model.vo.ProductS
 import com.early_express.product_service.domain.product.domain.repository.ProductRepository;
 import com.early_express.product_service.domain.product.infrastructure.persistence.entity.ProductEntity;
 import com.early_express.product_service.domain.product.infrastructure.persistence.entity.QProductEntity;
+import com.early_express.product_service.domain.product.infrastructure.persistence.entity.QProductHubStockEntity;
 import com.early_express.product_service.domain.product.infrastructure.persistence.jpa.ProductJpaRepository;
+import com.early_express.product_service.global.common.utils.CursorUtils;
+import com.early_express.product_service.global.common.utils.UuidUtils;
+import com.early_express.product_service.global.infrastructure.monitoring.TimedOperations;
+import com.early_express.product_service.global.presentation.exception.GlobalErrorCode;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.Map;
 
@@ -24,20 +40,27 @@ import java.util.Map;
  * - 도메인 Repository 인터페이스 구현
  * - JPA Repository 사용
  * - QueryDSL 활용
+ * - product_id 는 uuid 컬럼, UUID 형식이 아닌 ID 조회는 쿼리 없이 없는 상품으로 처리
+ * - 조회 메서드는 엔티티를 읽기 전용으로 로드 (쓰기 트랜잭션 안에서도 스냅샷 / flush 시 더티 체킹 없음)
+ *   save / delete 는 같은 트랜잭션에서 읽기 전용으로 로드된 엔티티를 수정 가능으로 전환 후 변경
+ * - 2차 캐시 사용 시 ID 단건 조회 / 존재 여부는 읽기 전용 트랜잭션에서 쿼리 캐시(product-query) 사용
  */
 @Repository
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@TimedOperations("product.repository")
 public class ProductRepositoryImpl implements ProductRepository {
 
     private final ProductJpaRepository jpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
 
     private static final QProductEntity product = QProductEntity.productEntity;
+    private static final QProductHubStockEntity hubStock = QProductHubStockEntity.productHubStockEntity;
 
     /**
      * 상품 저장
-     * - ID가 있으면 업데이트 (더티 체킹)
+     * - ID가 있으면 업데이트 (더티 체킹), 같은 트랜잭션에서 로드되지 않은 엔티티는 2차 캐시에서 먼저 찾음
      * - ID가 없으면 신규 저장
      */
     @Override
@@ -47,9 +70,9 @@ public class ProductRepositoryImpl implements ProductRepository {
 
         // ID가 있으면 업데이트 (더티 체킹)
         if (productId != null && !productId.isBlank()) {
-            Optional<ProductEntity> existingEntity = jpaRepository.findById(productId);
+            Optional<ProductEntity> existingEntity = UuidUtils.parse(productId).flatMap(jpaRepository::findById);
             if (existingEntity.isPresent()) {
-                ProductEntity entity = existingEntity.get();
+                ProductEntity entity = ReadOnlyEntities.modifiable(entityManager, existingEntity.get());
                 entity.updateFromDomain(domain);
                 return entity.toDomain();
             }
@@ -63,18 +86,37 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     /**
      * ID로 상품 조회 (삭제된 상품 제외)
+     * 읽기 전용 트랜잭션: 쿼리 캐시 → 엔티티 캐시 순으로 조회, 둘 다 적중하면 쿼리 없음 (쓰기 트랜잭션은 항상 DB)
      */
     @Override
     public Optional<Product> findById(String productId) {
-        return Optional.ofNullable(
-                        queryFactory
-                                .selectFrom(product)
-                                .where(
-                                        product.productId.eq(productId),
-                                        product.isDeleted.eq(false)
-                                )
-                                .fetchOne()
-                )
+        return UuidUtils.parse(productId)
+                .map(id -> withSecondLevelCache(readOnlyProducts()
+                        .where(
+                                product.productId.eq(id),
+                                product.isDeleted.eq(false)
+                        ))
+                        .fetchOne())
+                .map(ProductEntity::toDomain);
+    }
+
+    /**
+     * ID로 상품 조회 + 행 잠금 (삭제된 상품 제외)
+     * SELECT ... FOR UPDATE, 호출 트랜잭션 종료 시 잠금 해제
+     * 2차 캐시를 읽지 않음 (잠근 행의 현재 값 기준으로 변경)
+     */
+    @Override
+    public Optional<Product> findByIdForUpdate(String productId) {
+        return UuidUtils.parse(productId)
+                .map(id -> queryFactory
+                        .selectFrom(product)
+                        .where(
+                                product.productId.eq(id),
+                                product.isDeleted.eq(false)
+                        )
+                        .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                        .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.REFRESH)
+                        .fetchOne())
                 .map(ProductEntity::toDomain);
     }
 
@@ -83,8 +125,7 @@ public class ProductRepositoryImpl implements ProductRepository {
      */
     @Override
     public List<Product> findAll() {
-        return queryFactory
-                .selectFrom(product)
+        return readOnlyProducts()
                 .where(product.isDeleted.eq(false))
                 .fetch()
                 .stream()
@@ -94,11 +135,11 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     /**
      * 판매자별 상품 조회 (삭제된 상품 제외)
+     * idx_products_seller_created
      */
     @Override
     public List<Product> findBySellerId(String sellerId) {
-        return queryFactory
-                .selectFrom(product)
+        return readOnlyProducts()
                 .where(
                         product.sellerId.eq(sellerId),
                         product.isDeleted.eq(false)
@@ -111,11 +152,11 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     /**
      * 상태별 상품 조회 (삭제된 상품 제외)
+     * idx_products_status
      */
     @Override
     public List<Product> findByStatus(ProductStatus status) {
-        return queryFactory
-                .selectFrom(product)
+        return readOnlyProducts()
                 .where(
                         product.status.eq(status),
                         product.isDeleted.eq(false)
@@ -131,8 +172,7 @@ public class ProductRepositoryImpl implements ProductRepository {
      */
     @Override
     public List<Product> findByNameContaining(String keyword) {
-        return queryFactory
-                .selectFrom(product)
+        return readOnlyProducts()
                 .where(
                         product.name.containsIgnoreCase(keyword),
                         product.isDeleted.eq(false)
@@ -145,11 +185,11 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     /**
      * 페이징 조회 (삭제된 상품 제외)
+     * idx_products_created 로 최신순 정렬 없이 LIMIT 까지만 읽음
      */
     @Override
     public Page<Product> findAllWithPaging(Pageable pageable) {
-        List<ProductEntity> entities = queryFactory
-                .selectFrom(product)
+        List<ProductEntity> entities = readOnlyProducts()
                 .where(product.isDeleted.eq(false))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -170,11 +210,11 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     /**
      * 판매자별 페이징 조회 (삭제된 상품 제외)
+     * idx_products_seller_created (건수는 index-only)
      */
     @Override
     public Page<Product> findBySellerIdWithPaging(String sellerId, Pageable pageable) {
-        List<ProductEntity> entities = queryFactory
-                .selectFrom(product)
+        List<ProductEntity> entities = readOnlyProducts()
                 .where(
                         product.sellerId.eq(sellerId),
                         product.isDeleted.eq(false)
@@ -199,16 +239,105 @@ public class ProductRepositoryImpl implements ProductRepository {
         return new PageImpl<>(products, pageable, total);
     }
 
+    /**
+     * 허브별 페이징 조회 (삭제된 상품 제외)
+     * idx_products_hub_created (hub_id, created_at DESC, product_id DESC) 부분 인덱스로 정렬까지 처리
+     */
+    @Override
+    public Page<Product> findByHubIdWithPaging(String hubId, Pageable pageable) {
+        List<ProductEntity> entities = readOnlyProducts()
+                .where(
+                        product.hubId.eq(hubId),
+                        product.isDeleted.eq(false)
+                )
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(product.createdAt.desc())
+                .fetch();
+
+        long total = queryFactory
+                .selectFrom(product)
+                .where(
+                        product.hubId.eq(hubId),
+                        product.isDeleted.eq(false)
+                )
+                .fetchCount();
+
+        List<Product> products = entities.stream()
+                .map(ProductEntity::toDomain)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(products, pageable, total);
+    }
+
+    /**
+     * 허브별 커서 조회 (삭제된 상품 제외)
+     * OFFSET / COUNT 없이 인덱스 범위 탐색, created_at 이 같은 상품은 product_id 로 순서 고정
+     */
+    @Override
+    public List<Product> findByHubIdAfterCursor(
+            String hubId, LocalDateTime cursorCreatedAt, String cursorProductId, int limit) {
+        return readOnlyProducts()
+                .where(
+                        product.hubId.eq(hubId),
+                        product.isDeleted.eq(false),
+                        afterCursor(cursorCreatedAt, cursorProductId)
+                )
+                .orderBy(product.createdAt.desc(), product.productId.desc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(ProductEntity::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 읽기 전용 상품 조회 (org.hibernate.readOnly)
+     * 영속성 컨텍스트에 스냅샷(loaded state) 없이 보관되어 조회 결과만큼의 메모리 / flush CPU 절감
+     */
+    private JPAQuery<ProductEntity> readOnlyProducts() {
+        return queryFactory
+                .selectFrom(product)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+    }
+
+    /**
+     * 2차 캐시 사용 방식 (2차 캐시가 꺼져 있으면 힌트 무시)
+     * - 읽기 전용 트랜잭션: 쿼리 캐시 + 엔티티 캐시
+     * - 쓰기 트랜잭션: 캐시를 읽지 않고 DB 의 현재 행으로 엔티티 캐시 갱신 (CacheMode.REFRESH)
+     *   이벤트 없이 바뀌는 값(재고 워터마크 등)을 다른 노드의 캐시 값으로 덮어쓰지 않음
+     */
+    private <T> JPAQuery<T> withSecondLevelCache(JPAQuery<T> query) {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return query.setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.REFRESH);
+        }
+        return query
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, ProductEntity.QUERY_CACHE_REGION);
+    }
+
+    private BooleanExpression afterCursor(LocalDateTime cursorCreatedAt, String cursorProductId) {
+        if (cursorCreatedAt == null) {
+            return null;
+        }
+        UUID cursorId = UuidUtils.parse(cursorProductId)
+                .orElseThrow(() -> new CursorUtils.CursorUtilException(
+                        GlobalErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다."));
+        return product.createdAt.lt(cursorCreatedAt)
+                .or(product.createdAt.eq(cursorCreatedAt).and(product.productId.lt(cursorId)));
+    }
+
     /**
      * 소프트 삭제
      */
     @Override
     @Transactional
     public void delete(String productId) {
-        ProductEntity entity = jpaRepository.findById(productId)
+        ProductEntity entity = UuidUtils.parse(productId)
+                .flatMap(jpaRepository::findById)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: " + productId));
 
-        entity.delete(null); // deletedBy는 Service에서 처리 가능
+        ReadOnlyEntities.modifiable(entityManager, entity).delete(null); // deletedBy는 Service에서 처리 가능
     }
 
     /**
@@ -216,12 +345,49 @@ public class ProductRepositoryImpl implements ProductRepository {
      */
     @Override
     public boolean existsById(String productId) {
+        return UuidUtils.parse(productId)
+                .map(id -> withSecondLevelCache(queryFactory
+                        .selectOne()
+                        .from(product)
+                        .where(
+                                product.productId.eq(id),
+                                product.isDeleted.eq(false)
+                        ))
+                        .fetchFirst() != null)
+                .orElse(false);
+    }
+
+    /**
+     * 허브에서 판매 가능한 상품 ID 조회 (삭제된 상품 제외)
+     * 허브 재고 테이블과 PK (product_id, hub_id) 로 LEFT JOIN, 기록이 없는 허브는 재고 있음으로 간주
+     * idx_products_sellable, idx_product_hub_stocks_covering 로 테이블 접근 없이 처리 (index-only)
+     * 결과는 요청한 ID 문자열 그대로 반환 (대소문자 등 표기 유지)
+     */
+    @Override
+    public List<String> findIdsSellableAtHub(Collection<String> productIds, String hubId) {
+        Map<UUID, String> requested = new LinkedHashMap<>();
+        productIds.forEach(productId -> UuidUtils.parse(productId).ifPresent(id -> requested.putIfAbsent(id, productId)));
+        if (requested.isEmpty()) {
+            return List.of();
+        }
+
         return queryFactory
-                .selectFrom(product)
+                .select(product.productId)
+                .from(product)
+                .leftJoin(hubStock).on(
+                        hubStock.productId.eq(product.productId),
+                        hubStock.hubId.eq(hubId)
+                )
                 .where(
-                        product.productId.eq(productId),
-                        product.isDeleted.eq(false)
+                        product.productId.in(requested.keySet()),
+                        product.isDeleted.eq(false),
+                        product.status.eq(ProductStatus.ACTIVE),
+                        product.isSellable.eq(true),
+                        hubStock.outOfStock.isNull().or(hubStock.outOfStock.eq(false))
                 )
-                .fetchFirst() != null;
+                .fetch()
+                .stream()
+                .map(requested::get)
+                .toList();
     }
 }
@@ -0,0 +1,23 @@
+package com.early_express.product_service.domain.product.infrastructure.persistence.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+/**
+ * 읽기 전용 로드 엔티티 처리
+ * - 조회 메서드가 읽기 전용(org.hibernate.readOnly)으로 로드한 엔티티는 같은 트랜잭션의 findById 에서도 같은 인스턴스로 반환됨
+ * - 수정 전에 수정 가능으로 전환해야 현재 상태가 스냅샷으로 잡혀 flush 시 변경이 반영됨
+ */
+final class ReadOnlyEntities {
+
+    private ReadOnlyEntities() {
+    }
+
+    static <T> T modifiable(EntityManager entityManager, T entity) {
+        Session session = entityManager.unwrap(Session.class);
+        if (session.isReadOnly(entity)) {
+            session.setReadOnly(entity, false);
+        }
+        return entity;
+    }
+}
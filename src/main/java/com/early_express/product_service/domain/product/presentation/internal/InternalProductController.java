@@ -2,9 +2,12 @@ package com.early_express.product_service.domain.product.presentation.internal;
 
 import com.early_express.product_service.domain.product.application.service.ProductService;
 import com.early_express.product_service.domain.product.domain.model.Product;
+import com.early_express.product_service.domain.product.presentation.internal.dto.request.SellableAtHubRequest;
 import com.early_express.product_service.domain.product.presentation.internal.dto.request.ValidateProductsRequest;
 import com.early_express.product_service.domain.product.presentation.internal.dto.response.InternalProductResponse;
 import com.early_express.product_service.domain.product.presentation.internal.dto.response.ProductValidationResponse;
+import com.early_express.product_service.domain.product.presentation.internal.dto.response.SellableAtHubResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -34,7 +37,7 @@ public class InternalProductController {
     public ResponseEntity<Map<String, Object>> validateProduct(
             @PathVariable String productId
     ) {
-        log.info("상품 검증 요청: productId={}", productId);
+        log.debug("상품 검증 요청: productId={}", productId);
 
         boolean exists = productService.existsProduct(productId);
 
@@ -53,7 +56,7 @@ public class InternalProductController {
     public ResponseEntity<InternalProductResponse> getProduct(
             @PathVariable String productId
     ) {
-        log.info("내부 상품 조회: productId={}", productId);
+        log.debug("내부 상품 조회: productId={}", productId);
 
         Product product = productService.getProduct(productId);
         InternalProductResponse response = InternalProductResponse.from(product);
@@ -68,13 +71,29 @@ public class InternalProductController {
     public ResponseEntity<ProductValidationResponse> validateProducts(
             @RequestBody ValidateProductsRequest request
     ) {
-        log.info("대량 상품 검증 요청: count={}", request.getProductIds().size());
+        log.debug("대량 상품 검증 요청: count={}", request.getProductIds().size());
 
         ProductValidationResponse response = productService.validateProducts(request.getProductIds());
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 허브 판매 가능 상품 일괄 조회 (주문 라우팅용)
+     * 주문 라인 수와 무관하게 단일 쿼리로 처리 (요청당 최대 1000개)
+     */
+    @PostMapping("/hubs/{hubId}/products/sellable")
+    public ResponseEntity<SellableAtHubResponse> getSellableProductsAtHub(
+            @PathVariable String hubId,
+            @Valid @RequestBody SellableAtHubRequest request
+    ) {
+        log.debug("허브 판매 가능 상품 조회 요청: hubId={}, count={}", hubId, request.getProductIds().size());
+
+        List<String> sellableProductIds = productService.getSellableProductIdsAtHub(hubId, request.getProductIds());
+
+        return ResponseEntity.ok(SellableAtHubResponse.of(hubId, request.getProductIds(), sellableProductIds));
+    }
+
     /**
      * 판매자별 상품 목록
      */
@@ -82,7 +101,7 @@ public class InternalProductController {
     public ResponseEntity<List<InternalProductResponse>> getProductsBySeller(
             @PathVariable String sellerId
     ) {
-        log.info("판매자 상품 조회: sellerId={}", sellerId);
+        log.debug("판매자 상품 조회: sellerId={}", sellerId);
 
         List<Product> products = productService.getProductsBySellerId(sellerId);
 
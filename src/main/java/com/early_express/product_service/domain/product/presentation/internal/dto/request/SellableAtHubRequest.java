@@ -0,0 +1,27 @@
+package com.early_express.product_service.domain.product.presentation.internal.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 허브 판매 가능 상품 조회 요청 DTO
+ * 단일 IN 쿼리로 조회하므로 요청당 상품 수 제한
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SellableAtHubRequest {
+
+    public static final int MAX_PRODUCT_IDS = 1000;
+
+    @NotEmpty(message = "상품 ID 목록은 비어있을 수 없습니다.")
+    @Size(max = MAX_PRODUCT_IDS, message = "상품 ID 목록은 최대 " + MAX_PRODUCT_IDS + "개까지 요청할 수 있습니다.")
+    private List<String> productIds;
+}
@@ -19,6 +19,7 @@ public class InternalProductResponse {
 
     private String productId;
     private String sellerId;
+    private String hubId;
     private String name;
     private BigDecimal price;
     private boolean isSellable;
@@ -29,6 +30,7 @@ public class InternalProductResponse {
         return InternalProductResponse.builder()
                 .productId(product.getProductId())
                 .sellerId(product.getSellerId())
+                .hubId(product.getHubId())
                 .name(product.getName())
                 .price(product.getPrice().getAmount())
                 .isSellable(product.isSellable())
@@ -0,0 +1,40 @@
+package com.early_express.product_service.domain.product.presentation.internal.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 허브 판매 가능 상품 조회 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SellableAtHubResponse {
+
+    private String hubId;
+    private boolean allSellable;
+    private List<String> sellableProductIds;
+    private List<String> unsellableProductIds;  // 미존재 / 판매 불가 상태 / 허브 품절
+
+    public static SellableAtHubResponse of(String hubId, List<String> requestedProductIds, List<String> sellableProductIds) {
+        Set<String> sellable = new HashSet<>(sellableProductIds);
+        List<String> unsellableProductIds = requestedProductIds.stream()
+                .filter(productId -> !sellable.contains(productId))
+                .distinct()
+                .toList();
+
+        return SellableAtHubResponse.builder()
+                .hubId(hubId)
+                .allSellable(unsellableProductIds.isEmpty())
+                .sellableProductIds(sellableProductIds)
+                .unsellableProductIds(unsellableProductIds)
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.early_express.product_service.domain.product.presentation.web;
 import com.early_express.product_service.domain.product.application.service.ProductService;
 import com.early_express.product_service.domain.product.domain.model.Product;
 import com.early_express.product_service.domain.product.presentation.web.dto.response.ProductResponse;
+import com.early_express.product_service.global.presentation.dto.CursorResponse;
 import com.early_express.product_service.global.presentation.dto.PageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,7 +30,7 @@ public class AllProductController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size
     ) {
-        log.info("상품 목록 조회 요청: page={}, size={}", page, size);
+        log.debug("상품 목록 조회 요청: page={}, size={}", page, size);
 
         PageResponse<ProductResponse> response = productService.getProductsWithPaging(page, size);
 
@@ -43,7 +44,7 @@ public class AllProductController {
     public ResponseEntity<ProductResponse> getProduct(
             @PathVariable String productId
     ) {
-        log.info("상품 상세 조회 요청: productId={}", productId);
+        log.debug("상품 상세 조회 요청: productId={}", productId);
 
         Product product = productService.getProduct(productId);
         ProductResponse response = ProductResponse.from(product);
@@ -60,10 +61,43 @@ public class AllProductController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size
     ) {
-        log.info("상품 검색 요청: keyword={}, page={}, size={}", keyword, page, size);
+        log.debug("상품 검색 요청: keyword={}, page={}, size={}", keyword, page, size);
 
         PageResponse<ProductResponse> response = productService.searchProducts(keyword, page, size);
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 허브별 상품 목록 조회 (페이징)
+     */
+    @GetMapping("/hubs/{hubId}/products")
+    public ResponseEntity<PageResponse<ProductResponse>> getProductsByHub(
+            @PathVariable String hubId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.debug("허브 상품 목록 조회 요청: hubId={}, page={}, size={}", hubId, page, size);
+
+        PageResponse<ProductResponse> response = productService.getProductsByHub(hubId, page, size);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 허브별 상품 목록 조회 (커서)
+     * 첫 요청은 cursor 없이, 이후 응답의 nextCursor 를 전달
+     */
+    @GetMapping("/hubs/{hubId}/products/cursor")
+    public ResponseEntity<CursorResponse<ProductResponse>> getProductsByHubWithCursor(
+            @PathVariable String hubId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.debug("허브 상품 커서 조회 요청: hubId={}, cursor={}, size={}", hubId, cursor, size);
+
+        CursorResponse<ProductResponse> response = productService.getProductsByHubWithCursor(hubId, cursor, size);
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -33,7 +33,7 @@ public class ProducerProductController {
             @RequestHeader("X-User-Id") String sellerId,
             @Valid @RequestBody CreateProductRequest request
     ) {
-        log.info("상품 등록 요청: sellerId={}, hubId={}, companyId={}, name={}",
+        log.debug("상품 등록 요청: sellerId={}, hubId={}, companyId={}, name={}",
                 sellerId, request.getHubId(), request.getCompanyId(), request.getName());
 
         CreateProductRequest.ProductCreateCommand command = request.toCommand(sellerId);
@@ -62,7 +62,7 @@ public class ProducerProductController {
             @PathVariable String productId,
             @Valid @RequestBody UpdateProductRequest request
     ) {
-        log.info("상품 수정 요청: sellerId={}, productId={}", sellerId, productId);
+        log.debug("상품 수정 요청: sellerId={}, productId={}", sellerId, productId);
 
         UpdateProductRequest.ProductUpdateCommand command = request.toCommand();
 
@@ -84,7 +84,7 @@ public class ProducerProductController {
             @RequestHeader("X-User-Id") String sellerId,
             @PathVariable String productId
     ) {
-        log.info("상품 삭제 요청: sellerId={}, productId={}", sellerId, productId);
+        log.debug("상품 삭제 요청: sellerId={}, productId={}", sellerId, productId);
 
         productService.deleteProduct(productId);
 
@@ -100,7 +100,7 @@ public class ProducerProductController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size
     ) {
-        log.info("내 상품 목록 조회: sellerId={}, page={}, size={}", sellerId, page, size);
+        log.debug("내 상품 목록 조회: sellerId={}, page={}, size={}", sellerId, page, size);
 
         PageResponse<ProductResponse> response = productService.getProductsBySeller(sellerId, page, size);
 
@@ -115,7 +115,7 @@ public class ProducerProductController {
             @RequestHeader("X-User-Id") String sellerId,
             @PathVariable String productId
     ) {
-        log.info("상품 활성화 요청: sellerId={}, productId={}", sellerId, productId);
+        log.debug("상품 활성화 요청: sellerId={}, productId={}", sellerId, productId);
 
         Product product = productService.activateProduct(productId);
 
@@ -130,7 +130,7 @@ public class ProducerProductController {
             @RequestHeader("X-User-Id") String sellerId,
             @PathVariable String productId
     ) {
-        log.info("상품 일시중지 요청: sellerId={}, productId={}", sellerId, productId);
+        log.debug("상품 일시중지 요청: sellerId={}, productId={}", sellerId, productId);
 
         Product product = productService.suspendProduct(productId);
 
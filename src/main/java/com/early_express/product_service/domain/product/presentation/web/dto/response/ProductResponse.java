@@ -21,6 +21,7 @@ public class ProductResponse {
 
     private String productId;
     private String sellerId;
+    private String hubId;
     private String name;
     private String description;
     private BigDecimal price;
@@ -36,6 +37,7 @@ public class ProductResponse {
         return ProductResponse.builder()
                 .productId(product.getProductId())
                 .sellerId(product.getSellerId())
+                .hubId(product.getHubId())
                 .name(product.getName())
                 .description(product.getDescription())
                 .price(product.getPrice().getAmount())
@@ -0,0 +1,68 @@
+package com.early_express.product_service.global.common.utils;
+
+import com.early_express.product_service.global.presentation.exception.GlobalErrorCode;
+import com.early_express.product_service.global.presentation.exception.GlobalException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션 유틸
+ * - (createdAt, id) 정렬 키를 URL-safe Base64 문자열로 인코딩
+ * - 클라이언트는 커서 내용을 해석하지 않고 그대로 전달
+ */
+public final class CursorUtils {
+
+    private static final String DELIMITER = "|";
+
+    private CursorUtils() {
+    }
+
+    public static String encode(LocalDateTime createdAt, String id) {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 커서가 비어있으면 null (첫 페이지)
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            if (index < 0) {
+                throw new CursorUtilException(GlobalErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.");
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, index)), raw.substring(index + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CursorUtilException(GlobalErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public static void validateSize(int size) {
+        if (size <= 0) {
+            throw new CursorUtilException(GlobalErrorCode.INVALID_INPUT_VALUE, "size는 0보다 커야합니다.");
+        }
+    }
+
+    /**
+     * 디코딩된 커서 (마지막으로 조회한 항목의 정렬 키)
+     */
+    public record Cursor(LocalDateTime createdAt, String id) {
+    }
+
+    /**
+     * CursorUtils 전용 예외 클래스
+     */
+    public static class CursorUtilException extends GlobalException {
+        public CursorUtilException(GlobalErrorCode errorCode, String message) {
+            super(errorCode, message);
+        }
+    }
+}
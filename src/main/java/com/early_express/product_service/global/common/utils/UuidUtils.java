@@ -1,13 +1,19 @@
 package com.early_express.product_service.global.common.utils;
 
+import java.security.SecureRandom;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * UUID 생성 유틸리티
  * 표준 36자 UUID만 생성
+ * - generate(): 랜덤 v4
+ * - generateV7(): 앞 48비트가 Unix 밀리초 타임스탬프인 v7 (RFC 9562), 생성 순서대로 정렬되어 B-tree 끝에 삽입됨
  * */
 public class UuidUtils {
-    
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     private UuidUtils() {
         throw new AssertionError("유틸리티 클래스는 인스턴스화 할 수 없습니다.");
     }
@@ -16,15 +22,49 @@ public class UuidUtils {
         return UUID.randomUUID().toString();
     }
 
+    /**
+     * 시간 순서 UUID v7 (같은 밀리초 안의 순서는 랜덤)
+     */
+    public static String generateV7() {
+        return v7(System.currentTimeMillis()).toString();
+    }
+
+    /**
+     * unix_ts_ms(48) | ver(4) | rand_a(12) | var(2) | rand_b(62)
+     */
+    static UUID v7(long epochMillis) {
+        long mostSigBits = (epochMillis << 16) | 0x7000L | (RANDOM.nextInt() & 0x0FFFL);
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * v7 UUID 의 생성 시각 (Unix 밀리초)
+     */
+    public static long timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("UUID v7 이 아닙니다: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
     public static boolean isValid(String uuid) {
-        if (uuid == null) {
-            return false;
+        return parse(uuid).isPresent();
+    }
+
+    /**
+     * 문자열 → UUID (표준 36자 형식이 아니면 empty)
+     * 저장소 조회 시 UUID 가 아닌 ID 는 존재하지 않는 것으로 처리
+     * UUID.fromString 은 "1-1-1-1-1" 같은 축약형도 받아들이므로 길이로 한 번 더 거름
+     */
+    public static Optional<UUID> parse(String uuid) {
+        if (uuid == null || uuid.length() != 36) {
+            return Optional.empty();
         }
         try {
-            UUID.fromString(uuid);
-            return true;
+            return Optional.of(UUID.fromString(uuid));
         } catch (IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 }
@@ -0,0 +1,116 @@
+package com.early_express.product_service.global.config;
+
+import com.early_express.product_service.global.infrastructure.monitoring.SecondLevelCacheMetrics;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate 2차 캐시 설정 (spring.jpa.second-level-cache.enabled)
+ * - JCache 리전 팩토리 + Caffeine 로컬 캐시 (노드별 힙 캐시, 분산 캐시 아님)
+ * - 리전은 설정에 나열한 이름으로 미리 생성, 엔티티 / 쿼리에 없는 리전을 쓰면 시작 시 실패 (크기 / TTL 없는 캐시 생성 방지)
+ *   엔티티 리전: entity-max-size / entity-ttl-seconds, 쿼리 리전: query-max-size / query-ttl-seconds
+ *   update-timestamps 리전은 만료 없음 (쿼리 결과보다 먼저 만료되면 오래된 결과가 유효로 판단됨)
+ * - 값은 참조로 보관 (Hibernate 캐시 엔트리는 불변, JCache 기본 store-by-value 의 직렬화 복사 생략)
+ * - 노드 간 일관성은 각 도메인의 이벤트 수신 측에서 리전 무효화, TTL 은 이벤트 유실 시 상한
+ * - 리전별 적중률은 SecondLevelCacheMetrics (hibernate.cache.region.*)
+ *
+ * 꺼져 있으면 application.yaml 의 hibernate.cache.use_second_level_cache / use_query_cache = false
+ * (hibernate-jcache 가 클래스패스에 있으면 설정이 없어도 리전 팩토리가 자동 선택되므로 명시적으로 끔)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.jpa.second-level-cache.enabled", havingValue = "true")
+public class HibernateCacheConfig {
+
+    @Value("${spring.jpa.second-level-cache.entity-regions:}")
+    private String[] entityRegions;
+
+    @Value("${spring.jpa.second-level-cache.query-regions:}")
+    private String[] queryRegions;
+
+    /**
+     * 2차 캐시 전용 CacheManager
+     * 컨텍스트마다 별도 URI 로 생성 (같은 JVM 의 다른 컨텍스트와 리전 공유 / 중복 생성 방지)
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${spring.jpa.second-level-cache.entity-max-size:50000}") long entityMaxSize,
+            @Value("${spring.jpa.second-level-cache.entity-ttl-seconds:300}") long entityTtlSeconds,
+            @Value("${spring.jpa.second-level-cache.query-max-size:10000}") long queryMaxSize,
+            @Value("${spring.jpa.second-level-cache.query-ttl-seconds:30}") long queryTtlSeconds) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("hibernate-l2-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String region : entityRegions) {
+            cacheManager.createCache(region, regionConfiguration(entityMaxSize, entityTtlSeconds));
+        }
+        for (String region : queryRegions) {
+            cacheManager.createCache(region, regionConfiguration(queryMaxSize, queryTtlSeconds));
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(queryMaxSize, queryTtlSeconds));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                regionConfiguration(0, 0));
+
+        log.info("Hibernate 2차 캐시 활성화 - entity: {} (max {}, ttl {}s), query: {} (max {}, ttl {}s)",
+                List.of(entityRegions), entityMaxSize, entityTtlSeconds,
+                List.of(queryRegions), queryMaxSize, queryTtlSeconds);
+        return cacheManager;
+    }
+
+    /**
+     * 2차 캐시 / 쿼리 캐시 / 통계(리전 적중률) 활성화
+     * 리전 팩토리에 위 CacheManager 를 직접 전달, 설정에 없는 리전은 생성하지 않고 실패
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernateCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    public SecondLevelCacheMetrics secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheMetrics(entityManagerFactory, List.of(entityRegions), List.of(queryRegions));
+    }
+
+    /**
+     * maxSize / ttlSeconds 가 0 이면 제한 없음
+     */
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(long maxSize, long ttlSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        if (maxSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxSize));
+        }
+        if (ttlSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        }
+        return configuration;
+    }
+}
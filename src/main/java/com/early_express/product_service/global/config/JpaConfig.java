@@ -1,13 +1,21 @@
 package com.early_express.product_service.global.config;
 
+import com.early_express.product_service.global.infrastructure.monitoring.QueryStatisticsIntegrator;
+import com.early_express.product_service.global.infrastructure.monitoring.QueryStatisticsSessionListener;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import java.util.List;
+
 @Configuration
 @EnableJpaAuditing
 @EnableTransactionManagement
@@ -24,4 +32,18 @@ public class JpaConfig {
     public JPAQueryFactory jpaQueryFactory() {
         return new JPAQueryFactory(entityManager);
     }
-}
\ No newline at end of file
+
+    /**
+     * 요청별 Hibernate 통계 수집 리스너 등록
+     * - 세션 이벤트(statement 실행, flush) 리스너 + 엔티티 로드(PostLoad) 리스너
+     * - EntityManagerFactory 생성 전에 필요하므로 static (EntityManager 를 주입받는 JpaConfig 인스턴스와 무관)
+     */
+    @Bean
+    public static HibernatePropertiesCustomizer queryStatisticsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryStatisticsSessionListener.class.getName());
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(new QueryStatisticsIntegrator()));
+        };
+    }
+}
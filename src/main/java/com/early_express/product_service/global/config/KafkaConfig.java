@@ -1,6 +1,11 @@
 package com.early_express.product_service.global.config;
 
+import com.early_express.product_service.global.infrastructure.event.codec.BinaryEventCodec;
+import com.early_express.product_service.global.infrastructure.event.codec.ContentTypeMessageConverter;
+import com.early_express.product_service.global.infrastructure.event.codec.DualFormatEventSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
@@ -11,14 +16,20 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.support.converter.RecordMessageConverter;
-import org.springframework.kafka.support.converter.StringJsonMessageConverter;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * Kafka Producer 설정
+ * - 이벤트 발행 포맷 (spring.kafka.event-format.produce: json | binary)
+ *   포맷과 관계없이 contentType / eventType 헤더를 기록하고, Consumer 는 두 포맷을 모두 수신
+ */
+@Slf4j
 @Configuration
 @EnableKafka
 public class KafkaConfig {
@@ -29,29 +40,50 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    @Value("${spring.kafka.event-format.produce:json}")
+    private String produceFormat;
+
+    @Value("${spring.kafka.publish-backpressure.max-block-ms:5000}")
+    private long maxBlockMs;
+
+    /**
+     * 리스너 메시지 변환 (타입 미지정 byte[] 레코드는 contentType 헤더로 JSON / 바이너리 판단)
+     * 원본 레코드를 KafkaHeaders.RAW_DATA 헤더로 전달 (키 순서 보장 모드의 DLT 전송용)
+     */
     @Bean
-    public RecordMessageConverter converter(ObjectMapper objectMapper) {
-        return new StringJsonMessageConverter(objectMapper);
+    public RecordMessageConverter converter(ObjectMapper objectMapper, BinaryEventCodec binaryEventCodec) {
+        ContentTypeMessageConverter converter = new ContentTypeMessageConverter(objectMapper, binaryEventCodec);
+        converter.setRawRecordHeader(true);
+        return converter;
     }
 
     @Bean
-    public ProducerFactory<String, Object> producerFactory() {
+    public ProducerFactory<String, Object> producerFactory(BinaryEventCodec binaryEventCodec, MeterRegistry meterRegistry) {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
         configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
         configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        // 메타데이터 조회 / 버퍼 포화 시 send() 대기 상한 (발행 스레드에서만 대기, InFlightPublishTracker 참고)
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
+
+        boolean binary = "binary".equalsIgnoreCase(produceFormat);
+        log.info("이벤트 발행 포맷 - {}", binary ? "binary" : "json");
+
+        DefaultKafkaProducerFactory<String, Object> factory = new DefaultKafkaProducerFactory<>(configProps,
+                new StringSerializer(),
+                new DualFormatEventSerializer(binaryEventCodec, new JsonSerializer<>(), binary));
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        // Kafka 클라이언트 메트릭 (record-send-rate, request-latency 등) 을 MeterRegistry 에 등록
+        factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
     }
 
     // 기본 토픽 생성 예제
@@ -1,16 +1,25 @@
 package com.early_express.product_service.global.config;
 
+import com.early_express.product_service.global.infrastructure.event.codec.BinaryEventCodec;
+import com.early_express.product_service.global.infrastructure.event.codec.EventTypeDeserializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
 import org.springframework.kafka.listener.ContainerProperties;
-import org.springframework.kafka.support.converter.StringJsonMessageConverter;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.converter.RecordMessageConverter;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -19,7 +28,13 @@ import java.util.Map;
  * Kafka Consumer 설정
  * - 이벤트 구독 설정
  * - 수동 커밋
- * - 재시도 설정
+ * - 값은 eventType 헤더(없으면 토픽)로 이벤트 클래스를 정해 레코드 바이트에서 바로 역직렬화
+ *   contentType 헤더에 따라 JSON / 바이너리, 역직렬화 실패는 ErrorHandlingDeserializer 가 DLT 로 전달
+ * - 재시도 설정 (블로킹 재시도 후 DLT, 재시도 토픽은 KafkaRetryTopicConfig)
+ * - 키 순서 보장 병렬 처리 (spring.kafka.key-ordered.enabled)
+ * - 품절 전이 병합 (spring.kafka.stock-coalescing.enabled)
+ * - 가상 스레드 리스너 (spring.threads.virtual.enabled)
+ * - Kafka 클라이언트 메트릭 등록 (파티션별 lag: kafka.consumer.fetch.manager.records.lag)
  */
 @Configuration
 public class KafkaConsumerConfig {
@@ -30,13 +45,24 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.consumer.group-id:product-service-group}")
     private String groupId;
 
+    @Value("${spring.kafka.key-ordered.enabled:false}")
+    private boolean keyOrderedEnabled;
+
+    @Value("${spring.kafka.stock-coalescing.enabled:false}")
+    private boolean stockCoalescingEnabled;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Value("${spring.kafka.non-retryable-exceptions:}")
+    private Class<?>[] nonRetryableExceptions;
+
     @Bean
-    public ConsumerFactory<String, Object> consumerFactory() {
+    public ConsumerFactory<String, Object> consumerFactory(BinaryEventCodec binaryEventCodec, ObjectMapper objectMapper,
+                                                           MeterRegistry meterRegistry) {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
 
         // 수동 커밋
         configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
@@ -48,15 +74,25 @@ public class KafkaConsumerConfig {
         configProps.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, 30000);
         configProps.put(ConsumerConfig.MAX_POLL_INTERVAL_MS_CONFIG, 300000);
 
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        // 역직렬화 실패 레코드는 null 값 + 예외 헤더로 전달 → 에러 핸들러가 재시도 없이 DLT 로 전송 (컨테이너 유지)
+        DefaultKafkaConsumerFactory<String, Object> factory = new DefaultKafkaConsumerFactory<>(configProps,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new EventTypeDeserializer(binaryEventCodec, objectMapper)));
+
+        // 컨슈머별 Kafka 클라이언트 메트릭 (records-lag 등) 을 MeterRegistry 에 등록
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(ObjectMapper objectMapper) {
+    public ConcurrentKafkaListenerContainerFactory<String, Object> kafkaListenerContainerFactory(
+            ConsumerFactory<String, Object> consumerFactory,
+            RecordMessageConverter converter,
+            DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
         ConcurrentKafkaListenerContainerFactory<String, Object> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
 
-        factory.setConsumerFactory(consumerFactory());
+        factory.setConsumerFactory(consumerFactory);
 
         // 수동 커밋 모드
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
@@ -64,10 +100,33 @@ public class KafkaConsumerConfig {
         // 동시성 설정 (파티션 수와 동일하게)
         factory.setConcurrency(3);
 
-        // 에러 핸들러
-        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler());
+        // 키 순서 보장 병렬 처리 모드
+        // 워커에서 순서와 무관하게 ACK → 연속으로 완료된 오프셋까지만 커밋
+        // 이전 poll 의 ACK 가 모두 모일 때까지 consumer 일시정지
+        // 품절 전이 병합 모드도 윈도우 종료 후 ACK 하므로 동일하게 적용
+        factory.getContainerProperties().setAsyncAcks(keyOrderedEnabled || stockCoalescingEnabled);
 
-        factory.setRecordMessageConverter(new StringJsonMessageConverter(objectMapper));
+        // 가상 스레드 모드: 커스텀 팩토리는 Boot 자동 설정이 적용되지 않으므로 직접 지정
+        // 리스너 스레드가 JDBC / Kafka send 대기 중에도 캐리어 스레드를 점유하지 않음
+        if (virtualThreadsEnabled) {
+            SimpleAsyncTaskExecutor listenerExecutor = new SimpleAsyncTaskExecutor("kafka-listener-");
+            listenerExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerExecutor);
+        }
+
+        // 에러 핸들러
+        // 재시도 토픽이 적용되지 않는 리스너 / 메시지 변환 실패: 1초 간격 2회 재시도 후 DLT
+        // 재시도 불가 예외는 바로 DLT (파티션 정지 방지)
+        DefaultErrorHandler errorHandler =
+                new DefaultErrorHandler(deadLetterPublishingRecoverer, new FixedBackOff(1000L, 2L));
+        if (nonRetryableExceptions != null) {
+            for (Class<?> exceptionType : nonRetryableExceptions) {
+                errorHandler.addNotRetryableExceptions(exceptionType.asSubclass(Exception.class));
+            }
+        }
+        factory.setCommonErrorHandler(errorHandler);
+
+        factory.setRecordMessageConverter(converter);
 
         return factory;
     }
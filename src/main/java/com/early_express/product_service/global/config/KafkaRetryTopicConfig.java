@@ -0,0 +1,149 @@
+package com.early_express.product_service.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import com.early_express.product_service.global.infrastructure.event.codec.RawPayloadSerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.retrytopic.DeadLetterPublishingRecovererFactory;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationSupport;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Kafka 실패 처리 설정 (Non-blocking 재시도 토픽 + DLT)
+ * - 처리 실패 레코드를 단계별 재시도 토픽으로 넘겨 원본 파티션이 막히지 않도록 함
+ *   inventory-low-stock → inventory-low-stock-retry-0 → -retry-1 → ... → {application}-dlt
+ * - 재시도 불가 예외(spring.kafka.non-retryable-exceptions)는 재시도 없이 바로 DLT
+ * - 재시도 소진 / 재시도 불가 레코드는 모두 공용 DLT({application}-dlt)로 모음
+ * - 키 순서 보장 / 품절 전이 병합 모드에서는 재시도 토픽을 사용하지 않음 (디스패처 재시도 후 DLT)
+ *
+ * 재시도 토픽을 거친 레코드는 같은 키의 후속 이벤트보다 늦게 처리될 수 있음
+ */
+@Slf4j
+@Configuration
+public class KafkaRetryTopicConfig extends RetryTopicConfigurationSupport {
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    @Value("${spring.kafka.non-retryable-exceptions:}")
+    private Class<?>[] nonRetryableExceptions;
+
+    /**
+     * DLT / 재시도 토픽 전송용 템플릿
+     * 수신 레코드의 원본 바이트를 그대로 재전송 (재직렬화 방지, contentType / eventType 헤더 유지)
+     */
+    @Bean(autowireCandidate = false)
+    public ProducerFactory<String, Object> deadLetterProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
+        return new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(), new RawPayloadSerializer());
+    }
+
+    @Bean(autowireCandidate = false)
+    public KafkaTemplate<String, Object> deadLetterKafkaTemplate() {
+        return new KafkaTemplate<>(deadLetterProducerFactory());
+    }
+
+    /**
+     * 공용 DLT 로 원본 레코드 전송 (예외 정보는 kafka_dlt-* 헤더로 기록)
+     * 리스너 컨테이너 에러 핸들러와 키 순서 보장 디스패처에서 사용
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer() {
+        return new DeadLetterPublishingRecoverer(deadLetterKafkaTemplate(),
+                (record, exception) -> deadLetterTopicPartition());
+    }
+
+    /**
+     * 재고 이벤트 재시도 토픽 구성
+     * 지수 백오프로 재시도 토픽을 단계별로 생성하고, 각 단계는 지연 시간이 지날 때까지 파티션을 일시정지
+     */
+    @Bean
+    @ConditionalOnExpression("${spring.kafka.non-blocking-retry.enabled:true} and !${spring.kafka.key-ordered.enabled:false}"
+            + " and !${spring.kafka.stock-coalescing.enabled:false}")
+    public RetryTopicConfiguration inventoryRetryTopicConfiguration(
+            @Value("${spring.kafka.topic.inventory-low-stock:inventory-low-stock}") String lowStockTopic,
+            @Value("${spring.kafka.topic.inventory-restocked:inventory-restocked}") String restockedTopic,
+            @Value("${spring.kafka.non-blocking-retry.attempts:4}") int attempts,
+            @Value("${spring.kafka.non-blocking-retry.delay-ms:1000}") long delayMs,
+            @Value("${spring.kafka.non-blocking-retry.multiplier:5.0}") double multiplier,
+            @Value("${spring.kafka.non-blocking-retry.max-delay-ms:60000}") long maxDelayMs,
+            @Value("${spring.kafka.non-blocking-retry.topic-partitions:3}") int partitions,
+            @Value("${spring.kafka.non-blocking-retry.topic-replicas:3}") short replicas) {
+
+        log.info("재고 이벤트 재시도 토픽 활성화 - attempts: {}, delay: {}ms x{} (max {}ms)",
+                attempts, delayMs, multiplier, maxDelayMs);
+
+        return RetryTopicConfigurationBuilder.newInstance()
+                .includeTopics(List.of(lowStockTopic, restockedTopic))
+                .maxAttempts(attempts)
+                .exponentialBackoff(delayMs, multiplier, maxDelayMs)
+                .suffixTopicsWithIndexValues()
+                .autoCreateTopicsWith(partitions, replicas)
+                // 토픽별 DLT 대신 공용 DLT 사용 (configureDeadLetterPublishingContainerFactory 참고)
+                .doNotConfigureDlt()
+                .create(deadLetterKafkaTemplate());
+    }
+
+    /**
+     * 재시도 불가 예외 등록
+     * 기본 등록 예외(역직렬화 / 메시지 변환 실패 등)에 추가
+     */
+    @Override
+    protected void manageNonBlockingFatalExceptions(List<Class<? extends Throwable>> nonBlockingFatalExceptions) {
+        if (nonRetryableExceptions == null) {
+            return;
+        }
+        for (Class<?> exceptionType : nonRetryableExceptions) {
+            nonBlockingFatalExceptions.add(exceptionType.asSubclass(Throwable.class));
+        }
+    }
+
+    /**
+     * 재시도 소진 / 재시도 불가 시 다음 목적지가 없으면(null) 공용 DLT 로 전송
+     * 공용 DLT 는 재시도 토픽 체인에 등록되지 않으므로 전송 템플릿도 직접 지정
+     */
+    @Override
+    protected Consumer<DeadLetterPublishingRecovererFactory> configureDeadLetterPublishingContainerFactory() {
+        return factory -> factory.setDeadLetterPublisherCreator((templateResolver, destinationResolver) ->
+                new DeadLetterPublishingRecoverer(
+                        producerRecord -> deadLetterTopic().equals(producerRecord.topic())
+                                ? deadLetterKafkaTemplate()
+                                : templateResolver.apply(producerRecord),
+                        false,
+                        (record, exception) -> {
+                            TopicPartition next = destinationResolver.apply(record, exception);
+                            return next != null ? next : deadLetterTopicPartition();
+                        }));
+    }
+
+    private String deadLetterTopic() {
+        return applicationName + "-dlt";
+    }
+
+    // 파티션 -1: 키 기반 파티셔너에 위임
+    private TopicPartition deadLetterTopicPartition() {
+        return new TopicPartition(deadLetterTopic(), -1);
+    }
+}
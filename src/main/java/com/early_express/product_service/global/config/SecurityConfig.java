@@ -1,6 +1,8 @@
 package com.early_express.product_service.global.config;
 
 import com.early_express.product_service.global.infrastructure.config.UserHeaderAuthenticationFilter;
+import com.early_express.product_service.global.infrastructure.datasource.ReadConsistency;
+import com.early_express.product_service.global.infrastructure.security.AdminTokenAuthorizationManager;
 import com.early_express.product_service.global.infrastructure.security.LoginFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,9 +34,11 @@ public class SecurityConfig {
     /**
      * Security Filter Chain 설정
      * 현재는 모든 요청을 허용하도록 설정 (개발 초기 단계)
+     * 단, JFR 기록 / 느린 쿼리 엔드포인트는 X-Admin-Token 헤더 필요
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http, LoginFilter loginFilter, UserHeaderAuthenticationFilter userHeaderAuthenticationFilter) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, LoginFilter loginFilter, UserHeaderAuthenticationFilter userHeaderAuthenticationFilter,
+                                           AdminTokenAuthorizationManager adminTokenAuthorizationManager) throws Exception {
         http
                 // CSRF 비활성화 (REST API이므로)
                 .csrf(AbstractHttpConfigurer::disable)
@@ -56,6 +60,10 @@ public class SecurityConfig {
                 // 모든 요청 허용 (개발 단계)
                 // TODO: 실제 운영 환경에서는 적절한 권한 설정 필요
                 .authorizeHttpRequests(auth -> auth
+                        // JFR 기록 (운영 프로파일링) - 관리 토큰
+                        .requestMatchers("/actuator/jfr/**").access(adminTokenAuthorizationManager)
+                        // 느린 쿼리 / EXPLAIN 계획 (바인딩 값 포함 가능) - 관리 토큰
+                        .requestMatchers("/actuator/slowqueries/**").access(adminTokenAuthorizationManager)
                         // Actuator endpoints
                         .requestMatchers("/actuator/**").permitAll()
                         // Swagger UI
@@ -99,6 +107,9 @@ public class SecurityConfig {
         // 허용할 Header
         configuration.setAllowedHeaders(List.of("*"));
 
+        // 브라우저에서 읽을 수 있는 응답 Header (읽기 일관성 토큰)
+        configuration.setExposedHeaders(List.of(ReadConsistency.TOKEN_HEADER));
+
         // 인증 정보 포함 허용
         configuration.setAllowCredentials(true);
 
@@ -0,0 +1,70 @@
+package com.early_express.product_service.global.infrastructure.datasource;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 읽기 일관성(read-your-writes) 고정 상태 (현재 스레드)
+ * - 쓰기 트랜잭션 커밋 후 고정 시각까지 읽기 전용 트랜잭션도 프라이머리로 보냄
+ * - HTTP 요청은 ReadConsistencyFilter 가 요청 헤더의 토큰으로 열고 종료 시 닫음, 커밋 시 응답 헤더로 토큰 발급
+ * - 요청 밖 스레드(Kafka 리스너 등)는 스레드 단위로 고정 (고정 시각이 지나면 자연히 해제)
+ *
+ * 토큰: 프라이머리 고정 만료 시각 (epoch 밀리초, 발급 노드 기준)
+ */
+public final class ReadConsistency {
+
+    public static final String TOKEN_HEADER = "X-Read-Consistency";
+
+    private static final ThreadLocal<ReadConsistency> CURRENT = new ThreadLocal<>();
+
+    private final HttpServletResponse response;
+    private long pinnedUntil;
+
+    private ReadConsistency(HttpServletResponse response, long pinnedUntil) {
+        this.response = response;
+        this.pinnedUntil = pinnedUntil;
+    }
+
+    static void open(HttpServletResponse response, long pinnedUntil) {
+        CURRENT.set(new ReadConsistency(response, pinnedUntil));
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * until 까지 현재 스레드(요청)의 읽기를 프라이머리로 고정, 요청 중이면 응답 헤더로 토큰 발급
+     */
+    static void pin(long until) {
+        ReadConsistency current = CURRENT.get();
+        if (current == null) {
+            current = new ReadConsistency(null, until);
+            CURRENT.set(current);
+        }
+        current.pinnedUntil = Math.max(current.pinnedUntil, until);
+        if (current.response != null && !current.response.isCommitted()) {
+            current.response.setHeader(TOKEN_HEADER, Long.toString(current.pinnedUntil));
+        }
+    }
+
+    static boolean pinned(long now) {
+        ReadConsistency current = CURRENT.get();
+        return current != null && now < current.pinnedUntil;
+    }
+
+    /**
+     * 요청 토큰 → 고정 만료 시각
+     * 형식 오류 / 만료 / 고정 구간(pinWindowMs)보다 먼 미래 값은 무시 (0)
+     */
+    static long parseToken(String token, long now, long pinWindowMs) {
+        if (token == null || token.isBlank()) {
+            return 0;
+        }
+        try {
+            long until = Long.parseLong(token.trim());
+            return until > now && until <= now + pinWindowMs ? until : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
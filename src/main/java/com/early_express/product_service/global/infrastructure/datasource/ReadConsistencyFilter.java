@@ -0,0 +1,47 @@
+package com.early_express.product_service.global.infrastructure.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위 읽기 일관성 토큰 처리
+ * - 요청 헤더 X-Read-Consistency 의 고정 만료 시각까지 읽기 전용 트랜잭션을 프라이머리로 보냄
+ * - 요청 중 쓰기 트랜잭션이 커밋되면 응답 헤더로 새 토큰 발급 (클라이언트 / 게이트웨이가 다음 조회에 그대로 전달)
+ * - 만료 / 형식 오류 / 고정 구간보다 먼 미래 토큰은 무시 (임의 토큰으로 프라이머리 고정을 늘릴 수 없음)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@ConditionalOnProperty(name = "spring.datasource.replica.enabled", havingValue = "true")
+public class ReadConsistencyFilter extends OncePerRequestFilter {
+
+    private final long pinWindowMs;
+
+    public ReadConsistencyFilter(
+            @Value("${spring.datasource.replica.max-lag-ms:1000}") long maxLagMs,
+            @Value("${spring.datasource.replica.check-interval-ms:1000}") long checkIntervalMs) {
+        this.pinWindowMs = ReadYourWritesTransactionListener.pinWindowMs(maxLagMs, checkIntervalMs);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long pinnedUntil = ReadConsistency.parseToken(
+                request.getHeader(ReadConsistency.TOKEN_HEADER), System.currentTimeMillis(), pinWindowMs);
+        ReadConsistency.open(response, pinnedUntil);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadConsistency.close();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.early_express.product_service.global.infrastructure.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * 쓰기 트랜잭션 커밋 후 읽기를 프라이머리로 고정 (read-your-writes)
+ * - 최상위 쓰기 트랜잭션 커밋 성공 시 pin-window 동안 현재 스레드(요청)의 읽기 전용 트랜잭션을 프라이머리로 보냄
+ * - pin-window = max-lag + check-interval: 레플리카는 마지막 확인에서 지연이 max-lag 이하일 때만 사용되므로
+ *   커밋 후 이 시간이 지나면 어느 레플리카에서도 커밋 결과가 보임
+ * - 트랜잭션 매니저에는 Spring Boot 가 TransactionExecutionListener 빈으로 등록
+ */
+@Component
+@ConditionalOnProperty(name = "spring.datasource.replica.enabled", havingValue = "true")
+public class ReadYourWritesTransactionListener implements TransactionExecutionListener {
+
+    private final long pinWindowMs;
+
+    public ReadYourWritesTransactionListener(
+            @Value("${spring.datasource.replica.max-lag-ms:1000}") long maxLagMs,
+            @Value("${spring.datasource.replica.check-interval-ms:1000}") long checkIntervalMs) {
+        this.pinWindowMs = pinWindowMs(maxLagMs, checkIntervalMs);
+    }
+
+    static long pinWindowMs(long maxLagMs, long checkIntervalMs) {
+        return maxLagMs + checkIntervalMs;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            ReadConsistency.pin(System.currentTimeMillis() + pinWindowMs);
+        }
+    }
+}
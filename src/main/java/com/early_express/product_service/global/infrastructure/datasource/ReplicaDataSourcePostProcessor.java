@@ -0,0 +1,116 @@
+package com.early_express.product_service.global.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 트랜잭션 레플리카 라우팅 적용
+ * - 애플리케이션 DataSource(dataSource 빈, 프라이머리)를 LazyConnectionDataSourceProxy 로 감싸고
+ *   읽기 전용 커넥션은 ReplicaRoutingDataSource(레플리카 / 프라이머리 대체)로 보냄
+ * - 물리 커넥션을 첫 statement 시점에 얻으므로 @Transactional(readOnly = true) 의 읽기 전용 플래그로 대상 결정
+ * - 레플리카 풀은 빈으로 등록하지 않음 (DataSource 자동 설정 / 느린 쿼리 프록시는 라우팅 DataSource 하나만 대상)
+ * - Ordered 로 다른 DataSource 후처리(SlowQueryDataSourcePostProcessor)보다 먼저 적용되어 레플리카 statement 도 측정됨
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourcePostProcessor implements BeanPostProcessor, Ordered, DisposableBean {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int maximumPoolSize;
+    private final long connectionTimeoutMs;
+    private final long maxLagMs;
+    private final long checkIntervalMs;
+    private final String lagQuery;
+
+    private HikariDataSource replicaPool;
+    private ReplicaHealthMonitor monitor;
+
+    public ReplicaDataSourcePostProcessor(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${spring.datasource.replica.url}") String url,
+            @Value("${spring.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${spring.datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${spring.datasource.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${spring.datasource.replica.connection-timeout-ms:1000}") long connectionTimeoutMs,
+            @Value("${spring.datasource.replica.max-lag-ms:1000}") long maxLagMs,
+            @Value("${spring.datasource.replica.check-interval-ms:1000}") long checkIntervalMs,
+            @Value("${spring.datasource.replica.lag-query:}") String lagQuery) {
+        this.meterRegistry = meterRegistry;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.maximumPoolSize = maximumPoolSize;
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.maxLagMs = maxLagMs;
+        this.checkIntervalMs = checkIntervalMs;
+        this.lagQuery = lagQuery.isBlank() ? ReplicaHealthMonitor.POSTGRESQL_LAG_QUERY : lagQuery;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource primary) || !DATA_SOURCE_BEAN.equals(beanName)) {
+            return bean;
+        }
+
+        MeterRegistry registry = meterRegistry.getObject();
+        replicaPool = createReplicaPool(registry);
+        monitor = new ReplicaHealthMonitor(replicaPool, lagQuery, maxLagMs,
+                (int) Math.max(1, connectionTimeoutMs / 1000), registry);
+        monitor.start(checkIntervalMs);
+
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replicaPool, monitor, registry));
+
+        log.info("레플리카 읽기 라우팅 활성화 - url: {}, maxLag: {}ms, checkInterval: {}ms", url, maxLagMs, checkIntervalMs);
+        return routing;
+    }
+
+    // 레플리카 장애가 애플리케이션 기동을 막지 않도록 풀 초기화 실패를 허용 (감시기가 사용 불가로 판단)
+    private HikariDataSource createReplicaPool(MeterRegistry registry) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("replica");
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setConnectionTimeout(connectionTimeoutMs);
+        config.setReadOnly(true);
+        config.setInitializationFailTimeout(-1);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return new HikariDataSource(config);
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void destroy() {
+        if (monitor != null) {
+            monitor.close();
+        }
+        if (replicaPool != null) {
+            replicaPool.close();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.early_express.product_service.global.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레플리카 상태 / 복제 지연 감시
+ * - check-interval 마다 레플리카에서 지연 조회 쿼리(ms) 실행, 실패하면 사용 불가
+ * - 지연이 max-lag 이하이고 마지막 확인이 성공한 경우에만 읽기를 레플리카로 보냄
+ * - 커넥션 획득 실패 시 ReplicaRoutingDataSource 가 즉시 사용 불가로 표시, 다음 확인 성공 시 복구
+ * - 시작 직후 첫 확인 전까지는 사용 불가 (프라이머리로 읽기)
+ *
+ * 메트릭: db.replica.lag (ms, 확인 실패 시 NaN), db.replica.available (1 / 0)
+ */
+@Slf4j
+final class ReplicaHealthMonitor implements AutoCloseable {
+
+    /**
+     * PostgreSQL 스트리밍 레플리카 지연 (ms), 레플리카가 아니면 0
+     * - WAL 수신 중(streaming)이고 받은 WAL 을 모두 재생했으면 0 (프라이머리 유휴 시 마지막 재생 시각이 오래되어도 지연으로 보지 않음)
+     * - WAL 수신이 끊기면 받은 WAL 이 모두 재생되어 있어도 마지막 재생 시각부터의 경과 시간 (재생 기록이 없으면 최대값)
+     *   → 프라이머리와 끊긴 채 max-lag 이 지나면 사용 불가
+     * pg_stat_wal_receiver.status 조회에 pg_read_all_stats (또는 pg_monitor) 권한 필요 (없으면 항상 끊긴 것으로 판단)
+     */
+    static final String POSTGRESQL_LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming')
+                            AND pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(FLOOR(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000),
+                                     9223372036854775807)
+                   END::bigint""";
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagMs;
+    private final int queryTimeoutSeconds;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean reachable;
+    private volatile long lagMs = -1;
+
+    ReplicaHealthMonitor(DataSource replica, String lagQuery, long maxLagMs, int queryTimeoutSeconds,
+                         MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagMs = maxLagMs;
+        this.queryTimeoutSeconds = queryTimeoutSeconds;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-health-monitor").daemon(true).factory());
+
+        Gauge.builder("db.replica.lag", this, monitor -> monitor.reachable ? monitor.lagMs : Double.NaN)
+                .description("레플리카 복제 지연 (ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.available", this, monitor -> monitor.usable() ? 1 : 0)
+                .description("읽기 전용 트랜잭션을 레플리카로 보내는지 여부")
+                .register(meterRegistry);
+    }
+
+    void start(long checkIntervalMs) {
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 읽기를 레플리카로 보낼 수 있는지 (도달 가능 + 지연 허용 범위)
+     */
+    boolean usable() {
+        return reachable && lagMs <= maxLagMs;
+    }
+
+    boolean reachable() {
+        return reachable;
+    }
+
+    long lagMs() {
+        return lagMs;
+    }
+
+    void check() {
+        boolean wasUsable = usable();
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(queryTimeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                lagMs = resultSet.next() ? Math.max(0, resultSet.getLong(1)) : 0;
+            }
+            reachable = true;
+        } catch (SQLException | RuntimeException e) {
+            reachable = false;
+            if (wasUsable) {
+                log.warn("레플리카 확인 실패 - 읽기를 프라이머리로 전환", e);
+            }
+            return;
+        }
+
+        if (wasUsable && !usable()) {
+            log.warn("레플리카 지연 초과 - 읽기를 프라이머리로 전환, lag: {}ms, max: {}ms", lagMs, maxLagMs);
+        } else if (!wasUsable && usable()) {
+            log.info("레플리카 읽기 재개 - lag: {}ms", lagMs);
+        }
+    }
+
+    void markUnavailable(SQLException cause) {
+        if (reachable) {
+            reachable = false;
+            log.warn("레플리카 커넥션 획득 실패 - 다음 확인까지 읽기를 프라이머리로 전환", cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
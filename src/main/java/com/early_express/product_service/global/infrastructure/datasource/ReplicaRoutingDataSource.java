@@ -0,0 +1,92 @@
+package com.early_express.product_service.global.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 읽기 전용 커넥션 라우팅 DataSource
+ * - LazyConnectionDataSourceProxy 의 readOnlyDataSource 로 등록되어 읽기 전용 트랜잭션의 첫 statement 시점에 호출됨
+ * - read-your-writes 고정 중 / 레플리카 사용 불가(확인 실패, 지연 초과)면 프라이머리
+ * - 레플리카 커넥션 획득 실패 시 프라이머리로 대체하고 감시기에 사용 불가로 표시
+ * - 사용자 지정 계정 커넥션은 라우팅하지 않고 프라이머리에 위임 (레플리카 풀은 서비스 계정 전용)
+ *
+ * 메트릭: db.replica.route (target: replica | primary, reason: replica | pinned | unavailable | lagging | connection_failure)
+ */
+final class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final String ROUTE_METRIC = "db.replica.route";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaHealthMonitor monitor;
+    private final Map<Route, Counter> routes = new EnumMap<>(Route.class);
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaHealthMonitor monitor,
+                             MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.monitor = monitor;
+        for (Route route : Route.values()) {
+            routes.put(route, Counter.builder(ROUTE_METRIC)
+                    .description("읽기 전용 커넥션 라우팅 횟수")
+                    .tag("target", route.target)
+                    .tag("reason", route.reason)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Route route = route();
+        if (route == Route.REPLICA) {
+            try {
+                Connection connection = replica.getConnection();
+                routes.get(Route.REPLICA).increment();
+                return connection;
+            } catch (SQLException e) {
+                monitor.markUnavailable(e);
+                route = Route.CONNECTION_FAILURE;
+            }
+        }
+        routes.get(route).increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    private Route route() {
+        if (ReadConsistency.pinned(System.currentTimeMillis())) {
+            return Route.PINNED;
+        }
+        if (!monitor.reachable()) {
+            return Route.UNAVAILABLE;
+        }
+        return monitor.usable() ? Route.REPLICA : Route.LAGGING;
+    }
+
+    private enum Route {
+        REPLICA("replica", "replica"),
+        PINNED("primary", "pinned"),
+        UNAVAILABLE("primary", "unavailable"),
+        LAGGING("primary", "lagging"),
+        CONNECTION_FAILURE("primary", "connection_failure");
+
+        private final String target;
+        private final String reason;
+
+        Route(String target, String reason) {
+            this.target = target;
+            this.reason = reason;
+        }
+    }
+}
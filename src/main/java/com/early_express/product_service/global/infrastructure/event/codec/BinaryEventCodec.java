@@ -0,0 +1,90 @@
+package com.early_express.product_service.global.infrastructure.event.codec;
+
+import com.early_express.product_service.global.infrastructure.event.base.BaseEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트 바이너리 코덱
+ * - 페이로드: [매직 바이트][스키마 버전 varint][BaseEvent 공통 필드][이벤트 필드]
+ * - 필드명 / 구분자 없이 스키마 순서대로 기록 → JSON 대비 페이로드 축소, 파싱 없이 순차 읽기
+ * - 스키마는 EventSchemaProvider Bean 으로 등록 (이벤트 클래스 / eventType 별 1개)
+ * - 현재보다 높은 스키마 버전도 읽음 (뒤에 추가된 필드는 무시)
+ * - eventType / 토픽 → 이벤트 클래스 조회 (EventTypeDeserializer)
+ */
+@Slf4j
+@Component
+public class BinaryEventCodec {
+
+    static final int MAGIC = 0xEB;
+
+    private final Map<Class<?>, EventSchema<?>> schemasByClass = new HashMap<>();
+    private final Map<String, EventSchema<?>> schemasByType = new HashMap<>();
+    private final Map<String, String> defaultEventTypesByTopic = new HashMap<>();
+
+    public BinaryEventCodec(List<EventSchemaProvider> providers) {
+        for (EventSchemaProvider provider : providers) {
+            for (EventSchema<?> schema : provider.schemas()) {
+                register(schema);
+            }
+            defaultEventTypesByTopic.putAll(provider.defaultEventTypesByTopic());
+        }
+        log.info("이벤트 바이너리 스키마 등록 - {}", schemasByType.keySet());
+    }
+
+    private void register(EventSchema<?> schema) {
+        if (schemasByClass.putIfAbsent(schema.eventClass(), schema) != null
+                || schemasByType.putIfAbsent(schema.eventType(), schema) != null) {
+            throw new IllegalStateException("이벤트 바이너리 스키마 중복 등록 - eventType: " + schema.eventType());
+        }
+    }
+
+    public boolean supports(Class<?> eventClass) {
+        return schemasByClass.containsKey(eventClass);
+    }
+
+    public Class<? extends BaseEvent> eventClassOf(String eventType) {
+        EventSchema<?> schema = schemasByType.get(eventType);
+        return schema != null ? schema.eventClass() : null;
+    }
+
+    public String defaultEventTypeOf(String topic) {
+        return topic != null ? defaultEventTypesByTopic.get(topic) : null;
+    }
+
+    public byte[] encode(BaseEvent event) {
+        EventSchema<BaseEvent> schema = schemaFor(event.getClass());
+
+        BinaryEventWriter out = new BinaryEventWriter(128)
+                .writeByte(MAGIC)
+                .writeVarLong(schema.version())
+                .writeBase(event);
+        schema.writer().write(event, out);
+        return out.toByteArray();
+    }
+
+    public <T> T decode(byte[] payload, Class<T> eventClass) {
+        EventSchema<BaseEvent> schema = schemaFor(eventClass);
+
+        BinaryEventReader in = new BinaryEventReader(payload);
+        if (in.readByte() != MAGIC) {
+            throw new SerializationException("바이너리 이벤트 페이로드가 아님 - eventClass: " + eventClass.getSimpleName());
+        }
+        int version = (int) in.readVarLong();
+        return eventClass.cast(schema.reader().read(in, version));
+    }
+
+    @SuppressWarnings("unchecked")
+    private EventSchema<BaseEvent> schemaFor(Class<?> eventClass) {
+        EventSchema<?> schema = schemasByClass.get(eventClass);
+        if (schema == null) {
+            throw new SerializationException("바이너리 스키마가 등록되지 않은 이벤트 - " + eventClass.getName());
+        }
+        return (EventSchema<BaseEvent>) schema;
+    }
+}
@@ -0,0 +1,107 @@
+package com.early_express.product_service.global.infrastructure.event.codec;
+
+import com.early_express.product_service.global.infrastructure.event.base.BaseEvent;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 이벤트 바이너리 읽기 (BinaryEventWriter 와 대칭)
+ * 잘린 / 손상된 페이로드는 SerializationException (재시도 없이 DLT)
+ */
+public final class BinaryEventReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryEventReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * BaseEvent 공통 필드를 빌더에 설정 (BinaryEventWriter.writeBase 와 순서 동일)
+     */
+    public <B extends BaseEvent.BaseEventBuilder<?, ?>> B readBase(B builder) {
+        builder.eventId(readString());
+        builder.eventType(readString());
+        builder.timestamp(readDateTime());
+        builder.version(readString());
+        builder.publisher(readString());
+        return builder;
+    }
+
+    public String readString() {
+        int length = (int) readVarLong();
+        if (length == 0) {
+            return null;
+        }
+        int size = length - 1;
+        require(size);
+        String value = new String(buffer, position, size, StandardCharsets.UTF_8);
+        position += size;
+        return value;
+    }
+
+    public Integer readInteger() {
+        return readPresence() ? Math.toIntExact(readZigZag()) : null;
+    }
+
+    public LocalDateTime readDateTime() {
+        if (!readPresence()) {
+            return null;
+        }
+        long epochSecond = readZigZag();
+        int nano = (int) readVarLong();
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+
+    public BigDecimal readDecimal() {
+        if (!readPresence()) {
+            return null;
+        }
+        int scale = Math.toIntExact(readZigZag());
+        int size = (int) readVarLong();
+        require(size);
+        BigInteger unscaled = new BigInteger(buffer, position, size);
+        position += size;
+        return new BigDecimal(unscaled, scale);
+    }
+
+    public int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("잘못된 varint 인코딩 - position: " + position);
+    }
+
+    public long readZigZag() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private boolean readPresence() {
+        return readByte() != 0;
+    }
+
+    private void require(int size) {
+        if (size < 0 || position + size > buffer.length) {
+            throw new SerializationException(
+                    "바이너리 이벤트 페이로드가 잘림 - position: " + position + ", required: " + size
+                            + ", length: " + buffer.length);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.early_express.product_service.global.infrastructure.event.codec;
+
+import com.early_express.product_service.global.infrastructure.event.base.BaseEvent;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 이벤트 바이너리 작성기
+ * - 정수: varint (음수 가능 값은 zigzag)
+ * - 문자열: varint(UTF-8 길이 + 1) + 바이트, 0 은 null
+ * - Integer / LocalDateTime / BigDecimal: 존재 여부 1바이트 + 값
+ * - LocalDateTime: UTC 기준 epoch 초 + 나노초 (JSON 과 달리 초 미만 정밀도 유지)
+ */
+public final class BinaryEventWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryEventWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * BaseEvent 공통 필드 작성 (BinaryEventReader.readBase 와 순서 동일)
+     */
+    public BinaryEventWriter writeBase(BaseEvent event) {
+        writeString(event.getEventId());
+        writeString(event.getEventType());
+        writeDateTime(event.getTimestamp());
+        writeString(event.getVersion());
+        writeString(event.getPublisher());
+        return this;
+    }
+
+    public BinaryEventWriter writeString(String value) {
+        if (value == null) {
+            writeVarLong(0);
+            return this;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        writeBytes(bytes);
+        return this;
+    }
+
+    public BinaryEventWriter writeInteger(Integer value) {
+        writePresence(value != null);
+        if (value != null) {
+            writeZigZag(value);
+        }
+        return this;
+    }
+
+    public BinaryEventWriter writeDateTime(LocalDateTime value) {
+        writePresence(value != null);
+        if (value != null) {
+            writeZigZag(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarLong(value.getNano());
+        }
+        return this;
+    }
+
+    public BinaryEventWriter writeDecimal(BigDecimal value) {
+        writePresence(value != null);
+        if (value != null) {
+            writeZigZag(value.scale());
+            byte[] unscaled = value.unscaledValue().toByteArray();
+            writeVarLong(unscaled.length);
+            writeBytes(unscaled);
+        }
+        return this;
+    }
+
+    public BinaryEventWriter writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryEventWriter writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return this;
+    }
+
+    public BinaryEventWriter writeZigZag(long value) {
+        return writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void writePresence(boolean present) {
+        writeByte(present ? 1 : 0);
+    }
+
+    private void writeBytes(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+}
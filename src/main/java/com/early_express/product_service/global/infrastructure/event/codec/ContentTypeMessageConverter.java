@@ -0,0 +1,42 @@
+package com.early_express.product_service.global.infrastructure.event.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.utils.Bytes;
+import org.springframework.kafka.support.converter.ByteArrayJsonMessageConverter;
+
+import java.lang.reflect.Type;
+
+/**
+ * contentType 헤더 기반 리스너 메시지 변환
+ * - EventTypeDeserializer 가 이미 이벤트로 변환한 값은 그대로 전달
+ * - 이벤트 타입을 알 수 없어 byte[] 로 남은 레코드만 리스너 파라미터 타입으로 변환
+ *   바이너리: BinaryEventCodec / JSON·헤더 없음: ObjectMapper 로 바이트에서 바로 파싱
+ *
+ * 변환 실패는 재시도 불가(ConversionException)로 분류되어 바로 DLT 로 전송
+ */
+public class ContentTypeMessageConverter extends ByteArrayJsonMessageConverter {
+
+    private final BinaryEventCodec codec;
+
+    public ContentTypeMessageConverter(ObjectMapper objectMapper, BinaryEventCodec codec) {
+        super(objectMapper);
+        this.codec = codec;
+    }
+
+    @Override
+    protected Object extractAndConvertValue(ConsumerRecord<?, ?> record, Type type) {
+        Object value = record.value();
+        if (value instanceof byte[] payload && EventHeaders.isBinary(record.headers())) {
+            if (!(type instanceof Class<?> eventClass) || !codec.supports(eventClass)) {
+                throw new SerializationException("바이너리 이벤트를 변환할 수 없는 리스너 타입 - " + type);
+            }
+            return codec.decode(payload, eventClass);
+        }
+        if (value == null || value instanceof byte[] || value instanceof String || value instanceof Bytes) {
+            return super.extractAndConvertValue(record, type);
+        }
+        return value;
+    }
+}
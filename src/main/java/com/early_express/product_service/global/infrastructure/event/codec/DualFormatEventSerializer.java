@@ -0,0 +1,51 @@
+package com.early_express.product_service.global.infrastructure.event.codec;
+
+import com.early_express.product_service.global.infrastructure.event.base.BaseEvent;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * JSON / 바이너리 겸용 이벤트 직렬화
+ * - 바이너리 모드이고 스키마가 등록된 이벤트만 바이너리, 그 외는 기존 JsonSerializer
+ * - 포맷과 관계없이 contentType / eventType 헤더 기록 → Consumer 가 레코드별로 포맷 판단
+ *
+ * 마이그레이션 중에는 두 포맷이 같은 토픽에 섞이므로 Consumer 를 먼저 배포한 뒤 발행 포맷 전환
+ */
+public class DualFormatEventSerializer implements Serializer<Object> {
+
+    private final BinaryEventCodec codec;
+    private final JsonSerializer<Object> jsonSerializer;
+    private final boolean binary;
+
+    public DualFormatEventSerializer(BinaryEventCodec codec, JsonSerializer<Object> jsonSerializer, boolean binary) {
+        this.codec = codec;
+        this.jsonSerializer = jsonSerializer;
+        this.binary = binary;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data instanceof BaseEvent event && event.getEventType() != null) {
+            EventHeaders.set(headers, EventHeaders.EVENT_TYPE, event.getEventType());
+        }
+
+        if (binary && data instanceof BaseEvent event && codec.supports(event.getClass())) {
+            EventHeaders.set(headers, EventHeaders.CONTENT_TYPE, EventHeaders.BINARY);
+            return codec.encode(event);
+        }
+
+        EventHeaders.set(headers, EventHeaders.CONTENT_TYPE, EventHeaders.JSON);
+        return jsonSerializer.serialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
@@ -0,0 +1,44 @@
+package com.early_express.product_service.global.infrastructure.event.codec;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 이벤트 레코드 헤더
+ * - contentType: 페이로드 포맷 (JSON / 바이너리), 없으면 JSON 으로 간주 (기존 발행자 호환)
+ * - eventType: BaseEvent.eventType (페이로드를 열지 않고 이벤트 종류 식별)
+ * - eventRawPayload: 수신 레코드 원본 바이트 (서비스 내부 전용, 재시도 토픽 / DLT 재전송 시 제거)
+ */
+public final class EventHeaders {
+
+    public static final String CONTENT_TYPE = "contentType";
+    public static final String EVENT_TYPE = "eventType";
+    public static final String RAW_PAYLOAD = "eventRawPayload";
+
+    public static final String JSON = "application/json";
+    public static final String BINARY = "application/vnd.early-express.event+binary";
+
+    private EventHeaders() {
+    }
+
+    public static String lastValue(Headers headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        Header header = headers.lastHeader(name);
+        return header != null && header.value() != null
+                ? new String(header.value(), StandardCharsets.UTF_8)
+                : null;
+    }
+
+    public static void set(Headers headers, String name, String value) {
+        headers.remove(name);
+        headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static boolean isBinary(Headers headers) {
+        return BINARY.equals(lastValue(headers, CONTENT_TYPE));
+    }
+}
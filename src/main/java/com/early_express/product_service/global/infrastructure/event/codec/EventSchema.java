@@ -0,0 +1,33 @@
+package com.early_express.product_service.global.infrastructure.event.codec;
+
+import com.early_express.product_service.global.infrastructure.event.base.BaseEvent;
+
+/**
+ * 이벤트 바이너리 스키마
+ * - 필드 순서가 곧 스키마 (필드명 미포함)
+ * - 스키마 변경은 필드를 끝에 추가하고 version 을 올리는 방식만 허용
+ *   이전 버전 reader 는 뒤에 추가된 바이트를 무시하고, 새 reader 는 version 으로 추가 필드 존재 여부 판단
+ *
+ * @param eventType  BaseEvent.eventType
+ * @param eventClass 이벤트 클래스
+ * @param version    현재 작성 스키마 버전
+ * @param writer     BaseEvent 공통 필드 이후의 이벤트 필드 작성
+ * @param reader     페이로드의 스키마 버전을 받아 이벤트 복원
+ */
+public record EventSchema<T extends BaseEvent>(
+        String eventType,
+        Class<T> eventClass,
+        int version,
+        Writer<T> writer,
+        Reader<T> reader) {
+
+    @FunctionalInterface
+    public interface Writer<T> {
+        void write(T event, BinaryEventWriter out);
+    }
+
+    @FunctionalInterface
+    public interface Reader<T> {
+        T read(BinaryEventReader in, int version);
+    }
+}
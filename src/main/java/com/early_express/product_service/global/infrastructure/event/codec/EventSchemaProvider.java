@@ -0,0 +1,20 @@
+package com.early_express.product_service.global.infrastructure.event.codec;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도메인별 이벤트 바이너리 스키마 등록
+ * 구현체를 Bean 으로 등록하면 BinaryEventCodec 이 수집
+ */
+public interface EventSchemaProvider {
+
+    List<EventSchema<?>> schemas();
+
+    /**
+     * eventType 헤더가 없는 레코드의 토픽별 기본 eventType (수신 토픽)
+     */
+    default Map<String, String> defaultEventTypesByTopic() {
+        return Map.of();
+    }
+}
@@ -0,0 +1,75 @@
+package com.early_express.product_service.global.infrastructure.event.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.io.IOException;
+
+/**
+ * eventType 헤더 기반 이벤트 역직렬화
+ * - 레코드 바이트에서 바로 이벤트 객체로 변환 (String 디코딩 / 메시지 변환 단계의 재파싱 없음)
+ * - 이벤트 클래스: eventType 헤더 → 없으면 토픽 기본 eventType (재시도 토픽은 원본 토픽 기준)
+ *   헤더가 없던 레코드에는 eventType 헤더를 추가하여 재시도 / DLT 레코드에도 유지
+ * - 포맷: contentType 헤더 (바이너리 / JSON)
+ * - 원본 바이트는 RAW_PAYLOAD 헤더로 보존 (같은 배열 참조, 복사 없음) → 재시도 토픽 / DLT 로 그대로 재전송
+ * - 클래스를 알 수 없으면 byte[] 그대로 반환 (ContentTypeMessageConverter 가 리스너 타입으로 변환)
+ *
+ * 변환 실패는 ErrorHandlingDeserializer 로 감싸 컨테이너 중단 없이 DLT 로 전송
+ */
+public class EventTypeDeserializer implements Deserializer<Object> {
+
+    private final BinaryEventCodec codec;
+    private final ObjectMapper objectMapper;
+
+    public EventTypeDeserializer(BinaryEventCodec codec, ObjectMapper objectMapper) {
+        this.codec = codec;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        return data;
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        Class<?> eventClass = resolveEventClass(topic, headers);
+        if (eventClass == null) {
+            return data;
+        }
+
+        headers.add(EventHeaders.RAW_PAYLOAD, data);
+
+        if (EventHeaders.isBinary(headers)) {
+            return codec.decode(data, eventClass);
+        }
+        try {
+            return objectMapper.readValue(data, eventClass);
+        } catch (IOException e) {
+            throw new SerializationException(
+                    "JSON 이벤트 역직렬화 실패 - topic: " + topic + ", eventClass: " + eventClass.getSimpleName(), e);
+        }
+    }
+
+    private Class<?> resolveEventClass(String topic, Headers headers) {
+        String eventType = EventHeaders.lastValue(headers, EventHeaders.EVENT_TYPE);
+        if (eventType != null) {
+            return codec.eventClassOf(eventType);
+        }
+
+        String originalTopic = EventHeaders.lastValue(headers, KafkaHeaders.ORIGINAL_TOPIC);
+        eventType = codec.defaultEventTypeOf(originalTopic != null ? originalTopic : topic);
+        if (eventType == null) {
+            return null;
+        }
+        EventHeaders.set(headers, EventHeaders.EVENT_TYPE, eventType);
+        return codec.eventClassOf(eventType);
+    }
+}
@@ -0,0 +1,36 @@
+package com.early_express.product_service.global.infrastructure.event.codec;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * 재시도 토픽 / DLT 전송용 직렬화
+ * - 수신 레코드의 원본 바이트를 그대로 전송 (재직렬화로 인한 포맷 / 필드 변경 방지)
+ * - byte[] 값(역직렬화 실패 / 타입 미지정 레코드)은 그대로, 이벤트 객체는 RAW_PAYLOAD 헤더의 원본 사용
+ * - RAW_PAYLOAD 헤더는 전송 레코드에서 제거
+ */
+public class RawPayloadSerializer implements Serializer<Object> {
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data == null || data instanceof byte[]) {
+            return (byte[]) data;
+        }
+        throw new SerializationException("원본 페이로드가 없는 레코드 - topic: " + topic
+                + ", valueType: " + data.getClass().getSimpleName());
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        Header raw = headers != null ? headers.lastHeader(EventHeaders.RAW_PAYLOAD) : null;
+        if (raw != null) {
+            headers.remove(EventHeaders.RAW_PAYLOAD);
+        }
+        if (data == null || data instanceof byte[] || raw == null) {
+            return serialize(topic, data);
+        }
+        return raw.value();
+    }
+}
@@ -0,0 +1,193 @@
+package com.early_express.product_service.global.infrastructure.event.dispatch;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 키 순서 보장 병렬 이벤트 디스패처
+ * - 키(productId) 해시로 워커 레인(단일 스레드)을 선택하여 같은 키는 수신 순서대로 처리
+ * - 레코드 처리 완료 시점에 개별 ACK → asyncAcks 컨테이너가 연속으로 완료된 오프셋까지만 커밋
+ * - 비활성화 시 리스너 스레드에서 바로 실행 (기존 동작과 동일), 리스너 스레드 밖 처리(dispatchDetached)는 항상 레인에서 실행
+ * - 가상 스레드 모드에서는 레인도 가상 스레드로 실행
+ * - 재시도 소진 / 재시도 불가 예외는 원본 레코드를 DLT 로 전송 후 ACK
+ * - 재시도 대기 중 인터럽트(종료)는 DLT / ACK 없이 중단 → 커밋되지 않으므로 재시작 후 재전달
+ *
+ * 컨테이너는 이전 poll 의 ACK 가 모두 모일 때까지 consumer 를 일시정지하므로
+ * 레인 큐에 쌓이는 레코드 수는 max.poll.records 로 제한됨
+ * 레인 스레드는 첫 작업 제출 시 생성되므로 비활성화 상태에서 dispatchDetached 를 쓰지 않으면 스레드 없음
+ */
+@Slf4j
+@Component
+public class KeyOrderedEventDispatcher {
+
+    private final boolean enabled;
+    private final int maxAttempts;
+    private final long retryIntervalMs;
+    private final Class<?>[] nonRetryableExceptions;
+    private final ConsumerRecordRecoverer recoverer;
+    private final ExecutorService[] lanes;
+
+    public KeyOrderedEventDispatcher(
+            @Value("${spring.kafka.key-ordered.enabled:false}") boolean enabled,
+            @Value("${spring.kafka.key-ordered.workers:0}") int workers,
+            @Value("${spring.kafka.key-ordered.max-attempts:10}") int maxAttempts,
+            @Value("${spring.kafka.key-ordered.retry-interval-ms:0}") long retryIntervalMs,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            @Value("${spring.kafka.non-retryable-exceptions:}") Class<?>[] nonRetryableExceptions,
+            ConsumerRecordRecoverer recoverer) {
+
+        this.enabled = enabled;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryIntervalMs = Math.max(0, retryIntervalMs);
+        this.nonRetryableExceptions = nonRetryableExceptions != null ? nonRetryableExceptions : new Class<?>[0];
+        this.recoverer = recoverer;
+
+        int laneCount = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.lanes = new ExecutorService[laneCount];
+        for (int i = 0; i < this.lanes.length; i++) {
+            String name = "kafka-key-ordered-" + i;
+            ThreadFactory factory = virtualThreads
+                    ? Thread.ofVirtual().name(name).factory()
+                    : Thread.ofPlatform().name(name).daemon(true).factory();
+            this.lanes[i] = Executors.newSingleThreadExecutor(factory);
+        }
+
+        if (enabled) {
+            log.info("키 순서 보장 병렬 처리 모드 활성화 - workers: {}, maxAttempts: {}", laneCount, this.maxAttempts);
+        }
+    }
+
+    /**
+     * 이벤트 처리 위임
+     *
+     * @param record 원본 레코드 (재시도 소진 시 DLT 전송용)
+     * @param key    순서 보장 단위 키 (productId)
+     * @param task   이벤트 처리 로직
+     * @param ack    처리 완료 시 호출할 Acknowledgment
+     */
+    public void dispatch(ConsumerRecord<?, ?> record, String key, Runnable task, Acknowledgment ack) {
+        if (!enabled) {
+            task.run();
+            ack.acknowledge();
+            return;
+        }
+
+        lanes[laneOf(key)].execute(() -> runWithRetry(record, key, task, ack));
+    }
+
+    /**
+     * 리스너 스레드 밖에서 이벤트 처리 위임 (지연 / 병합 처리 등)
+     * 예외를 컨테이너 에러 핸들러로 전파할 수 없으므로 비활성화 상태에서도 레인에서 재시도 후 DLT
+     * 호출 스레드(스케줄러 등)는 재시도 대기로 막히지 않음
+     */
+    public void dispatchDetached(ConsumerRecord<?, ?> record, String key, Runnable task, Acknowledgment ack) {
+        lanes[laneOf(key)].execute(() -> runWithRetry(record, key, task, ack));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 레인 내 재시도
+     * 재시도 소진 / 재시도 불가 예외 시 DLT 로 전송 후 ACK (DefaultErrorHandler 복구 동작과 동일)
+     * 실행 중에는 ACK 하지 않으면 해당 파티션이 영구히 일시정지되므로 반드시 ACK 해야 함
+     * 재시도 대기 중 인터럽트는 종료(shutdownNow) 시에만 발생 → 일시 오류일 수 있으므로 DLT 로 보내지 않고 재전달에 맡김
+     * 실패 로그는 레코드당 한 번 (최종 실패 시점)
+     */
+    private void runWithRetry(ConsumerRecord<?, ?> record, String key, Runnable task, Acknowledgment ack) {
+        Exception failure = null;
+        int attempts = 0;
+        while (attempts < maxAttempts) {
+            attempts++;
+            try {
+                task.run();
+                ack.acknowledge();
+                return;
+            } catch (Exception e) {
+                failure = e;
+                if (attempts == maxAttempts || !isRetryable(e)) {
+                    break;
+                }
+                if (!sleepBeforeRetry()) {
+                    log.warn("[KeyOrdered] 재시도 대기 중 종료, 재시작 후 재전달 - key: {}, topic: {}, partition: {}, offset: {}, attempts: {}, error: {}",
+                            key, record.topic(), record.partition(), record.offset(), attempts, e.getMessage());
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        log.error("[KeyOrdered] 처리 실패, DLT 전송 - key: {}, topic: {}, partition: {}, offset: {}, attempts: {}",
+                key, record.topic(), record.partition(), record.offset(), attempts, failure);
+        recover(record, failure);
+        ack.acknowledge();
+    }
+
+    private boolean isRetryable(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            for (Class<?> nonRetryable : nonRetryableExceptions) {
+                if (nonRetryable.isInstance(cause)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    // DLT 전송 실패 시에도 ACK 진행 (파티션 정지 방지), 실패 내용은 로그로 남김
+    private void recover(ConsumerRecord<?, ?> record, Exception exception) {
+        try {
+            recoverer.accept(record, exception);
+        } catch (Exception e) {
+            log.error("[KeyOrdered] DLT 전송 실패 - topic: {}, partition: {}, offset: {}, error: {}",
+                    record.topic(), record.partition(), record.offset(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 재시도 간격 대기
+     * 인터럽트되면 false (인터럽트 플래그는 호출 측에서 복구)
+     */
+    private boolean sleepBeforeRetry() {
+        if (retryIntervalMs == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(retryIntervalMs);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    private int laneOf(String key) {
+        return Math.floorMod(key == null ? 0 : key.hashCode(), lanes.length);
+    }
+
+    /**
+     * 종료 시 처리 중인 레코드 완료 대기
+     * 완료되지 못한 레코드는 커밋되지 않으므로 재시작 후 재전달됨
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        for (ExecutorService lane : lanes) {
+            if (!lane.awaitTermination(30, TimeUnit.SECONDS)) {
+                lane.shutdownNow();
+            }
+        }
+    }
+}
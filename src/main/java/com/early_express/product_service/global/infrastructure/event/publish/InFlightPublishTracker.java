@@ -0,0 +1,416 @@
+package com.early_express.product_service.global.infrastructure.event.publish;
+
+import com.early_express.product_service.global.infrastructure.event.base.BaseEvent;
+import com.early_express.product_service.global.infrastructure.event.codec.BinaryEventCodec;
+import com.early_express.product_service.global.infrastructure.monitoring.EventLatencyRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 발행 중(in-flight) 이벤트 수 제한 + 비동기 ACK 추적
+ * - 요청 스레드는 한도(permit)만 확보하고 반환, KafkaTemplate.send 는 전용 발행 스레드에서 수신 순서대로 실행
+ *   → 브로커 장애로 send 가 max.block.ms 동안 막혀도 API 스레드는 막히지 않음
+ * - permit 은 브로커 ACK(성공 / 실패) 시점에 반환
+ * - 한도 초과 시 정책
+ *   SHED: 즉시 거부 / BLOCK: block-timeout-ms 까지 대기 후 거부 / SPILL: 로컬 대기열에 보관 후 permit 반환 시 순서대로 발행
+ * - 비활성화 시 호출 스레드에서 바로 send (기존 동작과 동일, 기본값)
+ *
+ * 로컬 저널(SpillJournal) 활성화 시
+ * - SPILL 정책의 대기열과 브로커 전송 실패 이벤트를 저널에 기록 (PublishSpilledException 으로 완료된 future 반환)
+ *   전송 실패 이벤트는 Producer 콜백 스레드가 아닌 발행 스레드에서 기록 (fsync 가 Producer I/O 를 막지 않도록)
+ * - 저널에 대기 이벤트가 있는 동안 새 이벤트도 저널 뒤에 기록 → 재발행 스레드가 기록 순서대로 발행 (키별 순서 유지)
+ * - 재발행은 replay-batch-size 건씩 전송 후 앞에서부터 성공한 레코드까지만 커밋, 실패 시 지수 백오프
+ *   (실패 지점 이후 이미 전송된 레코드는 다시 발행될 수 있음 - at-least-once, eventId 유지)
+ * - 이미 전송 중이던 레코드가 실패해 저널로 넘어가면, 그보다 늦게 전송되어 성공한 같은 키 레코드와 순서가 바뀔 수 있음
+ *
+ * 한도 초과로 거부된 발행은 저널 활성화 시 저널에 기록, 아니면 호출 스레드에 PublishRejectedException 을 던짐
+ * → 트랜잭션 안의 발행이면 도메인 변경도 롤백되어 이벤트만 유실되지 않음
+ *
+ * 메트릭: kafka.publish.inflight (ACK 대기 + 발행 대기 중인 이벤트 수)
+ *        kafka.publish.latency (요청 → 브로커 ACK 시간, topic / event_type / result 태그, EventLatencyRecorder)
+ *        kafka.publish.failed (브로커 전송 실패 수)
+ *        kafka.publish.rejected (한도 초과로 거부된 수, policy 태그)
+ *        kafka.publish.spill.depth (SPILL 대기열 크기)
+ *        kafka.publish.journal.replayed (저널에서 재발행된 이벤트 수)
+ */
+@Slf4j
+@Component
+public class InFlightPublishTracker {
+
+    public enum BackpressurePolicy {
+        SHED, BLOCK, SPILL
+    }
+
+    private static final long REPLAY_IDLE_MS = 200;
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final SpillJournal journal;
+    private final BinaryEventCodec codec;
+    private final boolean enabled;
+    private final int maxInFlight;
+    private final BackpressurePolicy policy;
+    private final long blockTimeoutMs;
+    private final int spillCapacity;
+    private final Semaphore permits;
+    private final Deque<PublishRequest> spill = new ArrayDeque<>();
+    private final ExecutorService sender;
+    private final int replayBatchSize;
+    private final long replayBackoffMs;
+    private final long replayMaxBackoffMs;
+    private final Thread replayer;
+
+    private final EventLatencyRecorder latencyRecorder;
+    private final Counter failed;
+    private final Counter replayed;
+    private final Map<BackpressurePolicy, Counter> rejected = new EnumMap<>(BackpressurePolicy.class);
+
+    public InFlightPublishTracker(
+            KafkaTemplate<String, Object> kafkaTemplate,
+            SpillJournal journal,
+            BinaryEventCodec codec,
+            MeterRegistry meterRegistry,
+            EventLatencyRecorder latencyRecorder,
+            @Value("${spring.kafka.publish-backpressure.enabled:false}") boolean enabled,
+            @Value("${spring.kafka.publish-backpressure.max-in-flight:10000}") int maxInFlight,
+            @Value("${spring.kafka.publish-backpressure.policy:block}") String policy,
+            @Value("${spring.kafka.publish-backpressure.block-timeout-ms:100}") long blockTimeoutMs,
+            @Value("${spring.kafka.publish-backpressure.spill-capacity:100000}") int spillCapacity,
+            @Value("${spring.kafka.spill-journal.replay-batch-size:500}") int replayBatchSize,
+            @Value("${spring.kafka.spill-journal.replay-backoff-ms:1000}") long replayBackoffMs,
+            @Value("${spring.kafka.spill-journal.replay-max-backoff-ms:30000}") long replayMaxBackoffMs) {
+
+        this.kafkaTemplate = kafkaTemplate;
+        this.journal = journal;
+        this.codec = codec;
+        this.enabled = enabled;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.policy = BackpressurePolicy.valueOf(policy.trim().toUpperCase());
+        this.blockTimeoutMs = Math.max(0, blockTimeoutMs);
+        this.spillCapacity = Math.max(0, spillCapacity);
+        this.permits = new Semaphore(this.maxInFlight);
+        this.sender = enabled
+                ? Executors.newSingleThreadExecutor(
+                        Thread.ofPlatform().name("kafka-publish-sender").daemon(true).factory())
+                : null;
+        this.replayBatchSize = Math.max(1, replayBatchSize);
+        this.replayBackoffMs = Math.max(1, replayBackoffMs);
+        this.replayMaxBackoffMs = Math.max(this.replayBackoffMs, replayMaxBackoffMs);
+
+        this.latencyRecorder = latencyRecorder;
+        this.failed = Counter.builder("kafka.publish.failed")
+                .description("브로커 전송에 실패한 이벤트 수")
+                .register(meterRegistry);
+        this.replayed = Counter.builder("kafka.publish.journal.replayed")
+                .description("로컬 저널에서 재발행된 이벤트 수")
+                .register(meterRegistry);
+        for (BackpressurePolicy value : BackpressurePolicy.values()) {
+            rejected.put(value, Counter.builder("kafka.publish.rejected")
+                    .description("발행 한도 초과로 거부된 이벤트 수")
+                    .tag("policy", value.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("kafka.publish.inflight", permits, available -> this.maxInFlight - available.availablePermits())
+                .description("브로커 ACK 대기 + 발행 대기 중인 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("kafka.publish.spill.depth", this, InFlightPublishTracker::spillDepth)
+                .description("발행 한도 초과로 로컬 대기열에 보관된 이벤트 수")
+                .register(meterRegistry);
+
+        this.replayer = enabled && journal.isEnabled()
+                ? Thread.ofPlatform().name("kafka-publish-replayer").daemon(true).start(this::replayLoop)
+                : null;
+
+        if (enabled) {
+            log.info("이벤트 발행 한도 활성화 - maxInFlight: {}, policy: {}, blockTimeout: {}ms, journal: {}",
+                    this.maxInFlight, this.policy, this.blockTimeoutMs, journal.isEnabled());
+        }
+    }
+
+    /**
+     * 이벤트 발행 요청
+     * 반환된 future 는 브로커 ACK 또는 저널 보관 시 완료되며, 요청 스레드는 BLOCK 정책의 대기 시간 외에는 막히지 않음
+     *
+     * @throws PublishRejectedException 한도 초과이고 저널에 기록할 수 없는 경우
+     */
+    public CompletableFuture<SendResult<String, Object>> send(String topic, String key, Object value) {
+        if (!enabled) {
+            long requestedAt = System.nanoTime();
+            return kafkaTemplate.send(topic, key, value).whenComplete((result, ex) ->
+                    latencyRecorder.recordPublish(topic, value, System.nanoTime() - requestedAt, ex == null));
+        }
+
+        PublishRequest request = new PublishRequest(topic, key, value, System.nanoTime(), new CompletableFuture<>());
+        if (journal.isEnabled() && !journal.isEmpty()) {
+            journalOrReject(request, null);
+            return request.result();
+        }
+
+        switch (policy) {
+            case SHED -> {
+                if (permits.tryAcquire()) {
+                    dispatch(request);
+                } else {
+                    journalOrReject(request, null);
+                }
+            }
+            case BLOCK -> {
+                if (tryAcquireWithin(blockTimeoutMs)) {
+                    dispatch(request);
+                } else {
+                    journalOrReject(request, null);
+                }
+            }
+            case SPILL -> {
+                if (!journal.isEnabled()) {
+                    spillOrDispatch(request);
+                } else if (permits.tryAcquire()) {
+                    dispatch(request);
+                } else {
+                    journalOrReject(request, null);
+                }
+            }
+        }
+        return request.result();
+    }
+
+    // 대기열에 먼저 들어온 이벤트가 있으면 순서 보장을 위해 뒤에 추가
+    private void spillOrDispatch(PublishRequest request) {
+        synchronized (spill) {
+            if (spill.isEmpty() && permits.tryAcquire()) {
+                dispatch(request);
+            } else if (spill.size() < spillCapacity) {
+                spill.addLast(request);
+            } else {
+                reject(request);
+            }
+        }
+    }
+
+    private boolean tryAcquireWithin(long timeoutMs) {
+        try {
+            return permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void dispatch(PublishRequest request) {
+        try {
+            sender.execute(() -> {
+                try {
+                    kafkaTemplate.send(request.topic(), request.key(), request.value())
+                            .whenComplete((result, ex) -> complete(request, result, ex));
+                } catch (RuntimeException e) {
+                    complete(request, null, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 후 요청 - 대기열을 이어서 넘기지 않고 실패 처리
+            permits.release();
+            failed.increment();
+            request.result().completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 브로커 ACK 처리 - Producer I/O 스레드(콜백)에서 실행되므로 저널 기록(fsync)은 발행 스레드로 넘김
+     */
+    private void complete(PublishRequest request, SendResult<String, Object> result, Throwable ex) {
+        long elapsed = System.nanoTime() - request.requestedAt();
+        release();
+
+        latencyRecorder.recordPublish(request.topic(), request.value(), elapsed, ex == null);
+        if (ex == null) {
+            request.result().complete(result);
+        } else {
+            failed.increment();
+            if (journal.isEnabled()) {
+                journalOnSender(request, ex);
+            } else {
+                request.result().completeExceptionally(ex);
+            }
+        }
+    }
+
+    private void journalOnSender(PublishRequest request, Throwable cause) {
+        try {
+            sender.execute(() -> journalOrReject(request, cause));
+        } catch (RejectedExecutionException e) {
+            // 종료 후 실패 - 저널에 넘기지 않고 전송 실패 그대로 완료
+            request.result().completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * 로컬 저널에 기록 (저널 비활성화 / 바이너리 스키마가 없는 값 / 저널 용량 초과 시 거부 / 전송 실패 그대로 완료)
+     */
+    private void journalOrReject(PublishRequest request, Throwable cause) {
+        if (journal.isEnabled() && request.value() instanceof BaseEvent event && codec.supports(event.getClass())
+                && journal.append(request.topic(), request.key(), event.getEventType(), codec.encode(event))) {
+            request.result().completeExceptionally(new PublishSpilledException(
+                    "로컬 저널에 보관 - topic: " + request.topic() + ", key: " + request.key(), cause));
+            return;
+        }
+        if (cause != null) {
+            request.result().completeExceptionally(cause);
+        } else {
+            reject(request);
+        }
+    }
+
+    /**
+     * 저널 재발행 루프 - 대기 이벤트가 없으면 REPLAY_IDLE_MS 마다 확인
+     */
+    private void replayLoop() {
+        long backoff = replayBackoffMs;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<SpillJournal.Entry> batch = journal.peek(replayBatchSize);
+                if (batch.isEmpty()) {
+                    Thread.sleep(REPLAY_IDLE_MS);
+                    continue;
+                }
+
+                int done = replay(batch);
+                journal.commit(batch.subList(0, done));
+                replayed.increment(done);
+
+                if (done < batch.size()) {
+                    log.warn("저널 재발행 실패, {}ms 후 재시도 - 대기: {}", backoff, journal.depth());
+                    Thread.sleep(backoff);
+                    backoff = Math.min(backoff * 2, replayMaxBackoffMs);
+                } else {
+                    backoff = replayBackoffMs;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("저널 재발행 오류 - error: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * @return 앞에서부터 브로커 ACK 를 받은 레코드 수
+     */
+    private int replay(List<SpillJournal.Entry> batch) throws InterruptedException {
+        List<CompletableFuture<?>> acks = new ArrayList<>(batch.size());
+        for (SpillJournal.Entry entry : batch) {
+            Object event;
+            try {
+                event = codec.decode(entry.payload(), codec.eventClassOf(entry.eventType()));
+            } catch (RuntimeException e) {
+                log.error("저널 레코드 복원 불가로 폐기 - topic: {}, key: {}, eventType: {}",
+                        entry.topic(), entry.key(), entry.eventType(), e);
+                acks.add(CompletableFuture.completedFuture(null));
+                continue;
+            }
+
+            permits.acquire();
+            CompletableFuture<?> ack;
+            try {
+                ack = kafkaTemplate.send(entry.topic(), entry.key(), event);
+            } catch (RuntimeException e) {
+                ack = CompletableFuture.failedFuture(e);
+            }
+            acks.add(ack.whenComplete((result, ex) -> permits.release()));
+        }
+
+        int done = 0;
+        for (CompletableFuture<?> ack : acks) {
+            try {
+                ack.get();
+                done++;
+            } catch (ExecutionException e) {
+                break;
+            }
+        }
+        return done;
+    }
+
+    // SPILL 대기열이 있으면 permit 을 반환하지 않고 다음 이벤트에 넘겨 순서대로 발행
+    private void release() {
+        if (policy == BackpressurePolicy.SPILL) {
+            synchronized (spill) {
+                PublishRequest next = spill.pollFirst();
+                if (next != null) {
+                    dispatch(next);
+                    return;
+                }
+            }
+        }
+        permits.release();
+    }
+
+    // 호출 스레드로 전파 (로그만 남기고 이벤트를 버리지 않음)
+    private void reject(PublishRequest request) {
+        rejected.get(policy).increment();
+        throw new PublishRejectedException(
+                "발행 한도 초과 - policy: " + policy + ", maxInFlight: " + maxInFlight
+                        + ", topic: " + request.topic() + ", key: " + request.key());
+    }
+
+    /**
+     * 한도 초과 시 호출 측에 PublishRejectedException 을 던지는지 여부 (백프레셔 활성화 + 저널 비활성화)
+     */
+    public boolean rejectsWhenFull() {
+        return enabled && !journal.isEnabled();
+    }
+
+    public int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    public int spillDepth() {
+        synchronized (spill) {
+            return spill.size();
+        }
+    }
+
+    /**
+     * 종료 시 발행 스레드에 넘어간 이벤트까지 전송 후 종료
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (replayer != null) {
+            replayer.interrupt();
+        }
+        if (sender == null) {
+            return;
+        }
+        sender.shutdown();
+        if (!sender.awaitTermination(5, TimeUnit.SECONDS)) {
+            sender.shutdownNow();
+        }
+        int remaining = spillDepth();
+        if (remaining > 0) {
+            log.warn("종료 시 발행하지 못한 대기 이벤트 - count: {}", remaining);
+        }
+    }
+
+    private record PublishRequest(String topic, String key, Object value, long requestedAt,
+                                  CompletableFuture<SendResult<String, Object>> result) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.early_express.product_service.global.infrastructure.event.publish;
+
+/**
+ * 발행 한도 초과로 이벤트 전송을 거부한 경우
+ */
+public class PublishRejectedException extends RuntimeException {
+
+    public PublishRejectedException(String message) {
+        super(message);
+    }
+}
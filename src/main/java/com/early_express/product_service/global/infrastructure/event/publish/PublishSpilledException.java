@@ -0,0 +1,11 @@
+package com.early_express.product_service.global.infrastructure.event.publish;
+
+/**
+ * 즉시 전송하지 못한 이벤트를 로컬 저널에 보관한 경우 (브로커 복구 후 재발행)
+ */
+public class PublishSpilledException extends RuntimeException {
+
+    public PublishSpilledException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
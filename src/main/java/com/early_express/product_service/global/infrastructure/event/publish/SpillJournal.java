@@ -0,0 +1,410 @@
+package com.early_express.product_service.global.infrastructure.event.publish;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 발행 실패 / 한도 초과 이벤트용 로컬 저널 (메모리 맵 append-only 세그먼트)
+ * - 세그먼트: segment-{seq}.log (segment-bytes 고정 크기), 레코드: [길이 int][CRC32C int][본문]
+ *   본문: [topic][key][eventType][페이로드] (문자열은 길이 short + UTF-8, key 없음은 길이 -1)
+ * - 길이는 본문 / CRC 기록 후 마지막에 기록 → 기록 도중 종료되면 길이 0 으로 남아 읽지 않음
+ * - 세그먼트 끝에 다음 레코드가 들어가지 않으면 -1 표시 후 다음 세그먼트로 이동
+ * - 읽기 위치(세그먼트, 오프셋)는 checkpoint 파일에 기록, 다 읽은 세그먼트는 삭제
+ * - 디스크 사용량은 max-segments x segment-bytes 로 제한 (초과 시 append 실패)
+ * - 재시작 시 checkpoint 이후 유효한 레코드(CRC 일치)까지 복구
+ *
+ * fsync 정책: always (레코드마다 force) / interval (fsync-interval-ms 마다 force) / none (OS 에 위임)
+ * 메모리 맵 기록은 프로세스 비정상 종료에도 페이지 캐시에 남으므로, interval / none 은 OS 장애 시에만 유실 가능
+ *
+ * 메트릭: kafka.publish.journal.depth (재발행 대기 레코드 수)
+ *        kafka.publish.journal.disk.bytes (세그먼트 파일 크기 합)
+ *        kafka.publish.journal.appended / kafka.publish.journal.full (기록 수 / 용량 초과로 기록 실패한 수)
+ */
+@Slf4j
+@Component
+public class SpillJournal {
+
+    public enum FsyncPolicy {
+        ALWAYS, INTERVAL, NONE
+    }
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d+)\\.log");
+    private static final String CHECKPOINT_NAME = "checkpoint";
+    private static final int HEADER_BYTES = 8;
+    private static final int END_OF_SEGMENT = -1;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final FsyncPolicy fsyncPolicy;
+    private final TreeMap<Long, MappedByteBuffer> segments = new TreeMap<>();
+    private final ScheduledExecutorService fsyncScheduler;
+
+    private MappedByteBuffer checkpoint;
+    private long writeSeq;
+    private int writePos;
+    private long readSeq;
+    private int readPos;
+    private long depth;
+    private boolean dirty;
+
+    private final Counter appended;
+    private final Counter full;
+
+    public SpillJournal(
+            MeterRegistry meterRegistry,
+            @Value("${spring.kafka.spill-journal.enabled:false}") boolean enabled,
+            @Value("${spring.kafka.spill-journal.dir:${java.io.tmpdir}/product-service-spill-journal}") String directory,
+            @Value("${spring.kafka.spill-journal.segment-bytes:16777216}") int segmentBytes,
+            @Value("${spring.kafka.spill-journal.max-segments:8}") int maxSegments,
+            @Value("${spring.kafka.spill-journal.fsync:interval}") String fsyncPolicy,
+            @Value("${spring.kafka.spill-journal.fsync-interval-ms:1000}") long fsyncIntervalMs) {
+
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.segmentBytes = Math.max(4096, segmentBytes);
+        this.maxSegments = Math.max(2, maxSegments);
+        this.fsyncPolicy = FsyncPolicy.valueOf(fsyncPolicy.trim().toUpperCase());
+
+        this.appended = Counter.builder("kafka.publish.journal.appended")
+                .description("로컬 저널에 기록된 이벤트 수")
+                .register(meterRegistry);
+        this.full = Counter.builder("kafka.publish.journal.full")
+                .description("저널 용량 초과로 기록하지 못한 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("kafka.publish.journal.depth", this, SpillJournal::depth)
+                .description("로컬 저널에서 재발행 대기 중인 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("kafka.publish.journal.disk.bytes", this, SpillJournal::diskBytes)
+                .description("로컬 저널 세그먼트 파일 크기 합")
+                .register(meterRegistry);
+
+        if (!enabled) {
+            this.fsyncScheduler = null;
+            return;
+        }
+
+        open();
+        this.fsyncScheduler = this.fsyncPolicy == FsyncPolicy.INTERVAL
+                ? Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("spill-journal-fsync").daemon(true).factory())
+                : null;
+        if (fsyncScheduler != null) {
+            long interval = Math.max(1, fsyncIntervalMs);
+            fsyncScheduler.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        }
+
+        log.info("이벤트 저널 활성화 - dir: {}, segment: {}B x {}, fsync: {}, 복구된 대기 이벤트: {}",
+                this.directory, this.segmentBytes, this.maxSegments, this.fsyncPolicy, depth);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public synchronized boolean isEmpty() {
+        return depth == 0;
+    }
+
+    public synchronized long depth() {
+        return depth;
+    }
+
+    public synchronized long diskBytes() {
+        return segments.values().stream().mapToLong(MappedByteBuffer::capacity).sum();
+    }
+
+    /**
+     * 이벤트 기록
+     *
+     * @return false: 저널 용량(max-segments) 초과 또는 세그먼트보다 큰 레코드
+     */
+    public synchronized boolean append(String topic, String key, String eventType, byte[] payload) {
+        byte[] body = encode(topic, key, eventType, payload);
+        int size = HEADER_BYTES + body.length;
+        if (size + Integer.BYTES > segmentBytes) {
+            full.increment();
+            return false;
+        }
+
+        MappedByteBuffer segment = segments.get(writeSeq);
+        if (writePos + size + Integer.BYTES > segment.capacity()) {
+            if (segments.size() >= maxSegments) {
+                full.increment();
+                return false;
+            }
+            segment.putInt(writePos, END_OF_SEGMENT);
+            segment = roll();
+        }
+
+        int start = writePos;
+        segment.put(start + HEADER_BYTES, body);
+        segment.putInt(start + Integer.BYTES, checksum(body));
+        segment.putInt(start, body.length);
+        writePos += size;
+        depth++;
+        appended.increment();
+
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            segment.force(start, size);
+        } else {
+            dirty = true;
+        }
+        return true;
+    }
+
+    /**
+     * 읽기 위치부터 최대 max 건 조회 (읽기 위치는 commit 전까지 유지)
+     */
+    public synchronized List<Entry> peek(int max) {
+        List<Entry> entries = new ArrayList<>();
+        long seq = readSeq;
+        int pos = readPos;
+
+        while (entries.size() < max) {
+            MappedByteBuffer segment = segments.get(seq);
+            int length = pos + Integer.BYTES <= segment.capacity() ? segment.getInt(pos) : END_OF_SEGMENT;
+            if (length == END_OF_SEGMENT) {
+                Long next = segments.higherKey(seq);
+                if (next == null) {
+                    break;
+                }
+                seq = next;
+                pos = 0;
+                continue;
+            }
+            byte[] body = readBody(segment, pos, length);
+            if (body == null) {
+                break;
+            }
+            pos += HEADER_BYTES + length;
+            entries.add(decode(body, seq, pos));
+        }
+        return entries;
+    }
+
+    /**
+     * 재발행 완료 처리 - 읽기 위치를 마지막 레코드 다음으로 이동하고 다 읽은 세그먼트 삭제
+     *
+     * @param done peek 결과 중 앞에서부터 발행이 끝난 레코드
+     */
+    public synchronized void commit(List<Entry> done) {
+        if (done.isEmpty()) {
+            return;
+        }
+        Entry last = done.get(done.size() - 1);
+        readSeq = last.segment();
+        readPos = last.nextPosition();
+        depth = Math.max(0, depth - done.size());
+
+        checkpoint.putLong(0, readSeq);
+        checkpoint.putInt(Long.BYTES, readPos);
+        if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+            checkpoint.force();
+        } else {
+            dirty = true;
+        }
+
+        for (Map.Entry<Long, MappedByteBuffer> segment : new ArrayList<>(segments.headMap(readSeq).entrySet())) {
+            segments.remove(segment.getKey());
+            deleteQuietly(segmentPath(segment.getKey()));
+        }
+    }
+
+    /**
+     * 기록된 내용을 디스크에 반영 (interval 정책의 주기 작업 / 종료 시)
+     */
+    public synchronized void flush() {
+        if (!enabled || !dirty) {
+            return;
+        }
+        segments.values().forEach(MappedByteBuffer::force);
+        checkpoint.force();
+        dirty = false;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (fsyncScheduler != null) {
+            fsyncScheduler.shutdownNow();
+        }
+        flush();
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                    if (matcher.matches()) {
+                        long seq = Long.parseLong(matcher.group(1));
+                        segments.put(seq, map(file, Math.max(segmentBytes, (int) Files.size(file))));
+                    }
+                }
+            }
+            if (segments.isEmpty()) {
+                segments.put(0L, map(segmentPath(0), segmentBytes));
+            }
+            checkpoint = map(directory.resolve(CHECKPOINT_NAME), Long.BYTES + Integer.BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 저널 열기 실패 - " + directory, e);
+        }
+
+        long savedSeq = checkpoint.getLong(0);
+        if (segments.containsKey(savedSeq)) {
+            readSeq = savedSeq;
+            readPos = checkpoint.getInt(Long.BYTES);
+        } else {
+            readSeq = segments.firstKey();
+            readPos = 0;
+        }
+        recover();
+    }
+
+    // 읽기 위치부터 유효한 레코드를 세어 대기 건수 / 쓰기 위치 복구, 마지막 세그먼트의 손상된 꼬리는 0 으로 초기화
+    private void recover() {
+        writeSeq = segments.lastKey();
+        long seq = readSeq;
+        int pos = readPos;
+        while (true) {
+            MappedByteBuffer segment = segments.get(seq);
+            int length = pos + Integer.BYTES <= segment.capacity() ? segment.getInt(pos) : END_OF_SEGMENT;
+            if (length == END_OF_SEGMENT && seq != writeSeq) {
+                seq = segments.higherKey(seq);
+                pos = 0;
+                continue;
+            }
+            if (length <= 0 || readBody(segment, pos, length) == null) {
+                break;
+            }
+            pos += HEADER_BYTES + length;
+            depth++;
+        }
+        writePos = seq == writeSeq ? pos : 0;
+
+        MappedByteBuffer tail = segments.get(writeSeq);
+        for (int i = writePos; i < tail.capacity(); i++) {
+            tail.put(i, (byte) 0);
+        }
+    }
+
+    private MappedByteBuffer roll() {
+        writeSeq++;
+        writePos = 0;
+        try {
+            MappedByteBuffer segment = map(segmentPath(writeSeq), segmentBytes);
+            segments.put(writeSeq, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("이벤트 저널 세그먼트 생성 실패 - " + writeSeq, e);
+        }
+    }
+
+    private byte[] readBody(MappedByteBuffer segment, int pos, int length) {
+        if (length <= 0 || pos + HEADER_BYTES + length > segment.capacity()) {
+            return null;
+        }
+        byte[] body = new byte[length];
+        segment.get(pos + HEADER_BYTES, body);
+        return checksum(body) == segment.getInt(pos + Integer.BYTES) ? body : null;
+    }
+
+    private static byte[] encode(String topic, String key, String eventType, byte[] payload) {
+        byte[] topicBytes = topic.getBytes(StandardCharsets.UTF_8);
+        byte[] keyBytes = key == null ? null : key.getBytes(StandardCharsets.UTF_8);
+        byte[] typeBytes = eventType.getBytes(StandardCharsets.UTF_8);
+        int size = 3 * Short.BYTES + topicBytes.length + (keyBytes == null ? 0 : keyBytes.length)
+                + typeBytes.length + payload.length;
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putShort((short) topicBytes.length).put(topicBytes);
+        if (keyBytes == null) {
+            buffer.putShort((short) -1);
+        } else {
+            buffer.putShort((short) keyBytes.length).put(keyBytes);
+        }
+        buffer.putShort((short) typeBytes.length).put(typeBytes);
+        buffer.put(payload);
+        return buffer.array();
+    }
+
+    private static Entry decode(byte[] body, long segment, int nextPosition) {
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        String topic = readString(buffer);
+        String key = readString(buffer);
+        String eventType = readString(buffer);
+        byte[] payload = new byte[buffer.remaining()];
+        buffer.get(payload);
+        return new Entry(topic, key, eventType, payload, segment, nextPosition);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(byte[] body) {
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    private static MappedByteBuffer map(Path file, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private Path segmentPath(long seq) {
+        return directory.resolve("segment-%020d.log".formatted(seq));
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("이벤트 저널 세그먼트 삭제 실패 - {}", file, e);
+        }
+    }
+
+    /**
+     * 저널 레코드 (segment / nextPosition 은 commit 시 읽기 위치)
+     */
+    public record Entry(String topic, String key, String eventType, byte[] payload,
+                        long segment, int nextPosition) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.early_express.product_service.global.infrastructure.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.slf4j.spi.NOPLoggingEventBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 핫패스 성공 로그 (요청 / 유스케이스 / 이벤트 발행 / 이벤트 처리)
+ * - 건별 INFO 로그 대신 경로별 구조화 이벤트(key-value) 하나를 샘플링하여 기록
+ * - 샘플링 비율(rate)을 통과하고 초당 최대 건수(maxPerSecond, 0 이면 제한 없음) 이내인 경우만 기록
+ * - 로거 이름 hotpath.<경로> (logging.level.hotpath.request=WARN 등으로 경로별 끄기 가능)
+ * - 실패 / 경고 로그는 샘플링하지 않고 각 위치에서 그대로 기록
+ *
+ * 설정 전 기본값은 전부 기록 (테스트 / 단독 실행), 운영 값은 HotPathLogConfigurer 가 적용
+ *
+ * 사용: HotPathLog.REQUEST.event("요청 처리").addKeyValue("uri", uri).log();
+ */
+public enum HotPathLog {
+
+    REQUEST("request"),
+    OPERATION("operation"),
+    EVENT_PUBLISH("event-publish"),
+    EVENT_CONSUME("event-consume");
+
+    private final String key;
+    private final Logger logger;
+    private final AtomicLong windowSecond = new AtomicLong();
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    private volatile double rate = 1.0;
+    private volatile int maxPerSecond;
+
+    HotPathLog(String key) {
+        this.key = key;
+        this.logger = LoggerFactory.getLogger("hotpath." + key);
+    }
+
+    public String key() {
+        return key;
+    }
+
+    /**
+     * @param rate         샘플링 비율 (0 ~ 1)
+     * @param maxPerSecond 초당 최대 기록 건수 (0 이면 제한 없음)
+     */
+    public void configure(double rate, int maxPerSecond) {
+        this.rate = Math.max(0, Math.min(1, rate));
+        this.maxPerSecond = Math.max(0, maxPerSecond);
+    }
+
+    /**
+     * 샘플링을 통과하면 INFO 이벤트 빌더, 아니면 아무것도 기록하지 않는 빌더
+     * 빌더의 log() 를 호출해야 기록됨
+     */
+    public LoggingEventBuilder event(String message) {
+        if (!logger.isInfoEnabled()) {
+            return NOPLoggingEventBuilder.singleton();
+        }
+        if (!sampled()) {
+            suppressed.increment();
+            return NOPLoggingEventBuilder.singleton();
+        }
+        return logger.atInfo().setMessage(message);
+    }
+
+    /**
+     * 샘플링 / 초당 한도로 기록하지 않은 이벤트 수
+     */
+    public long suppressed() {
+        return suppressed.sum();
+    }
+
+    private boolean sampled() {
+        double currentRate = rate;
+        if (currentRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= currentRate) {
+            return false;
+        }
+        int limit = maxPerSecond;
+        if (limit == 0) {
+            return true;
+        }
+
+        // 초 단위 고정 윈도우 (윈도우 전환 시점의 경합으로 한도를 약간 넘을 수 있음)
+        long second = System.nanoTime() / 1_000_000_000L;
+        if (windowSecond.get() != second && windowSecond.getAndSet(second) != second) {
+            windowCount.set(0);
+        }
+        return windowCount.incrementAndGet() <= limit;
+    }
+}
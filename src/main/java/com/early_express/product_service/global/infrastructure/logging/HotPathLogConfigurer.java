@@ -0,0 +1,41 @@
+package com.early_express.product_service.global.infrastructure.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 핫패스 로그 샘플링 설정 적용
+ * - logging.sampling.<경로>.rate / logging.sampling.<경로>.max-per-second (경로: request, operation, event-publish, event-consume)
+ *
+ * 메트릭: logging.hotpath.suppressed (샘플링 / 초당 한도로 기록하지 않은 이벤트 수, path 태그)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotPathLogConfigurer {
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void configure() {
+        for (HotPathLog path : HotPathLog.values()) {
+            String prefix = "logging.sampling." + path.key();
+            double rate = environment.getProperty(prefix + ".rate", Double.class, 1.0);
+            int maxPerSecond = environment.getProperty(prefix + ".max-per-second", Integer.class, 0);
+            path.configure(rate, maxPerSecond);
+
+            FunctionCounter.builder("logging.hotpath.suppressed", path, HotPathLog::suppressed)
+                    .description("샘플링 / 초당 한도로 기록하지 않은 핫패스 로그 수")
+                    .tag("path", path.key())
+                    .register(meterRegistry);
+
+            log.info("핫패스 로그 샘플링 - path: {}, rate: {}, maxPerSecond: {}", path.key(), rate, maxPerSecond);
+        }
+    }
+}
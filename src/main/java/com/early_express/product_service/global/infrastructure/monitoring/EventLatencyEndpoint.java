@@ -0,0 +1,91 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 지연 / 컨슈머 lag 요약 Actuator 엔드포인트 (GET /actuator/eventlatency)
+ * - 발행 ACK / 수신 / 처리 / end-to-end 타이머를 태그 조합별로 count, mean, max, p50 / p95 / p99 (ms) 로 요약
+ * - 파티션별 lag 은 Kafka 클라이언트 메트릭(kafka.consumer.fetch.manager.records.lag) 기준
+ *
+ * 대시보드 / 알람은 /actuator/prometheus 의 히스토그램 버킷을 사용하고, 이 엔드포인트는 즉시 확인용
+ */
+@Component
+@Endpoint(id = "eventlatency")
+@RequiredArgsConstructor
+public class EventLatencyEndpoint {
+
+    static final String RECORDS_LAG = "kafka.consumer.fetch.manager.records.lag";
+
+    private static final List<String> TIMERS = List.of(
+            EventLatencyRecorder.PUBLISH_LATENCY,
+            EventLatencyRecorder.CONSUME_LATENCY,
+            EventLatencyRecorder.PROCESS_TIME,
+            EventLatencyRecorder.END_TO_END_LATENCY);
+
+    private final MeterRegistry meterRegistry;
+
+    @ReadOperation
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        for (String name : TIMERS) {
+            summary.put(name, timers(name));
+        }
+        summary.put(RECORDS_LAG, lags());
+        return summary;
+    }
+
+    private List<Map<String, Object>> timers(String name) {
+        List<Map<String, Object>> timers = new ArrayList<>();
+        for (Timer timer : meterRegistry.find(name).timers()) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            Map<String, Object> row = tags(timer);
+            row.put("count", snapshot.count());
+            row.put("meanMs", snapshot.mean(TimeUnit.MILLISECONDS));
+            row.put("maxMs", snapshot.max(TimeUnit.MILLISECONDS));
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                row.put("p" + Math.round(percentile.percentile() * 100) + "Ms",
+                        percentile.value(TimeUnit.MILLISECONDS));
+            }
+            timers.add(row);
+        }
+        timers.sort(Comparator.comparing(row -> row.toString()));
+        return timers;
+    }
+
+    private List<Map<String, Object>> lags() {
+        List<Map<String, Object>> lags = new ArrayList<>();
+        for (Gauge gauge : meterRegistry.find(RECORDS_LAG).gauges()) {
+            // 파티션 태그가 없는 것은 컨슈머 전체 집계값
+            if (gauge.getId().getTag("partition") == null) {
+                continue;
+            }
+            Map<String, Object> row = tags(gauge);
+            row.put("lag", gauge.value());
+            lags.add(row);
+        }
+        lags.sort(Comparator.comparing(row -> row.toString()));
+        return lags;
+    }
+
+    private static Map<String, Object> tags(Meter meter) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        meter.getId().getTags().forEach(tag -> row.put(tag.getKey(), tag.getValue()));
+        return row;
+    }
+}
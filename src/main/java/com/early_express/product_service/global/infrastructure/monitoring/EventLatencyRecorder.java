@@ -0,0 +1,104 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import com.early_express.product_service.global.infrastructure.event.base.BaseEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 지연 / 처리 시간 기록
+ * - 모든 타이머는 topic, event_type 태그 + 백분위(p50 / p95 / p99) 및 Prometheus 히스토그램 버킷 발행
+ * - 이벤트 지연은 BaseEvent.timestamp(발행 측 로컬 시각) 기준이며 시계 오차로 음수면 0 으로 기록
+ *   JSON 페이로드의 timestamp 는 초 단위이므로 지연도 초 단위 정밀도 (바이너리는 나노초)
+ *
+ * JFR 기록 중이면 리스너 처리 구간을 HotPathScopeEvent("토픽:이벤트 타입")로 남김
+ *
+ * 메트릭: kafka.publish.latency (발행 요청 → 브로커 ACK, result 태그)
+ *        kafka.consumer.consume.latency (이벤트 발생 → 리스너 수신)
+ *        kafka.consumer.process.time (리스너 처리 시간, result 태그)
+ *        kafka.consumer.end_to_end.latency (이벤트 발생 → 처리 완료)
+ */
+@Component
+@RequiredArgsConstructor
+public class EventLatencyRecorder {
+
+    public static final String PUBLISH_LATENCY = "kafka.publish.latency";
+    public static final String CONSUME_LATENCY = "kafka.consumer.consume.latency";
+    public static final String PROCESS_TIME = "kafka.consumer.process.time";
+    public static final String END_TO_END_LATENCY = "kafka.consumer.end_to_end.latency";
+
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 발행 요청 → 브로커 ACK 시간
+     */
+    public void recordPublish(String topic, Object value, long elapsedNanos, boolean success) {
+        timer(PUBLISH_LATENCY, "발행 요청부터 브로커 ACK 까지 걸린 시간", topic, eventTypeOf(value),
+                success ? "success" : "failure")
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 리스너 수신 시점의 이벤트 지연 (이벤트 발생 → 수신)
+     */
+    public void recordReceived(String topic, BaseEvent event) {
+        recordSinceOccurred(CONSUME_LATENCY, "이벤트 발생부터 리스너 수신까지 걸린 시간", topic, event);
+    }
+
+    /**
+     * 이벤트 처리 시간 측정, 성공 시 처리 완료 시점의 지연(이벤트 발생 → 처리 완료) 기록
+     * 처리 중 예외는 그대로 전파 (재시도 / DLT 판단은 호출자)
+     */
+    public void recordProcessing(String topic, BaseEvent event, Runnable task) {
+        long started = System.nanoTime();
+        HotPathScopeEvent scope = HotPathScopeEvent.start();
+        boolean success = false;
+        try {
+            task.run();
+            success = true;
+        } finally {
+            HotPathScopeEvent.commit(scope, "event", topic + ":" + eventTypeOf(event));
+            timer(PROCESS_TIME, "리스너 이벤트 처리 시간", topic, eventTypeOf(event), success ? "success" : "failure")
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        recordSinceOccurred(END_TO_END_LATENCY, "이벤트 발생부터 처리 완료까지 걸린 시간", topic, event);
+    }
+
+    private void recordSinceOccurred(String name, String description, String topic, BaseEvent event) {
+        if (event == null || event.getTimestamp() == null) {
+            return;
+        }
+        Duration latency = Duration.between(event.getTimestamp(), LocalDateTime.now());
+        timer(name, description, topic, eventTypeOf(event), null)
+                .record(latency.isNegative() ? Duration.ZERO : latency);
+    }
+
+    private Timer timer(String name, String description, String topic, String eventType, String result) {
+        Timer.Builder builder = Timer.builder(name)
+                .description(description)
+                .tag("topic", topic == null ? UNKNOWN : topic)
+                .tag("event_type", eventType)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(10));
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        return builder.register(meterRegistry);
+    }
+
+    private static String eventTypeOf(Object value) {
+        if (value instanceof BaseEvent event && event.getEventType() != null) {
+            return event.getEventType();
+        }
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,50 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 요청 / 이벤트 처리 구간 JFR 이벤트
+ * - JFR 기록 중일 때만 커밋되며, 같은 스레드의 할당 샘플 / 락 경합을 구간 이름별로 묶는 기준 (JfrRecordingAnalyzer)
+ * - 기록 중이 아니면 begin / commit 은 사실상 비용 없음
+ *
+ * 사용: HotPathScopeEvent.start() → 처리 → HotPathScopeEvent.commit(event, "request", "GET /v1/...")
+ */
+@Name(HotPathScopeEvent.NAME)
+@Label("Hot Path Scope")
+@Description("요청 / 이벤트 처리 구간")
+@Category("EarlyExpress")
+@StackTrace(false)
+public class HotPathScopeEvent extends Event {
+
+    public static final String NAME = "earlyexpress.HotPathScope";
+
+    @Label("Kind")
+    String kind;
+
+    @Label("Scope")
+    String scope;
+
+    public static HotPathScopeEvent start() {
+        HotPathScopeEvent event = new HotPathScopeEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * @param kind  request | event
+     * @param scope 구간 이름 (요청: "메서드 URI 패턴", 이벤트: "토픽:이벤트 타입")
+     */
+    public static void commit(HotPathScopeEvent event, String kind, String scope) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.kind = kind;
+            event.scope = scope;
+            event.commit();
+        }
+    }
+}
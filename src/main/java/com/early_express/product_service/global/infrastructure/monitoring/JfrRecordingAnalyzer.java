@@ -0,0 +1,258 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JFR 기록 요약
+ * - 할당: jdk.ObjectAllocationSample 의 weight(샘플이 대표하는 바이트) 합계를 할당 위치 / 클래스별로 집계
+ * - 락 경합: jdk.JavaMonitorEnter(synchronized 진입 대기), jdk.ThreadPark(ReentrantLock / Semaphore 등 대기) 시간 합계
+ * - 구간별: 같은 스레드에서 HotPathScopeEvent(요청 / 이벤트 처리) 구간 안에 발생한 샘플을 구간 이름별로 다시 집계
+ *
+ * 할당 위치는 JDK 내부 프레임을 건너뛴 첫 프레임, applicationFrame 은 애플리케이션 패키지의 첫 프레임
+ */
+public class JfrRecordingAnalyzer {
+
+    static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    static final String MONITOR_ENTER = "jdk.JavaMonitorEnter";
+    static final String THREAD_PARK = "jdk.ThreadPark";
+
+    private static final String UNATTRIBUTED = "(구간 밖)";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "jdk.", "sun.", "com.sun.");
+
+    private final String applicationPackage;
+    private final int topSites;
+
+    public JfrRecordingAnalyzer(String applicationPackage, int topSites) {
+        this.applicationPackage = applicationPackage;
+        this.topSites = Math.max(1, topSites);
+    }
+
+    public Map<String, Object> analyze(Path file) throws IOException {
+        Map<Long, List<Scope>> scopesByThread = new HashMap<>();
+        List<Sample> allocations = new ArrayList<>();
+        List<Sample> contentions = new ArrayList<>();
+        Instant first = null;
+        Instant last = null;
+
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String type = event.getEventType().getName();
+                if (first == null || event.getStartTime().isBefore(first)) {
+                    first = event.getStartTime();
+                }
+                if (last == null || event.getEndTime().isAfter(last)) {
+                    last = event.getEndTime();
+                }
+
+                switch (type) {
+                    case HotPathScopeEvent.NAME -> scopesByThread
+                            .computeIfAbsent(threadId(event), id -> new ArrayList<>())
+                            .add(new Scope(event.getString("kind") + " " + event.getString("scope"),
+                                    event.getStartTime(), event.getEndTime()));
+                    case ALLOCATION_SAMPLE -> allocations.add(sample(event,
+                            className(event.getClass("objectClass")), event.getLong("weight")));
+                    case MONITOR_ENTER -> contentions.add(sample(event,
+                            "monitor " + className(event.getClass("monitorClass")), event.getDuration().toNanos()));
+                    case THREAD_PARK -> contentions.add(sample(event,
+                            "park " + className(event.getClass("parkedClass")), event.getDuration().toNanos()));
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        scopesByThread.values().forEach(scopes -> scopes.sort(Comparator.comparing(Scope::start)));
+        Map<String, Integer> scopeCounts = new HashMap<>();
+        scopesByThread.values().forEach(scopes -> scopes.forEach(scope -> scopeCounts.merge(scope.name(), 1, Integer::sum)));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("file", file.getFileName().toString());
+        summary.put("durationSeconds", first == null ? 0 : Duration.between(first, last).toSeconds());
+        summary.put("allocationBytes", allocations.stream().mapToLong(Sample::value).sum());
+        summary.put("contentionMs", contentions.stream().mapToLong(Sample::value).sum() / 1_000_000.0);
+        summary.put("hottestAllocationSites", allocationSites(allocations));
+        summary.put("lockContention", contentionSites(contentions));
+        summary.put("byScope", byScope(scopesByThread, scopeCounts, allocations, contentions));
+        return summary;
+    }
+
+    private List<Map<String, Object>> byScope(Map<Long, List<Scope>> scopesByThread, Map<String, Integer> scopeCounts,
+                                              List<Sample> allocations, List<Sample> contentions) {
+        Map<String, List<Sample>> allocationsByScope = groupByScope(scopesByThread, allocations);
+        Map<String, List<Sample>> contentionsByScope = groupByScope(scopesByThread, contentions);
+
+        List<String> names = new ArrayList<>(scopeCounts.keySet());
+        if (allocationsByScope.containsKey(UNATTRIBUTED) || contentionsByScope.containsKey(UNATTRIBUTED)) {
+            names.add(UNATTRIBUTED);
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (String name : names) {
+            List<Sample> scopeAllocations = allocationsByScope.getOrDefault(name, List.of());
+            List<Sample> scopeContentions = contentionsByScope.getOrDefault(name, List.of());
+            long allocationBytes = scopeAllocations.stream().mapToLong(Sample::value).sum();
+            int count = scopeCounts.getOrDefault(name, 0);
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("scope", name);
+            row.put("count", count);
+            row.put("allocationBytes", allocationBytes);
+            row.put("allocationBytesPerScope", count == 0 ? null : allocationBytes / count);
+            row.put("contentionMs", scopeContentions.stream().mapToLong(Sample::value).sum() / 1_000_000.0);
+            row.put("hottestAllocationSites", allocationSites(scopeAllocations));
+            row.put("lockContention", contentionSites(scopeContentions));
+            rows.add(row);
+        }
+        rows.sort(Comparator.comparingLong((Map<String, Object> row) -> (long) row.get("allocationBytes")).reversed());
+        return rows;
+    }
+
+    private Map<String, List<Sample>> groupByScope(Map<Long, List<Scope>> scopesByThread, List<Sample> samples) {
+        Map<String, List<Sample>> grouped = new HashMap<>();
+        for (Sample sample : samples) {
+            Scope scope = scopeOf(scopesByThread.get(sample.threadId()), sample.time());
+            grouped.computeIfAbsent(scope == null ? UNATTRIBUTED : scope.name(), name -> new ArrayList<>()).add(sample);
+        }
+        return grouped;
+    }
+
+    // 샘플 시각 이전에 시작한 마지막 구간이 샘플 시각까지 이어지면 해당 구간
+    private static Scope scopeOf(List<Scope> scopes, Instant time) {
+        if (scopes == null) {
+            return null;
+        }
+        int low = 0;
+        int high = scopes.size() - 1;
+        Scope candidate = null;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (scopes.get(mid).start().isAfter(time)) {
+                high = mid - 1;
+            } else {
+                candidate = scopes.get(mid);
+                low = mid + 1;
+            }
+        }
+        return candidate != null && !candidate.end().isBefore(time) ? candidate : null;
+    }
+
+    private List<Map<String, Object>> allocationSites(List<Sample> samples) {
+        long total = samples.stream().mapToLong(Sample::value).sum();
+        return aggregate(samples).stream()
+                .limit(topSites)
+                .map(site -> {
+                    Map<String, Object> row = site.toMap();
+                    row.put("bytes", site.total);
+                    row.put("share", total == 0 ? 0.0 : Math.round(site.total * 1000.0 / total) / 10.0);
+                    return row;
+                })
+                .toList();
+    }
+
+    private List<Map<String, Object>> contentionSites(List<Sample> samples) {
+        return aggregate(samples).stream()
+                .limit(topSites)
+                .map(site -> {
+                    Map<String, Object> row = site.toMap();
+                    row.put("count", site.count);
+                    row.put("totalMs", site.total / 1_000_000.0);
+                    return row;
+                })
+                .toList();
+    }
+
+    private static List<Site> aggregate(List<Sample> samples) {
+        Map<List<String>, Site> sites = new HashMap<>();
+        for (Sample sample : samples) {
+            Site site = sites.computeIfAbsent(Arrays.asList(sample.site(), sample.applicationFrame(), sample.subject()),
+                    key -> new Site(sample.site(), sample.applicationFrame(), sample.subject()));
+            site.count++;
+            site.total += sample.value();
+        }
+        return sites.values().stream()
+                .sorted(Comparator.comparingLong((Site site) -> site.total).reversed())
+                .toList();
+    }
+
+    private Sample sample(RecordedEvent event, String subject, long value) {
+        String site = "(스택 없음)";
+        String applicationFrame = null;
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                if (!frame.isJavaFrame()) {
+                    continue;
+                }
+                String typeName = frame.getMethod().getType().getName();
+                if (site.startsWith("(") && JDK_PACKAGES.stream().noneMatch(typeName::startsWith)) {
+                    site = frameName(frame);
+                }
+                if (typeName.startsWith(applicationPackage)) {
+                    applicationFrame = frameName(frame);
+                    break;
+                }
+            }
+        }
+        return new Sample(threadId(event), event.getStartTime(), site, applicationFrame, subject, value);
+    }
+
+    private static String frameName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static long threadId(RecordedEvent event) {
+        RecordedThread thread = event.getThread();
+        return thread == null ? -1 : thread.getJavaThreadId();
+    }
+
+    private static String className(RecordedClass recordedClass) {
+        return recordedClass == null ? "unknown" : recordedClass.getName();
+    }
+
+    private record Scope(String name, Instant start, Instant end) {
+    }
+
+    private record Sample(long threadId, Instant time, String site, String applicationFrame, String subject, long value) {
+    }
+
+    private static final class Site {
+
+        private final String site;
+        private final String applicationFrame;
+        private final String subject;
+        private long count;
+        private long total;
+
+        private Site(String site, String applicationFrame, String subject) {
+            this.site = site;
+            this.applicationFrame = applicationFrame;
+            this.subject = subject;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("site", site);
+            row.put("applicationFrame", applicationFrame);
+            row.put("type", subject);
+            return row;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 운영 중 JFR 기록 Actuator 엔드포인트 (/actuator/jfr, X-Admin-Token 필요)
+ * - POST   /actuator/jfr          {"template": "profile", "durationSeconds": 60} 기록 시작 (동시에 하나만)
+ * - DELETE /actuator/jfr          진행 중인 기록을 즉시 종료하고 파일 저장
+ * - GET    /actuator/jfr          진행 중인 기록과 저장된 파일 목록
+ * - GET    /actuator/jfr/{파일명}  할당 / 락 경합 상위 위치를 요청(메서드 URI)별, 이벤트 타입별로 요약
+ *
+ * 기록 시간은 max-duration-seconds, 파일 크기는 max-size-mb 로 제한되어 종료 요청이 없어도 스스로 멈춤
+ * 파일은 로컬 디렉터리에 저장하고 최근 max-recordings 개만 유지
+ * 템플릿: default (상시 수준 오버헤드) | profile (할당 / 락 임계값이 낮아 오버헤드가 조금 더 큼)
+ */
+@Slf4j
+@Component
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final int STATUS_CONFLICT = 409;
+    private static final List<String> TEMPLATES = List.of("default", "profile");
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9._-]+\\.jfr");
+    private static final DateTimeFormatter FILE_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+    private final int defaultDurationSeconds;
+    private final int maxDurationSeconds;
+    private final long maxSizeBytes;
+    private final int maxRecordings;
+    private final JfrRecordingAnalyzer analyzer;
+
+    private Recording active;
+    private Path activeFile;
+
+    public JfrRecordingEndpoint(
+            @Value("${monitoring.jfr.directory:${java.io.tmpdir}/product-service-jfr}") String directory,
+            @Value("${monitoring.jfr.default-duration-seconds:60}") int defaultDurationSeconds,
+            @Value("${monitoring.jfr.max-duration-seconds:300}") int maxDurationSeconds,
+            @Value("${monitoring.jfr.max-size-mb:100}") long maxSizeMb,
+            @Value("${monitoring.jfr.max-recordings:10}") int maxRecordings,
+            @Value("${monitoring.jfr.application-package:com.early_express}") String applicationPackage,
+            @Value("${monitoring.jfr.top-sites:10}") int topSites) {
+        this.directory = Path.of(directory);
+        this.defaultDurationSeconds = defaultDurationSeconds;
+        this.maxDurationSeconds = maxDurationSeconds;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.maxRecordings = maxRecordings;
+        this.analyzer = new JfrRecordingAnalyzer(applicationPackage, topSites);
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable String template,
+                                                                       @Nullable Integer durationSeconds) {
+        String templateName = template == null ? "profile" : template;
+        if (!TEMPLATES.contains(templateName)) {
+            return badRequest("template 은 " + TEMPLATES + " 중 하나: " + templateName);
+        }
+        int seconds = durationSeconds == null ? defaultDurationSeconds : durationSeconds;
+        if (seconds < 1 || seconds > maxDurationSeconds) {
+            return badRequest("durationSeconds 는 1 ~ " + maxDurationSeconds + ": " + seconds);
+        }
+        if (refreshActive() != null) {
+            return new WebEndpointResponse<>(status("이미 기록 중"), STATUS_CONFLICT);
+        }
+
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve("product-service-" + FILE_TIME.format(Instant.now()) + "-" + templateName + ".jfr");
+            Recording recording = new Recording(Configuration.getConfiguration(templateName));
+            recording.setName(file.getFileName().toString());
+            recording.setDuration(Duration.ofSeconds(seconds));
+            recording.setMaxSize(maxSizeBytes);
+            recording.setToDisk(true);
+            recording.setDestination(file);
+            recording.enable(HotPathScopeEvent.class);
+            recording.start();
+
+            active = recording;
+            activeFile = file;
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR 기록 시작 실패", e);
+        }
+
+        log.warn("JFR 기록 시작 - template: {}, duration: {}s, file: {}", templateName, seconds, activeFile);
+        return new WebEndpointResponse<>(status("기록 시작"), WebEndpointResponse.STATUS_OK);
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        Recording recording = refreshActive();
+        if (recording == null) {
+            return status("진행 중인 기록 없음");
+        }
+        Path file = activeFile;
+        recording.stop();
+        finish();
+
+        log.warn("JFR 기록 종료 - file: {}", file);
+        Map<String, Object> status = status("기록 종료");
+        status.put("file", file.getFileName().toString());
+        return status;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> recordings() {
+        refreshActive();
+        Map<String, Object> status = status(active != null ? "기록 중" : "대기");
+        status.put("recordings", files().stream()
+                .map(file -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("file", file.getFileName().toString());
+                    row.put("sizeBytes", size(file));
+                    row.put("modifiedAt", modifiedAt(file).toString());
+                    return row;
+                })
+                .toList());
+        return status;
+    }
+
+    @ReadOperation
+    public WebEndpointResponse<Map<String, Object>> summary(@Selector String name) {
+        if (!FILE_NAME.matcher(name).matches()) {
+            return badRequest("파일명은 " + FILE_NAME.pattern() + ": " + name);
+        }
+        Path file = directory.resolve(name);
+        synchronized (this) {
+            refreshActive();
+            if (!Files.isRegularFile(file) || file.equals(activeFile)) {
+                return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+            }
+        }
+        try {
+            return new WebEndpointResponse<>(analyzer.analyze(file), WebEndpointResponse.STATUS_OK);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JFR 파일 분석 실패: " + name, e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (active != null) {
+            active.close();
+            active = null;
+            activeFile = null;
+        }
+    }
+
+    // 기간 / 크기 제한으로 스스로 멈춘 기록은 정리
+    private Recording refreshActive() {
+        if (active != null && active.getState() != RecordingState.RUNNING && active.getState() != RecordingState.DELAYED) {
+            log.info("JFR 기록 자동 종료 - file: {}", activeFile);
+            finish();
+        }
+        return active;
+    }
+
+    private void finish() {
+        active.close();
+        active = null;
+        activeFile = null;
+        prune();
+    }
+
+    // InvalidEndpointRequestException 은 GlobalExceptionHandler 가 500 으로 바꾸므로 응답으로 직접 반환
+    private static WebEndpointResponse<Map<String, Object>> badRequest(String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("message", message);
+        return new WebEndpointResponse<>(body, WebEndpointResponse.STATUS_BAD_REQUEST);
+    }
+
+    private Map<String, Object> status(String message) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("message", message);
+        status.put("recording", active != null);
+        if (active != null) {
+            status.put("activeFile", activeFile.getFileName().toString());
+            status.put("startedAt", active.getStartTime().toString());
+            status.put("durationSeconds", active.getDuration().toSeconds());
+        }
+        return status;
+    }
+
+    private void prune() {
+        List<Path> files = files();
+        for (Path file : files.subList(Math.min(maxRecordings, files.size()), files.size())) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("오래된 JFR 파일 삭제 실패 - file: {}", file, e);
+            }
+        }
+    }
+
+    // 최근 파일부터
+    private List<Path> files() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> stream = Files.list(directory)) {
+            List<Path> files = new ArrayList<>(stream
+                    .filter(file -> FILE_NAME.matcher(file.getFileName().toString()).matches())
+                    .filter(file -> !file.equals(activeFile))
+                    .toList());
+            files.sort(Comparator.comparing(JfrRecordingEndpoint::modifiedAt).reversed());
+            return files;
+        } catch (IOException e) {
+            throw new UncheckedIOException("JFR 디렉터리 조회 실패", e);
+        }
+    }
+
+    private static Instant modifiedAt(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant();
+        } catch (IOException e) {
+            return Instant.EPOCH;
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import com.early_express.product_service.global.infrastructure.logging.HotPathLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.aop.support.annotation.AnnotationClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @TimedOperations 빈에 실행 시간 Timer 프록시 적용
+ * - 기존 프록시(@Transactional 등)가 있으면 advisor 를 맨 앞에 추가하여 트랜잭션 커밋 시간까지 포함
+ * - 백분위(p50 / p95 / p99) 및 Prometheus 히스토그램 버킷 발행
+ * - Timer 는 메서드별로 캐시하여 호출마다 Meter 조회 / 태그 생성 없음
+ * - logEvents 이면 성공한 호출을 HotPathLog.OPERATION 구조화 이벤트로 샘플링 기록
+ */
+@Component
+public class OperationTimingPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    public OperationTimingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        ClassFilter timedClass = new AnnotationClassFilter(TimedOperations.class, true);
+        StaticMethodMatcher declaredMethod = new StaticMethodMatcher() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return method.getDeclaringClass() != Object.class;
+            }
+        };
+        this.advisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(timedClass).intersection(declaredMethod),
+                new OperationTimingInterceptor(meterRegistry));
+        setBeforeExistingAdvisors(true);
+    }
+
+    private static final class OperationTimingInterceptor implements MethodInterceptor {
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final Map<Method, Operation> operations = new ConcurrentHashMap<>();
+
+        private OperationTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Operation operation = operations.computeIfAbsent(invocation.getMethod(),
+                    method -> register(AopUtils.getTargetClass(invocation.getThis()), method));
+            long started = System.nanoTime();
+            Object result;
+            try {
+                result = invocation.proceed();
+            } catch (Throwable ex) {
+                operation.failure().record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                throw ex;
+            }
+
+            long elapsed = System.nanoTime() - started;
+            operation.success().record(elapsed, TimeUnit.NANOSECONDS);
+            if (operation.logEvents()) {
+                HotPathLog.OPERATION.event("유스케이스 완료")
+                        .addKeyValue("timer", operation.timer())
+                        .addKeyValue("operation", operation.name())
+                        .addKeyValue("durationMs", elapsed / 1_000_000)
+                        .log();
+            }
+            return result;
+        }
+
+        private Operation register(Class<?> targetClass, Method method) {
+            TimedOperations timed = AnnotationUtils.findAnnotation(targetClass, TimedOperations.class);
+            MeterRegistry registry = meterRegistry.getObject();
+            return new Operation(timed.value(), method.getName(), timed.logEvents(),
+                    timer(registry, timed.value(), method.getName(), "success"),
+                    timer(registry, timed.value(), method.getName(), "failure"));
+        }
+
+        private static Timer timer(MeterRegistry registry, String name, String operation, String outcome) {
+            return Timer.builder(name)
+                    .description("@TimedOperations 메서드 실행 시간")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+
+    private record Operation(String timer, String name, boolean logEvents, Timer success, Timer failure) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 요청별 Hibernate 통계 디버그 응답 헤더 (monitoring.query-statistics.debug-header=true 일 때만)
+ * - 응답 본문 직렬화 직전 시점의 누적값 (본문이 없는 응답에는 헤더 없음)
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "monitoring.query-statistics.debug-header", havingValue = "true")
+public class QueryStatisticsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-Debug-Query-Count";
+    public static final String ENTITY_LOADS_HEADER = "X-Debug-Entity-Load-Count";
+    public static final String FLUSHES_HEADER = "X-Debug-Flush-Count";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestQueryStatistics.current().ifPresent(statistics -> {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(STATEMENTS_HEADER, String.valueOf(statistics.statements()));
+            headers.set(ENTITY_LOADS_HEADER, String.valueOf(statistics.entityLoads()));
+            headers.set(FLUSHES_HEADER, String.valueOf(statistics.flushes()));
+        });
+        return body;
+    }
+}
@@ -0,0 +1,31 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * 엔티티 로드(PostLoad)를 현재 요청 통계에 기록하는 리스너 등록
+ * hibernate.integrator_provider 로 등록
+ */
+public class QueryStatisticsIntegrator implements Integrator {
+
+    private static final PostLoadEventListener ENTITY_LOADED = event -> RequestQueryStatistics.entityLoaded();
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        sessionFactory.getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, ENTITY_LOADED);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션별 statement 실행 / flush 를 현재 요청 통계에 기록
+ * hibernate.session.events.auto 로 등록 (세션마다 Hibernate 가 기본 생성자로 생성)
+ */
+public class QueryStatisticsSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        RequestQueryStatistics.statementExecuted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        RequestQueryStatistics.statementExecuted();
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        RequestQueryStatistics.flushed();
+    }
+}
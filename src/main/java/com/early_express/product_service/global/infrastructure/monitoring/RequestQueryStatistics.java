@@ -0,0 +1,69 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import java.util.Optional;
+
+/**
+ * 요청 단위 Hibernate 통계 (현재 스레드)
+ * - RequestQueryStatisticsFilter 가 요청 시작 시 열고 종료 시 닫음, 요청 밖 스레드(Kafka 리스너 등)는 집계하지 않음
+ * - statements: 실행한 JDBC statement 수 (배치 실행은 1건)
+ * - entityLoads: 결과셋에서 로드한 엔티티 수 (영속성 컨텍스트에 이미 있는 엔티티 조회는 제외)
+ * - flushes: 세션 flush 수
+ */
+public final class RequestQueryStatistics {
+
+    private static final ThreadLocal<RequestQueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int entityLoads;
+    private int flushes;
+
+    private RequestQueryStatistics() {
+    }
+
+    static RequestQueryStatistics open() {
+        RequestQueryStatistics statistics = new RequestQueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    public static Optional<RequestQueryStatistics> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static void statementExecuted() {
+        RequestQueryStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statements++;
+        }
+    }
+
+    static void entityLoaded() {
+        RequestQueryStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.entityLoads++;
+        }
+    }
+
+    static void flushed() {
+        RequestQueryStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.flushes++;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public int entityLoads() {
+        return entityLoads;
+    }
+
+    public int flushes() {
+        return flushes;
+    }
+}
@@ -0,0 +1,86 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import com.early_express.product_service.global.infrastructure.logging.HotPathLog;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청별 Hibernate 통계 수집 / 메트릭 기록
+ * - 요청 동안 RequestQueryStatistics 를 열고, 종료 시 method / uri(매핑 패턴) 태그로 분포 기록
+ * - 요청당 statement 수가 늘어나는 회귀(N+1, 건별 조회 루프)를 uri 별 p95 / p99 로 확인
+ * - 요청 완료 로그는 HotPathLog.REQUEST 구조화 이벤트로 샘플링 기록
+ * - JFR 기록 중이면 요청 구간을 HotPathScopeEvent 로 남겨 할당 / 락 경합을 요청별로 묶음
+ *
+ * 메트릭: http.server.requests.db.statements, http.server.requests.db.entity.loads,
+ *        http.server.requests.db.flushes
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class RequestQueryStatisticsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS = "http.server.requests.db.statements";
+    public static final String ENTITY_LOADS = "http.server.requests.db.entity.loads";
+    public static final String FLUSHES = "http.server.requests.db.flushes";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long started = System.nanoTime();
+        HotPathScopeEvent scope = HotPathScopeEvent.start();
+        RequestQueryStatistics statistics = RequestQueryStatistics.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStatistics.close();
+            record(request, response, statistics, scope, System.nanoTime() - started);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response,
+                        RequestQueryStatistics statistics, HotPathScopeEvent scope, long elapsedNanos) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        String method = request.getMethod();
+        HotPathScopeEvent.commit(scope, "request", method + " " + uri);
+
+        summary(STATEMENTS, "요청당 실행한 JDBC statement 수", method, uri).record(statistics.statements());
+        summary(ENTITY_LOADS, "요청당 로드한 엔티티 수", method, uri).record(statistics.entityLoads());
+        summary(FLUSHES, "요청당 Hibernate 세션 flush 수", method, uri).record(statistics.flushes());
+
+        HotPathLog.REQUEST.event("요청 처리")
+                .addKeyValue("method", method)
+                .addKeyValue("uri", uri)
+                .addKeyValue("status", response.getStatus())
+                .addKeyValue("durationMs", elapsedNanos / 1_000_000)
+                .addKeyValue("statements", statistics.statements())
+                .log();
+    }
+
+    // 건수 분포는 히스토그램 대신 고정 버킷(SLO)으로 Prometheus 버킷 수를 제한
+    private DistributionSummary summary(String name, String description, String method, String uri) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,94 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hibernate 2차 캐시 리전별 적중률 메트릭 (HibernateCacheConfig 에서 등록)
+ * - hibernate.cache.region.requests (region, type=entity|query, result=hit|miss): 리전 조회 수
+ * - hibernate.cache.region.puts (region, type): 리전 적재 수
+ * - hibernate.cache.region.hit.ratio (region, type): 시작 이후 누적 적중률 (조회 전에는 NaN)
+ *   구간 적중률은 requests 카운터의 rate 로 계산
+ * - 쿼리 리전 통계는 첫 캐시 쿼리 실행 시 생성되므로 그 전에는 0 / NaN
+ */
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+    private final List<String> entityRegions;
+    private final List<String> queryRegions;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory,
+                                   List<String> entityRegions, List<String> queryRegions) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.entityRegions = entityRegions;
+        this.queryRegions = queryRegions;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : entityRegions) {
+            bind(registry, region, "entity");
+        }
+        for (String region : queryRegions) {
+            bind(registry, region, "query");
+        }
+    }
+
+    private void bind(MeterRegistry registry, String region, String type) {
+        Tags tags = Tags.of("region", region, "type", type);
+
+        FunctionCounter.builder("hibernate.cache.region.requests", this,
+                        metrics -> metrics.count(region, type, CacheRegionStatistics::getHitCount))
+                .description("2차 캐시 리전 조회 수")
+                .tags(tags).tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.region.requests", this,
+                        metrics -> metrics.count(region, type, CacheRegionStatistics::getMissCount))
+                .description("2차 캐시 리전 조회 수")
+                .tags(tags).tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("hibernate.cache.region.puts", this,
+                        metrics -> metrics.count(region, type, CacheRegionStatistics::getPutCount))
+                .description("2차 캐시 리전 적재 수")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("hibernate.cache.region.hit.ratio", this, metrics -> metrics.hitRatio(region, type))
+                .description("2차 캐시 리전 누적 적중률")
+                .tags(tags)
+                .register(registry);
+    }
+
+    double hitRatio(String region, String type) {
+        long hits = count(region, type, CacheRegionStatistics::getHitCount);
+        long requests = hits + count(region, type, CacheRegionStatistics::getMissCount);
+        return requests == 0 ? Double.NaN : (double) hits / requests;
+    }
+
+    private long count(String region, String type, ToLongFunction<CacheRegionStatistics> counter) {
+        CacheRegionStatistics regionStatistics = regionStatistics(region, type);
+        return regionStatistics != null ? counter.applyAsLong(regionStatistics) : 0;
+    }
+
+    /**
+     * 아직 생성되지 않은 쿼리 리전 / 매핑된 엔티티가 없는 리전은 null
+     */
+    private CacheRegionStatistics regionStatistics(String region, String type) {
+        try {
+            return "query".equals(type)
+                    ? statistics.getQueryRegionStatistics(region)
+                    : statistics.getDomainDataRegionStatistics(region);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
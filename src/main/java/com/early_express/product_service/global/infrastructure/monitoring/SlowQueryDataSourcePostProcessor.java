@@ -0,0 +1,31 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource 에 SlowQueryDataSourceProxy 적용
+ * - SlowQueryRecorder 는 DataSource 생성 시점에 조회 (BeanPostProcessor 등록 시 MeterRegistry 를 미리 만들지 않음)
+ * - 프록시는 unwrap / isWrapperFor 를 원본에 위임하므로 Hikari 메트릭 / 헬스체크는 그대로 동작
+ */
+@Component
+@ConditionalOnProperty(name = "monitoring.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SlowQueryRecorder> recorder;
+
+    public SlowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryRecorder> recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource
+                ? SlowQueryDataSourceProxy.wrap(recorder.getObject(), dataSource)
+                : bean;
+    }
+}
@@ -0,0 +1,96 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * statement 실행 시간 측정 DataSource 프록시
+ * - DataSource → Connection → Statement 를 동적 프록시로 감싸 execute* 호출 시간을 SlowQueryRecorder 에 전달
+ * - PreparedStatement 의 set*(index, value) 바인딩 값을 statement 별로 보관 (형태 기록 / EXPLAIN 재실행용, 값은 노출하지 않음)
+ * - 측정 구간은 execute* 호출까지이며 ResultSet 순회(fetch) 시간은 포함하지 않음
+ */
+final class SlowQueryDataSourceProxy {
+
+    private static final String BATCH = "(batch)";
+
+    private final SlowQueryRecorder recorder;
+    private final DataSource target;
+
+    private SlowQueryDataSourceProxy(SlowQueryRecorder recorder, DataSource target) {
+        this.recorder = recorder;
+        this.target = target;
+    }
+
+    static DataSource wrap(SlowQueryRecorder recorder, DataSource target) {
+        SlowQueryDataSourceProxy proxy = new SlowQueryDataSourceProxy(recorder, target);
+        return proxy(DataSource.class, target, (method, args) -> {
+            Object result = method.invoke(target, args);
+            return result instanceof Connection connection ? proxy.wrapConnection(connection) : result;
+        });
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args) -> {
+            Object result = method.invoke(connection, args);
+            String sql = args != null && args.length > 0 && args[0] instanceof String value ? value : null;
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(CallableStatement.class, statement, sql);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(PreparedStatement.class, statement, sql);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private <S extends Statement> S wrapStatement(Class<S> type, S statement, String preparedSql) {
+        Map<Integer, Object> binds = new TreeMap<>();
+        return proxy(type, statement, (method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                binds.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                binds.clear();
+            } else if (name.startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String value ? value
+                        : preparedSql != null ? preparedSql : BATCH;
+                long started = System.nanoTime();
+                try {
+                    return method.invoke(statement, args);
+                } finally {
+                    recorder.record(sql, binds, System.nanoTime() - started, target);
+                }
+            }
+            return method.invoke(statement, args);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Invocation invocation) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return invocation.invoke(method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface Invocation {
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,39 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 느린 쿼리 Actuator 엔드포인트 (/actuator/slowqueries, X-Admin-Token 필요)
+ * - GET    임계값 이상 걸린 statement 를 (SQL, 호출 위치) 별로 누적 시간 순 요약, 수집된 EXPLAIN 계획 포함
+ * - DELETE 수집 내용 초기화 (인덱스 변경 전후 비교용)
+ *
+ * EXPLAIN 계획에는 바인딩 값이 포함될 수 있어 관리 토큰으로 보호
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "monitoring.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryEndpoint {
+
+    private final SlowQueryRecorder recorder;
+
+    @ReadOperation
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = recorder.settings();
+        summary.put("statements", recorder.slowStatements());
+        return summary;
+    }
+
+    @DeleteOperation
+    public Map<String, Object> reset() {
+        recorder.reset();
+        return recorder.settings();
+    }
+}
@@ -0,0 +1,321 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC statement 실행 시간 기록 / 느린 쿼리 수집 (SlowQueryDataSourceProxy 가 호출)
+ * - 모든 statement 실행 시간을 db.statement.time 타이머로 기록
+ * - threshold-ms 이상인 statement 는 (SQL, 호출 위치) 별로 횟수 / 누적 / 최대 시간과 마지막 바인딩 형태를 집계
+ *   호출 위치는 스택에서 찾은 첫 애플리케이션 프레임 (예: ProductRepositoryImpl.findBySellerId)
+ * - explain.enabled 이고 PostgreSQL 이면 느린 SELECT 를 샘플링하여 EXPLAIN (ANALYZE, BUFFERS) 계획을 비동기로 수집
+ *   잠금 SELECT(FOR UPDATE 등)는 제외, 원본 DataSource 의 별도 커넥션에서 실행 후 롤백
+ *
+ * 메트릭: db.statement.time, db.statement.slow (origin 태그)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "monitoring.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryRecorder {
+
+    private static final String MONITORING_PACKAGE = SlowQueryRecorder.class.getPackageName();
+    private static final Pattern SELECT = Pattern.compile("^\\s*select\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern LOCKING = Pattern.compile(
+            "\\bfor\\s+(no\\s+key\\s+update|update|key\\s+share|share)\\b", Pattern.CASE_INSENSITIVE);
+    private static final int EXPLAIN_QUEUE_SIZE = 16;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer statementTimer;
+    private final long thresholdNanos;
+    private final int maxStatements;
+    private final String applicationPackage;
+    private final boolean explainEnabled;
+    private final double explainSampleRate;
+    private final long explainMinIntervalNanos;
+    private final int explainTimeoutSeconds;
+
+    private final Map<StatementKey, SlowStatement> statements = new ConcurrentHashMap<>();
+    private final Map<String, Counter> slowCounters = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final ExecutorService explainExecutor;
+
+    // null: 아직 확인 전, EXPLAIN 첫 시도 시 커넥션 메타데이터로 판별
+    private volatile Boolean postgres;
+
+    public SlowQueryRecorder(
+            MeterRegistry meterRegistry,
+            @Value("${monitoring.slow-query.threshold-ms:200}") long thresholdMs,
+            @Value("${monitoring.slow-query.max-statements:200}") int maxStatements,
+            @Value("${monitoring.slow-query.application-package:com.early_express}") String applicationPackage,
+            @Value("${monitoring.slow-query.explain.enabled:false}") boolean explainEnabled,
+            @Value("${monitoring.slow-query.explain.sample-rate:0.1}") double explainSampleRate,
+            @Value("${monitoring.slow-query.explain.min-interval-seconds:60}") long explainMinIntervalSeconds,
+            @Value("${monitoring.slow-query.explain.timeout-seconds:10}") int explainTimeoutSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.statementTimer = Timer.builder("db.statement.time")
+                .description("JDBC statement 실행 시간 (fetch 제외)")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.maxStatements = maxStatements;
+        this.applicationPackage = applicationPackage;
+        this.explainEnabled = explainEnabled;
+        this.explainSampleRate = explainSampleRate;
+        this.explainMinIntervalNanos = TimeUnit.SECONDS.toNanos(explainMinIntervalSeconds);
+        this.explainTimeoutSeconds = explainTimeoutSeconds;
+        // 큐가 차면 EXPLAIN 요청은 버림 (요청 스레드를 막지 않음)
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(EXPLAIN_QUEUE_SIZE),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /**
+     * @param binds  statement 의 현재 바인딩 값 (파라미터 인덱스 순, 호출 후 변경될 수 있으므로 필요 시 복사)
+     * @param target EXPLAIN 을 실행할 원본 DataSource
+     */
+    void record(String sql, Map<Integer, Object> binds, long elapsedNanos, DataSource target) {
+        statementTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (elapsedNanos < thresholdNanos) {
+            return;
+        }
+
+        String origin = origin();
+        StatementKey key = new StatementKey(sql, origin);
+        SlowStatement statement = statements.get(key);
+        if (statement == null) {
+            if (statements.size() >= maxStatements) {
+                dropped.increment();
+                return;
+            }
+            statement = statements.computeIfAbsent(key, SlowStatement::new);
+        }
+
+        List<String> shapes = shapes(binds);
+        boolean newMax = statement.record(elapsedNanos, shapes);
+        slowCounters.computeIfAbsent(origin, this::slowCounter).increment();
+        // 같은 statement 는 최대 시간이 갱신될 때만 경고 (회귀 시 로그 폭주 방지)
+        if (newMax) {
+            log.warn("느린 쿼리 - {}ms, origin: {}, params: {}, sql: {}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), origin, shapes, sql);
+        }
+
+        if (explainable(sql) && statement.claimExplain(explainMinIntervalNanos)) {
+            SlowStatement explained = statement;
+            Map<Integer, Object> values = new TreeMap<>(binds);
+            explainExecutor.execute(() -> explain(explained, values, target));
+        }
+    }
+
+    /**
+     * 누적 시간이 큰 순서의 느린 statement 목록
+     */
+    public List<Map<String, Object>> slowStatements() {
+        List<SlowStatement> sorted = new ArrayList<>(statements.values());
+        sorted.sort(Comparator.comparingLong(SlowStatement::totalNanos).reversed());
+        return sorted.stream().map(SlowStatement::toMap).toList();
+    }
+
+    public Map<String, Object> settings() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("thresholdMs", TimeUnit.NANOSECONDS.toMillis(thresholdNanos));
+        settings.put("maxStatements", maxStatements);
+        settings.put("droppedStatements", dropped.sum());
+        settings.put("explainEnabled", explainEnabled && !Boolean.FALSE.equals(postgres));
+        settings.put("explainSampleRate", explainSampleRate);
+        return settings;
+    }
+
+    public void reset() {
+        statements.clear();
+        dropped.reset();
+    }
+
+    @PreDestroy
+    public void close() {
+        explainExecutor.shutdownNow();
+    }
+
+    private boolean explainable(String sql) {
+        return explainEnabled
+                && !Boolean.FALSE.equals(postgres)
+                && ThreadLocalRandom.current().nextDouble() < explainSampleRate
+                && SELECT.matcher(sql).find()
+                && !LOCKING.matcher(sql).find();
+    }
+
+    private void explain(SlowStatement statement, Map<Integer, Object> values, DataSource target) {
+        try (Connection connection = target.getConnection()) {
+            if (postgres == null) {
+                postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgresql");
+            }
+            if (!postgres) {
+                return;
+            }
+
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (ANALYZE, BUFFERS) " + statement.sql)) {
+                explain.setQueryTimeout(explainTimeoutSeconds);
+                for (Map.Entry<Integer, Object> value : values.entrySet()) {
+                    if (value.getValue() == null) {
+                        explain.setNull(value.getKey(), Types.OTHER);
+                    } else {
+                        explain.setObject(value.getKey(), value.getValue());
+                    }
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = explain.executeQuery()) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1)).append('\n');
+                    }
+                }
+                statement.plan(plan.toString());
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            log.warn("느린 쿼리 EXPLAIN 실패 - origin: {}, sql: {}", statement.origin, statement.sql, e);
+        }
+    }
+
+    // 스택에서 모니터링 패키지를 제외한 첫 애플리케이션 프레임 (CGLIB 프록시 접미사 제거)
+    private String origin() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(applicationPackage)
+                        && !frame.getClassName().startsWith(MONITORING_PACKAGE))
+                .findFirst()
+                .map(frame -> {
+                    String className = frame.getClassName();
+                    int proxySuffix = className.indexOf("$$");
+                    if (proxySuffix >= 0) {
+                        className = className.substring(0, proxySuffix);
+                    }
+                    return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                })
+                .orElse("unknown"));
+    }
+
+    private static List<String> shapes(Map<Integer, Object> binds) {
+        List<String> shapes = new ArrayList<>(binds.size());
+        for (Object value : binds.values()) {
+            shapes.add(value == null ? "null" : value.getClass().getSimpleName());
+        }
+        return shapes;
+    }
+
+    private Counter slowCounter(String origin) {
+        return Counter.builder("db.statement.slow")
+                .description("임계값 이상 걸린 JDBC statement 수")
+                .tag("origin", origin)
+                .register(meterRegistry);
+    }
+
+    private record StatementKey(String sql, String origin) {
+    }
+
+    private static final class SlowStatement {
+
+        private final String sql;
+        private final String origin;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong lastExplainNanos = new AtomicLong();
+        private volatile boolean explainClaimed;
+        private volatile List<String> parameterShapes = List.of();
+        private volatile Instant lastSeenAt;
+        private volatile String plan;
+        private volatile Instant planCapturedAt;
+
+        private SlowStatement(StatementKey key) {
+            this.sql = key.sql();
+            this.origin = key.origin();
+        }
+
+        // 최대 시간이 갱신되면 true
+        private boolean record(long elapsedNanos, List<String> shapes) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            parameterShapes = shapes;
+            lastSeenAt = Instant.now();
+            long previous = maxNanos.getAndAccumulate(elapsedNanos, Math::max);
+            return elapsedNanos > previous;
+        }
+
+        // statement 별로 min-interval 에 한 번만 EXPLAIN
+        private boolean claimExplain(long minIntervalNanos) {
+            long now = System.nanoTime();
+            long last = lastExplainNanos.get();
+            if (explainClaimed && now - last < minIntervalNanos) {
+                return false;
+            }
+            if (!lastExplainNanos.compareAndSet(last, now)) {
+                return false;
+            }
+            explainClaimed = true;
+            return true;
+        }
+
+        private void plan(String plan) {
+            this.plan = plan;
+            this.planCapturedAt = Instant.now();
+        }
+
+        private long totalNanos() {
+            return totalNanos.sum();
+        }
+
+        private Map<String, Object> toMap() {
+            long calls = count.sum();
+            long total = totalNanos.sum();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("origin", origin);
+            row.put("sql", sql);
+            row.put("count", calls);
+            row.put("totalMs", Duration.ofNanos(total).toMillis());
+            row.put("meanMs", calls == 0 ? 0 : Duration.ofNanos(total / calls).toMillis());
+            row.put("maxMs", Duration.ofNanos(maxNanos.get()).toMillis());
+            row.put("parameterShapes", parameterShapes);
+            row.put("lastSeenAt", lastSeenAt == null ? null : lastSeenAt.toString());
+            row.put("plan", plan);
+            row.put("planCapturedAt", planCapturedAt == null ? null : planCapturedAt.toString());
+            return row;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 클래스의 public 메서드 실행 시간을 Timer 로 기록 (OperationTimingPostProcessor 가 프록시 적용)
+ * - 태그: operation(메서드명), outcome(success / failure)
+ * - 같은 빈 안의 내부 호출은 프록시를 거치지 않으므로 기록되지 않음
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface TimedOperations {
+
+    /**
+     * 타이머 이름 (예: product.service)
+     */
+    String value();
+
+    /**
+     * 성공한 호출을 HotPathLog.OPERATION 구조화 이벤트로 샘플링 기록
+     */
+    boolean logEvents() default false;
+}
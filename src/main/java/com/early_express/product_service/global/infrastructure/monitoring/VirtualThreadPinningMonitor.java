@@ -0,0 +1,91 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 가상 스레드 피닝(pinning) 감시
+ * - synchronized 블록 / 네이티브 호출 중 블로킹으로 캐리어 스레드를 점유한 경우 JFR 이벤트로 감지
+ * - 임계값을 넘는 피닝은 스택 상단과 함께 경고 로그, 건수는 메트릭으로 노출
+ *
+ * 메트릭: jvm.threads.virtual.pinned
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 5;
+
+    private final Counter pinnedCounter;
+    private final Duration threshold;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning.threshold-ms:20}") long thresholdMs) {
+        this.pinnedCounter = Counter.builder("jvm.threads.virtual.pinned")
+                .description("임계값을 넘은 가상 스레드 피닝 횟수")
+                .register(meterRegistry);
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+
+        log.info("가상 스레드 피닝 감시 시작 - threshold: {}ms", threshold.toMillis());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+
+        if (log.isWarnEnabled()) {
+            log.warn("가상 스레드 피닝 감지 - duration: {}ms, thread: {}, stack: {}",
+                    event.getDuration().toMillis(),
+                    event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                    topFrames(event));
+        }
+    }
+
+    private String topFrames(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "n/a";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.min(LOGGED_FRAMES, frames.size()); i++) {
+            RecordedFrame frame = frames.get(i);
+            sb.append(i == 0 ? "" : " <- ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber());
+        }
+        return sb.toString();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
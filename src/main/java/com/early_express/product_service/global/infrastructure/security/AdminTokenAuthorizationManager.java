@@ -0,0 +1,40 @@
+package com.early_express.product_service.global.infrastructure.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ * 운영용 관리 엔드포인트 접근 제어 (X-Admin-Token 헤더)
+ * - 헤더 값과 monitoring.jfr.token 을 상수 시간 비교
+ * - 토큰이 설정되지 않으면 모든 요청 거부 (fail closed)
+ */
+@Component
+public class AdminTokenAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    public static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private final byte[] token;
+
+    public AdminTokenAuthorizationManager(@Value("${monitoring.jfr.token:}") String token) {
+        this.token = token.isBlank() ? null : token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        HttpServletRequest request = context.getRequest();
+        String header = request.getHeader(ADMIN_TOKEN_HEADER);
+        if (token == null || header == null) {
+            return new AuthorizationDecision(false);
+        }
+        return new AuthorizationDecision(MessageDigest.isEqual(token, header.getBytes(StandardCharsets.UTF_8)));
+    }
+}
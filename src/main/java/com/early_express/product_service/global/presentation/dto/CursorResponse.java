@@ -0,0 +1,30 @@
+package com.early_express.product_service.global.presentation.dto;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 커서 기반 목록 응답
+ * - 전체 건수(count) 쿼리 없이 다음 페이지 존재 여부와 다음 커서만 제공
+ * - nextCursor 는 다음 요청의 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)
+ */
+@Getter
+public class CursorResponse<T> {
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+    private final int size;
+
+    private CursorResponse(List<T> content, String nextCursor, int size) {
+        this.content = content != null ? content : Collections.emptyList();
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+        this.size = size;
+    }
+
+    public static <T> CursorResponse<T> of(List<T> content, String nextCursor, int size) {
+        return new CursorResponse<>(content, nextCursor, size);
+    }
+}
@@ -0,0 +1,19 @@
+-- ========================================
+-- 허브 / 재고 이벤트 워터마크 컬럼, 허브별 재고 테이블
+-- baseline(1) 으로 등록된 기존 DB 에도 적용되며, ddl-auto update 로 이미 만들어진 경우 건너뜀
+-- ========================================
+
+ALTER TABLE p_products
+    ADD COLUMN IF NOT EXISTS hub_id VARCHAR(36);
+
+ALTER TABLE p_products
+    ADD COLUMN IF NOT EXISTS stock_event_at TIMESTAMP(6);
+
+CREATE TABLE IF NOT EXISTS p_product_hub_stocks
+(
+    product_id     VARCHAR(36) NOT NULL,
+    hub_id         VARCHAR(36) NOT NULL,
+    out_of_stock   BOOLEAN     NOT NULL,
+    stock_event_at TIMESTAMP(6),
+    CONSTRAINT p_product_hub_stocks_pkey PRIMARY KEY (product_id, hub_id)
+);
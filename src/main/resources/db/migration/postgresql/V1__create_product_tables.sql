@@ -0,0 +1,30 @@
+-- ========================================
+-- 상품 테이블 (Flyway 도입 전 스키마)
+-- Hibernate ddl-auto 로 만들어진 기존 DB 는 baseline(1) 으로 등록되어 이 스크립트를 건너뜀
+-- → 기존 DB 와 같아야 하므로 이후 변경은 이 파일이 아닌 다음 버전 스크립트에 추가
+-- ========================================
+
+CREATE TABLE IF NOT EXISTS p_products
+(
+    product_id         VARCHAR(36)    NOT NULL,
+    seller_id          VARCHAR(36)    NOT NULL,
+    company_id         VARCHAR(36)    NOT NULL,
+    name               VARCHAR(100)   NOT NULL,
+    description        VARCHAR(1000),
+    price              NUMERIC(19, 2) NOT NULL,
+    status             VARCHAR(20)    NOT NULL,
+    is_sellable        BOOLEAN        NOT NULL,
+    has_event          BOOLEAN        NOT NULL,
+    min_order_quantity INTEGER        NOT NULL,
+    max_order_quantity INTEGER        NOT NULL,
+    created_at         TIMESTAMP(6)   NOT NULL,
+    created_by         VARCHAR(36),
+    updated_at         TIMESTAMP(6),
+    updated_by         VARCHAR(36),
+    deleted_at         TIMESTAMP(6),
+    deleted_by         VARCHAR(36),
+    is_deleted         BOOLEAN        NOT NULL,
+    CONSTRAINT p_products_pkey PRIMARY KEY (product_id),
+    CONSTRAINT p_products_status_check
+        CHECK (status IN ('DRAFT', 'ACTIVE', 'SUSPENDED', 'OUT_OF_STOCK', 'DISCONTINUED'))
+);
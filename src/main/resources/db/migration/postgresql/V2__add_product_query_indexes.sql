@@ -0,0 +1,38 @@
+-- ========================================
+-- ProductRepositoryImpl 조회 형태별 인덱스
+-- 모든 조회가 is_deleted = false 조건을 가지므로 삭제 상품을 뺀 부분 인덱스
+-- 운영 테이블 쓰기를 막지 않도록 CONCURRENTLY (트랜잭션 밖 실행, V2__add_product_query_indexes.sql.conf)
+-- 실패로 INVALID 인덱스가 남으면 DROP INDEX 후 flyway repair / migrate 재실행
+-- ========================================
+
+-- 판매자별 목록 / 페이지 (seller_id = ? ORDER BY created_at DESC) 와 건수 (index-only)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_seller_created
+    ON p_products (seller_id, created_at DESC)
+    WHERE is_deleted = false;
+
+-- 상태별 조회 (status = ?)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_status
+    ON p_products (status)
+    WHERE is_deleted = false;
+
+-- 전체 최신순 페이지 (ORDER BY created_at DESC LIMIT ?)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_created
+    ON p_products (created_at DESC)
+    WHERE is_deleted = false;
+
+-- 허브별 페이지 / 커서 (hub_id = ? ORDER BY created_at DESC, product_id DESC)
+-- 기존 (hub_id, is_deleted, created_at) 인덱스를 대체
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_hub_created
+    ON p_products (hub_id, created_at DESC, product_id DESC)
+    WHERE is_deleted = false;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_products_hub_deleted_created;
+
+-- 허브 판매 가능 검증 (product_id IN (...) AND status = 'ACTIVE' AND is_sellable) 을 테이블 접근 없이 처리
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_sellable
+    ON p_products (product_id) INCLUDE (status, is_sellable)
+    WHERE is_deleted = false;
+
+-- 허브 재고 LEFT JOIN (product_id, hub_id) 에서 out_of_stock 까지 index-only
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_hub_stocks_covering
+    ON p_product_hub_stocks (product_id, hub_id) INCLUDE (out_of_stock);
@@ -0,0 +1,12 @@
+-- ========================================
+-- product_id VARCHAR(36) → uuid (16바이트 고정 길이)
+-- pkey / idx_products_hub_created / idx_products_sellable / 허브 재고 인덱스가 함께 재작성됨
+-- 테이블 재작성 + ACCESS EXCLUSIVE 잠금이므로 배포 점검 시간에 실행
+-- UUID 형식이 아닌 product_id 가 있으면 실패 (트랜잭션 롤백, 변경 없음)
+-- ========================================
+
+ALTER TABLE p_product_hub_stocks
+    ALTER COLUMN product_id TYPE uuid USING product_id::uuid;
+
+ALTER TABLE p_products
+    ALTER COLUMN product_id TYPE uuid USING product_id::uuid;
@@ -0,0 +1,137 @@
+package com.early_express.product_service.domain.product.application.service;
+
+import com.early_express.product_service.domain.product.domain.messaging.ProductEventPublisher;
+import com.early_express.product_service.domain.product.domain.model.Product;
+import com.early_express.product_service.domain.product.domain.model.vo.Price;
+import com.early_express.product_service.domain.product.domain.model.vo.ProductStatus;
+import com.early_express.product_service.domain.product.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 허브별 품절 처리 통합 테스트
+ */
+@SpringBootTest
+@Transactional
+@DisplayName("ProductService 허브 재고 테스트")
+class ProductServiceHubStockTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @MockitoBean
+    private ProductEventPublisher eventPublisher;
+
+    private String productId;
+
+    @BeforeEach
+    void setUp() {
+        Product product = Product.create(null, "SELLER-001", "COMPANY-001", "테스트 상품",
+                "테스트 설명", Price.of(10000), 1, 100);
+        product.activate();
+        productId = productRepository.save(product).getProductId();
+    }
+
+    @Test
+    @DisplayName("첫 재고 이벤트가 한 허브의 품절이면 그 허브만 판매 불가, 상품 상태 유지")
+    void markAsOutOfStock_firstEventFromOneHub_keepsOtherHubsSellable() {
+        // when - 다른 허브의 재고 이벤트 없이 HUB-1 품절만 수신
+        productService.markAsOutOfStock(productId, "HUB-1", BASE);
+
+        // then
+        assertThat(productService.getProduct(productId).getStatus()).isEqualTo(ProductStatus.ACTIVE);
+        assertThat(productService.getSellableProductIdsAtHub("HUB-1", List.of(productId))).isEmpty();
+        assertThat(productService.getSellableProductIdsAtHub("HUB-2", List.of(productId))).containsExactly(productId);
+        verify(eventPublisher, never()).publishProductStatusChanged(any());
+    }
+
+    @Test
+    @DisplayName("이벤트를 보낸 모든 허브가 품절이어도 상품 상태는 유지, 재입고한 허브부터 판매 재개")
+    void markAsOutOfStock_allReportedHubs_thenRestock() {
+        // when
+        productService.markAsOutOfStock(productId, "HUB-1", BASE);
+        productService.markAsOutOfStock(productId, "HUB-2", BASE);
+
+        // then
+        assertThat(productService.getProduct(productId).getStatus()).isEqualTo(ProductStatus.ACTIVE);
+        assertThat(productService.getSellableProductIdsAtHub("HUB-1", List.of(productId))).isEmpty();
+        assertThat(productService.getSellableProductIdsAtHub("HUB-2", List.of(productId))).isEmpty();
+        assertThat(productService.getSellableProductIdsAtHub("HUB-3", List.of(productId))).containsExactly(productId);
+
+        // when
+        productService.restoreFromOutOfStock(productId, "HUB-2", BASE.plusSeconds(1));
+
+        // then
+        assertThat(productService.getSellableProductIdsAtHub("HUB-1", List.of(productId))).isEmpty();
+        assertThat(productService.getSellableProductIdsAtHub("HUB-2", List.of(productId))).containsExactly(productId);
+        verify(eventPublisher, never()).publishProductStatusChanged(any());
+    }
+
+    @Test
+    @DisplayName("hubId 가 없는 이벤트는 상품 전체 품절 / 해제")
+    void withoutHub_appliesToWholeProduct() {
+        // when
+        productService.markAsOutOfStock(productId, null, BASE);
+
+        // then
+        assertThat(productService.getProduct(productId).getStatus()).isEqualTo(ProductStatus.OUT_OF_STOCK);
+        assertThat(productService.getSellableProductIdsAtHub("HUB-1", List.of(productId))).isEmpty();
+
+        // when
+        productService.restoreFromOutOfStock(productId, null, BASE.plusSeconds(1));
+
+        // then
+        assertThat(productService.getProduct(productId).getStatus()).isEqualTo(ProductStatus.ACTIVE);
+        assertThat(productService.getSellableProductIdsAtHub("HUB-1", List.of(productId))).containsExactly(productId);
+        verify(eventPublisher, times(2)).publishProductStatusChanged(any());
+    }
+
+    @Test
+    @DisplayName("허브별 워터마크 - 다른 허브의 최신 이벤트가 지난 이벤트 판정에 영향 없음")
+    void watermark_isPerHub() {
+        // given
+        productService.restoreFromOutOfStock(productId, "HUB-2", BASE.plusMinutes(10));
+
+        // when - HUB-1 의 이벤트가 HUB-2 보다 이전 시각
+        productService.markAsOutOfStock(productId, "HUB-1", BASE);
+        productService.restoreFromOutOfStock(productId, "HUB-1", BASE.minusSeconds(1));
+
+        // then - HUB-1 품절은 반영, 그보다 지난 재입고는 무시
+        assertThat(productService.getSellableProductIdsAtHub("HUB-1", List.of(productId))).isEmpty();
+        assertThat(productService.getSellableProductIdsAtHub("HUB-2", List.of(productId))).containsExactly(productId);
+    }
+
+    @Test
+    @DisplayName("판매 가능 조회 결과는 요청 순서 유지, 중복 제거")
+    void getSellableProductIdsAtHub_keepsRequestOrder() {
+        // given
+        Product other = Product.create(null, "SELLER-001", "COMPANY-001", "다른 상품",
+                "설명", Price.of(5000), 1, 100);
+        other.activate();
+        String otherId = productRepository.save(other).getProductId();
+
+        // when
+        List<String> sellable = productService.getSellableProductIdsAtHub(
+                "HUB-1", List.of(otherId, "NOT-EXIST", productId, otherId));
+
+        // then
+        assertThat(sellable).containsExactly(otherId, productId);
+    }
+}
@@ -16,6 +16,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -44,6 +45,7 @@ class ProductServiceTest {
     private static final String TEST_SELLER_ID = "SELLER-001";
     private static final String TEST_PRODUCT_NAME = "테스트 상품";
     private static final String TEST_COMPANY_ID = "COMPANY_ID";
+    private static final LocalDateTime STOCK_EVENT_AT = LocalDateTime.of(2025, 1, 1, 10, 0);
     @BeforeEach
     void setUp() {
         testProduct = Product.create(
@@ -184,13 +186,13 @@ class ProductServiceTest {
         void markAsOutOfStock_Success() {
             // given
             testProduct.activate(); // ACTIVE 상태로 변경
-            given(productRepository.findById(TEST_PRODUCT_ID))
+            given(productRepository.findByIdForUpdate(TEST_PRODUCT_ID))
                     .willReturn(Optional.of(testProduct));
             given(productRepository.save(any(Product.class)))
                     .willAnswer(invocation -> invocation.getArgument(0));
 
             // when
-            productService.markAsOutOfStock(TEST_PRODUCT_ID);
+            productService.markAsOutOfStock(TEST_PRODUCT_ID, STOCK_EVENT_AT);
 
             // then
             assertThat(testProduct.getStatus()).isEqualTo(ProductStatus.OUT_OF_STOCK);
@@ -207,14 +209,14 @@ class ProductServiceTest {
         void markAsOutOfStock_AlreadyOutOfStock() {
             // given
             testProduct.markOutOfStock(); // 이미 품절 상태
-            given(productRepository.findById(TEST_PRODUCT_ID))
+            given(productRepository.findByIdForUpdate(TEST_PRODUCT_ID))
                     .willReturn(Optional.of(testProduct));
 
             // when
-            productService.markAsOutOfStock(TEST_PRODUCT_ID);
+            productService.markAsOutOfStock(TEST_PRODUCT_ID, STOCK_EVENT_AT);
 
-            // then
-            verify(productRepository, never()).save(any(Product.class));
+            // then - 워터마크만 갱신
+            verify(productRepository).save(testProduct);
             verify(eventPublisher, never()).publishProductStatusChanged(any(), any(), any());
         }
     }
@@ -228,13 +230,13 @@ class ProductServiceTest {
         void restoreFromOutOfStock_Success() {
             // given
             testProduct.markOutOfStock(); // 품절 상태로 변경
-            given(productRepository.findById(TEST_PRODUCT_ID))
+            given(productRepository.findByIdForUpdate(TEST_PRODUCT_ID))
                     .willReturn(Optional.of(testProduct));
             given(productRepository.save(any(Product.class)))
                     .willAnswer(invocation -> invocation.getArgument(0));
 
             // when
-            productService.restoreFromOutOfStock(TEST_PRODUCT_ID);
+            productService.restoreFromOutOfStock(TEST_PRODUCT_ID, STOCK_EVENT_AT);
 
             // then
             assertThat(testProduct.getStatus()).isEqualTo(ProductStatus.ACTIVE);
@@ -251,14 +253,14 @@ class ProductServiceTest {
         void restoreFromOutOfStock_NotOutOfStock() {
             // given
             testProduct.activate(); // ACTIVE 상태
-            given(productRepository.findById(TEST_PRODUCT_ID))
+            given(productRepository.findByIdForUpdate(TEST_PRODUCT_ID))
                     .willReturn(Optional.of(testProduct));
 
             // when
-            productService.restoreFromOutOfStock(TEST_PRODUCT_ID);
+            productService.restoreFromOutOfStock(TEST_PRODUCT_ID, STOCK_EVENT_AT);
 
-            // then
-            verify(productRepository, never()).save(any(Product.class));
+            // then - 워터마크만 갱신
+            verify(productRepository).save(testProduct);
             verify(eventPublisher, never()).publishProductStatusChanged(any(), any(), any());
         }
     }
@@ -0,0 +1,54 @@
+package com.early_express.product_service.domain.product.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductHubStock 도메인 모델 테스트")
+class ProductHubStockTest {
+
+    @Test
+    @DisplayName("생성 시 재고 있음 상태")
+    void create_available() {
+        // when
+        ProductHubStock hubStock = ProductHubStock.create("PROD-001", "HUB-1");
+
+        // then
+        assertThat(hubStock.getProductId()).isEqualTo("PROD-001");
+        assertThat(hubStock.getHubId()).isEqualTo("HUB-1");
+        assertThat(hubStock.isOutOfStock()).isFalse();
+        assertThat(hubStock.getStockEventAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("허브 품절 / 품절 해제")
+    void markOutOfStock_and_markAvailable() {
+        // given
+        ProductHubStock hubStock = ProductHubStock.create("PROD-001", "HUB-1");
+
+        // when & then
+        hubStock.markOutOfStock();
+        assertThat(hubStock.isOutOfStock()).isTrue();
+
+        hubStock.markAvailable();
+        assertThat(hubStock.isOutOfStock()).isFalse();
+    }
+
+    @Test
+    @DisplayName("재고 이벤트 워터마크 - 같거나 지난 이벤트는 거부")
+    void advanceStockWatermark_rejectsStaleEvent() {
+        // given
+        ProductHubStock hubStock = ProductHubStock.create("PROD-001", "HUB-1");
+        LocalDateTime latest = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+        // when & then
+        assertThat(hubStock.advanceStockWatermark(latest)).isTrue();
+        assertThat(hubStock.advanceStockWatermark(latest)).isFalse();
+        assertThat(hubStock.advanceStockWatermark(latest.minusSeconds(1))).isFalse();
+        assertThat(hubStock.advanceStockWatermark(null)).isTrue();
+        assertThat(hubStock.getStockEventAt()).isEqualTo(latest);
+    }
+}
@@ -7,6 +7,8 @@ import com.early_express.product_service.domain.product.domain.model.vo.ProductS
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+
 import static org.assertj.core.api.Assertions.*;
 
 @DisplayName("Product 도메인 모델 테스트")
@@ -324,6 +326,48 @@ class ProductTest {
         assertThat(product.canBeSold()).isFalse(); // SUSPENDED 상태
     }
 
+    @Test
+    @DisplayName("재고 이벤트 워터마크 - 더 최신 이벤트만 반영")
+    void advanceStockWatermark_onlyNewerEventAdvances() {
+        // given
+        Product product = createTestProduct();
+        LocalDateTime first = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+        // when & then
+        assertThat(product.advanceStockWatermark(first)).isTrue();
+        assertThat(product.getStockEventAt()).isEqualTo(first);
+
+        assertThat(product.advanceStockWatermark(first.plusSeconds(1))).isTrue();
+        assertThat(product.getStockEventAt()).isEqualTo(first.plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("재고 이벤트 워터마크 - 같거나 지난 이벤트는 거부")
+    void advanceStockWatermark_rejectsStaleEvent() {
+        // given
+        Product product = createTestProduct();
+        LocalDateTime latest = LocalDateTime.of(2025, 1, 1, 10, 0);
+        product.advanceStockWatermark(latest);
+
+        // when & then
+        assertThat(product.advanceStockWatermark(latest)).isFalse();
+        assertThat(product.advanceStockWatermark(latest.minusMinutes(1))).isFalse();
+        assertThat(product.getStockEventAt()).isEqualTo(latest);
+    }
+
+    @Test
+    @DisplayName("재고 이벤트 워터마크 - 발생 시각이 없으면 워터마크 유지")
+    void advanceStockWatermark_nullBypasses() {
+        // given
+        Product product = createTestProduct();
+        LocalDateTime latest = LocalDateTime.of(2025, 1, 1, 10, 0);
+        product.advanceStockWatermark(latest);
+
+        // when & then
+        assertThat(product.advanceStockWatermark(null)).isTrue();
+        assertThat(product.getStockEventAt()).isEqualTo(latest);
+    }
+
     private Product createTestProduct() {
         return Product.create(
                 "PROD-001",
@@ -0,0 +1,203 @@
+package com.early_express.product_service.domain.product.infrastructure.messaging.codec;
+
+import com.early_express.product_service.domain.product.domain.messaging.dto.ProductCreatedEventData;
+import com.early_express.product_service.domain.product.domain.messaging.dto.ProductUpdatedEventData;
+import com.early_express.product_service.domain.product.infrastructure.messaging.inventory.event.InventoryEventSchemas;
+import com.early_express.product_service.domain.product.infrastructure.messaging.inventory.event.InventoryLowStockEvent;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductCreatedEvent;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductEventSchemas;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductUpdatedEvent;
+import com.early_express.product_service.global.infrastructure.event.codec.BinaryEventCodec;
+import com.early_express.product_service.global.infrastructure.event.codec.ContentTypeMessageConverter;
+import com.early_express.product_service.global.infrastructure.event.codec.DualFormatEventSerializer;
+import com.early_express.product_service.global.infrastructure.event.codec.EventHeaders;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("이벤트 바이너리 포맷 테스트")
+class EventBinaryFormatTest {
+
+    private final BinaryEventCodec codec =
+            new BinaryEventCodec(List.of(new ProductEventSchemas(),
+                    new InventoryEventSchemas("inventory-low-stock", "inventory-restocked")));
+
+    @Test
+    @DisplayName("상품 이벤트 바이너리 왕복 - 공통 필드 / 가격 / 초 미만 시각 유지")
+    void productUpdated_roundTrip() {
+        // given
+        ProductUpdatedEvent event = ProductUpdatedEvent.from(ProductUpdatedEventData.builder()
+                .productId("PROD-001")
+                .name("프리미엄 노트북")
+                .price(new BigDecimal("1500000.50"))
+                .updatedAt(LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_456_789))
+                .build());
+
+        // when
+        ProductUpdatedEvent decoded = codec.decode(codec.encode(event), ProductUpdatedEvent.class);
+
+        // then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("null 필드는 null 로 복원")
+    void nullFields_roundTrip() {
+        // given
+        ProductCreatedEvent event = ProductCreatedEvent.from(ProductCreatedEventData.builder()
+                .productId("PROD-001")
+                .sellerId("SELLER-001")
+                .build());
+
+        // when
+        ProductCreatedEvent decoded = codec.decode(codec.encode(event), ProductCreatedEvent.class);
+
+        // then
+        assertThat(decoded.getHubId()).isNull();
+        assertThat(decoded.getName()).isNull();
+        assertThat(decoded.getCreatedAt()).isNull();
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("바이너리 페이로드가 JSON 보다 작음")
+    void binary_isSmallerThanJson() {
+        // given
+        InventoryLowStockEvent event = lowStockEvent();
+
+        // when
+        byte[] json = new JsonSerializer<>().serialize("inventory-low-stock", event);
+        byte[] binary = codec.encode(event);
+
+        // then
+        assertThat(binary.length).isLessThan(json.length / 2);
+    }
+
+    @Test
+    @DisplayName("뒤에 필드가 추가된 상위 스키마 버전도 기존 필드까지 읽음")
+    void newerVersionWithAppendedField_isReadable() {
+        // given - 스키마 버전 2, 끝에 문자열 필드 추가
+        byte[] current = codec.encode(lowStockEvent());
+        byte[] newer = Arrays.copyOf(current, current.length + 4);
+        newer[1] = 2;
+        newer[current.length] = 4;
+        System.arraycopy("NEW".getBytes(StandardCharsets.UTF_8), 0, newer, current.length + 1, 3);
+
+        // when
+        InventoryLowStockEvent decoded = codec.decode(newer, InventoryLowStockEvent.class);
+
+        // then
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(lowStockEvent());
+    }
+
+    @Test
+    @DisplayName("잘린 페이로드는 SerializationException")
+    void truncatedPayload_throws() {
+        byte[] payload = codec.encode(lowStockEvent());
+
+        assertThatThrownBy(() -> codec.decode(Arrays.copyOf(payload, payload.length - 3), InventoryLowStockEvent.class))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    @DisplayName("JSON 모드 발행은 기존 JSON 페이로드에 contentType / eventType 헤더 추가")
+    void serializer_jsonMode_writesJsonWithHeaders() {
+        // given
+        DualFormatEventSerializer serializer = new DualFormatEventSerializer(codec, new JsonSerializer<>(), false);
+        Headers headers = new RecordHeaders();
+        ProductCreatedEvent event = productCreatedEvent();
+
+        // when
+        byte[] payload = serializer.serialize("product-created", headers, event);
+
+        // then
+        assertThat(EventHeaders.lastValue(headers, EventHeaders.CONTENT_TYPE)).isEqualTo(EventHeaders.JSON);
+        assertThat(EventHeaders.lastValue(headers, EventHeaders.EVENT_TYPE)).isEqualTo("PRODUCT_CREATED");
+        assertThat(new String(payload, StandardCharsets.UTF_8)).contains("\"productId\":\"PROD-001\"");
+    }
+
+    @Test
+    @DisplayName("바이너리 모드 발행 레코드를 Consumer 변환기가 복원")
+    void serializer_binaryMode_decodedByConverter() {
+        // given
+        DualFormatEventSerializer serializer = new DualFormatEventSerializer(codec, new JsonSerializer<>(), true);
+        Headers headers = new RecordHeaders();
+        InventoryLowStockEvent event = lowStockEvent();
+
+        // when
+        byte[] payload = serializer.serialize("inventory-low-stock", headers, event);
+        Object converted = convert(payload, headers, InventoryLowStockEvent.class);
+
+        // then
+        assertThat(EventHeaders.isBinary(headers)).isTrue();
+        assertThat(converted).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("contentType 헤더가 없는 기존 JSON 레코드도 변환")
+    void converter_legacyJsonWithoutHeader() {
+        // given
+        byte[] payload = """
+                {"eventId":"E-1","eventType":"INVENTORY_LOW_STOCK","productId":"PROD-001","hubId":"HUB-1","currentQuantity":0}"""
+                .getBytes(StandardCharsets.UTF_8);
+
+        // when
+        InventoryLowStockEvent converted =
+                (InventoryLowStockEvent) convert(payload, new RecordHeaders(), InventoryLowStockEvent.class);
+
+        // then
+        assertThat(converted.getProductId()).isEqualTo("PROD-001");
+        assertThat(converted.getHubId()).isEqualTo("HUB-1");
+        assertThat(converted.getCurrentQuantity()).isZero();
+    }
+
+    private Object convert(byte[] payload, Headers headers, Class<?> type) {
+        ContentTypeMessageConverter converter =
+                new ContentTypeMessageConverter(JacksonUtils.enhancedObjectMapper(), codec);
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("inventory-low-stock", 0, 0L,
+                0L, TimestampType.NO_TIMESTAMP_TYPE, 0, payload.length, "PROD-001", payload, headers, Optional.empty());
+        return converter.toMessage(record, null, null, type).getPayload();
+    }
+
+    private static ProductCreatedEvent productCreatedEvent() {
+        return ProductCreatedEvent.from(ProductCreatedEventData.builder()
+                .productId("PROD-001")
+                .sellerId("SELLER-001")
+                .hubId("HUB-1")
+                .name("프리미엄 노트북")
+                .createdAt(LocalDateTime.of(2025, 1, 15, 10, 30))
+                .build());
+    }
+
+    private static InventoryLowStockEvent lowStockEvent() {
+        return InventoryLowStockEvent.builder()
+                .eventId("E-1")
+                .eventType("INVENTORY_LOW_STOCK")
+                .timestamp(LocalDateTime.of(2025, 1, 15, 10, 30))
+                .version("1.0")
+                .publisher("inventory-service")
+                .inventoryId("INV-001")
+                .productId("PROD-001")
+                .hubId("HUB-1")
+                .currentQuantity(3)
+                .safetyStock(10)
+                .detectedAt(LocalDateTime.of(2025, 1, 15, 10, 29, 59))
+                .build();
+    }
+}
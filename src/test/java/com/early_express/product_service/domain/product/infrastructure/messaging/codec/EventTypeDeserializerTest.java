@@ -0,0 +1,145 @@
+package com.early_express.product_service.domain.product.infrastructure.messaging.codec;
+
+import com.early_express.product_service.domain.product.infrastructure.messaging.inventory.event.InventoryEventSchemas;
+import com.early_express.product_service.domain.product.infrastructure.messaging.inventory.event.InventoryLowStockEvent;
+import com.early_express.product_service.domain.product.infrastructure.messaging.inventory.event.InventoryRestockedEvent;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductEventSchemas;
+import com.early_express.product_service.global.infrastructure.event.codec.BinaryEventCodec;
+import com.early_express.product_service.global.infrastructure.event.codec.EventHeaders;
+import com.early_express.product_service.global.infrastructure.event.codec.EventTypeDeserializer;
+import com.early_express.product_service.global.infrastructure.event.codec.RawPayloadSerializer;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EventTypeDeserializer 테스트")
+class EventTypeDeserializerTest {
+
+    private static final byte[] LOW_STOCK_JSON = """
+            {"eventId":"E-1","eventType":"INVENTORY_LOW_STOCK","productId":"PROD-001","hubId":"HUB-1","currentQuantity":0,"detectedAt":"2025-01-15T10:30:00"}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final BinaryEventCodec codec = new BinaryEventCodec(List.of(new ProductEventSchemas(),
+            new InventoryEventSchemas("inventory-low-stock", "inventory-restocked")));
+    private final EventTypeDeserializer deserializer =
+            new EventTypeDeserializer(codec, JacksonUtils.enhancedObjectMapper());
+
+    @Test
+    @DisplayName("eventType 헤더가 없으면 토픽 기본 타입으로 역직렬화 후 헤더 추가")
+    void noHeader_resolvesByTopic() {
+        // given
+        Headers headers = new RecordHeaders();
+
+        // when
+        Object value = deserializer.deserialize("inventory-low-stock", headers, LOW_STOCK_JSON);
+
+        // then
+        assertThat(value).isInstanceOf(InventoryLowStockEvent.class);
+        InventoryLowStockEvent event = (InventoryLowStockEvent) value;
+        assertThat(event.getProductId()).isEqualTo("PROD-001");
+        assertThat(event.getDetectedAt()).isEqualTo(LocalDateTime.of(2025, 1, 15, 10, 30));
+        assertThat(EventHeaders.lastValue(headers, EventHeaders.EVENT_TYPE)).isEqualTo("INVENTORY_LOW_STOCK");
+        assertThat(headers.lastHeader(EventHeaders.RAW_PAYLOAD).value()).isSameAs(LOW_STOCK_JSON);
+    }
+
+    @Test
+    @DisplayName("eventType 헤더가 토픽보다 우선")
+    void eventTypeHeader_takesPrecedence() {
+        // given
+        Headers headers = new RecordHeaders();
+        EventHeaders.set(headers, EventHeaders.EVENT_TYPE, "INVENTORY_RESTOCKED");
+
+        // when
+        Object value = deserializer.deserialize("inventory-low-stock", headers, LOW_STOCK_JSON);
+
+        // then
+        assertThat(value).isInstanceOf(InventoryRestockedEvent.class);
+    }
+
+    @Test
+    @DisplayName("재시도 토픽 레코드는 원본 토픽 기준으로 타입 판단")
+    void retryTopic_resolvesByOriginalTopic() {
+        // given
+        Headers headers = new RecordHeaders();
+        EventHeaders.set(headers, KafkaHeaders.ORIGINAL_TOPIC, "inventory-low-stock");
+
+        // when
+        Object value = deserializer.deserialize("inventory-low-stock-retry-0", headers, LOW_STOCK_JSON);
+
+        // then
+        assertThat(value).isInstanceOf(InventoryLowStockEvent.class);
+    }
+
+    @Test
+    @DisplayName("바이너리 레코드도 바이트에서 바로 역직렬화")
+    void binary_decodedDirectly() {
+        // given
+        InventoryLowStockEvent event = InventoryLowStockEvent.builder()
+                .eventId("E-1")
+                .eventType("INVENTORY_LOW_STOCK")
+                .productId("PROD-001")
+                .hubId("HUB-1")
+                .currentQuantity(0)
+                .build();
+        Headers headers = new RecordHeaders();
+        EventHeaders.set(headers, EventHeaders.CONTENT_TYPE, EventHeaders.BINARY);
+        EventHeaders.set(headers, EventHeaders.EVENT_TYPE, "INVENTORY_LOW_STOCK");
+
+        // when
+        Object value = deserializer.deserialize("inventory-low-stock", headers, codec.encode(event));
+
+        // then
+        assertThat(value).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("타입을 알 수 없는 토픽은 byte[] 그대로 반환")
+    void unknownTopic_returnsBytes() {
+        Object value = deserializer.deserialize("unknown-topic", new RecordHeaders(), LOW_STOCK_JSON);
+
+        assertThat(value).isSameAs(LOW_STOCK_JSON);
+    }
+
+    @Test
+    @DisplayName("손상된 페이로드는 ErrorHandlingDeserializer 가 null + 예외 헤더로 전달")
+    void poisonPayload_wrappedByErrorHandlingDeserializer() {
+        // given
+        ErrorHandlingDeserializer<Object> errorHandling = new ErrorHandlingDeserializer<>(deserializer);
+        Headers headers = new RecordHeaders();
+        byte[] poison = "{not-json".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        Object value = errorHandling.deserialize("inventory-low-stock", headers, poison);
+
+        // then
+        assertThat(value).isNull();
+        assertThat(headers.lastHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("재전송 시 RAW_PAYLOAD 원본 바이트를 그대로 쓰고 헤더는 제거")
+    void rawPayloadSerializer_resendsOriginalBytes() {
+        // given
+        Headers headers = new RecordHeaders();
+        Object event = deserializer.deserialize("inventory-low-stock", headers, LOW_STOCK_JSON);
+
+        // when
+        byte[] resent = new RawPayloadSerializer().serialize("default-server-test-dlt", headers, event);
+
+        // then
+        assertThat(resent).isSameAs(LOW_STOCK_JSON);
+        assertThat(headers.lastHeader(EventHeaders.RAW_PAYLOAD)).isNull();
+        assertThat(EventHeaders.lastValue(headers, EventHeaders.EVENT_TYPE)).isEqualTo("INVENTORY_LOW_STOCK");
+    }
+}
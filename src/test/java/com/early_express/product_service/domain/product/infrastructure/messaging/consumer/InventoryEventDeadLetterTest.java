@@ -0,0 +1,151 @@
+package com.early_express.product_service.domain.product.infrastructure.messaging.consumer;
+
+import com.early_express.product_service.domain.product.application.service.ProductService;
+import com.early_express.product_service.domain.product.domain.exception.ProductErrorCode;
+import com.early_express.product_service.domain.product.domain.exception.ProductException;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+/**
+ * 재고 이벤트 실패 처리 통합 테스트 (EmbeddedKafka)
+ * 재시도 불가 예외 / 역직렬화 실패는 바로 DLT, 그 외 예외는 재시도 토픽을 거쳐 DLT 로 이동하는지 검증
+ */
+@SpringBootTest(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.non-blocking-retry.attempts=3",
+        "spring.kafka.non-blocking-retry.delay-ms=200",
+        "spring.kafka.non-blocking-retry.multiplier=1.5",
+        "spring.kafka.non-blocking-retry.topic-partitions=1",
+        "spring.kafka.non-blocking-retry.topic-replicas=1"
+})
+@EmbeddedKafka(partitions = 1, topics = {"inventory-low-stock", "default-server-test-dlt"})
+@DisplayName("재고 이벤트 DLT 라우팅 테스트")
+class InventoryEventDeadLetterTest {
+
+    private static final String DLT = "default-server-test-dlt";
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @MockitoBean
+    private ProductService productService;
+
+    private KafkaTemplate<String, String> template;
+    private Consumer<String, String> dltConsumer;
+
+    @BeforeEach
+    void setUp() {
+        template = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                KafkaTestUtils.producerProps(embeddedKafka), new StringSerializer(), new StringSerializer()));
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("dlt-verifier", "false", embeddedKafka);
+        dltConsumer = new DefaultKafkaConsumerFactory<>(
+                consumerProps, new StringDeserializer(), new StringDeserializer()).createConsumer();
+        embeddedKafka.consumeFromAnEmbeddedTopic(dltConsumer, DLT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dltConsumer.close();
+        template.destroy();
+    }
+
+    @Test
+    @DisplayName("ProductException 은 재시도 없이 DLT 로 전송")
+    void nonRetryable_goesToDeadLetterDirectly() {
+        // given
+        willThrow(new ProductException(ProductErrorCode.PRODUCT_NOT_FOUND))
+                .given(productService).markAsOutOfStock(eq("PROD-GONE"), eq("HUB-1"), any());
+
+        // when
+        template.send("inventory-low-stock", "PROD-GONE", lowStockPayload("PROD-GONE"));
+
+        // then
+        ConsumerRecord<String, String> dead = awaitDeadLetter("PROD-GONE", Duration.ofSeconds(20));
+        assertThat(dead.key()).isEqualTo("PROD-GONE");
+        assertThat(dead.value()).isEqualTo(lowStockPayload("PROD-GONE"));
+        assertThat(header(dead, KafkaHeaders.ORIGINAL_TOPIC)).isEqualTo("inventory-low-stock");
+        assertThat(header(dead, KafkaHeaders.EXCEPTION_CAUSE_FQCN)).isEqualTo(ProductException.class.getName());
+        verify(productService, times(1)).markAsOutOfStock(eq("PROD-GONE"), eq("HUB-1"), any());
+    }
+
+    @Test
+    @DisplayName("일시 오류는 재시도 토픽을 거친 뒤 DLT 로 전송")
+    void retryable_goesThroughRetryTopicsThenDeadLetter() {
+        // given
+        willThrow(new IllegalStateException("DB 연결 실패"))
+                .given(productService).markAsOutOfStock(eq("PROD-FLAKY"), eq("HUB-1"), any());
+
+        // when
+        template.send("inventory-low-stock", "PROD-FLAKY", lowStockPayload("PROD-FLAKY"));
+
+        // then
+        ConsumerRecord<String, String> dead = awaitDeadLetter("PROD-FLAKY", Duration.ofSeconds(30));
+        assertThat(dead.key()).isEqualTo("PROD-FLAKY");
+        assertThat(dead.value()).isEqualTo(lowStockPayload("PROD-FLAKY"));
+        assertThat(header(dead, KafkaHeaders.ORIGINAL_TOPIC)).isEqualTo("inventory-low-stock");
+        assertThat(header(dead, KafkaHeaders.EXCEPTION_CAUSE_FQCN)).isEqualTo(IllegalStateException.class.getName());
+        // 원본 토픽 1회 + 재시도 토픽 2단계
+        verify(productService, times(3)).markAsOutOfStock(eq("PROD-FLAKY"), eq("HUB-1"), any());
+    }
+
+    @Test
+    @DisplayName("역직렬화 실패 레코드는 컨테이너 중단 없이 원본 그대로 DLT 로 전송")
+    void poisonPayload_goesToDeadLetterDirectly() {
+        // when
+        template.send("inventory-low-stock", "PROD-POISON", "{not-json");
+
+        // then
+        ConsumerRecord<String, String> dead = awaitDeadLetter("PROD-POISON", Duration.ofSeconds(20));
+        assertThat(dead.value()).isEqualTo("{not-json");
+        assertThat(header(dead, KafkaHeaders.ORIGINAL_TOPIC)).isEqualTo("inventory-low-stock");
+        verify(productService, never()).markAsOutOfStock(eq("PROD-POISON"), any(), any());
+    }
+
+    // 다른 테스트에서 전송된 DLT 레코드는 건너뜀
+    private ConsumerRecord<String, String> awaitDeadLetter(String key, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            for (ConsumerRecord<String, String> record : dltConsumer.poll(Duration.ofMillis(200))) {
+                if (key.equals(record.key())) {
+                    return record;
+                }
+            }
+        }
+        throw new AssertionError("DLT 레코드 없음 - key: " + key);
+    }
+
+    private static String lowStockPayload(String productId) {
+        return """
+                {"eventId":"E-1","eventType":"INVENTORY_LOW_STOCK","productId":"%s","hubId":"HUB-1","currentQuantity":0,"safetyStock":10}"""
+                .formatted(productId);
+    }
+
+    private static String header(ConsumerRecord<?, ?> record, String name) {
+        return new String(record.headers().lastHeader(name).value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,142 @@
+package com.early_express.product_service.domain.product.infrastructure.messaging.consumer;
+
+import com.early_express.product_service.domain.product.application.service.ProductService;
+import com.early_express.product_service.domain.product.infrastructure.messaging.inventory.consumer.StockTransitionCoalescer;
+import com.early_express.product_service.global.infrastructure.event.dispatch.KeyOrderedEventDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StockTransitionCoalescer 테스트")
+class StockTransitionCoalescerTest {
+
+    private static final long WINDOW_MS = 200;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private final ProductService productService = mock(ProductService.class);
+    private final ConsumerRecordRecoverer recoverer = mock(ConsumerRecordRecoverer.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private KeyOrderedEventDispatcher dispatcher;
+    private StockTransitionCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new KeyOrderedEventDispatcher(false, 0, 2, 0, false,
+                new Class<?>[]{IllegalArgumentException.class}, recoverer);
+        coalescer = new StockTransitionCoalescer(productService, dispatcher, meterRegistry, true, WINDOW_MS);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        coalescer.shutdown();
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("윈도우 내 반복 전이는 최종 상태만 한 번 반영 후 전체 ACK")
+    void submit_flapping_appliesNetStateOnce() {
+        // given
+        Acknowledgment[] acks = new Acknowledgment[5];
+        for (int i = 0; i < acks.length; i++) {
+            acks[i] = mock(Acknowledgment.class);
+        }
+
+        // when - 품절 → 재입고 → 품절 → 재입고 → 품절
+        for (int i = 0; i < acks.length; i++) {
+            coalescer.submit("PROD-001", "HUB-1", i % 2 == 0, BASE.plusSeconds(i), record("PROD-001", i), acks[i]);
+        }
+
+        // then
+        verify(productService, timeout(2000)).markAsOutOfStock("PROD-001", "HUB-1", BASE.plusSeconds(4));
+        for (Acknowledgment ack : acks) {
+            verify(ack, timeout(2000)).acknowledge();
+        }
+        verify(productService, never()).restoreFromOutOfStock(anyString(), anyString(), any());
+        verifyNoMoreInteractions(productService);
+
+        assertThat(suppressed("out_of_stock")).isEqualTo(2.0);
+        assertThat(suppressed("restocked")).isEqualTo(2.0);
+        assertThat(meterRegistry.get("inventory.stock.transition.applied").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 지난 이벤트는 최종 상태를 덮어쓰지 않음")
+    void submit_outOfOrder_keepsLatestOccurred() {
+        // given
+        Acknowledgment restockAck = mock(Acknowledgment.class);
+        Acknowledgment staleAck = mock(Acknowledgment.class);
+
+        // when - 재입고(10:00:05) 이후 지난 재고 부족(10:00:01) 수신
+        coalescer.submit("PROD-001", "HUB-1", false, BASE.plusSeconds(5), record("PROD-001", 0), restockAck);
+        coalescer.submit("PROD-001", "HUB-1", true, BASE.plusSeconds(1), record("PROD-001", 1), staleAck);
+
+        // then
+        verify(productService, timeout(2000)).restoreFromOutOfStock("PROD-001", "HUB-1", BASE.plusSeconds(5));
+        verify(restockAck, timeout(2000)).acknowledge();
+        verify(staleAck, timeout(2000)).acknowledge();
+        verify(productService, never()).markAsOutOfStock(anyString(), anyString(), any());
+        assertThat(suppressed("out_of_stock")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("상품별로 독립적인 윈도우 적용")
+    void submit_differentProducts_appliedIndependently() {
+        // given
+        Acknowledgment ack1 = mock(Acknowledgment.class);
+        Acknowledgment ack2 = mock(Acknowledgment.class);
+
+        // when
+        coalescer.submit("PROD-001", "HUB-1", true, BASE, record("PROD-001", 0), ack1);
+        coalescer.submit("PROD-002", "HUB-1", false, BASE, record("PROD-002", 1), ack2);
+
+        // then
+        verify(productService, timeout(2000)).markAsOutOfStock("PROD-001", "HUB-1", BASE);
+        verify(productService, timeout(2000)).restoreFromOutOfStock("PROD-002", "HUB-1", BASE);
+        verify(ack1, timeout(2000)).acknowledge();
+        verify(ack2, timeout(2000)).acknowledge();
+        assertThat(suppressed("out_of_stock") + suppressed("restocked")).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 재시도 후 최종 레코드를 DLT 로 전송하고 전체 ACK")
+    void flush_failure_recoversLatestRecord() {
+        // given
+        willThrow(new IllegalStateException("DB 연결 실패"))
+                .given(productService).markAsOutOfStock(eq("PROD-001"), eq("HUB-1"), any());
+        Acknowledgment ack1 = mock(Acknowledgment.class);
+        Acknowledgment ack2 = mock(Acknowledgment.class);
+        ConsumerRecord<String, String> latest = record("PROD-001", 1);
+
+        // when
+        coalescer.submit("PROD-001", "HUB-1", false, BASE, record("PROD-001", 0), ack1);
+        coalescer.submit("PROD-001", "HUB-1", true, BASE.plusSeconds(1), latest, ack2);
+
+        // then
+        verify(recoverer, timeout(2000)).accept(eq(latest), any(IllegalStateException.class));
+        verify(productService, times(2)).markAsOutOfStock("PROD-001", "HUB-1", BASE.plusSeconds(1));
+        verify(ack1, timeout(2000)).acknowledge();
+        verify(ack2, timeout(2000)).acknowledge();
+    }
+
+    private double suppressed(String transition) {
+        return meterRegistry.get("inventory.stock.transition.suppressed")
+                .tag("transition", transition)
+                .counter()
+                .count();
+    }
+
+    private static ConsumerRecord<String, String> record(String productId, long offset) {
+        return new ConsumerRecord<>("inventory-low-stock", 0, offset, productId, "{}");
+    }
+}
@@ -0,0 +1,86 @@
+package com.early_express.product_service.domain.product.infrastructure.messaging.producer;
+
+import com.early_express.product_service.domain.product.domain.messaging.dto.ProductUpdatedEventData;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductEventSchemas;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.producer.KafkaProductEventPublisher;
+import com.early_express.product_service.global.infrastructure.event.codec.BinaryEventCodec;
+import com.early_express.product_service.global.infrastructure.event.publish.InFlightPublishTracker;
+import com.early_express.product_service.global.infrastructure.event.publish.SpillJournal;
+import com.early_express.product_service.global.infrastructure.monitoring.EventLatencyRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("KafkaProductEventPublisher 테스트")
+class KafkaProductEventPublisherTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+    private InFlightPublishTracker tracker;
+    private KafkaProductEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (publisher != null) {
+            publisher.shutdown();
+        }
+        if (tracker != null) {
+            tracker.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("발행 병합 + 백프레셔를 저널 없이 켜면 기동 실패 (커밋 이후 거부된 이벤트 유실 방지)")
+    void coalescingWithRejectingTracker_failsFast() {
+        // given - 한도 초과 시 거부하는 발행 한도
+        tracker = tracker(new SpillJournal(meterRegistry, false, "unused", 0, 0, "none", 0));
+
+        // when & then
+        assertThatThrownBy(() -> new KafkaProductEventPublisher(tracker, meterRegistry, true, 0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("spring.kafka.spill-journal.enabled");
+    }
+
+    @Test
+    @DisplayName("발행 병합 중 한도를 초과한 이벤트는 버리지 않고 저널에 보관")
+    void coalescingWithJournal_journalsOverLimitEvents() {
+        // given - 첫 이벤트가 ACK 를 받지 못해 한도(1) 를 계속 점유
+        when(kafkaTemplate.send(any(), any(), any())).thenReturn(new CompletableFuture<>());
+        SpillJournal journal = new SpillJournal(meterRegistry, true, directory.toString(), 4096, 4, "always", 0);
+        tracker = tracker(journal);
+        publisher = new KafkaProductEventPublisher(tracker, meterRegistry, true, 0);
+        ReflectionTestUtils.setField(publisher, "productUpdatedTopic", "product-updated");
+
+        // when
+        publisher.publishProductUpdated(ProductUpdatedEventData.of("PROD-001", "상품", BigDecimal.valueOf(1000)));
+        publisher.publishProductUpdated(ProductUpdatedEventData.of("PROD-002", "상품", BigDecimal.valueOf(2000)));
+
+        // then
+        assertThat(journal.depth()).isEqualTo(1);
+        assertThat(meterRegistry.get("kafka.publish.rejected").tag("policy", "shed").counter().count()).isZero();
+    }
+
+    private InFlightPublishTracker tracker(SpillJournal journal) {
+        BinaryEventCodec codec = new BinaryEventCodec(List.of(new ProductEventSchemas()));
+        return new InFlightPublishTracker(kafkaTemplate, journal, codec, meterRegistry,
+                new EventLatencyRecorder(meterRegistry), true, 1, "shed", 0, 0, 1, 60_000, 60_000);
+    }
+}
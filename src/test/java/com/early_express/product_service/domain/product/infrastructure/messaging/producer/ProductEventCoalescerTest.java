@@ -0,0 +1,168 @@
+package com.early_express.product_service.domain.product.infrastructure.messaging.producer;
+
+import com.early_express.product_service.domain.product.domain.messaging.dto.ProductDeletedEventData;
+import com.early_express.product_service.domain.product.domain.messaging.dto.ProductStatusChangedEventData;
+import com.early_express.product_service.domain.product.domain.messaging.dto.ProductUpdatedEventData;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.producer.ProductEventCoalescer;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.producer.ProductEventCoalescer.EventKind;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.producer.ProductEventCoalescer.PendingEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductEventCoalescer 테스트")
+class ProductEventCoalescerTest {
+
+    private static final long WINDOW_MS = 200;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<PendingEvent> sent = new CopyOnWriteArrayList<>();
+    private ProductEventCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.shutdown();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("윈도우 내 연속 수정은 최신 값 한 건만 발행")
+    void submit_updateBurst_sendsLatestOnce() throws InterruptedException {
+        // given
+        coalescer = new ProductEventCoalescer(WINDOW_MS, meterRegistry, sent::add);
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            coalescer.submit(updated("PROD-001", i * 1000));
+        }
+
+        // then
+        awaitSent(1);
+        ProductUpdatedEventData data = (ProductUpdatedEventData) sent.get(0).data();
+        assertThat(data.getPrice()).isEqualByComparingTo("5000");
+        assertThat(coalesced("updated")).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("상태 변경은 처음 이전 상태 → 마지막 새 상태로 합치고 발생 순서 유지")
+    void submit_statusChanges_mergedToNetTransition() throws InterruptedException {
+        // given
+        coalescer = new ProductEventCoalescer(WINDOW_MS, meterRegistry, sent::add);
+
+        // when - 상태 변경 → 수정 → 상태 변경
+        coalescer.submit(statusChanged("PROD-001", "ACTIVE", "OUT_OF_STOCK"));
+        coalescer.submit(updated("PROD-001", 1000));
+        coalescer.submit(statusChanged("PROD-001", "OUT_OF_STOCK", "SUSPENDED"));
+
+        // then
+        awaitSent(2);
+        assertThat(sent).extracting(PendingEvent::kind)
+                .containsExactly(EventKind.UPDATED, EventKind.STATUS_CHANGED);
+        ProductStatusChangedEventData status = (ProductStatusChangedEventData) sent.get(1).data();
+        assertThat(status.getOldStatus()).isEqualTo("ACTIVE");
+        assertThat(status.getNewStatus()).isEqualTo("SUSPENDED");
+    }
+
+    @Test
+    @DisplayName("되돌아온 상태 변경은 발행하지 않고, 삭제 이전 이벤트와는 병합하지 않음")
+    void submit_flappingStatusAndBoundary() throws InterruptedException {
+        // given
+        coalescer = new ProductEventCoalescer(WINDOW_MS, meterRegistry, sent::add);
+
+        // when - 품절 → 재입고 (순 변화 없음), 수정 → 삭제 → 수정
+        coalescer.submit(statusChanged("PROD-001", "ACTIVE", "OUT_OF_STOCK"));
+        coalescer.submit(statusChanged("PROD-001", "OUT_OF_STOCK", "ACTIVE"));
+        coalescer.submit(updated("PROD-001", 1000));
+        coalescer.submit(new PendingEvent(EventKind.DELETED, "PROD-001",
+                ProductDeletedEventData.of("PROD-001", "SELLER-1")));
+        coalescer.submit(updated("PROD-001", 2000));
+
+        // then
+        awaitSent(3);
+        assertThat(sent).extracting(PendingEvent::kind)
+                .containsExactly(EventKind.UPDATED, EventKind.DELETED, EventKind.UPDATED);
+        assertThat(coalesced("status_changed")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 이벤트는 커밋 시 병합 발행, 롤백 시 폐기")
+    void submit_inTransaction_sentAfterCommitOnly() {
+        // given - 윈도우 0: 트랜잭션 단위 병합만
+        coalescer = new ProductEventCoalescer(0, meterRegistry, sent::add);
+
+        // when - 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        coalescer.submit(updated("PROD-001", 1000));
+        coalescer.submit(updated("PROD-001", 2000));
+        coalescer.submit(updated("PROD-002", 3000));
+        assertThat(sent).isEmpty();
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        assertThat(sent).extracting(PendingEvent::productId).containsExactly("PROD-001", "PROD-002");
+
+        // when - 롤백
+        TransactionSynchronizationManager.initSynchronization();
+        coalescer.submit(updated("PROD-001", 4000));
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertThat(sent).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("종료 시 대기 중인 이벤트는 즉시 발행")
+    void shutdown_flushesPending() {
+        // given
+        coalescer = new ProductEventCoalescer(60_000, meterRegistry, sent::add);
+        coalescer.submit(updated("PROD-001", 1000));
+
+        // when
+        coalescer.shutdown();
+
+        // then
+        assertThat(sent).hasSize(1);
+    }
+
+    private void awaitSent(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (sent.size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Thread.sleep(WINDOW_MS);
+        assertThat(sent).hasSize(expected);
+    }
+
+    private static void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private double coalesced(String type) {
+        return meterRegistry.get("product.event.publish.coalesced").tag("type", type).counter().count();
+    }
+
+    private static PendingEvent updated(String productId, int price) {
+        return new PendingEvent(EventKind.UPDATED, productId,
+                ProductUpdatedEventData.of(productId, "상품", BigDecimal.valueOf(price)));
+    }
+
+    private static PendingEvent statusChanged(String productId, String oldStatus, String newStatus) {
+        return new PendingEvent(EventKind.STATUS_CHANGED, productId,
+                ProductStatusChangedEventData.of(productId, oldStatus, newStatus));
+    }
+}
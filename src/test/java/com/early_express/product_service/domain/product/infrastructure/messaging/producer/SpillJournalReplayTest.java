@@ -0,0 +1,134 @@
+package com.early_express.product_service.domain.product.infrastructure.messaging.producer;
+
+import com.early_express.product_service.domain.product.domain.messaging.dto.ProductUpdatedEventData;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductEventSchemas;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductUpdatedEvent;
+import com.early_express.product_service.global.infrastructure.event.codec.BinaryEventCodec;
+import com.early_express.product_service.global.infrastructure.event.publish.InFlightPublishTracker;
+import com.early_express.product_service.global.infrastructure.event.publish.PublishSpilledException;
+import com.early_express.product_service.global.infrastructure.event.publish.SpillJournal;
+import com.early_express.product_service.global.infrastructure.monitoring.EventLatencyRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("로컬 저널 보관 / 재발행 테스트")
+class SpillJournalReplayTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BinaryEventCodec codec = new BinaryEventCodec(List.of(new ProductEventSchemas()));
+    private final List<ProductUpdatedEvent> delivered = new CopyOnWriteArrayList<>();
+    private volatile boolean brokerUp;
+    private SpillJournal journal;
+    private InFlightPublishTracker tracker;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        tracker.shutdown();
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("브로커 장애 중 이벤트는 저널에 보관되고 복구 후 기록 순서대로 재발행")
+    void brokerOutage_journaledAndReplayedInOrder() throws Exception {
+        // given
+        journal = new SpillJournal(meterRegistry, true, directory.toString(), 1 << 16, 4, "interval", 100);
+        tracker = new InFlightPublishTracker(kafkaTemplate(), journal, codec, meterRegistry,
+                new EventLatencyRecorder(meterRegistry), true, 100, "block", 50, 0, 10, 20, 100);
+
+        // when - 장애 중 발행 (첫 전송 실패 → 저널, 이후 이벤트는 저널 뒤에 기록)
+        CompletableFuture<SendResult<String, Object>> first = tracker.send("product-updated", "PROD-001", updated("PROD-001", 1));
+        awaitUntil(() -> journal.depth() == 1);
+        tracker.send("product-updated", "PROD-002", updated("PROD-002", 2));
+        tracker.send("product-updated", "PROD-001", updated("PROD-001", 3));
+
+        // then
+        assertThat(first.handle((result, ex) -> ex).get()).isInstanceOf(PublishSpilledException.class);
+        assertThat(journal.depth()).isEqualTo(3);
+        assertThat(delivered).isEmpty();
+
+        // when - 브로커 복구
+        brokerUp = true;
+        awaitUntil(() -> journal.isEmpty());
+
+        // then
+        assertThat(delivered).extracting(event -> event.getPrice().intValue()).containsExactly(1, 2, 3);
+        assertThat(delivered.get(0).getProductId()).isEqualTo("PROD-001");
+        assertThat(meterRegistry.get("kafka.publish.journal.replayed").counter().count()).isEqualTo(3.0);
+
+        // when - 저널이 비면 다시 바로 전송
+        tracker.send("product-updated", "PROD-003", updated("PROD-003", 4)).get();
+
+        // then
+        assertThat(delivered).hasSize(4);
+        assertThat(journal.depth()).isZero();
+    }
+
+    @Test
+    @DisplayName("발행 한도 초과 이벤트는 거부하지 않고 저널에 보관")
+    @SuppressWarnings("unchecked")
+    void overLimit_journaledInsteadOfRejected() throws Exception {
+        // given - ACK 가 오지 않아 permit 1개를 계속 점유
+        KafkaTemplate<String, Object> pendingTemplate = mock(KafkaTemplate.class);
+        when(pendingTemplate.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        journal = new SpillJournal(meterRegistry, true, directory.toString(), 1 << 16, 4, "interval", 100);
+        tracker = new InFlightPublishTracker(pendingTemplate, journal, codec, meterRegistry,
+                new EventLatencyRecorder(meterRegistry), true, 1, "shed", 0, 0, 10, 20, 100);
+        tracker.send("product-updated", "PROD-001", updated("PROD-001", 1));
+
+        // when
+        CompletableFuture<SendResult<String, Object>> overLimit =
+                tracker.send("product-updated", "PROD-002", updated("PROD-002", 2));
+
+        // then
+        assertThat(overLimit.handle((result, ex) -> ex).get()).isInstanceOf(PublishSpilledException.class);
+        assertThat(journal.depth()).isEqualTo(1);
+        assertThat(meterRegistry.get("kafka.publish.rejected").tag("policy", "shed").counter().count()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private KafkaTemplate<String, Object> kafkaTemplate() {
+        KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            if (!brokerUp) {
+                return CompletableFuture.failedFuture(new TimeoutException("broker unavailable"));
+            }
+            delivered.add(invocation.getArgument(2));
+            return CompletableFuture.completedFuture(null);
+        });
+        return kafkaTemplate;
+    }
+
+    private static ProductUpdatedEvent updated(String productId, int price) {
+        return ProductUpdatedEvent.from(ProductUpdatedEventData.of(productId, "상품", BigDecimal.valueOf(price)));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
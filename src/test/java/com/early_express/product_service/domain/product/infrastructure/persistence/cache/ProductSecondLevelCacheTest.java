@@ -0,0 +1,152 @@
+package com.early_express.product_service.domain.product.infrastructure.persistence.cache;
+
+import com.early_express.product_service.domain.product.domain.model.Product;
+import com.early_express.product_service.domain.product.domain.model.vo.Price;
+import com.early_express.product_service.domain.product.domain.repository.ProductRepository;
+import com.early_express.product_service.domain.product.infrastructure.persistence.entity.ProductEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 2차 캐시 통합 테스트
+ * 캐시 적재가 커밋 시점에 일어나므로 테스트 트랜잭션 롤백 없이 실행, 다른 테스트와 DB 를 공유하지 않도록 별도 H2 사용
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.second-level-cache.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:second_level_cache;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+})
+@DisplayName("상품 2차 캐시 테스트")
+class ProductSecondLevelCacheTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCacheEvictor productCacheEvictor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션의 ID 조회는 두 번째부터 쿼리 없이 캐시에서 반환")
+    void findById_servedFromCache() {
+        // given
+        String productId = productRepository.save(createTestProduct()).getProductId();
+        productRepository.findById(productId);
+        productRepository.existsById(productId);
+        long statements = statistics.getPrepareStatementCount();
+
+        // when
+        Product found = productRepository.findById(productId).orElseThrow();
+        boolean exists = productRepository.existsById(productId);
+
+        // then
+        assertThat(found.getName()).isEqualTo("캐시 상품");
+        assertThat(exists).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getQueryRegionStatistics(ProductEntity.QUERY_CACHE_REGION).getHitCount()).isPositive();
+        assertThat(meterRegistry.get("hibernate.cache.region.hit.ratio")
+                .tag("region", ProductEntity.QUERY_CACHE_REGION).gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("저장 시 같은 트랜잭션에서 로드하지 않은 상품은 엔티티 캐시에서 찾고, 커밋 후 캐시에 반영")
+    void save_loadsFromEntityCache() {
+        // given
+        String productId = productRepository.save(createTestProduct()).getProductId();
+        Product product = productRepository.findById(productId).orElseThrow();
+        product.update("수정된 캐시 상품", "수정된 설명", Price.of(20000));
+        long hits = statistics.getDomainDataRegionStatistics(ProductEntity.CACHE_REGION).getHitCount();
+        long statements = statistics.getPrepareStatementCount();
+
+        // when - 새 쓰기 트랜잭션에서 저장 (UPDATE 만 실행)
+        productRepository.save(product);
+
+        // then
+        assertThat(statistics.getDomainDataRegionStatistics(ProductEntity.CACHE_REGION).getHitCount())
+                .isEqualTo(hits + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements + 1);
+        assertThat(productRepository.findById(productId))
+                .get()
+                .extracting(Product::getName)
+                .isEqualTo("수정된 캐시 상품");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경은 상품 이벤트로 무효화된 후 읽기 전용 조회에 반영")
+    void otherNodeChange_visibleAfterEviction() {
+        // given
+        String productId = productRepository.save(createTestProduct()).getProductId();
+        productRepository.findById(productId);
+        updateNameBypassingCache(productId, "다른 노드에서 수정");
+
+        // when - 무효화 전: 캐시 값
+        String beforeEviction = productRepository.findById(productId).orElseThrow().getName();
+        productCacheEvictor.evict(productId);
+        String afterEviction = productRepository.findById(productId).orElseThrow().getName();
+
+        // then
+        assertThat(beforeEviction).isEqualTo("캐시 상품");
+        assertThat(afterEviction).isEqualTo("다른 노드에서 수정");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션의 조회는 캐시를 읽지 않고 DB 의 현재 값을 사용")
+    void writeTransaction_bypassesCache() {
+        // given
+        String productId = productRepository.save(createTestProduct()).getProductId();
+        productRepository.findById(productId);
+        updateNameBypassingCache(productId, "다른 노드에서 수정");
+
+        // when
+        String name = new TransactionTemplate(transactionManager)
+                .execute(status -> productRepository.findById(productId).orElseThrow().getName());
+        String nameForUpdate = new TransactionTemplate(transactionManager)
+                .execute(status -> productRepository.findByIdForUpdate(productId).orElseThrow().getName());
+
+        // then
+        assertThat(name).isEqualTo("다른 노드에서 수정");
+        assertThat(nameForUpdate).isEqualTo("다른 노드에서 수정");
+    }
+
+    /**
+     * 다른 노드의 변경 (이 노드의 캐시를 거치지 않는 DB 변경)
+     */
+    private void updateNameBypassingCache(String productId, String name) {
+        jdbcTemplate.update("UPDATE p_products SET name = ? WHERE product_id = ?", name, UUID.fromString(productId));
+    }
+
+    private Product createTestProduct() {
+        return Product.create(null, "SELLER-CACHE", "COMPANY-001", "캐시 상품", "테스트 설명", Price.of(10000), 1, 100);
+    }
+}
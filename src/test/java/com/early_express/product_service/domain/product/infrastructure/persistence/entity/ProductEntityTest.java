@@ -1,5 +1,7 @@
 package com.early_express.product_service.domain.product.infrastructure.persistence.entity;
 
+import com.early_express.product_service.domain.product.domain.exception.ProductErrorCode;
+import com.early_express.product_service.domain.product.domain.exception.ProductException;
 import com.early_express.product_service.domain.product.domain.model.Product;
 import com.early_express.product_service.domain.product.domain.model.vo.Price;
 import com.early_express.product_service.domain.product.domain.model.vo.ProductStatus;
@@ -7,12 +9,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("ProductEntity 변환 테스트")
 class ProductEntityTest {
 
+    // product_id 는 uuid 컬럼이므로 UUID 형식 ID 사용
+    private static final String PRODUCT_ID = "0b7e6c2a-3f5d-4c1e-9a8b-2d4f6e8a0c1b";
+
     @Test
     @DisplayName("Domain → Entity 변환")
     void fromDomain() {
@@ -57,6 +64,7 @@ class ProductEntityTest {
         assertThat(entity.getProductId()).isNotNull();
         assertThat(entity.getProductId()).isNotBlank();
         assertThat(entity.getProductId()).hasSize(36); // UUID 표준 길이
+        assertThat(UUID.fromString(entity.getProductId()).version()).isEqualTo(7); // 시간 순서 UUIDv7
     }
 
     @Test
@@ -83,6 +91,28 @@ class ProductEntityTest {
         assertThat(entity.getProductId()).hasSize(36); // UUID 표준 길이
     }
 
+    @Test
+    @DisplayName("Domain의 ID가 UUID 형식이 아니면 상품 예외")
+    void fromDomain_withMalformedId_throwsProductException() {
+        // given
+        Product product = Product.create(
+                "PROD-001",  // UUID 형식이 아닌 ID
+                "SELLER-001",
+                "COMPANY-001",
+                "테스트 상품",
+                "테스트 설명",
+                Price.of(10000),
+                1,
+                100
+        );
+
+        // when & then
+        assertThatThrownBy(() -> ProductEntity.fromDomain(product))
+                .isInstanceOf(ProductException.class)
+                .extracting(e -> ((ProductException) e).getErrorCode())
+                .isEqualTo(ProductErrorCode.INVALID_PRODUCT_ID);
+    }
+
     @Test
     @DisplayName("Entity → Domain 변환")
     void toDomain() {
@@ -120,6 +150,21 @@ class ProductEntityTest {
         assertThat(convertedProduct.getStatus()).isEqualTo(originalProduct.getStatus());
     }
 
+    @Test
+    @DisplayName("등록 허브 변환")
+    void hubId_roundTrip() {
+        // given
+        Product product = Product.create(PRODUCT_ID, "SELLER-001", "COMPANY-001", "HUB-001",
+                "테스트 상품", "테스트 설명", Price.of(10000), 1, 100);
+
+        // when
+        ProductEntity entity = ProductEntity.fromDomain(product);
+
+        // then
+        assertThat(entity.getHubId()).isEqualTo("HUB-001");
+        assertThat(entity.toDomain().getHubId()).isEqualTo("HUB-001");
+    }
+
     @Test
     @DisplayName("Domain 변경사항을 Entity에 반영")
     void updateFromDomain() {
@@ -178,7 +223,7 @@ class ProductEntityTest {
 
     private Product createTestProduct() {
         return Product.create(
-                "PROD-001",
+                PRODUCT_ID,
                 "SELLER-001",
                 "COMPANY-001",
                 "테스트 상품",
@@ -191,7 +236,7 @@ class ProductEntityTest {
 
     private ProductEntity createTestEntity() {
         return ProductEntity.builder()
-                .productId("PROD-001")
+                .productId(PRODUCT_ID)
                 .sellerId("SELLER-001")
                 .name("테스트 상품")
                 .description("테스트 설명")
@@ -0,0 +1,174 @@
+package com.early_express.product_service.domain.product.infrastructure.persistence.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 마이그레이션 인덱스 실행 계획 테스트 (PostgreSQL 전용)
+ * - 전용 스키마에 db/migration 스크립트를 적용하고 상품 50,000건 적재 후 VACUUM ANALYZE
+ * - ProductRepositoryImpl 의 조회 형태별로 EXPLAIN 결과가 기대 인덱스를 쓰고 p_products 를 Seq Scan 하지 않는지 확인
+ *
+ * 설정 (시스템 속성, ./gradlew test -Pplan.postgres.url=jdbc:postgresql://localhost:5432/default_db 형태로 전달)
+ * - plan.postgres.url / plan.postgres.username (postgres) / plan.postgres.password
+ * - 지정하지 않으면 건너뜀, 테스트 스키마(product_plan_test)는 매 실행마다 clean 후 재생성
+ */
+@DisplayName("상품 조회 인덱스 실행 계획 테스트")
+class ProductQueryPlanTest {
+
+    private static final String URL = System.getProperty("plan.postgres.url");
+    private static final String USERNAME = System.getProperty("plan.postgres.username", "postgres");
+    private static final String PASSWORD = System.getProperty("plan.postgres.password", "");
+    private static final String SCHEMA = "product_plan_test";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    // 판매자 500명, 허브 20개, 10% 삭제, 1% 단종, 허브 HUB-1 에 7번째 상품마다 품절 기록
+    private static final String SEED_PRODUCTS = """
+            INSERT INTO p_products (product_id, seller_id, company_id, hub_id, name, description, price, status,
+                                    is_sellable, has_event, min_order_quantity, max_order_quantity,
+                                    created_at, created_by, is_deleted)
+            SELECT ('00000000-0000-4000-8000-' || lpad(i::text, 12, '0'))::uuid, 'SELLER-' || (i % 500), 'COMPANY-' || (i % 50), 'HUB-' || (i % 20),
+                   '상품 ' || i, '설명 ' || i, 1000 + i % 100,
+                   CASE WHEN i % 100 = 0 THEN 'DISCONTINUED' ELSE 'ACTIVE' END, i % 100 <> 0, false, 1, 100,
+                   TIMESTAMP '2025-01-01' - make_interval(secs => i * 60), 'SELLER-' || (i % 500), i % 10 = 0
+            FROM generate_series(1, 50000) AS i""";
+
+    private static final String SEED_HUB_STOCKS = """
+            INSERT INTO p_product_hub_stocks (product_id, hub_id, out_of_stock, stock_event_at)
+            SELECT ('00000000-0000-4000-8000-' || lpad(i::text, 12, '0'))::uuid, 'HUB-1', true, TIMESTAMP '2025-01-02'
+            FROM generate_series(7, 50000, 7) AS i""";
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        assumeTrue(URL != null && !URL.isBlank(), "plan.postgres.url 미지정 - PostgreSQL 실행 계획 테스트 건너뜀");
+
+        Flyway flyway = Flyway.configure()
+                .dataSource(URL, USERNAME, PASSWORD)
+                .schemas(SCHEMA)
+                .createSchemas(true)
+                .locations("classpath:db/migration/postgresql")
+                .cleanDisabled(false)
+                .load();
+        flyway.clean();
+        flyway.migrate();
+
+        connection = DriverManager.getConnection(URL, USERNAME, PASSWORD);
+        connection.setSchema(SCHEMA);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(SEED_PRODUCTS);
+            statement.execute(SEED_HUB_STOCKS);
+            // index-only scan 판단에 필요한 visibility map / 통계 갱신
+            statement.execute("VACUUM ANALYZE p_products");
+            statement.execute("VACUUM ANALYZE p_product_hub_stocks");
+        }
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("판매자별 페이지와 건수는 (seller_id, created_at DESC) 부분 인덱스")
+    void sellerPage_usesSellerIndex() throws Exception {
+        assertUsesIndex("""
+                SELECT * FROM p_products
+                WHERE seller_id = 'SELLER-7' AND is_deleted = false
+                ORDER BY created_at DESC OFFSET 0 LIMIT 20""", "idx_products_seller_created");
+        assertUsesIndex("""
+                SELECT count(*) FROM p_products
+                WHERE seller_id = 'SELLER-7' AND is_deleted = false""", "idx_products_seller_created");
+    }
+
+    @Test
+    @DisplayName("상태별 조회는 (status) 부분 인덱스")
+    void byStatus_usesStatusIndex() throws Exception {
+        assertUsesIndex("""
+                SELECT * FROM p_products
+                WHERE status = 'DISCONTINUED' AND is_deleted = false""", "idx_products_status");
+    }
+
+    @Test
+    @DisplayName("전체 최신순 페이지는 (created_at DESC) 부분 인덱스")
+    void allPage_usesCreatedIndex() throws Exception {
+        assertUsesIndex("""
+                SELECT * FROM p_products
+                WHERE is_deleted = false
+                ORDER BY created_at DESC OFFSET 0 LIMIT 20""", "idx_products_created");
+    }
+
+    @Test
+    @DisplayName("허브별 커서 조회는 (hub_id, created_at DESC, product_id DESC) 부분 인덱스")
+    void hubCursor_usesHubIndex() throws Exception {
+        assertUsesIndex("""
+                SELECT * FROM p_products
+                WHERE hub_id = 'HUB-3' AND is_deleted = false
+                  AND (created_at < TIMESTAMP '2024-12-20'
+                       OR (created_at = TIMESTAMP '2024-12-20' AND product_id < '00000000-0000-4000-8000-000000010000'))
+                ORDER BY created_at DESC, product_id DESC LIMIT 20""", "idx_products_hub_created");
+    }
+
+    @Test
+    @DisplayName("허브 판매 가능 검증은 상품 / 허브 재고 모두 커버링 인덱스")
+    void sellableAtHub_usesCoveringIndexes() throws Exception {
+        String sql = """
+                SELECT p.product_id FROM p_products p
+                LEFT JOIN p_product_hub_stocks h ON h.product_id = p.product_id AND h.hub_id = 'HUB-1'
+                WHERE p.product_id IN (%s)
+                  AND p.is_deleted = false AND p.status = 'ACTIVE' AND p.is_sellable = true
+                  AND (h.out_of_stock IS NULL OR h.out_of_stock = false)""".formatted(productIds(20));
+        assertUsesIndex(sql, "idx_products_sellable");
+        assertUsesIndex(sql, "idx_product_hub_stocks_covering");
+    }
+
+    private static void assertUsesIndex(String sql, String index) throws Exception {
+        List<JsonNode> nodes = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet plan = statement.executeQuery("EXPLAIN (FORMAT JSON) " + sql)) {
+            plan.next();
+            collect(OBJECT_MAPPER.readTree(plan.getString(1)).get(0).get("Plan"), nodes);
+        }
+
+        assertThat(nodes)
+                .as("p_products Seq Scan 없음: %s", sql)
+                .noneMatch(node -> "Seq Scan".equals(node.path("Node Type").asText())
+                        && "p_products".equals(node.path("Relation Name").asText()));
+        assertThat(nodes)
+                .as("%s 사용: %s", index, sql)
+                .anyMatch(node -> index.equals(node.path("Index Name").asText()));
+    }
+
+    private static void collect(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, nodes);
+        }
+    }
+
+    private static String productIds(int count) {
+        List<String> ids = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            ids.add("'00000000-0000-4000-8000-%012d'".formatted(i * 101));
+        }
+        return String.join(", ", ids);
+    }
+}
@@ -1,9 +1,14 @@
 package com.early_express.product_service.domain.product.infrastructure.persistence.repository;
 
 import com.early_express.product_service.domain.product.domain.model.Product;
+import com.early_express.product_service.domain.product.domain.model.ProductHubStock;
 import com.early_express.product_service.domain.product.domain.model.vo.Price;
 import com.early_express.product_service.domain.product.domain.model.vo.ProductStatus;
+import com.early_express.product_service.domain.product.domain.repository.ProductHubStockRepository;
 import com.early_express.product_service.domain.product.domain.repository.ProductRepository;
+import com.early_express.product_service.domain.product.infrastructure.persistence.entity.ProductEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,8 +19,11 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -27,6 +35,12 @@ class ProductRepositoryImplTest {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private ProductHubStockRepository productHubStockRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     @DisplayName("상품 저장 - 신규")
     void save_newProduct() {
@@ -63,6 +77,47 @@ class ProductRepositoryImplTest {
         assertThat(result.getPrice().getAmount()).isEqualByComparingTo("20000");
     }
 
+    @Test
+    @DisplayName("조회 메서드로 로드한 엔티티는 읽기 전용 (쓰기 트랜잭션 안에서도 스냅샷 없음)")
+    void queries_loadEntitiesReadOnly() {
+        // given
+        Product first = productRepository.save(createTestProduct(null, "SELLER-READ-ONLY"));
+        Product second = productRepository.save(createTestProduct(null, "SELLER-READ-ONLY"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Product> found = productRepository.findBySellerId("SELLER-READ-ONLY");
+
+        // then
+        Session session = entityManager.unwrap(Session.class);
+        assertThat(found).hasSize(2);
+        assertThat(List.of(first.getProductId(), second.getProductId()))
+                .allMatch(id -> session.isReadOnly(entityManager.find(ProductEntity.class, UUID.fromString(id))));
+    }
+
+    @Test
+    @DisplayName("읽기 전용으로 로드된 상품도 수정 후 저장하면 반영")
+    void save_afterReadOnlyLoad_persistsChanges() {
+        // given
+        Product saved = productRepository.save(createTestProduct(null, "SELLER-001"));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when - 같은 트랜잭션에서 읽기 전용 조회 후 수정
+        Product loaded = productRepository.findById(saved.getProductId()).orElseThrow();
+        loaded.update("수정된 상품명", "수정된 설명", Price.of(20000));
+        productRepository.save(loaded);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(productRepository.findById(saved.getProductId()))
+                .get()
+                .extracting(Product::getName)
+                .isEqualTo("수정된 상품명");
+    }
+
     @Test
     @DisplayName("ID로 상품 조회")
     void findById() {
@@ -252,6 +307,131 @@ class ProductRepositoryImplTest {
         assertThat(exists).isFalse();
     }
 
+    @Test
+    @DisplayName("쓰기 잠금 조회 - 재고 이벤트 워터마크 저장")
+    void findByIdForUpdate_persistsStockWatermark() {
+        // given
+        Product saved = productRepository.save(createTestProduct(null, "SELLER-001"));
+        LocalDateTime detectedAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+        // when
+        Product locked = productRepository.findByIdForUpdate(saved.getProductId()).get();
+        locked.advanceStockWatermark(detectedAt);
+        productRepository.save(locked);
+
+        // then
+        Product found = productRepository.findByIdForUpdate(saved.getProductId()).get();
+        assertThat(found.getStockEventAt()).isEqualTo(detectedAt);
+        assertThat(found.advanceStockWatermark(detectedAt.minusSeconds(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("쓰기 잠금 조회 - 삭제된 상품 제외")
+    void findByIdForUpdate_excludeDeleted() {
+        // given
+        Product saved = productRepository.save(createTestProduct(null, "SELLER-001"));
+        productRepository.delete(saved.getProductId());
+
+        // when
+        Optional<Product> found = productRepository.findByIdForUpdate(saved.getProductId());
+
+        // then
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    @DisplayName("허브 판매 가능 상품 조회 - 허브 품절 / 판매 불가 상태 / 삭제 상품 제외")
+    void findIdsSellableAtHub() {
+        // given
+        Product available = saveActiveProduct();
+        Product soldOutAtHub = saveActiveProduct();
+        Product soldOutElsewhere = saveActiveProduct();
+        Product draft = productRepository.save(createTestProduct(null, "SELLER-001"));
+        Product deleted = saveActiveProduct();
+        productRepository.delete(deleted.getProductId());
+
+        ProductHubStock hubStock = ProductHubStock.create(soldOutAtHub.getProductId(), "HUB-1");
+        hubStock.markOutOfStock();
+        productHubStockRepository.save(hubStock);
+
+        ProductHubStock otherHubStock = ProductHubStock.create(soldOutElsewhere.getProductId(), "HUB-2");
+        otherHubStock.markOutOfStock();
+        productHubStockRepository.save(otherHubStock);
+
+        // when
+        List<String> sellable = productRepository.findIdsSellableAtHub(List.of(
+                available.getProductId(),
+                soldOutAtHub.getProductId(),
+                soldOutElsewhere.getProductId(),
+                draft.getProductId(),
+                deleted.getProductId(),
+                "NOT-EXIST"), "HUB-1");
+
+        // then
+        assertThat(sellable).containsExactlyInAnyOrder(available.getProductId(), soldOutElsewhere.getProductId());
+    }
+
+    @Test
+    @DisplayName("허브별 페이징 조회 - 다른 허브 / 삭제 상품 제외")
+    void findByHubIdWithPaging() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            productRepository.save(createHubProduct("HUB-1"));
+        }
+        productRepository.save(createHubProduct("HUB-2"));
+        Product deleted = productRepository.save(createHubProduct("HUB-1"));
+        productRepository.delete(deleted.getProductId());
+
+        // when
+        Page<Product> page = productRepository.findByHubIdWithPaging("HUB-1", PageRequest.of(0, 2));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getContent()).allMatch(p -> p.getHubId().equals("HUB-1"));
+    }
+
+    @Test
+    @DisplayName("허브별 커서 조회 - 누락 / 중복 없이 최신순으로 순회")
+    void findByHubIdAfterCursor() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            productRepository.save(createHubProduct("HUB-1"));
+        }
+        productRepository.save(createHubProduct("HUB-2"));
+        // 커서는 DB 에 저장된 created_at 정밀도 기준 (영속성 컨텍스트의 나노초 값 배제)
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Product> visited = new ArrayList<>();
+        List<Product> chunk = productRepository.findByHubIdAfterCursor("HUB-1", null, null, 2);
+        while (!chunk.isEmpty()) {
+            visited.addAll(chunk);
+            Product last = chunk.get(chunk.size() - 1);
+            chunk = productRepository.findByHubIdAfterCursor("HUB-1", last.getCreatedAt(), last.getProductId(), 2);
+        }
+
+        // then
+        assertThat(visited).hasSize(5);
+        assertThat(visited).extracting(Product::getProductId).doesNotHaveDuplicates();
+        assertThat(visited).allMatch(p -> p.getHubId().equals("HUB-1"));
+        for (int i = 1; i < visited.size(); i++) {
+            assertThat(visited.get(i).getCreatedAt()).isBeforeOrEqualTo(visited.get(i - 1).getCreatedAt());
+        }
+    }
+
+    private Product createHubProduct(String hubId) {
+        return Product.create(null, "SELLER-001", "COMPANY-001", hubId, "테스트 상품", "테스트 설명",
+                Price.of(10000), 1, 100);
+    }
+
+    private Product saveActiveProduct() {
+        Product product = createTestProduct(null, "SELLER-001");
+        product.activate();
+        return productRepository.save(product);
+    }
+
     private Product createTestProduct(String productId, String sellerId) {
         return Product.create(
                 productId,
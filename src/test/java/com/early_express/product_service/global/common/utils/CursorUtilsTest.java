@@ -0,0 +1,42 @@
+package com.early_express.product_service.global.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CursorUtils 테스트")
+class CursorUtilsTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 그대로 디코딩")
+    void encode_decode_roundTrip() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 15, 10, 30, 0, 123_456_000);
+
+        // when
+        CursorUtils.Cursor cursor = CursorUtils.decode(CursorUtils.encode(createdAt, "PROD-001"));
+
+        // then
+        assertThat(cursor.createdAt()).isEqualTo(createdAt);
+        assertThat(cursor.id()).isEqualTo("PROD-001");
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지(null)")
+    void decode_blank_returnsNull() {
+        assertThat(CursorUtils.decode(null)).isNull();
+        assertThat(CursorUtils.decode(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외 발생")
+    void decode_invalid_throwsException() {
+        assertThatThrownBy(() -> CursorUtils.decode("not-a-cursor!"))
+                .isInstanceOf(CursorUtils.CursorUtilException.class);
+        assertThatThrownBy(() -> CursorUtils.decode(CursorUtils.encode(null, "PROD-001")))
+                .isInstanceOf(CursorUtils.CursorUtilException.class);
+    }
+}
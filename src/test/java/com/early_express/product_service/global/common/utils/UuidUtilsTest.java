@@ -0,0 +1,63 @@
+package com.early_express.product_service.global.common.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("UuidUtils 테스트")
+class UuidUtilsTest {
+
+    @Test
+    @DisplayName("v7 은 버전 7, RFC 변형(variant 2)이고 생성 시각을 담음")
+    void generateV7_versionVariantTimestamp() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        UUID uuid = UUID.fromString(UuidUtils.generateV7());
+
+        // then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UuidUtils.timestampOf(uuid)).isBetween(before, System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("밀리초가 다르면 문자열 / UUID 정렬 순서가 생성 순서와 같음")
+    void v7_orderedByTimestamp() {
+        // given
+        List<UUID> generated = new ArrayList<>();
+        for (long millis = 1_700_000_000_000L; millis < 1_700_000_000_100L; millis++) {
+            generated.add(UuidUtils.v7(millis));
+        }
+
+        // then
+        assertThat(generated).isSorted();
+        assertThat(generated.stream().map(UUID::toString).toList()).isSorted();
+    }
+
+    @Test
+    @DisplayName("v7 이 아니면 타임스탬프 추출 시 예외 발생")
+    void timestampOf_notV7_throwsException() {
+        assertThatThrownBy(() -> UuidUtils.timestampOf(UUID.randomUUID()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("표준 36자 형식만 파싱")
+    void parse() {
+        String uuid = UuidUtils.generate();
+
+        assertThat(UuidUtils.parse(uuid)).contains(UUID.fromString(uuid));
+        assertThat(UuidUtils.parse(null)).isEmpty();
+        assertThat(UuidUtils.parse("PROD-001")).isEmpty();
+        assertThat(UuidUtils.parse("1-1-1-1-1")).isEmpty();
+        assertThat(UuidUtils.isValid(uuid)).isTrue();
+        assertThat(UuidUtils.isValid("NOT-EXIST")).isFalse();
+    }
+}
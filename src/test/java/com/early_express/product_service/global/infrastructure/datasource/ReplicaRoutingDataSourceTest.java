@@ -0,0 +1,193 @@
+package com.early_express.product_service.global.infrastructure.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 전용 커넥션 레플리카 라우팅 테스트
+ * H2 인메모리 DB 두 개를 프라이머리 / 레플리카로 사용하고 커넥션 URL 로 라우팅 대상 확인
+ */
+@DisplayName("레플리카 라우팅 DataSource 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1";
+    private static final long MAX_LAG_MS = 1000;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DataSource primary = new DriverManagerDataSource(PRIMARY_URL, "sa", "");
+
+    @AfterEach
+    void tearDown() {
+        ReadConsistency.close();
+    }
+
+    @Test
+    @DisplayName("레플리카가 정상이면 읽기 전용 커넥션은 레플리카, 쓰기 커넥션은 프라이머리")
+    void readOnly_routedToReplica() throws SQLException {
+        // given
+        DataSource replica = replica();
+        DataSource routing = routing(replica, monitor(replica, "SELECT 0", true));
+
+        // then
+        assertThat(targetUrl(routing, true)).startsWith("jdbc:h2:mem:routing_replica");
+        assertThat(targetUrl(routing, false)).startsWith("jdbc:h2:mem:routing_primary");
+        assertThat(routeCount("replica", "replica")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기 커밋 후 고정 구간에는 읽기도 프라이머리")
+    void pinned_routedToPrimary() throws SQLException {
+        // given
+        DataSource replica = replica();
+        DataSource routing = routing(replica, monitor(replica, "SELECT 0", true));
+
+        // when
+        ReadConsistency.pin(System.currentTimeMillis() + 10_000);
+
+        // then
+        assertThat(targetUrl(routing, true)).startsWith("jdbc:h2:mem:routing_primary");
+        assertThat(routeCount("primary", "pinned")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 프라이머리")
+    void lagging_routedToPrimary() throws SQLException {
+        // given
+        DataSource replica = replica();
+        ReplicaHealthMonitor monitor = monitor(replica, "SELECT 5000", true);
+
+        // then
+        assertThat(monitor.lagMs()).isEqualTo(5000);
+        assertThat(monitor.usable()).isFalse();
+        assertThat(targetUrl(routing(replica, monitor), true)).startsWith("jdbc:h2:mem:routing_primary");
+        assertThat(routeCount("primary", "lagging")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 확인 전에는 프라이머리")
+    void beforeFirstCheck_routedToPrimary() throws SQLException {
+        // given
+        DataSource replica = replica();
+        DataSource routing = routing(replica, monitor(replica, "SELECT 0", false));
+
+        // then
+        assertThat(targetUrl(routing, true)).startsWith("jdbc:h2:mem:routing_primary");
+        assertThat(routeCount("primary", "unavailable")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("레플리카 커넥션 획득 실패 시 프라이머리로 대체하고 다음 확인 성공까지 사용 불가")
+    void connectionFailure_fallsBackToPrimary() throws SQLException {
+        // given
+        FlakyDataSource replica = new FlakyDataSource(replica());
+        ReplicaHealthMonitor monitor = monitor(replica, "SELECT 0", true);
+        DataSource routing = routing(replica, monitor);
+
+        // when
+        replica.down = true;
+
+        // then
+        assertThat(targetUrl(routing, true)).startsWith("jdbc:h2:mem:routing_primary");
+        assertThat(monitor.usable()).isFalse();
+        assertThat(routeCount("primary", "connection_failure")).isEqualTo(1);
+
+        // when - 복구 후 확인
+        replica.down = false;
+        monitor.check();
+
+        // then
+        assertThat(targetUrl(routing, true)).startsWith("jdbc:h2:mem:routing_replica");
+    }
+
+    @Test
+    @DisplayName("사용자 지정 계정 커넥션은 프라이머리에 위임")
+    void credentials_delegatedToPrimary() throws SQLException {
+        // given
+        DataSource replica = replica();
+        DataSource routing = new ReplicaRoutingDataSource(primary, replica, monitor(replica, "SELECT 0", true),
+                meterRegistry);
+
+        // when
+        try (Connection connection = routing.getConnection("sa", "")) {
+            // then
+            assertThat(connection.getMetaData().getURL()).startsWith("jdbc:h2:mem:routing_primary");
+        }
+    }
+
+    @Test
+    @DisplayName("만료 / 형식 오류 / 고정 구간보다 먼 미래 토큰은 무시")
+    void parseToken() {
+        long now = 1_000_000L;
+
+        assertThat(ReadConsistency.parseToken(Long.toString(now + 500), now, 2000)).isEqualTo(now + 500);
+        assertThat(ReadConsistency.parseToken(Long.toString(now - 1), now, 2000)).isZero();
+        assertThat(ReadConsistency.parseToken(Long.toString(now + 60_000), now, 2000)).isZero();
+        assertThat(ReadConsistency.parseToken("not-a-token", now, 2000)).isZero();
+        assertThat(ReadConsistency.parseToken(null, now, 2000)).isZero();
+    }
+
+    private DataSource replica() {
+        return new DriverManagerDataSource(REPLICA_URL, "sa", "");
+    }
+
+    private ReplicaHealthMonitor monitor(DataSource replica, String lagQuery, boolean checked) {
+        ReplicaHealthMonitor monitor = new ReplicaHealthMonitor(replica, lagQuery, MAX_LAG_MS, 1, meterRegistry);
+        if (checked) {
+            monitor.check();
+        }
+        return monitor;
+    }
+
+    private DataSource routing(DataSource replica, ReplicaHealthMonitor monitor) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, replica, monitor, meterRegistry));
+        return routing;
+    }
+
+    private String targetUrl(DataSource routing, boolean readOnly) throws SQLException {
+        try (Connection connection = routing.getConnection()) {
+            connection.setReadOnly(readOnly);
+            return connection.getMetaData().getURL();
+        }
+    }
+
+    private double routeCount(String target, String reason) {
+        return meterRegistry.get("db.replica.route").tag("target", target).tag("reason", reason).counter().count();
+    }
+
+    private static final class FlakyDataSource extends AbstractDataSource {
+
+        private final DataSource target;
+        private volatile boolean down;
+
+        private FlakyDataSource(DataSource target) {
+            this.target = target;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("replica down");
+            }
+            return target.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return getConnection();
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.early_express.product_service.global.infrastructure.event.dispatch;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@DisplayName("KeyOrderedEventDispatcher 테스트")
+class KeyOrderedEventDispatcherTest {
+
+    private static final ConsumerRecord<String, String> RECORD =
+            new ConsumerRecord<>("inventory-low-stock", 0, 0L, "PROD-001", "{}");
+
+    private final ConsumerRecordRecoverer recoverer = mock(ConsumerRecordRecoverer.class);
+    private KeyOrderedEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Nested
+    @DisplayName("비활성화 모드")
+    class DisabledTest {
+
+        @Test
+        @DisplayName("리스너 스레드에서 바로 실행 후 ACK")
+        void dispatch_runsInline() {
+            // given
+            dispatcher = createDispatcher(false, 4, 3);
+            Acknowledgment ack = mock(Acknowledgment.class);
+            Thread caller = Thread.currentThread();
+            AtomicInteger sameThread = new AtomicInteger();
+
+            // when
+            dispatcher.dispatch(RECORD, "PROD-001", () -> {
+                if (Thread.currentThread() == caller) {
+                    sameThread.incrementAndGet();
+                }
+            }, ack);
+
+            // then
+            assertThat(sameThread.get()).isEqualTo(1);
+            verify(ack).acknowledge();
+        }
+
+        @Test
+        @DisplayName("처리 실패 시 예외 전파, ACK 하지 않음")
+        void dispatch_propagatesException() {
+            // given
+            dispatcher = createDispatcher(false, 4, 3);
+            Acknowledgment ack = mock(Acknowledgment.class);
+
+            // when & then
+            assertThatThrownBy(() -> dispatcher.dispatch(RECORD, "PROD-001", () -> {
+                throw new IllegalStateException("실패");
+            }, ack)).isInstanceOf(IllegalStateException.class);
+
+            verify(ack, never()).acknowledge();
+        }
+
+        @Test
+        @DisplayName("리스너 스레드 밖 실행은 호출 스레드를 막지 않고 레인에서 재시도 후 DLT 전송, ACK")
+        void dispatchDetached_retriesOnLaneThenRecovers() {
+            // given
+            dispatcher = createDispatcher(false, 4, 3);
+            Acknowledgment ack = mock(Acknowledgment.class);
+            Thread caller = Thread.currentThread();
+            AtomicInteger attempts = new AtomicInteger();
+            AtomicInteger onCaller = new AtomicInteger();
+            IllegalStateException failure = new IllegalStateException("실패");
+
+            // when
+            dispatcher.dispatchDetached(RECORD, "PROD-001", () -> {
+                attempts.incrementAndGet();
+                if (Thread.currentThread() == caller) {
+                    onCaller.incrementAndGet();
+                }
+                throw failure;
+            }, ack);
+
+            // then
+            verify(ack, timeout(2000)).acknowledge();
+            verify(recoverer).accept(RECORD, failure);
+            assertThat(attempts.get()).isEqualTo(3);
+            assertThat(onCaller.get()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("활성화 모드")
+    class EnabledTest {
+
+        @Test
+        @DisplayName("같은 키는 수신 순서대로 처리")
+        void dispatch_preservesOrderPerKey() {
+            // given
+            dispatcher = createDispatcher(true, 4, 3);
+            Acknowledgment ack = mock(Acknowledgment.class);
+            Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+            List<String> keys = List.of("PROD-001", "PROD-002", "PROD-003", "PROD-004", "PROD-005");
+            int perKey = 50;
+
+            // when
+            IntStream.range(0, perKey).forEach(seq -> keys.forEach(key ->
+                    dispatcher.dispatch(RECORD, key, () -> {
+                        sleepRandomly();
+                        processed.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(seq);
+                    }, ack)));
+
+            // then
+            verify(ack, timeout(5000).times(keys.size() * perKey)).acknowledge();
+            List<Integer> expected = IntStream.range(0, perKey).boxed().toList();
+            keys.forEach(key -> assertThat(processed.get(key)).containsExactlyElementsOf(expected));
+        }
+
+        @Test
+        @DisplayName("실패 시 재시도 후 성공하면 ACK")
+        void dispatch_retriesThenAcks() {
+            // given
+            dispatcher = createDispatcher(true, 2, 3);
+            Acknowledgment ack = mock(Acknowledgment.class);
+            AtomicInteger attempts = new AtomicInteger();
+
+            // when
+            dispatcher.dispatch(RECORD, "PROD-001", () -> {
+                if (attempts.incrementAndGet() < 3) {
+                    throw new IllegalStateException("일시 오류");
+                }
+            }, ack);
+
+            // then
+            verify(ack, timeout(2000)).acknowledge();
+            assertThat(attempts.get()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("재시도 소진 시 DLT 전송 후 ACK (파티션 정지 방지)")
+        void dispatch_skipsAfterMaxAttempts() {
+            // given
+            dispatcher = createDispatcher(true, 2, 2);
+            Acknowledgment ack = mock(Acknowledgment.class);
+            AtomicInteger attempts = new AtomicInteger();
+
+            // when
+            dispatcher.dispatch(RECORD, "PROD-001", () -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("영구 오류");
+            }, ack);
+
+            // then
+            verify(ack, timeout(2000)).acknowledge();
+            assertThat(attempts.get()).isEqualTo(2);
+            verify(recoverer).accept(eq(RECORD), any(IllegalStateException.class));
+        }
+
+        @Test
+        @DisplayName("재시도 불가 예외는 재시도 없이 DLT 전송 후 ACK")
+        void dispatch_nonRetryableGoesToDeadLetter() {
+            // given
+            dispatcher = createDispatcher(true, 2, 5);
+            Acknowledgment ack = mock(Acknowledgment.class);
+            AtomicInteger attempts = new AtomicInteger();
+
+            // when
+            dispatcher.dispatch(RECORD, "PROD-001", () -> {
+                attempts.incrementAndGet();
+                throw new RuntimeException(new IllegalArgumentException("상품 없음"));
+            }, ack);
+
+            // then
+            verify(ack, timeout(2000)).acknowledge();
+            assertThat(attempts.get()).isEqualTo(1);
+            verify(recoverer).accept(eq(RECORD), any(RuntimeException.class));
+        }
+
+        @Test
+        @DisplayName("DLT 전송 실패 시에도 ACK")
+        void dispatch_acksWhenRecovererFails() {
+            // given
+            dispatcher = createDispatcher(true, 2, 1);
+            Acknowledgment ack = mock(Acknowledgment.class);
+            willThrow(new IllegalStateException("브로커 연결 실패")).given(recoverer).accept(any(), any());
+
+            // when
+            dispatcher.dispatch(RECORD, "PROD-001", () -> {
+                throw new IllegalStateException("영구 오류");
+            }, ack);
+
+            // then
+            verify(ack, timeout(2000)).acknowledge();
+        }
+
+        @Test
+        @DisplayName("재시도 대기 중 인터럽트(종료)되면 DLT 전송 / ACK 없이 중단 (재시작 후 재전달)")
+        void dispatch_leavesRecordUncommittedWhenInterruptedDuringRetry() {
+            // given
+            dispatcher = new KeyOrderedEventDispatcher(true, 1, 5, 60_000, false, new Class<?>[0], recoverer);
+            Acknowledgment ack = mock(Acknowledgment.class);
+            AtomicInteger attempts = new AtomicInteger();
+            Acknowledgment nextAck = mock(Acknowledgment.class);
+
+            // when - 처리 중 종료 인터럽트
+            dispatcher.dispatch(RECORD, "PROD-001", () -> {
+                attempts.incrementAndGet();
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("일시 오류");
+            }, ack);
+            dispatcher.dispatch(RECORD, "PROD-001", () -> {
+            }, nextAck);
+
+            // then - 같은 레인의 다음 레코드가 처리된 시점에는 이전 레코드 처리가 끝나 있음
+            verify(nextAck, timeout(2000)).acknowledge();
+            assertThat(attempts.get()).isEqualTo(1);
+            verify(ack, never()).acknowledge();
+            verifyNoInteractions(recoverer);
+        }
+    }
+
+    private KeyOrderedEventDispatcher createDispatcher(boolean enabled, int workers, int maxAttempts) {
+        return new KeyOrderedEventDispatcher(enabled, workers, maxAttempts, 0, false,
+                new Class<?>[]{IllegalArgumentException.class}, recoverer);
+    }
+
+    private static void sleepRandomly() {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
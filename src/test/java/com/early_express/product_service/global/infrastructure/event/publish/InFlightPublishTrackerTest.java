@@ -0,0 +1,149 @@
+package com.early_express.product_service.global.infrastructure.event.publish;
+
+import com.early_express.product_service.global.infrastructure.monitoring.EventLatencyRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("InFlightPublishTracker 테스트")
+class InFlightPublishTrackerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SpillJournal disabledJournal = new SpillJournal(meterRegistry, false, "unused", 0, 0, "none", 0);
+    private final List<String> sentKeys = new CopyOnWriteArrayList<>();
+    private final List<CompletableFuture<SendResult<String, Object>>> acks = new CopyOnWriteArrayList<>();
+    private InFlightPublishTracker tracker;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (tracker != null) {
+            tracker.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("SHED: 한도 초과 시 호출 측에 즉시 거부 예외, ACK 후 permit 반환")
+    void shed_rejectsWhenFull() throws Exception {
+        // given
+        tracker = tracker(2, "shed");
+        tracker.send("topic", "K1", "v1");
+        tracker.send("topic", "K2", "v2");
+
+        // when & then
+        assertThatThrownBy(() -> tracker.send("topic", "K3", "v3"))
+                .isInstanceOf(PublishRejectedException.class);
+        assertThat(meterRegistry.get("kafka.publish.rejected").tag("policy", "shed").counter().count()).isEqualTo(1.0);
+        assertThat(tracker.inFlight()).isEqualTo(2);
+
+        // when - ACK 후 다시 발행 가능
+        awaitSends(2);
+        acks.get(0).complete(null);
+        CompletableFuture<SendResult<String, Object>> accepted = tracker.send("topic", "K4", "v4");
+
+        // then
+        assertThat(accepted).isNotCompletedExceptionally();
+        assertThat(meterRegistry.get("kafka.publish.latency").tag("result", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("BLOCK: 대기 시간 내 permit 이 반환되지 않으면 거부")
+    void block_rejectsAfterDeadline() {
+        // given
+        tracker = tracker(1, "block");
+        tracker.send("topic", "K1", "v1");
+
+        // when
+        long started = System.nanoTime();
+        Throwable rejected = catchThrowable(() -> tracker.send("topic", "K2", "v2"));
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // then
+        assertThat(rejected).isInstanceOf(PublishRejectedException.class);
+        assertThat(waitedMs).isGreaterThanOrEqualTo(40);
+        assertThat(meterRegistry.get("kafka.publish.rejected").tag("policy", "block").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("SPILL: 한도 초과 이벤트는 대기열에 보관 후 ACK 마다 순서대로 발행")
+    void spill_drainsInOrder() throws Exception {
+        // given
+        tracker = tracker(1, "spill");
+
+        // when
+        tracker.send("topic", "K1", "v1");
+        tracker.send("topic", "K2", "v2");
+        CompletableFuture<SendResult<String, Object>> last = tracker.send("topic", "K3", "v3");
+
+        // then
+        awaitSends(1);
+        assertThat(tracker.spillDepth()).isEqualTo(2);
+
+        acks.get(0).complete(null);
+        awaitSends(2);
+        acks.get(1).completeExceptionally(new IllegalStateException("broker down"));
+        awaitSends(3);
+        acks.get(2).complete(null);
+
+        assertThat(last.get(1, TimeUnit.SECONDS)).isNull();
+        assertThat(sentKeys).containsExactly("K1", "K2", "K3");
+        assertThat(tracker.spillDepth()).isZero();
+        assertThat(tracker.inFlight()).isZero();
+        assertThat(meterRegistry.get("kafka.publish.failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 호출 스레드에서 바로 전송하고 지연 기록")
+    @SuppressWarnings("unchecked")
+    void disabled_sendsDirectly() {
+        // given
+        KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+        CompletableFuture<SendResult<String, Object>> future = new CompletableFuture<>();
+        when(kafkaTemplate.send("topic", "K1", "v1")).thenReturn(future);
+        tracker = new InFlightPublishTracker(kafkaTemplate, disabledJournal, null, meterRegistry,
+                new EventLatencyRecorder(meterRegistry), false, 1, "shed", 0, 0, 1, 1, 1);
+
+        // when
+        CompletableFuture<SendResult<String, Object>> result = tracker.send("topic", "K1", "v1");
+        future.complete(null);
+
+        // then
+        verify(kafkaTemplate).send("topic", "K1", "v1");
+        assertThat(result).isCompleted();
+        assertThat(meterRegistry.get("kafka.publish.latency").tag("topic", "topic").timer().count()).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private InFlightPublishTracker tracker(int maxInFlight, String policy) {
+        KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenAnswer(invocation -> {
+            CompletableFuture<SendResult<String, Object>> ack = new CompletableFuture<>();
+            acks.add(ack);
+            sentKeys.add(invocation.getArgument(1));
+            return ack;
+        });
+        return new InFlightPublishTracker(kafkaTemplate, disabledJournal, null, meterRegistry,
+                new EventLatencyRecorder(meterRegistry), true, maxInFlight, policy, 50, 10, 1, 1, 1);
+    }
+
+    private void awaitSends(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (acks.size() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(acks).hasSize(expected);
+    }
+}
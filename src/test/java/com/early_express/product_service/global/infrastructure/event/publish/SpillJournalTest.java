@@ -0,0 +1,143 @@
+package com.early_express.product_service.global.infrastructure.event.publish;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SpillJournal 테스트")
+class SpillJournalTest {
+
+    private static final int SEGMENT_BYTES = 4096;
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("기록 순서대로 조회되고 commit 전까지 읽기 위치 유지")
+    void appendPeekCommit_fifo() {
+        // given
+        SpillJournal journal = open(4);
+        journal.append("product-updated", "PROD-001", "PRODUCT_UPDATED", payload("a"));
+        journal.append("product-updated", "PROD-002", "PRODUCT_UPDATED", payload("b"));
+        journal.append("product-deleted", null, "PRODUCT_DELETED", payload("c"));
+
+        // when
+        List<SpillJournal.Entry> first = journal.peek(2);
+        List<SpillJournal.Entry> again = journal.peek(10);
+        journal.commit(first);
+        List<SpillJournal.Entry> rest = journal.peek(10);
+
+        // then
+        assertThat(first).extracting(SpillJournal.Entry::key).containsExactly("PROD-001", "PROD-002");
+        assertThat(again).hasSize(3);
+        assertThat(rest).singleElement().satisfies(entry -> {
+            assertThat(entry.topic()).isEqualTo("product-deleted");
+            assertThat(entry.key()).isNull();
+            assertThat(entry.eventType()).isEqualTo("PRODUCT_DELETED");
+            assertThat(new String(entry.payload(), StandardCharsets.UTF_8)).isEqualTo("c");
+        });
+        assertThat(journal.depth()).isEqualTo(1);
+        assertThat(meterRegistry.get("kafka.publish.journal.depth").gauge().value()).isEqualTo(1.0);
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("재시작 시 checkpoint 이후 레코드 복구 후 이어서 기록")
+    void reopen_recoversUncommitted() {
+        // given
+        SpillJournal journal = open(4);
+        journal.append("topic", "K1", "TYPE", payload("1"));
+        journal.append("topic", "K2", "TYPE", payload("2"));
+        journal.commit(journal.peek(1));
+        journal.close();
+
+        // when
+        SpillJournal reopened = open(4);
+        reopened.append("topic", "K3", "TYPE", payload("3"));
+
+        // then
+        assertThat(reopened.depth()).isEqualTo(2);
+        assertThat(reopened.peek(10)).extracting(SpillJournal.Entry::key).containsExactly("K2", "K3");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("기록 도중 손상된 레코드는 복구하지 않음")
+    void reopen_ignoresTornRecord() throws Exception {
+        // given
+        SpillJournal journal = open(4);
+        journal.append("topic", "K1", "TYPE", payload("1"));
+        journal.append("topic", "K2", "TYPE", payload("2"));
+        journal.close();
+
+        // when - 두 번째 레코드 본문 마지막 바이트 손상
+        int secondBodyEnd = 2 * (8 + bodySize("topic", "K1", "TYPE", "1")) - 1;
+        try (RandomAccessFile file = new RandomAccessFile(segments().get(0).toFile(), "rw")) {
+            file.seek(secondBodyEnd);
+            file.write('X');
+        }
+        SpillJournal reopened = open(4);
+
+        // then
+        assertThat(reopened.peek(10)).extracting(SpillJournal.Entry::key).containsExactly("K1");
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("세그먼트 수 한도를 넘으면 기록 실패, 다 읽은 세그먼트는 삭제")
+    void boundedDisk_rejectsWhenFullAndDeletesConsumed() throws Exception {
+        // given
+        SpillJournal journal = open(2);
+        byte[] payload = new byte[1000];
+        int appended = 0;
+        while (journal.append("topic", "K" + appended, "TYPE", payload)) {
+            appended++;
+        }
+
+        // then
+        assertThat(appended).isBetween(6, 8);
+        assertThat(segments()).hasSize(2);
+        assertThat(journal.diskBytes()).isEqualTo(2L * SEGMENT_BYTES);
+        assertThat(meterRegistry.get("kafka.publish.journal.full").counter().count()).isEqualTo(1.0);
+
+        // when - 전부 재발행 후 다시 기록
+        journal.commit(journal.peek(appended));
+        boolean accepted = journal.append("topic", "K-next", "TYPE", payload);
+
+        // then
+        assertThat(accepted).isTrue();
+        assertThat(journal.depth()).isEqualTo(1);
+        assertThat(segments()).hasSizeLessThanOrEqualTo(2);
+        journal.close();
+    }
+
+    private SpillJournal open(int maxSegments) {
+        return new SpillJournal(meterRegistry, true, directory.toString(), SEGMENT_BYTES, maxSegments, "always", 0);
+    }
+
+    private List<Path> segments() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("segment-")).sorted().toList();
+        }
+    }
+
+    private static int bodySize(String topic, String key, String eventType, String payload) {
+        return 3 * Short.BYTES + topic.length() + key.length() + eventType.length() + payload.length();
+    }
+
+    private static byte[] payload(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
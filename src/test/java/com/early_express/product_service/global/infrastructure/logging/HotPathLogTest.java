@@ -0,0 +1,81 @@
+package com.early_express.product_service.global.infrastructure.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HotPathLog 테스트")
+class HotPathLogTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger("hotpath." + HotPathLog.REQUEST.key());
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        HotPathLog.REQUEST.configure(1.0, 0);
+    }
+
+    @Test
+    @DisplayName("샘플링 비율 1, 한도 없음이면 모든 이벤트를 key-value 와 함께 기록")
+    void event_allSampled() {
+        // given
+        HotPathLog.REQUEST.configure(1.0, 0);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            HotPathLog.REQUEST.event("요청 처리").addKeyValue("uri", "/products").addKeyValue("status", 200).log();
+        }
+
+        // then
+        assertThat(appender.list).hasSize(10);
+        assertThat(appender.list.get(0).getKeyValuePairs())
+                .extracting(pair -> pair.key + "=" + pair.value)
+                .containsExactly("uri=/products", "status=200");
+    }
+
+    @Test
+    @DisplayName("샘플링 비율 0 이면 기록하지 않고 건너뛴 수만 증가")
+    void event_rateZero_suppressed() {
+        // given
+        HotPathLog.REQUEST.configure(0.0, 0);
+        long before = HotPathLog.REQUEST.suppressed();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            HotPathLog.REQUEST.event("요청 처리").addKeyValue("uri", "/products").log();
+        }
+
+        // then
+        assertThat(appender.list).isEmpty();
+        assertThat(HotPathLog.REQUEST.suppressed() - before).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("초당 최대 건수를 넘는 이벤트는 기록하지 않음")
+    void event_maxPerSecond_limited() {
+        // given
+        HotPathLog.REQUEST.configure(1.0, 5);
+
+        // when - 1초 윈도우 안에서 연속 기록 (윈도우 경계에 걸리면 최대 2배)
+        for (int i = 0; i < 1000; i++) {
+            HotPathLog.REQUEST.event("요청 처리").log();
+        }
+
+        // then
+        assertThat(appender.list.size()).isBetween(5, 10);
+    }
+}
@@ -0,0 +1,92 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import com.early_express.product_service.global.infrastructure.event.base.BaseEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EventLatencyEndpoint 테스트")
+class EventLatencyEndpointTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final EventLatencyRecorder recorder = new EventLatencyRecorder(meterRegistry);
+    private final EventLatencyEndpoint endpoint = new EventLatencyEndpoint(meterRegistry);
+
+    @Test
+    @DisplayName("수신 / 처리 / end-to-end 지연을 토픽, 이벤트 타입별로 요약")
+    @SuppressWarnings("unchecked")
+    void summary_recordsConsumerLatency() {
+        // given - 2초 전에 발생한 이벤트
+        BaseEvent event = event(LocalDateTime.now().minusSeconds(2));
+
+        // when
+        recorder.recordReceived("inventory-low-stock", event);
+        recorder.recordProcessing("inventory-low-stock", event, () -> { });
+        Map<String, Object> summary = endpoint.summary();
+
+        // then
+        List<Map<String, Object>> endToEnd =
+                (List<Map<String, Object>>) summary.get(EventLatencyRecorder.END_TO_END_LATENCY);
+        assertThat(endToEnd).hasSize(1);
+        assertThat(endToEnd.get(0))
+                .containsEntry("topic", "inventory-low-stock")
+                .containsEntry("event_type", "TEST_EVENT")
+                .containsEntry("count", 1L)
+                .containsKeys("p50Ms", "p95Ms", "p99Ms");
+        assertThat((double) endToEnd.get(0).get("maxMs")).isGreaterThanOrEqualTo(1_900);
+
+        List<Map<String, Object>> process = (List<Map<String, Object>>) summary.get(EventLatencyRecorder.PROCESS_TIME);
+        assertThat(process.get(0)).containsEntry("result", "success");
+    }
+
+    @Test
+    @DisplayName("처리 실패 시 failure 로 기록하고 예외 전파, end-to-end 는 기록하지 않음")
+    void processing_failure() {
+        // given
+        BaseEvent event = event(LocalDateTime.now());
+
+        // when & then
+        assertThatThrownBy(() -> recorder.recordProcessing("inventory-restocked", event, () -> {
+            throw new IllegalStateException("처리 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get(EventLatencyRecorder.PROCESS_TIME).tag("result", "failure").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.find(EventLatencyRecorder.END_TO_END_LATENCY).timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("파티션별 lag 만 노출하고 시계 오차로 인한 음수 지연은 0 으로 기록")
+    @SuppressWarnings("unchecked")
+    void summary_partitionLagAndClockSkew() {
+        // given
+        Gauge.builder(EventLatencyEndpoint.RECORDS_LAG, () -> 42)
+                .tags("topic", "inventory-low-stock", "partition", "0").register(meterRegistry);
+        Gauge.builder(EventLatencyEndpoint.RECORDS_LAG, () -> 42)
+                .tags("client.id", "consumer-1").register(meterRegistry);
+        recorder.recordReceived("inventory-low-stock", event(LocalDateTime.now().plusMinutes(1)));
+
+        // when
+        Map<String, Object> summary = endpoint.summary();
+
+        // then
+        List<Map<String, Object>> lags = (List<Map<String, Object>>) summary.get(EventLatencyEndpoint.RECORDS_LAG);
+        assertThat(lags).containsExactly(Map.of("topic", "inventory-low-stock", "partition", "0", "lag", 42.0));
+        assertThat(meterRegistry.get(EventLatencyRecorder.CONSUME_LATENCY).timer().max(TimeUnit.MILLISECONDS))
+                .isZero();
+    }
+
+    private static BaseEvent event(LocalDateTime occurredAt) {
+        return new BaseEvent("event-1", "TEST_EVENT", occurredAt, "1.0", "test-service") {
+        };
+    }
+}
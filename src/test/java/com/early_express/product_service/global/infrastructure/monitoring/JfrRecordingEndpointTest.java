@@ -0,0 +1,130 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import com.early_express.product_service.domain.product.domain.model.Product;
+import com.early_express.product_service.domain.product.domain.model.vo.Price;
+import com.early_express.product_service.domain.product.domain.repository.ProductRepository;
+import com.early_express.product_service.global.infrastructure.security.AdminTokenAuthorizationManager;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * JFR 기록 Actuator 엔드포인트 테스트
+ */
+@SpringBootTest(properties = "monitoring.jfr.token=test-admin-token")
+@AutoConfigureMockMvc
+@DisplayName("JFR 기록 엔드포인트 테스트")
+class JfrRecordingEndpointTest {
+
+    private static final String TOKEN = "test-admin-token";
+    private static final String DETAIL_URI = "/v1/product/internal/products/{productId}";
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void jfrDirectory(DynamicPropertyRegistry registry) {
+        registry.add("monitoring.jfr.directory", () -> directory.toString());
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mockMvc.perform(delete("/actuator/jfr").header(AdminTokenAuthorizationManager.ADMIN_TOKEN_HEADER, TOKEN));
+    }
+
+    @Test
+    @DisplayName("관리 토큰이 없거나 다르면 거부")
+    void withoutToken_forbidden() throws Exception {
+        mockMvc.perform(get("/actuator/jfr"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/jfr").header(AdminTokenAuthorizationManager.ADMIN_TOKEN_HEADER, "wrong"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/actuator/jfr")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"template\":\"profile\"}"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 템플릿, 상한을 넘는 기록 시간, 경로 밖 파일명은 400")
+    void invalidRequest_badRequest() throws Exception {
+        mockMvc.perform(start("{\"template\":\"custom.jfc\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(start("{\"template\":\"profile\",\"durationSeconds\":100000}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/actuator/jfr/{name}", "..%2Fsecret.jfr")
+                        .header(AdminTokenAuthorizationManager.ADMIN_TOKEN_HEADER, TOKEN))
+                .andExpect(status().is4xxClientError());
+    }
+
+    @Test
+    @DisplayName("기록 중 요청은 구간별로 요약, 동시 기록은 409")
+    void record_summarizesByRequestScope() throws Exception {
+        // given
+        String productId = productRepository.save(Product.create(null, "SELLER-001", "COMPANY-001", "JFR 상품",
+                "JFR 테스트 설명", Price.of(10000), 1, 100)).getProductId();
+
+        // when
+        mockMvc.perform(start("{\"template\":\"profile\",\"durationSeconds\":30}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recording").value(true));
+        mockMvc.perform(start("{\"template\":\"default\"}"))
+                .andExpect(status().isConflict());
+        for (int i = 0; i < 50; i++) {
+            mockMvc.perform(get(DETAIL_URI, productId)).andExpect(status().isOk());
+        }
+        String stopped = mockMvc.perform(delete("/actuator/jfr")
+                        .header(AdminTokenAuthorizationManager.ADMIN_TOKEN_HEADER, TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recording").value(false))
+                .andReturn().getResponse().getContentAsString();
+        String file = JsonPath.read(stopped, "$.file");
+
+        // then
+        mockMvc.perform(get("/actuator/jfr").header(AdminTokenAuthorizationManager.ADMIN_TOKEN_HEADER, TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recordings[*].file", hasItem(file)));
+
+        String summary = mockMvc.perform(get("/actuator/jfr/{name}", file)
+                        .header(AdminTokenAuthorizationManager.ADMIN_TOKEN_HEADER, TOKEN))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<Integer> counts = JsonPath.read(summary,
+                "$.byScope[?(@.scope == 'request GET " + DETAIL_URI + "')].count");
+        assertThat(counts).containsExactly(50);
+    }
+
+    private RequestBuilder start(String body) {
+        return post("/actuator/jfr")
+                .header(AdminTokenAuthorizationManager.ADMIN_TOKEN_HEADER, TOKEN)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+    }
+}
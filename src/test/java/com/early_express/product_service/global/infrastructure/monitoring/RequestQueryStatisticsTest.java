@@ -0,0 +1,120 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import com.early_express.product_service.domain.product.domain.model.Product;
+import com.early_express.product_service.domain.product.domain.model.vo.Price;
+import com.early_express.product_service.domain.product.domain.repository.ProductRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 요청별 Hibernate 통계 / 유스케이스 타이머 통합 테스트
+ */
+@SpringBootTest(properties = "monitoring.query-statistics.debug-header=true")
+@AutoConfigureMockMvc
+@DisplayName("요청별 쿼리 통계 테스트")
+class RequestQueryStatisticsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private List<String> productIds;
+
+    @BeforeEach
+    void setUp() {
+        productIds = List.of(saveProduct(), saveProduct(), saveProduct());
+    }
+
+    @Test
+    @DisplayName("상품 상세 조회는 statement 1건, 엔티티 로드 1건을 헤더와 메트릭으로 기록")
+    void getProduct_recordsSingleStatement() throws Exception {
+        // when & then
+        mockMvc.perform(get("/v1/product/internal/products/{productId}", productIds.get(0)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryStatisticsHeaderAdvice.STATEMENTS_HEADER, "1"))
+                .andExpect(header().string(QueryStatisticsHeaderAdvice.ENTITY_LOADS_HEADER, "1"))
+                .andExpect(header().string(QueryStatisticsHeaderAdvice.FLUSHES_HEADER, "0"));
+
+        DistributionSummary statements = meterRegistry.find(RequestQueryStatisticsFilter.STATEMENTS)
+                .tags("method", "GET", "uri", "/v1/product/internal/products/{productId}")
+                .summary();
+        assertThat(statements).isNotNull();
+        assertThat(statements.max()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대량 검증의 건별 조회 루프는 요청 상품 수만큼 statement 로 드러남")
+    void validateProducts_exposesStatementPerProduct() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(post("/v1/product/internal/products/validate-bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"productIds\":[\"%s\",\"%s\",\"%s\"]}".formatted(
+                                productIds.get(0), productIds.get(1), productIds.get(2))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then
+        int statements = Integer.parseInt(
+                result.getResponse().getHeader(QueryStatisticsHeaderAdvice.STATEMENTS_HEADER));
+        assertThat(statements).isEqualTo(productIds.size());
+
+        DistributionSummary summary = meterRegistry.find(RequestQueryStatisticsFilter.STATEMENTS)
+                .tags("method", "POST", "uri", "/v1/product/internal/products/validate-bulk")
+                .summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.max()).isEqualTo(statements);
+    }
+
+    @Test
+    @DisplayName("유스케이스 / Repository 타이머는 operation, outcome 태그로 구분")
+    void timedOperations_recordsOperationAndOutcome() throws Exception {
+        // when
+        mockMvc.perform(get("/v1/product/internal/products/{productId}", productIds.get(0)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/v1/product/internal/products/{productId}", "00000000-0000-0000-0000-000000000000"))
+                .andExpect(status().is4xxClientError());
+
+        // then
+        Timer success = meterRegistry.find("product.service")
+                .tags("operation", "getProduct", "outcome", "success").timer();
+        Timer failure = meterRegistry.find("product.service")
+                .tags("operation", "getProduct", "outcome", "failure").timer();
+        Timer repository = meterRegistry.find("product.repository")
+                .tags("operation", "findById", "outcome", "success").timer();
+        assertThat(success).isNotNull();
+        assertThat(success.count()).isPositive();
+        assertThat(failure).isNotNull();
+        assertThat(failure.count()).isPositive();
+        assertThat(repository).isNotNull();
+        assertThat(repository.count()).isPositive();
+    }
+
+    private String saveProduct() {
+        Product product = Product.create(null, "SELLER-001", "COMPANY-001", "통계 상품",
+                "통계 테스트 설명", Price.of(10000), 1, 100);
+        return productRepository.save(product).getProductId();
+    }
+}
@@ -0,0 +1,104 @@
+package com.early_express.product_service.global.infrastructure.monitoring;
+
+import com.early_express.product_service.domain.product.domain.model.Product;
+import com.early_express.product_service.domain.product.domain.model.vo.Price;
+import com.early_express.product_service.domain.product.domain.repository.ProductRepository;
+import com.early_express.product_service.global.infrastructure.security.AdminTokenAuthorizationManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 느린 쿼리 수집 / Actuator 엔드포인트 테스트
+ * 임계값 0ms 로 모든 statement 를 느린 쿼리로 집계
+ */
+@SpringBootTest(properties = {
+        "monitoring.jfr.token=test-admin-token",
+        "monitoring.slow-query.threshold-ms=0"
+})
+@AutoConfigureMockMvc
+@DisplayName("느린 쿼리 엔드포인트 테스트")
+class SlowQueryEndpointTest {
+
+    private static final String TOKEN = "test-admin-token";
+    private static final String SELLER_ID = "SELLER-SLOW-QUERY";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        productRepository.save(Product.create(null, SELLER_ID, "COMPANY-001", "느린 쿼리 상품",
+                "느린 쿼리 테스트 설명", Price.of(10000), 1, 100));
+        mockMvc.perform(delete("/actuator/slowqueries").header(AdminTokenAuthorizationManager.ADMIN_TOKEN_HEADER, TOKEN))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("관리 토큰이 없으면 거부")
+    void withoutToken_forbidden() throws Exception {
+        mockMvc.perform(get("/actuator/slowqueries"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("임계값 이상 statement 를 호출한 Repository 메서드와 바인딩 형태로 집계")
+    void slowStatement_recordedWithOriginAndParameterShapes() throws Exception {
+        // when
+        productRepository.findBySellerId(SELLER_ID);
+        productRepository.findBySellerId(SELLER_ID);
+
+        // then
+        String origin = "$.statements[?(@.origin == 'ProductRepositoryImpl.findBySellerId')]";
+        mockMvc.perform(get("/actuator/slowqueries").header(AdminTokenAuthorizationManager.ADMIN_TOKEN_HEADER, TOKEN))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.thresholdMs").value(0))
+                .andExpect(jsonPath(origin + ".count", hasItem(2)))
+                .andExpect(jsonPath(origin + ".parameterShapes[*]", hasItem("String")))
+                // H2 는 EXPLAIN 대상 아님
+                .andExpect(jsonPath(origin + ".plan", hasItem(nullValue())));
+
+        Timer timer = meterRegistry.find("db.statement.time").timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("초기화하면 수집 내용이 비워짐")
+    void reset_clearsStatements() throws Exception {
+        // given
+        productRepository.findBySellerId(SELLER_ID);
+        mockMvc.perform(get("/actuator/slowqueries").header(AdminTokenAuthorizationManager.ADMIN_TOKEN_HEADER, TOKEN))
+                .andExpect(jsonPath("$.statements", not(empty())));
+
+        // when
+        mockMvc.perform(delete("/actuator/slowqueries").header(AdminTokenAuthorizationManager.ADMIN_TOKEN_HEADER, TOKEN))
+                .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(get("/actuator/slowqueries").header(AdminTokenAuthorizationManager.ADMIN_TOKEN_HEADER, TOKEN))
+                .andExpect(jsonPath("$.statements", empty()));
+    }
+}
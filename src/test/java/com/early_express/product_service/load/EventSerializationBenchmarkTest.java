@@ -0,0 +1,186 @@
+package com.early_express.product_service.load;
+
+import com.early_express.product_service.domain.product.domain.messaging.dto.ProductCreatedEventData;
+import com.early_express.product_service.domain.product.domain.messaging.dto.ProductStatusChangedEventData;
+import com.early_express.product_service.domain.product.domain.messaging.dto.ProductUpdatedEventData;
+import com.early_express.product_service.domain.product.infrastructure.messaging.inventory.event.InventoryEventSchemas;
+import com.early_express.product_service.domain.product.infrastructure.messaging.inventory.event.InventoryLowStockEvent;
+import com.early_express.product_service.domain.product.infrastructure.messaging.inventory.event.InventoryRestockedEvent;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductCreatedEvent;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductEventSchemas;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductStatusChangedEvent;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductUpdatedEvent;
+import com.early_express.product_service.global.infrastructure.event.base.BaseEvent;
+import com.early_express.product_service.global.infrastructure.event.codec.BinaryEventCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이벤트 직렬화 포맷 비교 (JSON / 바이너리)
+ * - JSON: JsonSerializer 발행 → (기존 Consumer 경로) StringDeserializer + ObjectMapper 파싱
+ * - 바이너리: BinaryEventCodec 인코딩 → 디코딩
+ * - 이벤트 종류별 레코드 크기(bytes/event)와 발행 + 수신 1회당 CPU 시간(ns)을 출력
+ *
+ * 실행: ./gradlew loadTest --tests '*EventSerializationBenchmarkTest'
+ */
+@Tag("load")
+@DisplayName("이벤트 직렬화 포맷 벤치마크")
+class EventSerializationBenchmarkTest {
+
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final BinaryEventCodec codec =
+            new BinaryEventCodec(List.of(new ProductEventSchemas(),
+                    new InventoryEventSchemas("inventory-low-stock", "inventory-restocked")));
+    private final JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    @Test
+    @DisplayName("바이너리 포맷이 더 작은 페이로드와 낮은 CPU 시간을 보인다")
+    void compareFormats() throws Exception {
+        // given
+        List<BaseEvent> events = sampleEvents();
+        List<FormatResult> results = new ArrayList<>();
+
+        // when
+        for (BaseEvent event : events) {
+            results.add(measure(event));
+        }
+
+        // then
+        System.out.printf("%n[이벤트당 발행 + 수신 %d회 측정, 워밍업 %d회]%n", ITERATIONS, WARMUP_ITERATIONS);
+        System.out.printf("%-26s %10s %10s %8s %12s %12s %8s%n",
+                "event", "json(B)", "binary(B)", "size%", "json(ns)", "binary(ns)", "cpu%");
+        for (FormatResult result : results) {
+            System.out.printf("%-26s %10d %10d %7.1f%% %12.0f %12.0f %7.1f%%%n",
+                    result.eventType(), result.jsonBytes(), result.binaryBytes(),
+                    100.0 * result.binaryBytes() / result.jsonBytes(),
+                    result.jsonNanos(), result.binaryNanos(),
+                    100.0 * result.binaryNanos() / result.jsonNanos());
+        }
+
+        for (FormatResult result : results) {
+            assertThat(result.binaryBytes()).isLessThan(result.jsonBytes());
+            assertThat(result.binaryNanos()).isLessThan(result.jsonNanos());
+        }
+    }
+
+    private FormatResult measure(BaseEvent event) throws Exception {
+        Class<? extends BaseEvent> type = event.getClass();
+        byte[] json = jsonSerializer.serialize("benchmark", event);
+        byte[] binary = codec.encode(event);
+
+        runJson(event, type, WARMUP_ITERATIONS);
+        runBinary(event, type, WARMUP_ITERATIONS);
+
+        return new FormatResult(
+                event.getEventType(),
+                json.length,
+                binary.length,
+                runJson(event, type, ITERATIONS),
+                runBinary(event, type, ITERATIONS));
+    }
+
+    // 기존 경로: JSON 직렬화 → String 디코딩 → ObjectMapper 파싱
+    private double runJson(BaseEvent event, Class<? extends BaseEvent> type, int iterations) throws Exception {
+        long sink = 0;
+        long started = cpuNanos();
+        for (int i = 0; i < iterations; i++) {
+            byte[] payload = jsonSerializer.serialize("benchmark", event);
+            BaseEvent decoded = objectMapper.readValue(new String(payload, StandardCharsets.UTF_8), type);
+            sink += decoded.getEventId().length();
+        }
+        return perIteration(started, iterations, sink);
+    }
+
+    private double runBinary(BaseEvent event, Class<? extends BaseEvent> type, int iterations) {
+        long sink = 0;
+        long started = cpuNanos();
+        for (int i = 0; i < iterations; i++) {
+            byte[] payload = codec.encode(event);
+            BaseEvent decoded = codec.decode(payload, type);
+            sink += decoded.getEventId().length();
+        }
+        return perIteration(started, iterations, sink);
+    }
+
+    private static double perIteration(long started, int iterations, long sink) {
+        double nanos = (double) (cpuNanos() - started) / iterations;
+        assertThat(sink).isPositive();
+        return nanos;
+    }
+
+    private static long cpuNanos() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    private static List<BaseEvent> sampleEvents() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 10, 30);
+        return List.of(
+                ProductCreatedEvent.from(ProductCreatedEventData.builder()
+                        .productId("0b7e6c2a-3f5d-4c1e-9a8b-2d4f6e8a0c1b")
+                        .sellerId("5a1c3e5f-7b9d-4f1a-8c2e-4a6c8e0b2d4f")
+                        .hubId("9c2e4a6c-8e0b-4d2f-a4c6-e8a0c2e4a6c8")
+                        .name("프리미엄 노트북 15인치")
+                        .createdAt(now)
+                        .build()),
+                ProductUpdatedEvent.from(ProductUpdatedEventData.builder()
+                        .productId("0b7e6c2a-3f5d-4c1e-9a8b-2d4f6e8a0c1b")
+                        .name("프리미엄 노트북 15인치")
+                        .price(new BigDecimal("1500000"))
+                        .updatedAt(now)
+                        .build()),
+                ProductStatusChangedEvent.from(ProductStatusChangedEventData.builder()
+                        .productId("0b7e6c2a-3f5d-4c1e-9a8b-2d4f6e8a0c1b")
+                        .oldStatus("ACTIVE")
+                        .newStatus("OUT_OF_STOCK")
+                        .changedAt(now)
+                        .build()),
+                InventoryLowStockEvent.builder()
+                        .eventId("3d5f7a9c-1e3a-4c5e-8a0c-2e4a6c8e0a2c")
+                        .eventType("INVENTORY_LOW_STOCK")
+                        .timestamp(now)
+                        .version("1.0")
+                        .publisher("inventory-service")
+                        .inventoryId("7f9b1d3f-5a7c-4e9b-b1d3-f5a7c9e1b3d5")
+                        .productId("0b7e6c2a-3f5d-4c1e-9a8b-2d4f6e8a0c1b")
+                        .hubId("9c2e4a6c-8e0b-4d2f-a4c6-e8a0c2e4a6c8")
+                        .currentQuantity(3)
+                        .safetyStock(10)
+                        .detectedAt(now)
+                        .build(),
+                InventoryRestockedEvent.builder()
+                        .eventId("4e6a8c0e-2a4c-4e6a-9c0e-2a4c6e8a0c2e")
+                        .eventType("INVENTORY_RESTOCKED")
+                        .timestamp(now)
+                        .version("1.0")
+                        .publisher("inventory-service")
+                        .inventoryId("7f9b1d3f-5a7c-4e9b-b1d3-f5a7c9e1b3d5")
+                        .productId("0b7e6c2a-3f5d-4c1e-9a8b-2d4f6e8a0c1b")
+                        .hubId("9c2e4a6c-8e0b-4d2f-a4c6-e8a0c2e4a6c8")
+                        .restockedQuantity(100)
+                        .currentQuantity(103)
+                        .restockedAt(now)
+                        .build());
+    }
+
+    private record FormatResult(String eventType, int jsonBytes, int binaryBytes,
+                                double jsonNanos, double binaryNanos) {
+    }
+}
@@ -0,0 +1,138 @@
+package com.early_express.product_service.load;
+
+import com.early_express.product_service.domain.product.infrastructure.messaging.inventory.event.InventoryEventSchemas;
+import com.early_express.product_service.domain.product.infrastructure.messaging.inventory.event.InventoryLowStockEvent;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.event.ProductEventSchemas;
+import com.early_express.product_service.global.infrastructure.event.codec.BinaryEventCodec;
+import com.early_express.product_service.global.infrastructure.event.codec.ContentTypeMessageConverter;
+import com.early_express.product_service.global.infrastructure.event.codec.EventHeaders;
+import com.early_express.product_service.global.infrastructure.event.codec.EventTypeDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.converter.MessagingMessageConverter;
+import org.springframework.kafka.support.converter.StringJsonMessageConverter;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 이벤트 수신 경로별 레코드당 힙 할당량 비교
+ * - 이전: StringDeserializer → StringJsonMessageConverter (UTF-16 String 복사 후 파싱)
+ * - 이후: EventTypeDeserializer(JSON) → ContentTypeMessageConverter (바이트에서 바로 파싱, 변환기는 통과)
+ * - 이후: EventTypeDeserializer(바이너리)
+ * - 리스너 호출 직전까지(역직렬화 + 메시지 변환)의 스레드 할당 바이트를 레코드당 평균으로 출력
+ *
+ * 실행: ./gradlew loadTest --tests '*InventoryDeserializationAllocationBenchmarkTest'
+ */
+@Tag("load")
+@DisplayName("재고 이벤트 역직렬화 할당량 벤치마크")
+class InventoryDeserializationAllocationBenchmarkTest {
+
+    private static final String TOPIC = "inventory-low-stock";
+    private static final int WARMUP_ITERATIONS = 50_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+    private final BinaryEventCodec codec = new BinaryEventCodec(List.of(new ProductEventSchemas(),
+            new InventoryEventSchemas(TOPIC, "inventory-restocked")));
+
+    @Test
+    @DisplayName("바이트에서 바로 역직렬화하면 레코드당 할당량이 줄어든다")
+    void compareAllocationPerRecord() {
+        // given
+        InventoryLowStockEvent event = lowStockEvent();
+        byte[] json = new JsonSerializer<>().serialize(TOPIC, event);
+        byte[] binary = codec.encode(event);
+
+        StringDeserializer stringDeserializer = new StringDeserializer();
+        StringJsonMessageConverter stringConverter = new StringJsonMessageConverter(objectMapper);
+        stringConverter.setRawRecordHeader(true);
+
+        EventTypeDeserializer eventDeserializer = new EventTypeDeserializer(codec, objectMapper);
+        ContentTypeMessageConverter contentTypeConverter = new ContentTypeMessageConverter(objectMapper, codec);
+        contentTypeConverter.setRawRecordHeader(true);
+
+        // when
+        double before = measure(headers -> stringDeserializer.deserialize(TOPIC, headers, json),
+                stringConverter, RecordHeaders::new);
+        double afterJson = measure(headers -> eventDeserializer.deserialize(TOPIC, headers, json),
+                contentTypeConverter, RecordHeaders::new);
+        double afterBinary = measure(headers -> eventDeserializer.deserialize(TOPIC, headers, binary),
+                contentTypeConverter, InventoryDeserializationAllocationBenchmarkTest::binaryHeaders);
+
+        // then
+        System.out.printf("%n[레코드당 할당 바이트 - 역직렬화 + 메시지 변환, %d회 평균]%n", ITERATIONS);
+        System.out.printf("%-40s %12s %8s%n", "path", "bytes/rec", "ratio");
+        System.out.printf("%-40s %12.0f %7.1f%%%n", "String + StringJsonMessageConverter", before, 100.0);
+        System.out.printf("%-40s %12.0f %7.1f%%%n", "EventTypeDeserializer (json)", afterJson, 100.0 * afterJson / before);
+        System.out.printf("%-40s %12.0f %7.1f%%%n", "EventTypeDeserializer (binary)", afterBinary, 100.0 * afterBinary / before);
+
+        assertThat(afterJson).isLessThan(before);
+        assertThat(afterBinary).isLessThan(afterJson);
+    }
+
+    private double measure(Function<Headers, Object> deserialize, MessagingMessageConverter converter,
+                           Supplier<Headers> headersFactory) {
+        run(deserialize, converter, headersFactory, WARMUP_ITERATIONS);
+
+        long started = allocatedBytes();
+        run(deserialize, converter, headersFactory, ITERATIONS);
+        return (double) (allocatedBytes() - started) / ITERATIONS;
+    }
+
+    private static void run(Function<Headers, Object> deserialize, MessagingMessageConverter converter,
+                            Supplier<Headers> headersFactory, int iterations) {
+        long sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            Headers headers = headersFactory.get();
+            Object value = deserialize.apply(headers);
+            ConsumerRecord<String, Object> record = new ConsumerRecord<>(TOPIC, 0, i, 0L,
+                    TimestampType.CREATE_TIME, 0, 0, "PROD-001", value, headers, Optional.empty());
+            Object payload = converter.toMessage(record, null, null, InventoryLowStockEvent.class).getPayload();
+            sink += ((InventoryLowStockEvent) payload).getProductId().length();
+        }
+        assertThat(sink).isPositive();
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+
+    private static Headers binaryHeaders() {
+        Headers headers = new RecordHeaders();
+        EventHeaders.set(headers, EventHeaders.CONTENT_TYPE, EventHeaders.BINARY);
+        EventHeaders.set(headers, EventHeaders.EVENT_TYPE, "INVENTORY_LOW_STOCK");
+        return headers;
+    }
+
+    private static InventoryLowStockEvent lowStockEvent() {
+        return InventoryLowStockEvent.builder()
+                .eventId("3d5f7a9c-1e3a-4c5e-8a0c-2e4a6c8e0a2c")
+                .eventType("INVENTORY_LOW_STOCK")
+                .timestamp(LocalDateTime.of(2025, 1, 15, 10, 30))
+                .version("1.0")
+                .publisher("inventory-service")
+                .inventoryId("7f9b1d3f-5a7c-4e9b-b1d3-f5a7c9e1b3d5")
+                .productId("0b7e6c2a-3f5d-4c1e-9a8b-2d4f6e8a0c1b")
+                .hubId("9c2e4a6c-8e0b-4d2f-a4c6-e8a0c2e4a6c8")
+                .currentQuantity(3)
+                .safetyStock(10)
+                .detectedAt(LocalDateTime.of(2025, 1, 15, 10, 29, 59))
+                .build();
+    }
+}
@@ -0,0 +1,337 @@
+package com.early_express.product_service.load;
+
+import com.early_express.product_service.ProductServiceApplication;
+import com.early_express.product_service.domain.product.application.service.ProductService;
+import com.early_express.product_service.domain.product.domain.model.Product;
+import com.early_express.product_service.domain.product.domain.model.vo.Price;
+import com.early_express.product_service.domain.product.domain.repository.ProductRepository;
+import com.early_express.product_service.global.infrastructure.event.base.BaseEvent;
+import com.early_express.product_service.global.infrastructure.monitoring.EventLatencyRecorder;
+import com.early_express.product_service.support.jdbc.JdbcLatencyProxy;
+import com.early_express.product_service.support.jdbc.JdbcLatencyProxyConfig;
+import com.early_express.product_service.support.kafka.InventoryEventStream;
+import com.early_express.product_service.support.kafka.InventoryEventStream.Profile;
+import com.early_express.product_service.support.kafka.InventoryEventStream.Stream;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재고 이벤트 리플레이 벤치마크 (EmbeddedKafka + H2)
+ * - InventoryEventStream 으로 키 편중 / 중복 / 순서 뒤바뀜 비율을 조절한 재고 부족 / 재입고 스트림 생성
+ * - 리스너를 일시 정지한 상태에서 스트림을 토픽에 적재한 뒤 재개하여 InventoryEventConsumer 가 적재분을 모두 커밋할 때까지 측정
+ * - 처리량(events/s), 이벤트 타입별 처리 시간 p50 / p99 (kafka.consumer.process.time), 이벤트당 DB statement 수 출력
+ * - 처리 후 상품 / 허브별 판매 가능 여부가 발생 시각 기준 마지막 이벤트와 일치하는지 검증
+ *
+ * 컨슈머 변경 시 같은 seed 로 전후 결과를 비교
+ * 실행: ./gradlew loadTest --tests '*InventoryEventReplayBenchmarkTest'
+ */
+@Tag("load")
+@DisplayName("재고 이벤트 리플레이 벤치마크")
+class InventoryEventReplayBenchmarkTest {
+
+    private static final int PRODUCTS = 500;
+    private static final int EVENTS = 10_000;
+    private static final int HUBS = 3;
+    private static final int PARTITIONS = 3;
+    private static final long SEED = 42;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(5);
+
+    private static final Profile WARMUP = new Profile("warmup", 2_000, HUBS, 0.0, 0.0, 0.0, SEED);
+    private static final Profile UNIFORM = new Profile("uniform", EVENTS, HUBS, 0.0, 0.0, 0.0, SEED);
+    private static final Profile SKEWED = new Profile("skewed", EVENTS, HUBS, 1.1, 0.0, 0.0, SEED);
+    private static final Profile DIRTY = new Profile("skewed+dup5%+ooo5%", EVENTS, HUBS, 1.1, 0.05, 0.05, SEED);
+
+    private static EmbeddedKafkaBroker broker;
+    private static int scenarioSeq;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    @DisplayName("스트림 특성 / 컨슈머 모드별 처리량, 처리 시간, 이벤트당 DB statement 수")
+    void replay() throws Exception {
+        // given - JIT 워밍업 (결과 미출력)
+        run(WARMUP, ConsumerMode.DEFAULT);
+
+        // when
+        List<ReplayResult> results = List.of(
+                run(UNIFORM, ConsumerMode.DEFAULT),
+                run(SKEWED, ConsumerMode.DEFAULT),
+                run(DIRTY, ConsumerMode.DEFAULT),
+                run(DIRTY, ConsumerMode.KEY_ORDERED),
+                run(DIRTY, ConsumerMode.COALESCING));
+
+        // then
+        System.out.printf("%n[재고 이벤트 리플레이 - 상품 %d개, 허브 %d개, 파티션 %d개, 원본 이벤트 %d건]%n",
+                PRODUCTS, HUBS, PARTITIONS, EVENTS);
+        System.out.printf("%-20s %-12s %8s %6s %6s %10s %9s %9s %9s %9s %10s%n",
+                "stream", "mode", "records", "dup", "ooo", "events/s",
+                "low p50", "low p99", "rst p50", "rst p99", "stmt/event");
+        for (ReplayResult result : results) {
+            System.out.printf("%-20s %-12s %8d %6d %6d %10.1f %9s %9s %9s %9s %10.2f%n",
+                    result.stream(), result.mode(), result.records(), result.duplicates(), result.reordered(),
+                    result.throughput(),
+                    millis(result.lowStockP50()), millis(result.lowStockP99()),
+                    millis(result.restockedP50()), millis(result.restockedP99()),
+                    result.statementsPerEvent());
+        }
+        System.out.println("(처리 시간 단위 ms, 병합 모드는 리스너 처리 시간 미기록)");
+
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.mismatches()).as(result.stream() + " / " + result.mode() + " 최종 상태 불일치").isZero();
+            assertThat(result.statementsPerEvent()).isPositive();
+        });
+    }
+
+    private ReplayResult run(Profile profile, ConsumerMode mode) throws Exception {
+        int scenario = ++scenarioSeq;
+        String lowStockTopic = "inventory-low-stock-replay-" + scenario;
+        String restockedTopic = "inventory-restocked-replay-" + scenario;
+        String groupId = "replay-" + scenario;
+        broker.addTopics(new NewTopic(lowStockTopic, PARTITIONS, (short) 1),
+                new NewTopic(restockedTopic, PARTITIONS, (short) 1));
+
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:replay-" + scenario
+                        + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "spring.jpa.show-sql=false",
+                "spring.kafka.bootstrap-servers=" + broker.getBrokersAsString(),
+                "spring.kafka.consumer.group-id=" + groupId,
+                "spring.kafka.topic.inventory-low-stock=" + lowStockTopic,
+                "spring.kafka.topic.inventory-restocked=" + restockedTopic,
+                "spring.kafka.non-blocking-retry.topic-partitions=1",
+                "spring.kafka.non-blocking-retry.topic-replicas=1",
+                "logging.level.com.early_express=WARN",
+                "logging.level.org.springframework.security=WARN",
+                "logging.level.org.apache.kafka=WARN"));
+        properties.addAll(mode.properties());
+
+        // application.yml 보다 우선하도록 커맨드라인 인자로 전달
+        try (ConfigurableApplicationContext context =
+                     new SpringApplicationBuilder(ProductServiceApplication.class, JdbcLatencyProxyConfig.class)
+                             .run(properties.stream().map(property -> "--" + property).toArray(String[]::new))) {
+
+            List<String> productIds = seedProducts(context.getBean(ProductRepository.class));
+            Stream stream = InventoryEventStream.generate(profile, productIds);
+
+            // 원본 토픽 리스너를 파티션 할당 후 일시 정지 → 적재 → 재개 (그룹 조인 시간을 측정에서 제외)
+            Set<String> topics = Set.of(lowStockTopic, restockedTopic);
+            List<MessageListenerContainer> containers =
+                    context.getBean(KafkaListenerEndpointRegistry.class).getListenerContainers().stream()
+                            .filter(container -> topics.containsAll(
+                                    Arrays.asList(container.getContainerProperties().getTopics())))
+                            .toList();
+            await(containers, container -> container.getAssignedPartitions() != null
+                    && !container.getAssignedPartitions().isEmpty(), "파티션 할당");
+            containers.forEach(MessageListenerContainer::pause);
+            await(containers, MessageListenerContainer::isContainerPaused, "리스너 일시 정지");
+
+            produce(context.getBean(ObjectMapper.class), stream, lowStockTopic, restockedTopic);
+
+            JdbcLatencyProxy jdbc = context.getBean(JdbcLatencyProxy.class);
+            long statementsBefore = jdbc.executedStatements();
+            long started = System.nanoTime();
+            containers.forEach(MessageListenerContainer::resume);
+            awaitDrained(groupId, List.of(lowStockTopic, restockedTopic));
+            long elapsed = System.nanoTime() - started;
+            long statements = jdbc.executedStatements() - statementsBefore;
+
+            MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+            int records = stream.events().size();
+            return new ReplayResult(
+                    profile.name(), mode.label(), records, stream.duplicates(), stream.reordered(),
+                    records / (elapsed / 1_000_000_000.0),
+                    percentile(meterRegistry, lowStockTopic, 0.5), percentile(meterRegistry, lowStockTopic, 0.99),
+                    percentile(meterRegistry, restockedTopic, 0.5), percentile(meterRegistry, restockedTopic, 0.99),
+                    (double) statements / records,
+                    mismatches(context.getBean(ProductService.class), stream));
+        }
+    }
+
+    private List<String> seedProducts(ProductRepository productRepository) {
+        List<String> productIds = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = Product.create(
+                    null, "SELLER-" + (i % 10), "COMPANY-001", "리플레이 상품 " + i,
+                    "설명", Price.of(10_000 + i), 1, 100);
+            product.activate();
+            productIds.add(productRepository.save(product).getProductId());
+        }
+        return productIds;
+    }
+
+    private void produce(ObjectMapper objectMapper, Stream stream, String lowStockTopic, String restockedTopic)
+            throws Exception {
+        try (KafkaProducer<String, String> producer = new KafkaProducer<>(
+                KafkaTestUtils.producerProps(broker), new StringSerializer(), new StringSerializer())) {
+            for (BaseEvent event : stream.events()) {
+                String topic = InventoryEventStream.LOW_STOCK.equals(event.getEventType()) ? lowStockTopic : restockedTopic;
+                producer.send(new ProducerRecord<>(topic, InventoryEventStream.productIdOf(event),
+                        objectMapper.writeValueAsString(event)));
+            }
+            producer.flush();
+        }
+    }
+
+    // 그룹 커밋 오프셋이 토픽 끝 오프셋에 도달할 때까지 대기
+    private void awaitDrained(String groupId, List<String> topics) throws Exception {
+        try (Admin admin = Admin.create(Map.of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()))) {
+            Map<TopicPartition, OffsetSpec> latest = new HashMap<>();
+            for (String topic : topics) {
+                for (int partition = 0; partition < PARTITIONS; partition++) {
+                    latest.put(new TopicPartition(topic, partition), OffsetSpec.latest());
+                }
+            }
+            long end = admin.listOffsets(latest).all().get().values().stream()
+                    .mapToLong(info -> info.offset()).sum();
+
+            long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                Map<TopicPartition, OffsetAndMetadata> committed =
+                        admin.listConsumerGroupOffsets(groupId).partitionsToOffsetAndMetadata().get();
+                long consumed = committed.entrySet().stream()
+                        .filter(entry -> latest.containsKey(entry.getKey()) && entry.getValue() != null)
+                        .mapToLong(entry -> entry.getValue().offset())
+                        .sum();
+                if (consumed >= end) {
+                    return;
+                }
+                Thread.sleep(20);
+            }
+            throw new AssertionError("적재분 처리 시간 초과 - group: " + groupId);
+        }
+    }
+
+    // 상품 / 허브별 판매 가능 여부가 발생 시각 기준 마지막 이벤트와 다른 건수
+    private long mismatches(ProductService productService, Stream stream) {
+        Map<String, Set<String>> expectedSellable = new HashMap<>();
+        Map<String, List<String>> touched = new HashMap<>();
+        stream.finalState().forEach((key, outOfStock) -> {
+            String[] parts = key.split("\\|");
+            touched.computeIfAbsent(parts[1], hub -> new ArrayList<>()).add(parts[0]);
+            if (!outOfStock) {
+                expectedSellable.computeIfAbsent(parts[1], hub -> new HashSet<>()).add(parts[0]);
+            }
+        });
+
+        long mismatches = 0;
+        for (Map.Entry<String, List<String>> entry : touched.entrySet()) {
+            Set<String> actual = Set.copyOf(productService.getSellableProductIdsAtHub(entry.getKey(), entry.getValue()));
+            Set<String> expected = expectedSellable.getOrDefault(entry.getKey(), Set.of());
+            mismatches += entry.getValue().stream()
+                    .filter(productId -> actual.contains(productId) != expected.contains(productId))
+                    .count();
+        }
+        return mismatches;
+    }
+
+    private static Double percentile(MeterRegistry meterRegistry, String topic, double percentile) {
+        return meterRegistry.find(EventLatencyRecorder.PROCESS_TIME).tag("topic", topic).timers().stream()
+                .filter(timer -> timer.count() > 0)
+                .max(Comparator.comparingLong(Timer::count))
+                .map(Timer::takeSnapshot)
+                .flatMap(snapshot -> Arrays.stream(snapshot.percentileValues())
+                        .filter(value -> value.percentile() == percentile)
+                        .findFirst())
+                .map(value -> value.value(TimeUnit.MILLISECONDS))
+                .orElse(null);
+    }
+
+    private static String millis(Double value) {
+        return value == null ? "-" : String.format("%.2f", value);
+    }
+
+    private static void await(Collection<MessageListenerContainer> containers,
+                              Predicate<MessageListenerContainer> condition, String description)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (System.nanoTime() < deadline) {
+            if (containers.stream().allMatch(condition)) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError(description + " 대기 시간 초과 - " + containers.stream()
+                .filter(condition.negate())
+                .map(MessageListenerContainer::getListenerId)
+                .collect(Collectors.joining(", ")));
+    }
+
+    private enum ConsumerMode {
+        DEFAULT("default", List.of()),
+        KEY_ORDERED("key-ordered", List.of("spring.kafka.key-ordered.enabled=true")),
+        COALESCING("coalescing", List.of(
+                "spring.kafka.stock-coalescing.enabled=true",
+                "spring.kafka.stock-coalescing.window-ms=200"));
+
+        private final String label;
+        private final List<String> properties;
+
+        ConsumerMode(String label, List<String> properties) {
+            this.label = label;
+            this.properties = properties;
+        }
+
+        String label() {
+            return label;
+        }
+
+        List<String> properties() {
+            return properties;
+        }
+    }
+
+    private record ReplayResult(String stream, String mode, int records, int duplicates, int reordered,
+                                double throughput, Double lowStockP50, Double lowStockP99,
+                                Double restockedP50, Double restockedP99,
+                                double statementsPerEvent, long mismatches) {
+    }
+}
@@ -0,0 +1,130 @@
+package com.early_express.product_service.load;
+
+import com.early_express.product_service.domain.product.domain.messaging.dto.ProductStatusChangedEventData;
+import com.early_express.product_service.domain.product.domain.messaging.dto.ProductUpdatedEventData;
+import com.early_express.product_service.domain.product.infrastructure.messaging.product.producer.KafkaProductEventPublisher;
+import com.early_express.product_service.global.infrastructure.event.publish.InFlightPublishTracker;
+import com.early_express.product_service.global.infrastructure.event.publish.SpillJournal;
+import com.early_express.product_service.global.infrastructure.monitoring.EventLatencyRecorder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 상품 이벤트 발행 병합 전후 Kafka 전송 건수 비교
+ * - 요청 단위: 트랜잭션 하나에서 수정 → 상태 변경 → 수정 → 상태 복귀 (window-ms=0, 트랜잭션 단위 병합)
+ * - 수정 버스트: 판매자가 상품별로 연속 수정 (윈도우 병합)
+ * - product.event.publish.requested / product.event.publish.sent 메트릭 기준으로 출력
+ *
+ * 실행: ./gradlew loadTest --tests '*ProductEventCoalescingBenchmarkTest'
+ */
+@Tag("load")
+@DisplayName("상품 이벤트 발행 병합 벤치마크")
+class ProductEventCoalescingBenchmarkTest {
+
+    private static final int PRODUCTS = 1_000;
+    private static final int EDITS_PER_PRODUCT = 20;
+
+    @Test
+    @DisplayName("발행 병합 시 Kafka 전송 건수가 줄어든다")
+    void compareSentMessages() {
+        // when
+        Result requestBaseline = run(false, 0, ProductEventCoalescingBenchmarkTest::multiEventRequests);
+        Result requestCoalesced = run(true, 0, ProductEventCoalescingBenchmarkTest::multiEventRequests);
+        Result burstBaseline = run(false, 60_000, ProductEventCoalescingBenchmarkTest::editBursts);
+        Result burstCoalesced = run(true, 60_000, ProductEventCoalescingBenchmarkTest::editBursts);
+
+        // then
+        System.out.printf("%n[상품 %d개 기준 발행 요청 / Kafka 전송 건수]%n", PRODUCTS);
+        System.out.printf("%-36s %10s %10s %8s%n", "scenario", "requested", "sent", "sent%");
+        print("multi-event request (baseline)", requestBaseline);
+        print("multi-event request (transaction)", requestCoalesced);
+        print("edit burst (baseline)", burstBaseline);
+        print("edit burst (window)", burstCoalesced);
+
+        assertThat(requestBaseline.sent()).isEqualTo(requestBaseline.requested());
+        assertThat(requestCoalesced.sent()).isEqualTo(PRODUCTS);
+        assertThat(burstBaseline.sent()).isEqualTo(burstBaseline.requested());
+        assertThat(burstCoalesced.sent()).isEqualTo(PRODUCTS);
+    }
+
+    private static Result run(boolean coalescing, long windowMs, Consumer<KafkaProductEventPublisher> workload) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        KafkaProductEventPublisher publisher =
+                new KafkaProductEventPublisher(publishTracker(meterRegistry), meterRegistry, coalescing, windowMs);
+
+        workload.accept(publisher);
+        publisher.shutdown();
+
+        return new Result(
+                (long) meterRegistry.get("product.event.publish.requested").counters().stream()
+                        .mapToDouble(counter -> counter.count()).sum(),
+                (long) meterRegistry.get("product.event.publish.sent").counters().stream()
+                        .mapToDouble(counter -> counter.count()).sum());
+    }
+
+    // 요청 하나에서 같은 상품 이벤트 4건 (수정, 품절, 수정, 품절 해제)
+    private static void multiEventRequests(KafkaProductEventPublisher publisher) {
+        for (int i = 0; i < PRODUCTS; i++) {
+            String productId = "PROD-" + i;
+            TransactionSynchronizationManager.initSynchronization();
+            publisher.publishProductUpdated(ProductUpdatedEventData.of(productId, "상품", BigDecimal.valueOf(1000)));
+            publisher.publishProductStatusChanged(ProductStatusChangedEventData.of(productId, "ACTIVE", "OUT_OF_STOCK"));
+            publisher.publishProductUpdated(ProductUpdatedEventData.of(productId, "상품", BigDecimal.valueOf(2000)));
+            publisher.publishProductStatusChanged(ProductStatusChangedEventData.of(productId, "OUT_OF_STOCK", "ACTIVE"));
+            commit();
+        }
+    }
+
+    // 상품별 연속 수정 (상품 간 교차)
+    private static void editBursts(KafkaProductEventPublisher publisher) {
+        for (int edit = 0; edit < EDITS_PER_PRODUCT; edit++) {
+            for (int i = 0; i < PRODUCTS; i++) {
+                publisher.publishProductUpdated(
+                        ProductUpdatedEventData.of("PROD-" + i, "상품 " + edit, BigDecimal.valueOf(1000 + edit)));
+            }
+        }
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    // 전송 건수만 비교하므로 발행 한도는 비활성화 (호출 스레드에서 바로 send)
+    @SuppressWarnings("unchecked")
+    private static InFlightPublishTracker publishTracker(SimpleMeterRegistry meterRegistry) {
+        KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(any(), any(), any())).thenReturn(new CompletableFuture<>());
+        return new InFlightPublishTracker(kafkaTemplate, disabledJournal(meterRegistry), null, meterRegistry,
+                new EventLatencyRecorder(meterRegistry), false, 1, "block", 0, 0, 1, 1, 1);
+    }
+
+    private static SpillJournal disabledJournal(SimpleMeterRegistry meterRegistry) {
+        return new SpillJournal(meterRegistry, false, "unused", 0, 0, "none", 0);
+    }
+
+    private static void print(String scenario, Result result) {
+        System.out.printf("%-36s %10d %10d %7.1f%%%n", scenario, result.requested(), result.sent(),
+                100.0 * result.sent() / result.requested());
+    }
+
+    private record Result(long requested, long sent) {
+    }
+}
@@ -0,0 +1,427 @@
+package com.early_express.product_service.load;
+
+import com.early_express.product_service.ProductServiceApplication;
+import com.early_express.product_service.domain.product.domain.model.vo.ProductStatus;
+import com.early_express.product_service.support.data.ProductDataset;
+import com.early_express.product_service.support.data.ZipfSampler;
+import com.early_express.product_service.support.jdbc.JdbcLatencyProxyConfig;
+import com.early_express.product_service.support.jdbc.RequestStatementCounter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 HTTP 부하 테스트 (대량 시드 데이터 + 스크립트 워크로드)
+ * - ProductDataset 으로 판매자 편중 / 상태 분포를 갖는 상품을 적재 (기본 H2, load.postgres.url 지정 시 접속 가능하면 PostgreSQL)
+ * - 공개 / 판매자 / 내부 API 를 가중치 기반 스크립트로 섞어 호출 (상세 / 수정 대상 상품은 Zipf 인기도)
+ * - 엔드포인트별 처리량, p50 / p95 / p99 지연, 실패 수, 요청당 DB statement 수 출력
+ *
+ * 설정 (시스템 속성, ./gradlew loadTest -Pload.products=1000000 형태로 전달)
+ * - load.products (100000), load.requests (20000), load.warmup-requests (2000), load.concurrency (64), load.seed (42)
+ * - load.postgres.url / load.postgres.username / load.postgres.password: 전용 DB 사용 (Flyway clean 후 운영과 같은 마이그레이션 / 인덱스로 재생성)
+ *
+ * 실행: ./gradlew loadTest --tests '*ProductHttpLoadTest'
+ */
+@Tag("load")
+@DisplayName("상품 HTTP 부하 테스트")
+class ProductHttpLoadTest {
+
+    private static final int PRODUCTS = Integer.getInteger("load.products", 100_000);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 20_000);
+    private static final int WARMUP_REQUESTS = Integer.getInteger("load.warmup-requests", 2_000);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 64);
+    private static final long SEED = Long.getLong("load.seed", 42);
+    private static final String POSTGRES_URL = System.getProperty("load.postgres.url");
+    private static final String POSTGRES_USERNAME = System.getProperty("load.postgres.username", "postgres");
+    private static final String POSTGRES_PASSWORD = System.getProperty("load.postgres.password", "");
+
+    private static final int SELLERS = Math.max(10, PRODUCTS / 100);
+    private static final int HUBS = 20;
+    private static final int PAGE_SIZE = 20;
+    private static final int BULK_SIZE = 20;
+    private static final double POPULARITY_SKEW = 0.9;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("엔드포인트별 지연 백분위, 처리량, 요청당 DB statement 수")
+    void mixedWorkload() throws Exception {
+        EmbeddedKafkaBroker broker = new EmbeddedKafkaKraftBroker(1, 1);
+        broker.afterPropertiesSet();
+
+        boolean postgres = postgresAvailable();
+        if (postgres) {
+            Flyway.configure()
+                    .dataSource(POSTGRES_URL, POSTGRES_USERNAME, POSTGRES_PASSWORD)
+                    .cleanDisabled(false)
+                    .load()
+                    .clean();
+        }
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "spring.jpa.show-sql=false",
+                "spring.datasource.hikari.maximum-pool-size=" + Math.min(CONCURRENCY, 50),
+                "spring.kafka.bootstrap-servers=" + broker.getBrokersAsString(),
+                "spring.kafka.non-blocking-retry.topic-partitions=1",
+                "spring.kafka.non-blocking-retry.topic-replicas=1",
+                "logging.level.com.early_express=WARN",
+                "logging.level.org.springframework.security=WARN",
+                "logging.level.org.apache.kafka=WARN"));
+        properties.addAll(postgres
+                ? List.of(
+                        "spring.datasource.url=" + POSTGRES_URL,
+                        "spring.datasource.driver-class-name=org.postgresql.Driver",
+                        "spring.datasource.username=" + POSTGRES_USERNAME,
+                        "spring.datasource.password=" + POSTGRES_PASSWORD,
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+                        "spring.flyway.enabled=true",
+                        "spring.jpa.hibernate.ddl-auto=validate")
+                : List.of("spring.datasource.url=jdbc:h2:mem:http-load;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"));
+
+        // application.yml 보다 우선하도록 커맨드라인 인자로 전달
+        try (ConfigurableApplicationContext context =
+                     new SpringApplicationBuilder(ProductServiceApplication.class, JdbcLatencyProxyConfig.class)
+                             .run(properties.stream().map(property -> "--" + property).toArray(String[]::new))) {
+
+            long seedStarted = System.nanoTime();
+            ProductDataset dataset = ProductDataset.seed(context.getBean(DataSource.class),
+                    new ProductDataset.Profile(PRODUCTS, SELLERS, 1.0, HUBS, 0.5, SEED));
+            double seedSeconds = (System.nanoTime() - seedStarted) / 1_000_000_000.0;
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            Script script = new Script("http://localhost:" + port, dataset);
+            RequestStatementCounter statementCounter = context.getBean(RequestStatementCounter.class);
+
+            LoadResult result;
+            try (HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build()) {
+                drive(client, script, WARMUP_REQUESTS, SEED + 1);
+                statementCounter.reset();
+                result = drive(client, script, REQUESTS, SEED);
+            }
+
+            // then
+            System.out.printf("%n[상품 %d개 (%s, 적재 %.1fs), 판매자 %d명, 허브 %d개, 동시 요청 %d, 요청 %d]%n",
+                    PRODUCTS, postgres ? "PostgreSQL" : "H2", seedSeconds, SELLERS, HUBS, CONCURRENCY, REQUESTS);
+            System.out.printf("%-24s %8s %6s %9s %9s %9s %9s %9s%n",
+                    "endpoint", "count", "fail", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "stmt/req");
+            for (Endpoint endpoint : Endpoint.values()) {
+                print(endpoint.label(), result.of(endpoint), result.elapsedSeconds(),
+                        statementCounter.statements(endpoint.label()));
+            }
+            long totalStatements = Arrays.stream(Endpoint.values())
+                    .mapToLong(endpoint -> statementCounter.statements(endpoint.label()))
+                    .sum();
+            print("total", result.all(), result.elapsedSeconds(), totalStatements);
+
+            long failures = result.all().failures();
+            assertThat(failures).as("실패 요청 수").isLessThanOrEqualTo(REQUESTS / 100);
+        } finally {
+            broker.destroy();
+        }
+    }
+
+    /**
+     * CONCURRENCY 개의 가상 스레드가 요청을 나눠 순차 전송 (closed-loop)
+     * 워커별 seed 를 고정하여 같은 설정이면 같은 요청 순서
+     */
+    private LoadResult drive(HttpClient client, Script script, int requests, long seed) throws Exception {
+        int perWorker = requests / CONCURRENCY;
+        int measured = perWorker * CONCURRENCY;
+        long[] latencies = new long[measured];
+        Endpoint[] endpoints = new Endpoint[measured];
+        boolean[] failed = new boolean[measured];
+
+        long started = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(CONCURRENCY);
+            for (int w = 0; w < CONCURRENCY; w++) {
+                int offset = w * perWorker;
+                Random random = new Random(seed * 31 + w);
+                futures.add(workers.submit(() -> {
+                    Map<String, String> cursors = new HashMap<>();
+                    for (int i = offset; i < offset + perWorker; i++) {
+                        Endpoint endpoint = Endpoint.pick(random);
+                        HttpRequest request = script.request(endpoint, random, cursors);
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                            failed[i] = response.statusCode() >= 400;
+                            if (endpoint == Endpoint.PUBLIC_HUB_CURSOR && !failed[i]) {
+                                script.rememberCursor(cursors, request, response.body());
+                            }
+                        } catch (Exception e) {
+                            failed[i] = true;
+                        }
+                        latencies[i] = System.nanoTime() - begin;
+                        endpoints[i] = endpoint;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return new LoadResult(latencies, endpoints, failed, (System.nanoTime() - started) / 1_000_000_000.0);
+    }
+
+    private static void print(String label, Stats stats, double elapsedSeconds, long statements) {
+        if (stats.count() == 0) {
+            return;
+        }
+        System.out.printf("%-24s %8d %6d %9.1f %9.1f %9.1f %9.1f %9.2f%n",
+                label, stats.count(), stats.failures(), stats.count() / elapsedSeconds,
+                stats.p50Millis(), stats.p95Millis(), stats.p99Millis(), (double) statements / stats.count());
+    }
+
+    private static boolean postgresAvailable() {
+        if (POSTGRES_URL == null || POSTGRES_URL.isBlank()) {
+            return false;
+        }
+        try (Connection ignored = DriverManager.getConnection(POSTGRES_URL, POSTGRES_USERNAME, POSTGRES_PASSWORD)) {
+            return true;
+        } catch (Exception e) {
+            System.out.printf("PostgreSQL 접속 실패, H2 로 진행 - %s%n", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 엔드포인트별 요청 생성 스크립트
+     */
+    private final class Script {
+
+        private final String baseUrl;
+        private final ProductDataset dataset;
+        private final ZipfSampler popularity;
+        private final ZipfSampler sellers;
+        private final ZipfSampler hubs;
+
+        Script(String baseUrl, ProductDataset dataset) {
+            this.baseUrl = baseUrl;
+            this.dataset = dataset;
+            this.popularity = new ZipfSampler(dataset.size(), POPULARITY_SKEW);
+            this.sellers = new ZipfSampler(SELLERS, 1.0);
+            this.hubs = new ZipfSampler(HUBS, 0.5);
+        }
+
+        HttpRequest request(Endpoint endpoint, Random random, Map<String, String> cursors) throws Exception {
+            String publicApi = baseUrl + "/v1/product/web/all";
+            String producerApi = baseUrl + "/v1/product/web/producer";
+            String internalApi = baseUrl + "/v1/product/internal";
+            String hubId = ProductDataset.hubId(hubs.sample(random));
+
+            return switch (endpoint) {
+                case PUBLIC_LIST -> get(endpoint, publicApi + "/products?page=" + random.nextInt(50) + "&size=" + PAGE_SIZE);
+                case PUBLIC_DETAIL -> get(endpoint, publicApi + "/products/" + hotProductId(random));
+                case PUBLIC_SEARCH -> get(endpoint, publicApi + "/products/search?keyword="
+                        + URLEncoder.encode(ProductDataset.ITEMS.get(random.nextInt(ProductDataset.ITEMS.size())),
+                        StandardCharsets.UTF_8)
+                        + "&page=" + random.nextInt(3) + "&size=" + PAGE_SIZE);
+                case PUBLIC_HUB_PAGE -> get(endpoint, publicApi + "/hubs/" + hubId + "/products?page="
+                        + random.nextInt(20) + "&size=" + PAGE_SIZE);
+                case PUBLIC_HUB_CURSOR -> {
+                    String cursor = random.nextInt(5) > 0 ? cursors.get(hubId) : null;
+                    yield get(endpoint, publicApi + "/hubs/" + hubId + "/products/cursor?size=" + PAGE_SIZE
+                            + (cursor != null ? "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8) : ""));
+                }
+                case PRODUCER_MY_PRODUCTS -> builder(endpoint, producerApi + "/products?page=" + random.nextInt(5)
+                        + "&size=" + PAGE_SIZE)
+                        .header("X-User-Id", ProductDataset.sellerId(sellers.sample(random)))
+                        .GET().build();
+                case PRODUCER_UPDATE -> {
+                    int index = modifiableProduct(random);
+                    yield builder(endpoint, producerApi + "/products/" + ProductDataset.productId(index))
+                            .header("X-User-Id", dataset.sellerIdOf(index))
+                            .header("Content-Type", "application/json")
+                            .PUT(json(Map.of(
+                                    "name", "수정 상품 " + index,
+                                    "description", "부하 테스트 수정 설명",
+                                    "price", 1_000 + random.nextInt(100) * 500)))
+                            .build();
+                }
+                case PRODUCER_CREATE -> builder(endpoint, producerApi + "/products")
+                        .header("X-User-Id", ProductDataset.sellerId(sellers.sample(random)))
+                        .header("Content-Type", "application/json")
+                        .POST(json(Map.of(
+                                "hubId", hubId,
+                                "companyId", "COMPANY-1",
+                                "name", "신규 상품 " + random.nextInt(1_000_000),
+                                "description", "부하 테스트 등록 설명",
+                                "price", 1_000 + random.nextInt(100) * 500,
+                                "minOrderQuantity", 1,
+                                "maxOrderQuantity", 100)))
+                        .build();
+                case INTERNAL_VALIDATE -> get(endpoint, internalApi + "/products/" + hotProductId(random) + "/validate");
+                case INTERNAL_DETAIL -> get(endpoint, internalApi + "/products/" + hotProductId(random));
+                case INTERNAL_VALIDATE_BULK -> builder(endpoint, internalApi + "/products/validate-bulk")
+                        .header("Content-Type", "application/json")
+                        .POST(json(Map.of("productIds", hotProductIds(random))))
+                        .build();
+                case INTERNAL_SELLABLE -> builder(endpoint, internalApi + "/hubs/" + hubId + "/products/sellable")
+                        .header("Content-Type", "application/json")
+                        .POST(json(Map.of("productIds", hotProductIds(random))))
+                        .build();
+                case INTERNAL_SELLER_PRODUCTS -> get(endpoint,
+                        internalApi + "/sellers/" + ProductDataset.sellerId(sellers.sample(random)) + "/products");
+            };
+        }
+
+        void rememberCursor(Map<String, String> cursors, HttpRequest request, String body) throws Exception {
+            String hubId = request.uri().getPath().split("/")[6];
+            JsonNode nextCursor = objectMapper.readTree(body).path("nextCursor");
+            if (nextCursor.isTextual()) {
+                cursors.put(hubId, nextCursor.asText());
+            } else {
+                cursors.remove(hubId);
+            }
+        }
+
+        private String hotProductId(Random random) {
+            return ProductDataset.productId(popularity.sample(random));
+        }
+
+        private List<String> hotProductIds(Random random) {
+            return IntStream.range(0, BULK_SIZE).mapToObj(i -> hotProductId(random)).toList();
+        }
+
+        // 단종 상품은 수정 불가이므로 제외
+        private int modifiableProduct(Random random) {
+            int index;
+            do {
+                index = popularity.sample(random);
+            } while (dataset.statusOf(index) == ProductStatus.DISCONTINUED);
+            return index;
+        }
+
+        private HttpRequest get(Endpoint endpoint, String url) {
+            return builder(endpoint, url).GET().build();
+        }
+
+        private HttpRequest.Builder builder(Endpoint endpoint, String url) {
+            return HttpRequest.newBuilder(URI.create(url)).header(RequestStatementCounter.ENDPOINT_HEADER, endpoint.label());
+        }
+
+        private HttpRequest.BodyPublisher json(Object body) throws Exception {
+            return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body));
+        }
+    }
+
+    /**
+     * 워크로드 구성 (가중치 합 100)
+     */
+    private enum Endpoint {
+        PUBLIC_LIST("public.list", 15),
+        PUBLIC_DETAIL("public.detail", 24),
+        PUBLIC_SEARCH("public.search", 8),
+        PUBLIC_HUB_PAGE("public.hub.page", 8),
+        PUBLIC_HUB_CURSOR("public.hub.cursor", 7),
+        PRODUCER_MY_PRODUCTS("producer.products", 8),
+        PRODUCER_UPDATE("producer.update", 4),
+        PRODUCER_CREATE("producer.create", 2),
+        INTERNAL_VALIDATE("internal.validate", 8),
+        INTERNAL_DETAIL("internal.detail", 7),
+        INTERNAL_VALIDATE_BULK("internal.validate-bulk", 5),
+        INTERNAL_SELLABLE("internal.sellable", 3),
+        INTERNAL_SELLER_PRODUCTS("internal.seller.products", 1);
+
+        private static final int TOTAL_WEIGHT = Arrays.stream(values()).mapToInt(endpoint -> endpoint.weight).sum();
+
+        private final String label;
+        private final int weight;
+
+        Endpoint(String label, int weight) {
+            this.label = label;
+            this.weight = weight;
+        }
+
+        String label() {
+            return label;
+        }
+
+        static Endpoint pick(Random random) {
+            int roll = random.nextInt(TOTAL_WEIGHT);
+            for (Endpoint endpoint : values()) {
+                roll -= endpoint.weight;
+                if (roll < 0) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalStateException("가중치 합 오류");
+        }
+    }
+
+    private record LoadResult(long[] latencies, Endpoint[] endpoints, boolean[] failed, double elapsedSeconds) {
+
+        Stats of(Endpoint endpoint) {
+            return stats(i -> endpoints[i] == endpoint);
+        }
+
+        Stats all() {
+            return stats(i -> true);
+        }
+
+        private Stats stats(java.util.function.IntPredicate filter) {
+            int[] indexes = IntStream.range(0, latencies.length).filter(filter).toArray();
+            long[] sorted = Arrays.stream(indexes).mapToLong(i -> latencies[i]).sorted().toArray();
+            long failures = Arrays.stream(indexes).filter(i -> failed[i]).count();
+            return new Stats(sorted, failures);
+        }
+    }
+
+    private record Stats(long[] sorted, long failures) {
+
+        int count() {
+            return sorted.length;
+        }
+
+        double p50Millis() {
+            return percentileMillis(0.50);
+        }
+
+        double p95Millis() {
+            return percentileMillis(0.95);
+        }
+
+        double p99Millis() {
+            return percentileMillis(0.99);
+        }
+
+        private double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
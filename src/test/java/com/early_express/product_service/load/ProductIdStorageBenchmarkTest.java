@@ -0,0 +1,134 @@
+package com.early_express.product_service.load;
+
+import com.early_express.product_service.global.common.utils.UuidUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 상품 ID 저장 방식 비교 (PostgreSQL 전용)
+ * - 기존: VARCHAR(36) + 랜덤 UUID v4 문자열
+ * - 변경: uuid + 시간 순서 UUID v7
+ * - 같은 행 수를 배치 적재하며 초당 적재 행 수와 pkey / 보조 인덱스(hub_id, created_at DESC, product_id DESC) 크기를 출력
+ *
+ * 설정 (시스템 속성)
+ * - load.postgres.url / load.postgres.username (postgres) / load.postgres.password
+ * - load.ids.rows: 적재 행 수 (기본 500,000)
+ * - 지정하지 않으면 건너뜀, 벤치마크 스키마(product_id_benchmark)는 매 실행마다 재생성
+ *
+ * 실행: ./gradlew loadTest --tests '*ProductIdStorageBenchmarkTest' -Pload.postgres.url=jdbc:postgresql://localhost:5432/default_db
+ */
+@Tag("load")
+@DisplayName("상품 ID 저장 방식 벤치마크")
+class ProductIdStorageBenchmarkTest {
+
+    private static final String URL = System.getProperty("load.postgres.url");
+    private static final String USERNAME = System.getProperty("load.postgres.username", "postgres");
+    private static final String PASSWORD = System.getProperty("load.postgres.password", "");
+    private static final int ROWS = Integer.getInteger("load.ids.rows", 500_000);
+    private static final int BATCH_SIZE = 1_000;
+    private static final String SCHEMA = "product_id_benchmark";
+
+    @Test
+    @DisplayName("uuid + v7 이 더 작은 인덱스와 높은 적재 처리량을 보인다")
+    void compareIdStorage() throws SQLException {
+        assumeTrue(URL != null && !URL.isBlank(), "load.postgres.url 미지정 - ID 저장 방식 벤치마크 건너뜀");
+
+        try (Connection connection = DriverManager.getConnection(URL, USERNAME, PASSWORD)) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+                statement.execute("CREATE SCHEMA " + SCHEMA);
+            }
+            connection.setSchema(SCHEMA);
+
+            // when
+            Result varchar = measure(connection, "ids_varchar_v4", "VARCHAR(36)", UuidUtils::generate);
+            Result uuid = measure(connection, "ids_uuid_v7", "uuid", () -> UUID.fromString(UuidUtils.generateV7()));
+
+            // then
+            System.out.printf("%n[%,d행 적재, 배치 %d]%n", ROWS, BATCH_SIZE);
+            System.out.printf("%-16s %12s %12s %14s %12s%n", "table", "rows/s", "pkey(KB)", "secondary(KB)", "table(KB)");
+            for (Result result : new Result[]{varchar, uuid}) {
+                System.out.printf("%-16s %,12.0f %,12d %,14d %,12d%n", result.table(), result.rowsPerSecond(),
+                        result.pkeyBytes() / 1024, result.secondaryBytes() / 1024, result.tableBytes() / 1024);
+            }
+
+            assertThat(uuid.pkeyBytes()).isLessThan(varchar.pkeyBytes());
+            assertThat(uuid.secondaryBytes()).isLessThan(varchar.secondaryBytes());
+            assertThat(uuid.rowsPerSecond()).isGreaterThan(varchar.rowsPerSecond());
+        }
+    }
+
+    private static Result measure(Connection connection, String table, String idType, Supplier<Object> ids)
+            throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE %s (
+                        product_id %s NOT NULL PRIMARY KEY,
+                        hub_id     VARCHAR(36) NOT NULL,
+                        created_at TIMESTAMP(6) NOT NULL,
+                        is_deleted BOOLEAN NOT NULL
+                    )""".formatted(table, idType));
+            statement.execute("CREATE INDEX %s_hub_created ON %s (hub_id, created_at DESC, product_id DESC)"
+                    .formatted(table, table));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        long started = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (product_id, hub_id, created_at, is_deleted) VALUES (?, ?, ?, false)")) {
+            for (int i = 0; i < ROWS; i++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "HUB-" + (i % 20));
+                insert.setTimestamp(3, Timestamp.valueOf(now.plusNanos(i * 1_000L)));
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("VACUUM ANALYZE " + table);
+        }
+        return new Result(table, ROWS / seconds,
+                relationSize(connection, table + "_pkey"),
+                relationSize(connection, table + "_hub_created"),
+                relationSize(connection, table));
+    }
+
+    private static long relationSize(Connection connection, String relation) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_relation_size(?::regclass)")) {
+            statement.setString(1, SCHEMA + "." + relation);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    private record Result(String table, double rowsPerSecond, long pkeyBytes, long secondaryBytes, long tableBytes) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.early_express.product_service.load;
+
+import com.early_express.product_service.ProductServiceApplication;
+import com.early_express.product_service.domain.product.domain.model.Product;
+import com.early_express.product_service.domain.product.domain.repository.ProductRepository;
+import com.early_express.product_service.domain.product.infrastructure.persistence.entity.ProductEntity;
+import com.early_express.product_service.domain.product.infrastructure.persistence.entity.QProductEntity;
+import com.early_express.product_service.support.data.ProductDataset;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기 전용 조회 힌트의 영속성 컨텍스트 메모리 / flush 비용 비교
+ * - 판매자 1명에 상품 PRODUCTS 개를 적재하고 쓰기 트랜잭션 안에서 판매자별 전체 조회 (서비스 명령 중 조회와 같은 조건)
+ * - managed: 힌트 없는 조회 (엔티티 + 스냅샷 보관), read-only: ProductRepository.findBySellerId (org.hibernate.readOnly)
+ * - 조회 직후 GC 후 힙 사용량 증가분(요청당 유지 힙)과 flush 시간(더티 체킹)을 출력, 반복 측정의 중앙값 사용
+ *
+ * 실행: ./gradlew loadTest --tests '*ProductReadOnlyQueryMemoryBenchmarkTest'
+ */
+@Tag("load")
+@DisplayName("읽기 전용 조회 힌트 메모리 벤치마크")
+class ProductReadOnlyQueryMemoryBenchmarkTest {
+
+    private static final int PRODUCTS = 20_000;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int ITERATIONS = 7;
+    private static final long SEED = 42;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @Test
+    @DisplayName("읽기 전용 조회가 더 적은 유지 힙과 짧은 flush 시간을 보인다")
+    void compareRetainedHeap() {
+        try (ConfigurableApplicationContext context =
+                     new SpringApplicationBuilder(ProductServiceApplication.class)
+                             .run("--spring.datasource.url=jdbc:h2:mem:read-only-query;MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                                     "--spring.jpa.show-sql=false",
+                                     "--logging.level.com.early_express=WARN",
+                                     "--logging.level.org.springframework.security=WARN",
+                                     "--monitoring.slow-query.enabled=false")) {
+
+            // given
+            ProductDataset.seed(context.getBean(DataSource.class),
+                    new ProductDataset.Profile(PRODUCTS, 1, 0.0, 1, 0.0, SEED));
+            String sellerId = ProductDataset.sellerId(0);
+
+            TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+            EntityManager entityManager = context.getBean(EntityManager.class);
+            JPAQueryFactory queryFactory = context.getBean(JPAQueryFactory.class);
+            ProductRepository productRepository = context.getBean(ProductRepository.class);
+            QProductEntity product = QProductEntity.productEntity;
+
+            Supplier<List<Product>> managed = () -> queryFactory
+                    .selectFrom(product)
+                    .where(product.sellerId.eq(sellerId), product.isDeleted.eq(false))
+                    .fetch()
+                    .stream()
+                    .map(ProductEntity::toDomain)
+                    .toList();
+            Supplier<List<Product>> readOnly = () -> productRepository.findBySellerId(sellerId);
+
+            // when
+            Result managedResult = measure("managed", transaction, entityManager, managed);
+            Result readOnlyResult = measure("read-only", transaction, entityManager, readOnly);
+
+            // then
+            System.out.printf("%n[판매자 1명 상품 %d개 조회, 쓰기 트랜잭션, 반복 %d회 중앙값]%n", PRODUCTS, ITERATIONS);
+            System.out.printf("%-10s %8s %14s %12s %12s%n", "mode", "rows", "retained(KB)", "B/product", "flush(ms)");
+            for (Result result : List.of(managedResult, readOnlyResult)) {
+                System.out.printf("%-10s %8d %,14d %12d %12.2f%n", result.mode(), result.rows(),
+                        result.retainedBytes() / 1024, result.retainedBytes() / result.rows(), result.flushMillis());
+            }
+
+            assertThat(readOnlyResult.rows()).isEqualTo(managedResult.rows());
+            assertThat(readOnlyResult.retainedBytes()).isLessThan(managedResult.retainedBytes());
+            assertThat(readOnlyResult.flushMillis()).isLessThan(managedResult.flushMillis());
+        }
+    }
+
+    private Result measure(String mode, TransactionTemplate transaction, EntityManager entityManager,
+                           Supplier<List<Product>> query) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            transaction.executeWithoutResult(status -> query.get());
+        }
+
+        List<long[]> samples = new ArrayList<>();
+        for (int i = 0; i < ITERATIONS; i++) {
+            samples.add(transaction.execute(status -> {
+                long before = usedHeapAfterGc();
+                List<Product> products = query.get();
+                long retained = usedHeapAfterGc() - before;
+
+                long flushStarted = System.nanoTime();
+                entityManager.flush();
+                long flushNanos = System.nanoTime() - flushStarted;
+                return new long[]{products.size(), retained, flushNanos};
+            }));
+        }
+
+        return new Result(mode, (int) samples.get(0)[0],
+                median(samples.stream().mapToLong(sample -> sample[1]).toArray()),
+                median(samples.stream().mapToLong(sample -> sample[2]).toArray()) / 1_000_000.0);
+    }
+
+    private long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static long median(long[] values) {
+        Arrays.sort(values);
+        return values[values.length / 2];
+    }
+
+    private record Result(String mode, int rows, long retainedBytes, double flushMillis) {
+    }
+}
@@ -0,0 +1,175 @@
+package com.early_express.product_service.load;
+
+import com.early_express.product_service.ProductServiceApplication;
+import com.early_express.product_service.domain.product.domain.model.Product;
+import com.early_express.product_service.domain.product.domain.model.vo.Price;
+import com.early_express.product_service.domain.product.domain.repository.ProductRepository;
+import com.early_express.product_service.support.jdbc.JdbcLatencyProxy;
+import com.early_express.product_service.support.jdbc.JdbcLatencyProxyConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가상 스레드 / 플랫폼 스레드 부하 비교 (느린 DB 시나리오)
+ * - JdbcLatencyProxy 로 모든 statement 에 인위적 지연을 주입
+ * - Tomcat 스레드 풀을 작게 제한하고 DB 풀은 넉넉하게 두어 요청 스레드 모델만 병목이 되도록 구성
+ * - 동일한 워크로드(상품 상세 조회)를 두 모드로 실행하여 처리량과 p50/p99 지연시간을 출력
+ *
+ * 실행: ./gradlew loadTest --tests '*VirtualThreadLoadComparisonTest'
+ */
+@Tag("load")
+@DisplayName("가상 스레드 부하 비교 테스트")
+class VirtualThreadLoadComparisonTest {
+
+    private static final long DB_LATENCY_MS = 50;
+    private static final int TOMCAT_MAX_THREADS = 20;
+    private static final int DB_POOL_SIZE = 100;
+    private static final int CONCURRENCY = 200;
+    private static final int REQUESTS = 4_000;
+    private static final int WARMUP_REQUESTS = 400;
+    private static final int SEED_PRODUCTS = 100;
+
+    @Test
+    @DisplayName("느린 DB 에서 가상 스레드 모드가 더 높은 처리량과 낮은 p99 를 보인다")
+    void compareUnderSlowDatabase() throws Exception {
+        // when
+        LoadResult platform = runScenario(false);
+        LoadResult virtual = runScenario(true);
+
+        // then
+        System.out.printf("%n[느린 DB %dms/statement, Tomcat max-threads %d, DB pool %d, 동시 요청 %d, 요청 %d]%n",
+                DB_LATENCY_MS, TOMCAT_MAX_THREADS, DB_POOL_SIZE, CONCURRENCY, REQUESTS);
+        System.out.printf("%-10s %10s %10s %10s %8s%n", "mode", "req/s", "p50(ms)", "p99(ms)", "fail");
+        for (LoadResult result : List.of(platform, virtual)) {
+            System.out.printf("%-10s %10.1f %10.1f %10.1f %8d%n",
+                    result.mode(), result.throughput(), result.p50Millis(), result.p99Millis(), result.failures());
+        }
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+        assertThat(virtual.throughput()).isGreaterThan(platform.throughput());
+        assertThat(virtual.p99Millis()).isLessThan(platform.p99Millis());
+    }
+
+    private LoadResult runScenario(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+
+        try (ConfigurableApplicationContext context =
+                     new SpringApplicationBuilder(ProductServiceApplication.class, JdbcLatencyProxyConfig.class)
+                             .properties(
+                                     "server.port=0",
+                                     "spring.threads.virtual.enabled=" + virtualThreads,
+                                     "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                                     "spring.datasource.url=jdbc:h2:mem:load-" + mode
+                                             + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                                     "spring.datasource.hikari.maximum-pool-size=" + DB_POOL_SIZE,
+                                     "spring.jpa.show-sql=false",
+                                     "logging.level.com.early_express=WARN",
+                                     "logging.level.org.springframework.security=WARN")
+                             .run()) {
+
+            List<String> productIds = seedProducts(context.getBean(ProductRepository.class));
+            context.getBean(JdbcLatencyProxy.class).setLatencyMillis(DB_LATENCY_MS);
+
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            String baseUrl = "http://localhost:" + port + "/v1/product/web/all/products/";
+
+            try (HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build()) {
+                drive(client, baseUrl, productIds, WARMUP_REQUESTS);
+                return drive(client, baseUrl, productIds, REQUESTS).withMode(mode);
+            }
+        }
+    }
+
+    private List<String> seedProducts(ProductRepository productRepository) {
+        List<String> productIds = new ArrayList<>(SEED_PRODUCTS);
+        for (int i = 0; i < SEED_PRODUCTS; i++) {
+            Product product = Product.create(
+                    null, "SELLER-" + (i % 10), "COMPANY-001", "부하 테스트 상품 " + i,
+                    "설명", Price.of(10_000 + i), 1, 100);
+            productIds.add(productRepository.save(product).getProductId());
+        }
+        return productIds;
+    }
+
+    /**
+     * CONCURRENCY 개의 가상 스레드가 요청을 나눠 순차 전송 (closed-loop)
+     */
+    private LoadResult drive(HttpClient client, String baseUrl, List<String> productIds, int requests)
+            throws Exception {
+        long[] latencies = new long[requests];
+        AtomicLong failures = new AtomicLong();
+        int perWorker = requests / CONCURRENCY;
+
+        long started = System.nanoTime();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(CONCURRENCY);
+            for (int w = 0; w < CONCURRENCY; w++) {
+                int offset = w * perWorker;
+                futures.add(workers.submit(() -> {
+                    for (int i = offset; i < offset + perWorker; i++) {
+                        HttpRequest request = HttpRequest.newBuilder(
+                                URI.create(baseUrl + productIds.get(i % productIds.size()))).GET().build();
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                        }
+                        latencies[i] = System.nanoTime() - begin;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+
+        int measured = perWorker * CONCURRENCY;
+        long[] sorted = Arrays.copyOf(latencies, measured);
+        Arrays.sort(sorted);
+        return new LoadResult(
+                null,
+                measured / (elapsed / 1_000_000_000.0),
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.99),
+                failures.get());
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    private record LoadResult(String mode, double throughput, double p50Millis, double p99Millis, long failures) {
+
+        LoadResult withMode(String mode) {
+            return new LoadResult(mode, throughput, p50Millis, p99Millis, failures);
+        }
+    }
+}
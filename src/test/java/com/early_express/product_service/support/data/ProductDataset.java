@@ -0,0 +1,191 @@
+package com.early_express.product_service.support.data;
+
+import com.early_express.product_service.domain.product.domain.model.vo.ProductStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 부하 테스트용 상품 데이터셋 (JDBC 배치 적재)
+ * - 판매자: Zipf 분포(sellerSkew)로 소수 판매자에 상품 집중
+ * - 허브: 완만한 Zipf 분포(hubSkew)
+ * - 상태: ACTIVE 70%, DRAFT 8%, SUSPENDED 7%, OUT_OF_STOCK 10%, DISCONTINUED 5% (품절 상품은 등록 허브 품절 기록 포함)
+ * - 상품명: 수식어 + 품목 + 일련번호 (품목 단어로 검색 시 약 1 / 품목 수 만큼 일치)
+ * - 생성 시각: 최근 1년에 분산
+ *
+ * 상품 ID / 판매자 / 상태는 인덱스로 다시 조회할 수 있어 대량 데이터도 ID 목록을 메모리에 두지 않음
+ * 같은 seed 면 같은 데이터셋
+ */
+public final class ProductDataset {
+
+    public static final List<String> ITEMS = List.of(
+            "감귤", "사과", "배", "포도", "딸기", "수박", "참외", "복숭아", "자두", "키위",
+            "고구마", "감자", "양파", "마늘", "당근", "오이", "토마토", "버섯", "배추", "무",
+            "쌀", "현미", "잡곡", "콩", "견과", "꿀", "녹차", "커피", "생수", "주스",
+            "한우", "돼지고기", "닭가슴살", "계란", "고등어", "갈치", "새우", "오징어", "김", "미역",
+            "라면", "과자", "초콜릿", "빵", "치즈", "우유", "요거트", "두부", "김치", "만두");
+
+    private static final List<String> ADJECTIVES = List.of(
+            "제주", "유기농", "산지직송", "프리미엄", "국내산", "햇", "무농약", "냉동", "대용량", "선물용",
+            "가정용", "특품", "실속", "친환경", "저탄소", "명품", "신선", "손질", "소포장", "못난이");
+
+    private static final String INSERT_PRODUCT = """
+            INSERT INTO p_products (product_id, seller_id, company_id, hub_id, name, description, price, status,
+                                    is_sellable, has_event, min_order_quantity, max_order_quantity, stock_event_at,
+                                    created_at, created_by, updated_at, updated_by, is_deleted)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)""";
+
+    private static final String INSERT_HUB_STOCK = """
+            INSERT INTO p_product_hub_stocks (product_id, hub_id, out_of_stock, stock_event_at)
+            VALUES (?, ?, true, ?)""";
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int BATCH_SIZE = 2_000;
+
+    /**
+     * @param products   상품 수
+     * @param sellers    판매자 수
+     * @param sellerSkew 판매자 Zipf 지수
+     * @param hubs       허브 수
+     * @param hubSkew    허브 Zipf 지수
+     */
+    public record Profile(int products, int sellers, double sellerSkew, int hubs, double hubSkew, long seed) {
+    }
+
+    private final Profile profile;
+    private final int[] sellerOf;
+    private final byte[] statusOf;
+
+    private ProductDataset(Profile profile) {
+        this.profile = profile;
+        this.sellerOf = new int[profile.products()];
+        this.statusOf = new byte[profile.products()];
+    }
+
+    /**
+     * 데이터셋 생성 후 적재 (p_products, p_product_hub_stocks 는 비어 있어야 함)
+     */
+    public static ProductDataset seed(DataSource dataSource, Profile profile) {
+        ProductDataset dataset = new ProductDataset(profile);
+        dataset.insert(new JdbcTemplate(dataSource));
+        return dataset;
+    }
+
+    public static String productId(int index) {
+        return String.format("00000000-0000-4000-8000-%012d", index);
+    }
+
+    public static String sellerId(int seller) {
+        return String.format("00000000-0000-4000-9000-%012d", seller);
+    }
+
+    public static String hubId(int hub) {
+        return "HUB-" + hub;
+    }
+
+    public Profile profile() {
+        return profile;
+    }
+
+    public int size() {
+        return profile.products();
+    }
+
+    public String sellerIdOf(int index) {
+        return sellerId(sellerOf[index]);
+    }
+
+    public ProductStatus statusOf(int index) {
+        return ProductStatus.values()[statusOf[index]];
+    }
+
+    private void insert(JdbcTemplate jdbcTemplate) {
+        Random random = new Random(profile.seed());
+        ZipfSampler sellers = new ZipfSampler(profile.sellers(), profile.sellerSkew());
+        ZipfSampler hubs = new ZipfSampler(profile.hubs(), profile.hubSkew());
+
+        List<Object[]> products = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> hubStocks = new ArrayList<>();
+        for (int i = 0; i < profile.products(); i++) {
+            int seller = sellers.sample(random);
+            String hubId = hubId(hubs.sample(random));
+            ProductStatus status = status(random);
+            sellerOf[i] = seller;
+            statusOf[i] = (byte) status.ordinal();
+
+            LocalDateTime createdAt = NOW.minusSeconds(random.nextInt(365 * 24 * 3600));
+            LocalDateTime stockEventAt = status == ProductStatus.OUT_OF_STOCK ? createdAt.plusDays(1) : null;
+            String item = ITEMS.get(random.nextInt(ITEMS.size()));
+            String name = ADJECTIVES.get(random.nextInt(ADJECTIVES.size())) + " " + item + " " + i;
+            int minOrder = 1 + random.nextInt(3);
+
+            products.add(new Object[]{
+                    UUID.fromString(productId(i)), sellerId(seller), "COMPANY-" + (seller % 500), hubId, name,
+                    name + " - 산지에서 선별한 상품을 신선하게 포장하여 허브에서 바로 출고합니다. ".repeat(2),
+                    BigDecimal.valueOf(1_000L + random.nextInt(200) * 500L), status.name(),
+                    status.isSellable(), random.nextInt(10) == 0, minOrder, minOrder + 10 + random.nextInt(190),
+                    stockEventAt, createdAt, sellerId(seller), createdAt, sellerId(seller)});
+            if (stockEventAt != null) {
+                hubStocks.add(new Object[]{UUID.fromString(productId(i)), hubId, stockEventAt});
+            }
+            if (products.size() == BATCH_SIZE) {
+                batch(jdbcTemplate, INSERT_PRODUCT, products);
+            }
+        }
+        batch(jdbcTemplate, INSERT_PRODUCT, products);
+        for (int from = 0; from < hubStocks.size(); from += BATCH_SIZE) {
+            batch(jdbcTemplate, INSERT_HUB_STOCK,
+                    new ArrayList<>(hubStocks.subList(from, Math.min(from + BATCH_SIZE, hubStocks.size()))));
+        }
+    }
+
+    private static ProductStatus status(Random random) {
+        int roll = random.nextInt(100);
+        if (roll < 70) {
+            return ProductStatus.ACTIVE;
+        }
+        if (roll < 78) {
+            return ProductStatus.DRAFT;
+        }
+        if (roll < 85) {
+            return ProductStatus.SUSPENDED;
+        }
+        if (roll < 95) {
+            return ProductStatus.OUT_OF_STOCK;
+        }
+        return ProductStatus.DISCONTINUED;
+    }
+
+    private static void batch(JdbcTemplate jdbcTemplate, String sql, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int index) throws SQLException {
+                Object[] row = rows.get(index);
+                for (int column = 0; column < row.length; column++) {
+                    Object value = row[column];
+                    statement.setObject(column + 1,
+                            value instanceof LocalDateTime time ? Timestamp.valueOf(time) : value);
+                }
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+        rows.clear();
+    }
+}
@@ -0,0 +1,28 @@
+package com.early_express.product_service.support.data;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Zipf 분포 인덱스 샘플러 (부하 / 벤치마크 데이터 생성용)
+ * 순위 k(0 부터)의 가중치 1 / (k + 1)^skew, skew 0 이면 균등 분포
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int size, double skew) {
+        cumulative = new double[size];
+        double total = 0;
+        for (int rank = 0; rank < size; rank++) {
+            total += 1.0 / Math.pow(rank + 1, skew);
+            cumulative[rank] = total;
+        }
+    }
+
+    public int sample(Random random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,104 @@
+package com.early_express.product_service.support.jdbc;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인위적인 JDBC 지연 주입 프록시 (부하 테스트용)
+ * - DataSource → Connection → Statement 를 동적 프록시로 감싸 execute* 호출마다 지연 추가
+ * - 느린 DB 시나리오를 재현하여 스레드 모델별 처리량/지연시간 비교
+ * - 실행된 statement 수 집계 (이벤트 / 요청당 DB 호출 수 비교)
+ */
+public final class JdbcLatencyProxy {
+
+    private final AtomicLong latencyMillis = new AtomicLong();
+    private final AtomicLong executedStatements = new AtomicLong();
+    private final ThreadLocal<long[]> threadStatements = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * 이후 실행되는 모든 statement 에 적용할 지연 시간
+     */
+    public void setLatencyMillis(long millis) {
+        latencyMillis.set(millis);
+    }
+
+    /**
+     * 지금까지 실행된 statement 수 (execute* 호출 기준, 배치는 1회)
+     */
+    public long executedStatements() {
+        return executedStatements.get();
+    }
+
+    /**
+     * 현재 스레드에서 지금까지 실행된 statement 수 (요청 단위 집계용)
+     */
+    public long threadExecutedStatements() {
+        return threadStatements.get()[0];
+    }
+
+    public DataSource wrap(DataSource target) {
+        return proxy(DataSource.class, target, (method, args) -> {
+            Object result = method.invoke(target, args);
+            return result instanceof Connection connection ? wrapConnection(connection) : result;
+        });
+    }
+
+    private Connection wrapConnection(Connection target) {
+        return proxy(Connection.class, target, (method, args) -> {
+            Object result = method.invoke(target, args);
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement);
+            }
+            return result;
+        });
+    }
+
+    private <S extends Statement> S wrapStatement(Class<S> type, S target) {
+        return proxy(type, target, (method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                executedStatements.incrementAndGet();
+                threadStatements.get()[0]++;
+                pause();
+            }
+            return method.invoke(target, args);
+        });
+    }
+
+    private void pause() throws InterruptedException {
+        long millis = latencyMillis.get();
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Invocation invocation) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return invocation.invoke(method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    @FunctionalInterface
+    private interface Invocation {
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,48 @@
+package com.early_express.product_service.support.jdbc;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 DataSource 에 JdbcLatencyProxy 를 적용하는 테스트 설정
+ * 지연 시간은 JdbcLatencyProxy 빈으로 런타임에 조정 (시드 데이터 적재 후 활성화 등)
+ * 요청별 statement 수는 RequestStatementCounter 필터로 집계
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class JdbcLatencyProxyConfig {
+
+    @Bean
+    public static JdbcLatencyProxy jdbcLatencyProxy() {
+        return new JdbcLatencyProxy();
+    }
+
+    @Bean
+    public RequestStatementCounter requestStatementCounter(JdbcLatencyProxy jdbcLatencyProxy) {
+        return new RequestStatementCounter(jdbcLatencyProxy);
+    }
+
+    // 다른 필터(보안, OSIV 등)의 statement 까지 포함하도록 가장 바깥에 등록
+    @Bean
+    public FilterRegistrationBean<RequestStatementCounter> requestStatementCounterRegistration(
+            RequestStatementCounter requestStatementCounter) {
+        FilterRegistrationBean<RequestStatementCounter> registration =
+                new FilterRegistrationBean<>(requestStatementCounter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public static BeanPostProcessor jdbcLatencyDataSourcePostProcessor(JdbcLatencyProxy jdbcLatencyProxy) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? jdbcLatencyProxy.wrap(dataSource) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.early_express.product_service.support.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청별 DB statement 수 집계 필터 (부하 테스트용)
+ * - 요청 스레드에서 실행된 statement 수를 X-Load-Endpoint 헤더(부하 스크립트의 엔드포인트 이름)별로 합산
+ * - JdbcLatencyProxy 의 스레드별 카운터 기준이므로 요청 스레드 밖(비동기 발행 등)의 statement 는 제외
+ */
+public class RequestStatementCounter extends OncePerRequestFilter {
+
+    public static final String ENDPOINT_HEADER = "X-Load-Endpoint";
+
+    private final JdbcLatencyProxy jdbcLatencyProxy;
+    private final Map<String, LongAdder> statements = new ConcurrentHashMap<>();
+
+    public RequestStatementCounter(JdbcLatencyProxy jdbcLatencyProxy) {
+        this.jdbcLatencyProxy = jdbcLatencyProxy;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String endpoint = request.getHeader(ENDPOINT_HEADER);
+        if (endpoint == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long before = jdbcLatencyProxy.threadExecutedStatements();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statements.computeIfAbsent(endpoint, key -> new LongAdder())
+                    .add(jdbcLatencyProxy.threadExecutedStatements() - before);
+        }
+    }
+
+    public long statements(String endpoint) {
+        LongAdder adder = statements.get(endpoint);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public void reset() {
+        statements.clear();
+    }
+}
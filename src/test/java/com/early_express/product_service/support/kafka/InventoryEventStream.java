@@ -0,0 +1,160 @@
+package com.early_express.product_service.support.kafka;
+
+import com.early_express.product_service.domain.product.infrastructure.messaging.inventory.event.InventoryLowStockEvent;
+import com.early_express.product_service.domain.product.infrastructure.messaging.inventory.event.InventoryRestockedEvent;
+import com.early_express.product_service.global.infrastructure.event.base.BaseEvent;
+import com.early_express.product_service.support.data.ZipfSampler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * 재고 이벤트 스트림 생성기 (컨슈머 벤치마크용)
+ * - 상품은 Zipf 분포(keySkew, 0 이면 균등)로 선택, 허브는 균등 선택
+ * - 상품 / 허브별로 재고 부족 → 재입고 → 재고 부족 ... 순서로 전이, 이벤트마다 발생 시각 1초씩 증가
+ * - outOfOrderRate: 같은 상품(Kafka 키)의 이후 이벤트와 위치를 바꿔 지난 이벤트가 늦게 도착하도록 함
+ * - duplicateRate: 같은 eventId 의 사본을 조금 뒤에 다시 끼워 넣음 (재전송)
+ *
+ * 같은 seed 면 같은 스트림이 생성되어 컨슈머 변경 전후를 같은 입력으로 비교할 수 있음
+ */
+public final class InventoryEventStream {
+
+    public static final String LOW_STOCK = "INVENTORY_LOW_STOCK";
+    public static final String RESTOCKED = "INVENTORY_RESTOCKED";
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final int REORDER_WINDOW = 64;
+    private static final int DUPLICATE_WINDOW = 32;
+
+    private InventoryEventStream() {
+    }
+
+    /**
+     * @param events         생성할 원본 이벤트 수 (중복 사본 제외)
+     * @param hubs           허브 수
+     * @param keySkew        Zipf 지수 (0: 균등, 1 이상: 소수 상품에 집중)
+     * @param duplicateRate  원본 이벤트당 중복 사본 생성 확률
+     * @param outOfOrderRate 원본 이벤트당 같은 키 이후 이벤트와 순서를 바꿀 확률
+     */
+    public record Profile(String name, int events, int hubs, double keySkew,
+                          double duplicateRate, double outOfOrderRate, long seed) {
+    }
+
+    /**
+     * @param events        전송 순서의 이벤트 (중복 포함)
+     * @param finalState    상품|허브 → 발생 시각 기준 마지막 이벤트가 재고 부족인지 여부 (정합성 검증용)
+     */
+    public record Stream(List<BaseEvent> events, int duplicates, int reordered, Map<String, Boolean> finalState) {
+
+        public static String stateKey(String productId, String hubId) {
+            return productId + "|" + hubId;
+        }
+    }
+
+    public static Stream generate(Profile profile, List<String> productIds) {
+        Random random = new Random(profile.seed());
+        ZipfSampler products = new ZipfSampler(productIds.size(), profile.keySkew());
+
+        List<BaseEvent> ordered = new ArrayList<>(profile.events());
+        Map<String, Boolean> outOfStock = new LinkedHashMap<>();
+        for (int i = 0; i < profile.events(); i++) {
+            String productId = productIds.get(products.sample(random));
+            String hubId = "HUB-" + (random.nextInt(profile.hubs()) + 1);
+            String key = Stream.stateKey(productId, hubId);
+            boolean lowStock = !outOfStock.getOrDefault(key, false);
+            outOfStock.put(key, lowStock);
+            ordered.add(lowStock
+                    ? lowStock(random, productId, hubId, BASE.plusSeconds(i))
+                    : restocked(random, productId, hubId, BASE.plusSeconds(i)));
+        }
+
+        List<BaseEvent> delivered = new ArrayList<>(ordered);
+        int reordered = reorder(delivered, profile.outOfOrderRate(), random);
+        List<BaseEvent> withDuplicates = duplicate(delivered, profile.duplicateRate(), random);
+
+        return new Stream(Collections.unmodifiableList(withDuplicates),
+                withDuplicates.size() - delivered.size(), reordered, outOfStock);
+    }
+
+    public static String productIdOf(BaseEvent event) {
+        return event instanceof InventoryLowStockEvent lowStock
+                ? lowStock.getProductId()
+                : ((InventoryRestockedEvent) event).getProductId();
+    }
+
+    private static int reorder(List<BaseEvent> events, double rate, Random random) {
+        int reordered = 0;
+        for (int i = 0; i < events.size(); i++) {
+            if (random.nextDouble() >= rate) {
+                continue;
+            }
+            String productId = productIdOf(events.get(i));
+            for (int j = i + 1; j < Math.min(events.size(), i + REORDER_WINDOW); j++) {
+                if (productId.equals(productIdOf(events.get(j)))) {
+                    Collections.swap(events, i, j);
+                    reordered++;
+                    i = j;
+                    break;
+                }
+            }
+        }
+        return reordered;
+    }
+
+    // 원본은 i, 사본은 i + 지연 위치에 정렬 키를 두어 재전송 순서를 흉내냄
+    private static List<BaseEvent> duplicate(List<BaseEvent> events, double rate, Random random) {
+        List<Map.Entry<Double, BaseEvent>> keyed = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            keyed.add(Map.entry((double) i, events.get(i)));
+            if (random.nextDouble() < rate) {
+                keyed.add(Map.entry(i + random.nextInt(DUPLICATE_WINDOW) + 1.5, events.get(i)));
+            }
+        }
+        keyed.sort(Map.Entry.comparingByKey(Comparator.naturalOrder()));
+        return keyed.stream().map(Map.Entry::getValue).toList();
+    }
+
+    private static InventoryLowStockEvent lowStock(Random random, String productId, String hubId, LocalDateTime at) {
+        return InventoryLowStockEvent.builder()
+                .eventId(eventId(random))
+                .eventType(LOW_STOCK)
+                .timestamp(at)
+                .version("1.0")
+                .publisher("inventory-service")
+                .inventoryId("INV-" + productId + "-" + hubId)
+                .productId(productId)
+                .hubId(hubId)
+                .currentQuantity(random.nextInt(10))
+                .safetyStock(10)
+                .detectedAt(at)
+                .build();
+    }
+
+    private static InventoryRestockedEvent restocked(Random random, String productId, String hubId, LocalDateTime at) {
+        int quantity = 50 + random.nextInt(100);
+        return InventoryRestockedEvent.builder()
+                .eventId(eventId(random))
+                .eventType(RESTOCKED)
+                .timestamp(at)
+                .version("1.0")
+                .publisher("inventory-service")
+                .inventoryId("INV-" + productId + "-" + hubId)
+                .productId(productId)
+                .hubId(hubId)
+                .restockedQuantity(quantity)
+                .currentQuantity(quantity)
+                .restockedAt(at)
+                .build();
+    }
+
+    private static String eventId(Random random) {
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+}